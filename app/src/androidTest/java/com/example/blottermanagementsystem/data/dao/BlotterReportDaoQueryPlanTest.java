@@ -0,0 +1,288 @@
+package com.example.blottermanagementsystem.data.dao;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.util.Log;
+
+import androidx.room.Room;
+import androidx.sqlite.db.SimpleSQLiteQuery;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Query-plan regression suite for the data/dao package.
+ *
+ * Every no-entity-argument DAO method reachable from BlotterDatabase is invoked once;
+ * Room's query callback captures the SQL it runs, and EXPLAIN QUERY PLAN is recorded
+ * for each statement. HOT_QUERIES must never fall back to a full table scan.
+ * Each method runs in a transaction that is rolled back, so every plan sees the same seed.
+ * Timings for the hot queries are logged under tag "QueryPlan" at 10k/100k rows.
+ */
+@RunWith(AndroidJUnit4.class)
+public class BlotterReportDaoQueryPlanTest {
+    private static final String TAG = "QueryPlan";
+
+    // "<Dao>.<method>" - list screens, dashboards and lookups that run on every visit
+    private static final Set<String> HOT_QUERIES = new HashSet<>(Arrays.asList(
+        "BlotterReportDao.getReportsOlderThan",
+        "BlotterReportDao.getReportsNewerThan",
+        "BlotterReportDao.getUserReportsOlderThan",
+        "BlotterReportDao.getUserReportsNewerThan",
+        "BlotterReportDao.getOfficerReportsOlderThan",
+        "BlotterReportDao.getOfficerReportsNewerThan",
+        "BlotterReportDao.getStatusCounts",
+        "BlotterReportDao.getUserStatusCounts",
+        "BlotterReportDao.getOfficerStatusCounts",
+        "BlotterReportDao.getAllActiveReports",
+        "BlotterReportDao.getAllArchivedReports",
+        "BlotterReportDao.getReportById",
+        "BlotterReportDao.getReportByCaseNumber",
+        "BlotterReportDao.getReportsByOfficer",
+        "BlotterReportDao.getReportsByOfficerId",
+        "BlotterReportDao.getAllReportsForOfficer",
+        "BlotterReportDao.getReportsByStatus",
+        "BlotterReportDao.getReportsByUser",
+        "BlotterReportDao.getReportsByIds",
+        "BlotterReportDao.getActiveReportCount",
+        "BlotterReportDao.getReportCountByStatus",
+        "BlotterReportDao.getArchivedReportCount",
+        "BlotterReportDao.searchReportHits"
+    ));
+
+    private static final String[] STATUSES = {"PENDING", "ASSIGNED", "ONGOING", "RESOLVED", "CLOSED"};
+
+    private BlotterDatabase database;
+    private final List<CapturedQuery> captured = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    public void setUp() {
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        database = Room.inMemoryDatabaseBuilder(context, BlotterDatabase.class)
+            .allowMainThreadQueries()
+            // Same FK setting and report_officers trigger as the app's cache
+            .addCallback(BlotterDatabase.CACHE_CALLBACK)
+            .setQueryCallback((sql, args) -> captured.add(new CapturedQuery(sql, args)), Runnable::run)
+            .build();
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+    }
+
+    @Test
+    public void hotQueriesNeverFullScan() throws Exception {
+        seed(2_000);
+        Map<String, List<CapturedQuery>> queries = captureAllDaoQueries();
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, List<CapturedQuery>> entry : queries.entrySet()) {
+            for (CapturedQuery query : entry.getValue()) {
+                List<String> plan = explain(query);
+                Log.i(TAG, entry.getKey() + "\n  " + query.sql + "\n  -> " + plan);
+                if (HOT_QUERIES.contains(entry.getKey()) && hasFullScan(plan)) {
+                    regressions.add(entry.getKey() + ": " + plan);
+                }
+            }
+        }
+
+        assertTrue("No DAO queries were captured", !queries.isEmpty());
+        for (String hot : HOT_QUERIES) {
+            assertTrue("Hot query was not exercised: " + hot, queries.containsKey(hot));
+        }
+        if (!regressions.isEmpty()) {
+            fail("Full table scan in hot queries:\n" + String.join("\n", regressions));
+        }
+    }
+
+    @Test
+    public void hotQueryTimingsAt10k() throws Exception {
+        recordTimings(10_000);
+    }
+
+    @Test
+    public void hotQueryTimingsAt100k() throws Exception {
+        recordTimings(100_000);
+    }
+
+    private void recordTimings(int rows) throws Exception {
+        long seedStart = System.nanoTime();
+        seed(rows);
+        Log.i(TAG, "Seeded " + rows + " reports in " + (System.nanoTime() - seedStart) / 1_000_000 + "ms");
+
+        BlotterReportDao dao = database.blotterReportDao();
+        for (Method method : BlotterReportDao.class.getDeclaredMethods()) {
+            String key = "BlotterReportDao." + method.getName();
+            Object[] args = sampleArgs(method);
+            if (!HOT_QUERIES.contains(key) || args == null) continue;
+
+            method.invoke(dao, args); // warm-up
+            long[] runs = new long[5];
+            for (int i = 0; i < runs.length; i++) {
+                long start = System.nanoTime();
+                method.invoke(dao, args);
+                runs[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(runs);
+            Log.i(TAG, String.format("%d rows | %-45s median %.2fms  max %.2fms",
+                rows, key, runs[runs.length / 2] / 1e6, runs[runs.length - 1] / 1e6));
+        }
+    }
+
+    private Map<String, List<CapturedQuery>> captureAllDaoQueries() throws Exception {
+        Map<String, List<CapturedQuery>> byMethod = new LinkedHashMap<>();
+        for (Method daoGetter : BlotterDatabase.class.getDeclaredMethods()) {
+            Class<?> daoType = daoGetter.getReturnType();
+            if (daoGetter.getParameterCount() != 0 || !daoType.getSimpleName().endsWith("Dao")) continue;
+            Object dao = daoGetter.invoke(database);
+
+            for (Method method : daoType.getDeclaredMethods()) {
+                // Defaults are compositions of other DAO methods, which are captured on their own
+                if (method.isDefault() || Modifier.isStatic(method.getModifiers())) continue;
+                Object[] args = sampleArgs(method);
+                if (args == null) continue; // entity-argument @Insert/@Update/@Delete
+
+                captured.clear();
+                // Write queries (deleteReportsByIds, ...) must not change the seed later plans run against
+                database.beginTransaction();
+                try {
+                    method.invoke(dao, args);
+                } finally {
+                    database.endTransaction();
+                }
+                List<CapturedQuery> statements = new ArrayList<>();
+                synchronized (captured) {
+                    for (CapturedQuery query : captured) {
+                        if (query.isExplainable()) statements.add(query);
+                    }
+                }
+                byMethod.put(daoType.getSimpleName() + "." + method.getName(), statements);
+            }
+        }
+        return byMethod;
+    }
+
+    private List<String> explain(CapturedQuery query) {
+        List<String> plan = new ArrayList<>();
+        try (Cursor cursor = database.getOpenHelper().getReadableDatabase()
+                .query(new SimpleSQLiteQuery("EXPLAIN QUERY PLAN " + query.sql, query.args.toArray()))) {
+            int detail = cursor.getColumnIndexOrThrow("detail");
+            while (cursor.moveToNext()) {
+                plan.add(cursor.getString(detail));
+            }
+        }
+        return plan;
+    }
+
+    // "SCAN blotter_reports" / "SCAN TABLE blotter_reports" without an index; virtual (FTS) scans are index lookups
+    private static boolean hasFullScan(List<String> plan) {
+        for (String step : plan) {
+            if (step.startsWith("SCAN") && !step.contains("USING") && !step.contains("VIRTUAL TABLE")
+                    && !step.contains("CONSTANT ROW") && !step.contains("SUBQUERY")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Representative arguments by parameter type, or null if the method takes something else (e.g. an entity)
+     */
+    private static Object[] sampleArgs(Method method) {
+        Type[] types = method.getGenericParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Type type = types[i];
+            if (type == int.class || type == Integer.class) {
+                args[i] = 7;
+            } else if (type == long.class || type == Long.class) {
+                args[i] = System.currentTimeMillis();
+            } else if (type == boolean.class || type == Boolean.class) {
+                args[i] = false;
+            } else if (type == String.class) {
+                args[i] = "pending";
+            } else if (type instanceof ParameterizedType
+                    && ((ParameterizedType) type).getRawType() == List.class) {
+                Type element = ((ParameterizedType) type).getActualTypeArguments()[0];
+                if (element == Integer.class) {
+                    args[i] = Arrays.asList(1, 2, 3);
+                } else if (element == String.class) {
+                    args[i] = Arrays.asList("PENDING", "ASSIGNED");
+                } else {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+        }
+        return args;
+    }
+
+    private void seed(int rows) {
+        long now = System.currentTimeMillis();
+        BlotterReportDao dao = database.blotterReportDao();
+        int chunk = 1_000;
+        for (int start = 0; start < rows; start += chunk) {
+            List<BlotterReport> batch = new ArrayList<>(chunk);
+            for (int i = start; i < Math.min(rows, start + chunk); i++) {
+                BlotterReport report = new BlotterReport();
+                report.setId(i + 1);
+                report.setCaseNumber("BR-" + (2020 + i % 6) + "-" + i);
+                report.setComplainantName("Complainant " + (i % 997));
+                report.setRespondentName("Respondent " + (i % 811));
+                report.setNarrative("Synthetic narrative " + i + " near barangay hall " + (i % 50));
+                report.setStatus(STATUSES[i % STATUSES.length]);
+                report.setDateFiled(now - i * 60_000L);
+                report.setUserId(1 + i % 500);
+                report.setArchived(i % 20 == 0);
+                report.setAssignedOfficer("Officer " + (i % 40));
+                report.setAssignedOfficerId(1 + i % 40);
+                report.setAssignedOfficerIds((1 + i % 40) + "," + (1 + (i + 7) % 40));
+                batch.add(report);
+            }
+            database.runInTransaction(() -> dao.upsertReports(batch));
+        }
+        database.getOpenHelper().getWritableDatabase().execSQL("ANALYZE");
+        captured.clear();
+    }
+
+    private static class CapturedQuery {
+        final String sql;
+        final List<Object> args;
+
+        CapturedQuery(String sql, List<Object> args) {
+            this.sql = sql;
+            this.args = args != null ? new ArrayList<>(args) : Collections.emptyList();
+        }
+
+        boolean isExplainable() {
+            String head = sql.trim().toUpperCase();
+            return head.startsWith("SELECT") || head.startsWith("WITH")
+                || head.startsWith("UPDATE") || head.startsWith("DELETE");
+        }
+    }
+}
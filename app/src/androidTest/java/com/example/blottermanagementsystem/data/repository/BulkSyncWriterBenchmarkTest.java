@@ -0,0 +1,252 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.room.Room;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.api.BlotterApiService;
+import com.example.blottermanagementsystem.data.api.JsonCodec;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.Officer;
+import com.example.blottermanagementsystem.data.entity.OutboxEntry;
+import com.example.blottermanagementsystem.data.entity.SyncConflict;
+import com.example.blottermanagementsystem.data.entity.User;
+import com.example.blottermanagementsystem.data.entity.Witness;
+import com.example.blottermanagementsystem.data.model.CaseBundle;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.example.blottermanagementsystem.fixtures.ReportFixtures.reports;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Throughput benchmark for BulkSyncWriter.
+ *
+ * Applies a 20k-report initial sync (plus users and officers) against an on-disk
+ * database at several chunk sizes, and a one-transaction-per-row baseline on a
+ * smaller sample. Results are logged under tag "BulkSync".
+ */
+@RunWith(AndroidJUnit4.class)
+public class BulkSyncWriterBenchmarkTest {
+    private static final String TAG = "BulkSync";
+    private static final String DB_NAME = "bulk-sync-benchmark.db";
+
+    private static final int REPORTS = 20_000;
+    private static final int USERS = 2_000;
+    private static final int OFFICERS = 200;
+    private static final int BASELINE_ROWS = 500;
+    private static final int[] CHUNK_SIZES = {50, 100, 500, 2_000, 20_000};
+
+    private Context context;
+    private BlotterDatabase database;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DB_NAME);
+        // On disk, not in memory - commit cost is what chunking is meant to save.
+        // Same callback as the app: FKs off, since synced reports can reference users not cached yet
+        database = Room.databaseBuilder(context, BlotterDatabase.class, DB_NAME)
+            .allowMainThreadQueries()
+            .addCallback(BlotterDatabase.CACHE_CALLBACK)
+            .build();
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+        context.deleteDatabase(DB_NAME);
+    }
+
+    @Test
+    public void applySyncDataWritesRowsAndMergeBases() {
+        int written = new BulkSyncWriter(database, 100).applySyncData(syncData(1_234, 150, 20));
+
+        assertEquals(1_234 + 150 + 20, written);
+        assertEquals(1_234, database.blotterReportDao().getAllReports().size());
+        assertEquals(150, database.userDao().getAllUsers().size());
+        assertEquals(20, database.officerDao().getAllOfficers().size());
+        assertEquals(3, database.syncBaseDao().getReportBases(Arrays.asList(1, 617, 1_234)).size());
+        assertEquals(3, database.syncBaseDao().getUserBases(Arrays.asList(1, 75, 150)).size());
+    }
+
+    @Test
+    public void mergeRecordsConflictsAndSettlesQueuedEdits() {
+        BulkSyncWriter writer = new BulkSyncWriter(database);
+        writer.applyReports(reports(3));
+
+        // Unsent local edits, journalled the way the screens do it
+        List<BlotterReport> local = database.blotterReportDao().getReportsByIds(Arrays.asList(1, 2, 3));
+        local.sort((a, b) -> Integer.compare(a.getId(), b.getId()));
+        local.get(0).setNarrative("Edited here");
+        local.get(1).setStatus("ONGOING");
+        local.get(2).setComplainantName("Same fix on both sides");
+        database.blotterReportDao().upsertReports(local);
+        for (BlotterReport report : local) {
+            database.outboxDao().enqueue(new OutboxEntry(OutboxEntry.TYPE_REPORT, report.getId(), report.getId(),
+                OutboxEntry.OP_UPDATE, JsonCodec.gson().toJson(report)));
+        }
+        String queuedKey = database.outboxDao().getEntry(OutboxEntry.TYPE_REPORT, 2).getIdempotencyKey();
+
+        List<BlotterReport> server = reports(3);
+        for (BlotterReport report : server) report.setVersion(2);
+        server.get(0).setNarrative("Edited on the server");   // conflict - server wins, nothing left to send
+        server.get(1).setNarrative("Server narrative");       // no overlap - local status still to send
+        server.get(2).setComplainantName("Same fix on both sides"); // same change - nothing to send
+        int conflicts = writer.mergeReports(server);
+
+        assertEquals(1, conflicts);
+        List<SyncConflict> recorded = database.syncConflictDao().getOpenConflicts();
+        assertEquals(1, recorded.size());
+        assertEquals(1, recorded.get(0).getEntityId());
+        assertEquals("narrative", recorded.get(0).getFields());
+        assertTrue(recorded.get(0).getLocalPayload().contains("Edited here"));
+
+        assertNull(database.outboxDao().getEntry(OutboxEntry.TYPE_REPORT, 1));
+        assertNull(database.outboxDao().getEntry(OutboxEntry.TYPE_REPORT, 3));
+        OutboxEntry rewritten = database.outboxDao().getEntry(OutboxEntry.TYPE_REPORT, 2);
+        assertNotNull(rewritten);
+        BlotterReport payload = JsonCodec.gson().fromJson(rewritten.getPayload(), BlotterReport.class);
+        assertEquals("ONGOING", payload.getStatus());
+        assertEquals("Server narrative", payload.getNarrative());
+        assertEquals(2, payload.getVersion());
+        assertNotEquals(queuedKey, rewritten.getIdempotencyKey());
+    }
+
+    @Test
+    public void applyCaseBundleKeepsQueuedChildEdits() {
+        BulkSyncWriter writer = new BulkSyncWriter(database);
+        writer.applyReports(reports(1));
+
+        // Edited on this device, not sent yet
+        Witness edited = new Witness(1, "Edited here", "N/A", "Purok 1", "Local statement");
+        edited.setId(11);
+        database.witnessDao().insertWitness(edited);
+        database.outboxDao().enqueue(new OutboxEntry(OutboxEntry.TYPE_WITNESS, 11, 1,
+            OutboxEntry.OP_UPDATE, JsonCodec.gson().toJson(edited)));
+
+        Witness serverCopy = new Witness(1, "Server copy", "N/A", "Purok 1", "Old statement");
+        serverCopy.setId(11);
+        Witness second = new Witness(1, "Second witness", "N/A", "Purok 2", "Saw the motorcycle");
+        second.setId(12);
+        Hearing hearing = new Hearing(1, "2026-11-02", "09:00", "Barangay hall", "Mediation");
+        hearing.setId(5);
+        CaseBundle bundle = CaseBundle.empty(1)
+            .with(CaseBundle.Part.WITNESSES, Arrays.asList(serverCopy, second))
+            .with(CaseBundle.Part.HEARINGS, Collections.singletonList(hearing))
+            .withFailure(CaseBundle.Part.SUMMONS);
+
+        assertEquals(2, writer.applyCaseBundle(bundle));
+        assertEquals("Edited here", database.witnessDao().getWitnessById(11).getName());
+        assertEquals("Second witness", database.witnessDao().getWitnessById(12).getName());
+        assertEquals(1, database.hearingDao().getHearingsByReportId(1).size());
+    }
+
+    @Test
+    public void applyReportSnapshotPrunesReportsDeletedOnServer() throws Exception {
+        BulkSyncWriter writer = new BulkSyncWriter(database);
+        writer.applyReports(reports(5));
+
+        // Report 4 has an unsent edit; a -1 report was filed here and never reached the server
+        BlotterReport edited = database.blotterReportDao().getReportById(4);
+        database.outboxDao().enqueue(new OutboxEntry(OutboxEntry.TYPE_REPORT, 4, 4,
+            OutboxEntry.OP_UPDATE, JsonCodec.gson().toJson(edited)));
+        BlotterReport local = reports(1).get(0);
+        local.setId(-1);
+        database.blotterReportDao().insertReport(local);
+
+        // The server now only has reports 1 and 2
+        String snapshot = JsonCodec.gson().toJson(reports(2));
+        assertEquals(2, writer.applyReportSnapshot(new StringReader(snapshot)));
+
+        assertNotNull(database.blotterReportDao().getReportById(1));
+        assertNotNull(database.blotterReportDao().getReportById(2));
+        assertNull(database.blotterReportDao().getReportById(3));
+        assertNull(database.blotterReportDao().getReportById(5));
+        assertNotNull("Queued edit must survive the prune", database.blotterReportDao().getReportById(4));
+        assertNotNull("Unsent local report must survive the prune", database.blotterReportDao().getReportById(-1));
+        assertTrue(database.syncBaseDao().getReportBases(Arrays.asList(3, 5)).isEmpty());
+    }
+
+    @Test
+    public void initialSyncThroughputByChunkSize() {
+        // Baseline: what applying the payload row by row would cost
+        List<BlotterReport> sample = reports(BASELINE_ROWS);
+        long start = System.nanoTime();
+        for (BlotterReport report : sample) {
+            database.blotterReportDao().upsertReport(report);
+        }
+        double perRowMs = (System.nanoTime() - start) / 1e6 / BASELINE_ROWS;
+        Log.i(TAG, String.format("row-by-row      | %6d rows | %8.1fms | %.3fms/row -> ~%.1fs for %d",
+            BASELINE_ROWS, perRowMs * BASELINE_ROWS, perRowMs, perRowMs * REPORTS / 1000, REPORTS));
+
+        double defaultChunkMs = 0;
+        for (int chunkSize : CHUNK_SIZES) {
+            database.clearAllTables();
+            BlotterApiService.SyncData data = syncData(REPORTS, USERS, OFFICERS);
+            int total = REPORTS + USERS + OFFICERS;
+
+            start = System.nanoTime();
+            int written = new BulkSyncWriter(database, chunkSize).applySyncData(data);
+            double elapsedMs = (System.nanoTime() - start) / 1e6;
+
+            assertEquals(total, written);
+            assertEquals(REPORTS, database.blotterReportDao().getAllReports().size());
+            Log.i(TAG, String.format("chunk %-9d | %6d rows | %8.1fms | %,.0f rows/s",
+                chunkSize, total, elapsedMs, total / (elapsedMs / 1000)));
+            if (chunkSize == BulkSyncWriter.DEFAULT_CHUNK_SIZE) defaultChunkMs = elapsedMs;
+        }
+
+        assertTrue("Chunked apply should beat one transaction per row",
+            defaultChunkMs < perRowMs * REPORTS);
+    }
+
+    private static BlotterApiService.SyncData syncData(int reports, int users, int officers) {
+        BlotterApiService.SyncData data = new BlotterApiService.SyncData();
+        data.reports = reports(reports);
+        data.users = users(users);
+        data.officers = officers(officers);
+        data.timestamp = System.currentTimeMillis();
+        return data;
+    }
+
+    private static List<User> users(int rows) {
+        List<User> users = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            User user = new User("First" + i, "Last" + i, "user" + i, "hash" + i, i % 10 == 0 ? "Officer" : "User");
+            user.setId(i + 1);
+            user.setVersion(1);
+            user.setEmail("user" + i + "@example.com");
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static List<Officer> officers(int rows) {
+        List<Officer> officers = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Officer officer = new Officer("Officer " + i, "PO" + (1 + i % 3), "B-" + i);
+            officer.setId(i + 1);
+            officers.add(officer);
+        }
+        return officers;
+    }
+}
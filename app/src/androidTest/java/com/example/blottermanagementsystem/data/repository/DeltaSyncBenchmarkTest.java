@@ -0,0 +1,188 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.room.Room;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.api.ApiConfig;
+import com.example.blottermanagementsystem.data.api.ApiResponse;
+import com.example.blottermanagementsystem.data.api.BlotterApiService;
+import com.example.blottermanagementsystem.data.api.JsonCodec;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.fixtures.ReportFixtures;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static com.example.blottermanagementsystem.fixtures.ReportFixtures.reports;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Bytes and wall-time benchmark: delta sync against a full snapshot refresh.
+ *
+ * For 1k, 10k and 50k cached reports, 1% of them change and 0.1% are deleted on the
+ * server. The full refresh downloads the whole report list and streams it into Room
+ * (what revalidateAllReports does); delta sync downloads only the changed rows and
+ * tombstones and applies them in one transaction (what syncNow does per page). Payloads
+ * are the JSON the backend sends, sized raw and gzipped; wall time covers decoding and
+ * applying them. Results are logged under tag "DeltaSync".
+ */
+@RunWith(AndroidJUnit4.class)
+public class DeltaSyncBenchmarkTest {
+    private static final String TAG = "DeltaSync";
+    private static final String DB_NAME = "delta-sync-benchmark.db";
+
+    private static final int[] SIZES = {1_000, 10_000, 50_000};
+    private static final double CHANGED_FRACTION = 0.01;
+    private static final double DELETED_FRACTION = 0.001;
+
+    private final Gson gson = JsonCodec.gson();
+
+    private Context context;
+    private BlotterDatabase database;
+    private SyncCursorStore cursorStore;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DB_NAME);
+        database = Room.databaseBuilder(context, BlotterDatabase.class, DB_NAME)
+            .allowMainThreadQueries()
+            .addCallback(BlotterDatabase.CACHE_CALLBACK)
+            .build();
+        cursorStore = new SyncCursorStore(context);
+        cursorStore.reset();
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+        context.deleteDatabase(DB_NAME);
+        cursorStore.reset();
+    }
+
+    @Test
+    public void deltaSyncBytesAndWallTimeAgainstFullRefresh() throws IOException {
+        for (int size : SIZES) {
+            int changed = (int) (size * CHANGED_FRACTION);
+            int deleted = (int) (size * DELETED_FRACTION);
+            List<BlotterReport> server = reports(size, 1);
+
+            // Full refresh: the whole list, streamed into the cache
+            seed(size);
+            byte[] full = json(new ApiResponse<>(true, "ok", serverAfterChanges(server, changed, deleted)));
+            long start = System.nanoTime();
+            BulkSyncWriter writer = new BulkSyncWriter(database);
+            int fullRows;
+            try (InputStreamReader body = reader(full)) {
+                fullRows = writer.applyReportStream(body);
+            }
+            double fullMs = (System.nanoTime() - start) / 1e6;
+
+            // Delta: only changed rows and tombstones since the stored cursor
+            seed(size);
+            DeltaSyncRepository deltaSync = new DeltaSyncRepository(ApiConfig.getApiService(), database, cursorStore);
+            byte[] delta = json(new ApiResponse<>(true, "ok", delta(server, changed, deleted, size)));
+            start = System.nanoTime();
+            Type type = new TypeToken<ApiResponse<BlotterApiService.SyncDelta>>() {}.getType();
+            ApiResponse<BlotterApiService.SyncDelta> response;
+            try (InputStreamReader body = reader(delta)) {
+                response = gson.fromJson(body, type);
+            }
+            int deltaRows = deltaSync.applyDelta(response.getData());
+            cursorStore.saveCursors(response.getData().reportsCursor, response.getData().usersCursor,
+                response.getData().officersCursor);
+            double deltaMs = (System.nanoTime() - start) / 1e6;
+
+            assertEquals(size - deleted, fullRows);
+            assertEquals(changed + deleted, deltaRows);
+            assertEquals(size - deleted, database.blotterReportDao().getAllReports().size());
+            // Users and officers weren't in the page - their cursors must survive it
+            assertEquals(size + changed, cursorStore.getCursor(SyncCursorStore.ENTITY_REPORTS));
+            assertEquals(size, cursorStore.getCursor(SyncCursorStore.ENTITY_USERS));
+            assertEquals(size, cursorStore.getCursor(SyncCursorStore.ENTITY_OFFICERS));
+
+            Log.i(TAG, String.format("%6d reports | full  | %,11d B | %,10d B gz | %8.1fms",
+                size, full.length, gzipped(full), fullMs));
+            Log.i(TAG, String.format("%6d reports | delta | %,11d B | %,10d B gz | %8.1fms | %.0fx fewer bytes",
+                size, delta.length, gzipped(delta), deltaMs, full.length / (double) delta.length));
+
+            assertTrue("Delta payload should be smaller than the full list", delta.length < full.length);
+        }
+    }
+
+    // Cache holds every report at version 1, with cursors from the last sync
+    private void seed(int size) {
+        database.clearAllTables();
+        cursorStore.reset();
+        new BulkSyncWriter(database).applyReports(reports(size, 1));
+        cursorStore.saveCursors(size, size, size);
+    }
+
+    private static List<BlotterReport> serverAfterChanges(List<BlotterReport> server, int changed, int deleted) {
+        List<BlotterReport> after = new ArrayList<>(server.size());
+        for (int i = deleted; i < server.size(); i++) {
+            after.add(i < deleted + changed ? bumped(server.get(i)) : server.get(i));
+        }
+        return after;
+    }
+
+    private static BlotterApiService.SyncDelta delta(List<BlotterReport> server, int changed, int deleted, int cursor) {
+        BlotterApiService.SyncDelta delta = new BlotterApiService.SyncDelta();
+        delta.reports = new ArrayList<>(changed);
+        for (int i = deleted; i < deleted + changed; i++) {
+            delta.reports.add(bumped(server.get(i)));
+        }
+        delta.deletedReportIds = new ArrayList<>(deleted);
+        for (int i = 0; i < deleted; i++) {
+            delta.deletedReportIds.add(server.get(i).getId());
+        }
+        // Only reports moved; users and officers come back as 0 (not in this page)
+        delta.reportsCursor = cursor + changed;
+        delta.hasMore = false;
+        return delta;
+    }
+
+    private static BlotterReport bumped(BlotterReport report) {
+        BlotterReport copy = ReportFixtures.report(0, 2);
+        copy.setId(report.getId());
+        copy.setCaseNumber(report.getCaseNumber());
+        copy.setStatus("RESOLVED");
+        return copy;
+    }
+
+    private byte[] json(Object body) {
+        return gson.toJson(body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static InputStreamReader reader(byte[] body) {
+        return new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+    }
+
+    private static int gzipped(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.size();
+    }
+}
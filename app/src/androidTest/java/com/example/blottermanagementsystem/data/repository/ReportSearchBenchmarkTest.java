@@ -0,0 +1,128 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.room.Room;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static com.example.blottermanagementsystem.fixtures.ReportFixtures.reports;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Latency benchmark for ReportSearchRepository on a 100k-report cache.
+ *
+ * Times ranked search() and the unranked matchingIds() the list screens use against
+ * the in-memory substring filter those screens ran before (load every row, then
+ * contains() on each field). Results are logged under tag "ReportSearch".
+ */
+@RunWith(AndroidJUnit4.class)
+public class ReportSearchBenchmarkTest {
+    private static final String TAG = "ReportSearch";
+    private static final String DB_NAME = "report-search-benchmark.db";
+
+    private static final int REPORTS = 100_000;
+    private static final int ROUNDS = 20;
+    private static final String[] QUERIES = {"dela cru", "BR-2023", "theft purok", "motorcycle", "santos 77"};
+
+    private Context context;
+    private BlotterDatabase database;
+    private ReportSearchRepository searchRepository;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DB_NAME);
+        database = Room.databaseBuilder(context, BlotterDatabase.class, DB_NAME)
+            .allowMainThreadQueries()
+            .addCallback(BlotterDatabase.CACHE_CALLBACK)
+            .build();
+        new BulkSyncWriter(database).applyReports(reports(REPORTS));
+        searchRepository = new ReportSearchRepository(database.blotterReportDao());
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+        context.deleteDatabase(DB_NAME);
+    }
+
+    @Test
+    public void searchLatencyAt100kReports() {
+        for (String query : QUERIES) {
+            // Warm the page cache so every path is timed hot
+            searchRepository.search(query, ReportSearchRepository.DEFAULT_LIMIT);
+
+            long start = System.nanoTime();
+            List<BlotterReport> ranked = null;
+            for (int i = 0; i < ROUNDS; i++) {
+                ranked = searchRepository.search(query, ReportSearchRepository.DEFAULT_LIMIT);
+            }
+            double rankedMs = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+            start = System.nanoTime();
+            Set<Integer> ids = null;
+            for (int i = 0; i < ROUNDS; i++) {
+                ids = searchRepository.matchingIds(query);
+            }
+            double idsMs = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+            start = System.nanoTime();
+            int substringHits = 0;
+            for (int i = 0; i < ROUNDS; i++) {
+                substringHits = substringFilter(database.blotterReportDao().getAllReports(), query).size();
+            }
+            double substringMs = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+            Log.i(TAG, String.format("%-12s | search %7.2fms (%d of %d) | matchingIds %7.2fms | load+contains %8.2fms (%d)",
+                "\"" + query + "\"", rankedMs, ranked.size(), ids.size(), idsMs, substringMs, substringHits));
+
+            assertFalse("No hits for " + query, ranked.isEmpty());
+            assertEquals(Math.min(ids.size(), ReportSearchRepository.DEFAULT_LIMIT), ranked.size());
+            assertTrue("search() should beat loading and scanning every row", rankedMs < substringMs);
+        }
+    }
+
+    @Test
+    public void matchesWordPrefixesNotSubstrings() {
+        // "cruz" starts a word in "Dela Cruz"; "ruz" only occurs inside one
+        assertFalse(searchRepository.search("cruz", 10).isEmpty());
+        assertTrue(searchRepository.search("ruz", 10).isEmpty());
+        assertFalse(searchRepository.search("dela cru", 10).isEmpty());
+        assertNull(searchRepository.matchingIds(" -*\" "));
+    }
+
+    // What the list screens did before: every field of every loaded row, lower-cased
+    private static List<BlotterReport> substringFilter(List<BlotterReport> reports, String query) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<BlotterReport> hits = new ArrayList<>();
+        for (BlotterReport report : reports) {
+            if (contains(report.getCaseNumber(), needle) || contains(report.getIncidentType(), needle)
+                || contains(report.getComplainantName(), needle) || contains(report.getNarrative(), needle)) {
+                hits.add(report);
+            }
+        }
+        return hits;
+    }
+
+    private static boolean contains(String field, String needle) {
+        return field != null && field.toLowerCase(Locale.ROOT).contains(needle);
+    }
+}
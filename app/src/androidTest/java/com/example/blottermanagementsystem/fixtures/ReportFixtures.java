@@ -0,0 +1,63 @@
+package com.example.blottermanagementsystem.fixtures;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic reports shared by the instrumented tests and benchmarks.
+ *
+ * Deterministic: row i always gets the same content, so a test can rebuild "the server's
+ * copy" or "a fresh re-query" whenever it needs one. Names, incident types and narratives
+ * repeat with different periods, so searches hit a realistic spread of rows.
+ */
+public final class ReportFixtures {
+    public static final long NOW = 1_700_000_000_000L;
+
+    public static final String[] STATUSES = {"PENDING", "ASSIGNED", "ONGOING", "RESOLVED", "CLOSED"};
+    public static final String[] SURNAMES = {"Dela Cruz", "Santos", "Reyes", "Bautista", "Garcia", "Mendoza"};
+    public static final String[] INCIDENTS = {"Theft", "Physical Injury", "Disturbance", "Trespassing", "Vandalism"};
+    public static final String[] ITEMS = {"motorcycle", "cellphone", "bicycle", "wallet", "livestock"};
+
+    private ReportFixtures() {
+    }
+
+    /**
+     * Reports 1..rows at server version 1
+     */
+    public static List<BlotterReport> reports(int rows) {
+        return reports(rows, 1);
+    }
+
+    public static List<BlotterReport> reports(int rows, long version) {
+        List<BlotterReport> reports = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            reports.add(report(i, version));
+        }
+        return reports;
+    }
+
+    /**
+     * Row i (id i + 1), filed one minute before row i - 1
+     */
+    public static BlotterReport report(int i, long version) {
+        BlotterReport report = new BlotterReport();
+        report.setId(i + 1);
+        report.setVersion(version);
+        report.setCaseNumber("BR-" + (2020 + i % 6) + "-" + i);
+        report.setComplainantName("Juan " + SURNAMES[i % SURNAMES.length] + " " + (i % 97));
+        report.setRespondentName("Pedro " + SURNAMES[(i / 7) % SURNAMES.length]);
+        report.setIncidentType(INCIDENTS[i % INCIDENTS.length]);
+        report.setIncidentLocation("Purok " + (i % 12));
+        report.setNarrative("Reported " + ITEMS[i % ITEMS.length] + " incident near barangay hall " + (i % 50));
+        report.setStatus(STATUSES[i % STATUSES.length]);
+        report.setIncidentDate(NOW - i * 60_000L);
+        report.setDateFiled(NOW - i * 60_000L);
+        report.setUserId(1 + i % 500);
+        report.setAssignedOfficer("Officer " + (i % 40));
+        report.setAssignedOfficerId(1 + i % 40);
+        report.setAssignedOfficerIds((1 + i % 40) + "," + (1 + (i + 7) % 40));
+        return report;
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.blottermanagementsystem.ui.adapters;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.util.Log;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.blottermanagementsystem.R;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.fixtures.ReportFixtures;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.blottermanagementsystem.fixtures.ReportFixtures.STATUSES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Rebind and frame-time benchmark for ReportAdapter on a 5k-report list.
+ *
+ * Simulates a realtime case update - a re-query that returns fresh copies of every
+ * report with one status changed - and compares the old full refresh
+ * (notifyDataSetChanged) with submitList. Counts onBindViewHolder calls and times the
+ * measure/layout/draw pass that follows. Results are logged under tag "ReportDiff".
+ */
+@RunWith(AndroidJUnit4.class)
+public class ReportAdapterDiffBenchmarkTest {
+    private static final String TAG = "ReportDiff";
+
+    private static final int REPORTS = 5_000;
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 2400;
+    private static final int CHANGED_POSITION = 2;
+    private static final int ROUNDS = 20;
+
+    private RecyclerView recyclerView;
+    private CountingReportAdapter adapter;
+    private Canvas canvas;
+    private Bitmap bitmap;
+
+    @Before
+    public void setUp() throws Exception {
+        Context context = new ContextThemeWrapper(
+            InstrumentationRegistry.getInstrumentation().getTargetContext(),
+            R.style.Theme_BlotterManagementSystemJAVA);
+        bitmap = Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888);
+        canvas = new Canvas(bitmap);
+
+        CountDownLatch committed = new CountDownLatch(1);
+        onMain(() -> {
+            recyclerView = new RecyclerView(context);
+            recyclerView.setLayoutManager(new LinearLayoutManager(context));
+            // Change animations bind a second holder per changed row - count the update itself
+            recyclerView.setItemAnimator(null);
+            adapter = new CountingReportAdapter();
+            recyclerView.setAdapter(adapter);
+            adapter.submitList(reports(-1), committed::countDown);
+        });
+        assertTrue(committed.await(10, TimeUnit.SECONDS));
+        onMain(this::frame);
+    }
+
+    @After
+    public void tearDown() {
+        bitmap.recycle();
+    }
+
+    @Test
+    public void realtimeStatusChangeRebindsOnlyThatRow() throws Exception {
+        // Old path: change the shown data in place and refresh everything on screen
+        int fullBinds = 0;
+        double fullFrameMs = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            String status = reports(round).get(CHANGED_POSITION).getStatus();
+            long[] frameNs = new long[1];
+            onMain(() -> {
+                adapter.binds = 0;
+                adapter.getCurrentList().get(CHANGED_POSITION).setStatus(status);
+                long start = System.nanoTime();
+                adapter.notifyDataSetChanged();
+                frame();
+                frameNs[0] = System.nanoTime() - start;
+            });
+            fullBinds += adapter.binds;
+            fullFrameMs += frameNs[0] / 1e6;
+        }
+
+        // Restore the baseline list so the diffed rounds start from the same content
+        CountDownLatch reset = new CountDownLatch(1);
+        onMain(() -> adapter.submitList(reports(-1), reset::countDown));
+        assertTrue(reset.await(10, TimeUnit.SECONDS));
+        onMain(this::frame);
+
+        // New path: diff on AppExecutors.cpu(), dispatch only what changed
+        int diffBinds = 0;
+        double diffFrameMs = 0;
+        double diffLatencyMs = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<BlotterReport> updated = reports(round);
+            CountDownLatch committed = new CountDownLatch(1);
+            long[] submittedAt = new long[1];
+            onMain(() -> {
+                adapter.binds = 0;
+                submittedAt[0] = System.nanoTime();
+                adapter.submitList(updated, committed::countDown);
+            });
+            assertTrue(committed.await(10, TimeUnit.SECONDS));
+            long[] frameNs = new long[1];
+            onMain(() -> {
+                long start = System.nanoTime();
+                frame();
+                frameNs[0] = System.nanoTime() - start;
+            });
+            diffLatencyMs += (System.nanoTime() - submittedAt[0]) / 1e6;
+            assertEquals("round " + round, 1, adapter.binds);
+            diffBinds += adapter.binds;
+            diffFrameMs += frameNs[0] / 1e6;
+        }
+
+        int visibleRows = recyclerView.getChildCount();
+        Log.i(TAG, String.format("%d reports, %d rows on screen, %d rounds", REPORTS, visibleRows, ROUNDS));
+        Log.i(TAG, String.format("notifyDataSetChanged | %5.1f binds/update | %6.2fms frame",
+            fullBinds / (double) ROUNDS, fullFrameMs / ROUNDS));
+        Log.i(TAG, String.format("submitList (diffed)  | %5.1f binds/update | %6.2fms frame | %6.2fms submit-to-frame",
+            diffBinds / (double) ROUNDS, diffFrameMs / ROUNDS, diffLatencyMs / ROUNDS));
+
+        assertTrue("Full refresh should rebind every visible row", fullBinds >= ROUNDS * visibleRows);
+    }
+
+    @Test
+    public void unchangedReloadRebindsNothing() throws Exception {
+        CountDownLatch committed = new CountDownLatch(1);
+        onMain(() -> {
+            adapter.binds = 0;
+            adapter.submitList(reports(-1), committed::countDown);
+        });
+        assertTrue(committed.await(10, TimeUnit.SECONDS));
+        onMain(this::frame);
+
+        assertEquals(0, adapter.binds);
+        assertEquals(REPORTS, adapter.getItemCount());
+    }
+
+    // Measure, lay out and draw once, the way a vsync would
+    private void frame() {
+        recyclerView.measure(
+            View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+            View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        recyclerView.layout(0, 0, WIDTH, HEIGHT);
+        recyclerView.draw(canvas);
+    }
+
+    private static void onMain(Runnable runnable) {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(runnable);
+    }
+
+    /**
+     * Fresh copies of every report, as a re-query returns them; round >= 0 changes the
+     * status of the report at CHANGED_POSITION
+     */
+    private static List<BlotterReport> reports(int round) {
+        List<BlotterReport> reports = ReportFixtures.reports(REPORTS);
+        if (round >= 0) {
+            reports.get(CHANGED_POSITION).setStatus(STATUSES[(CHANGED_POSITION + 1 + round % 4) % STATUSES.length]);
+        }
+        return reports;
+    }
+
+    private static class CountingReportAdapter extends ReportAdapter {
+        int binds;
+
+        CountingReportAdapter() {
+            super(null, report -> {});
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull ReportViewHolder holder, int position) {
+            binds++;
+            super.onBindViewHolder(holder, position);
+        }
+    }
+}
@@ -2,13 +2,35 @@ package com.example.blottermanagementsystem;
 
 import android.app.Application;
 
+import com.example.blottermanagementsystem.data.api.HttpEngine;
+import com.example.blottermanagementsystem.data.repository.OutboxRepository;
+import com.example.blottermanagementsystem.data.repository.PrefetchScheduler;
+import com.example.blottermanagementsystem.utils.MainThreadWatchdog;
+import com.example.blottermanagementsystem.utils.PreferencesManager;
+
 public class BlotterApplication extends Application {
     
     @Override
     public void onCreate() {
         super.onCreate();
         
+        // ✅ Main-thread stall and per-screen frame-time log - first, so it sees every screen.
+        // It hooks every looper message and samples from a background thread, so release builds
+        // only pay for it once an admin turns it on from the performance log export.
+        if (BuildConfig.DEBUG || new PreferencesManager(this).isPerformanceLogEnabled()) {
+            MainThreadWatchdog.install(this);
+        }
+        
         // Initialize app components here
         // Example: Cloudinary, Firebase, etc.
+        
+        // ✅ On-disk HTTP cache for ETag revalidation - before anything builds the client
+        HttpEngine.init(this);
+        
+        // ✅ Replay queued report/witness/suspect/... mutations whenever we're online
+        OutboxRepository.getInstance(this).start();
+        
+        // ✅ Warm assigned cases, hearings and case bundles for offline use in the field
+        PrefetchScheduler.getInstance(this).start();
     }
 }
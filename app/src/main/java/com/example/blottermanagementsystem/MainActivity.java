@@ -5,6 +5,7 @@ import android.content.SharedPreferences;
 import android.os.Bundle;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.splashscreen.SplashScreen;
+import com.example.blottermanagementsystem.data.api.BackendWarmup;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.ui.activities.BaseActivity;
@@ -17,7 +18,7 @@ import com.example.blottermanagementsystem.utils.PreferencesManager;
 // import com.example.blottermanagementsystem.services.BackgroundSyncService; // 🚀 DISABLED: Pure Neon mode
 import com.example.blottermanagementsystem.websocket.WebSocketManager;
 import com.example.blottermanagementsystem.websocket.RealtimeListener;
-import java.util.concurrent.Executors;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 
 public class MainActivity extends BaseActivity implements RealtimeListener {
     
@@ -29,13 +30,16 @@ public class MainActivity extends BaseActivity implements RealtimeListener {
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         
+        // 🔥 Wake the backend (DNS + TLS + health ping) while the splash is still up
+        BackendWarmup.start();
+        
         // 🚀 DISABLED: Background Sync Service (Pure Neon mode - no local sync needed)
         // Intent syncIntent = new Intent(this, BackgroundSyncService.class);
         // startService(syncIntent);
         android.util.Log.d("MainActivity", "⚠️ Background Sync Service DISABLED - Pure Neon mode");
         
         // 🔌 INITIALIZE WEBSOCKET FOR REAL-TIME UPDATES
-        webSocketManager = new WebSocketManager(this);
+        webSocketManager = WebSocketManager.getInstance(this);
         webSocketManager.addListener(this);
         android.util.Log.d("MainActivity", "🔌 WebSocket Manager initialized");
         
@@ -127,7 +131,7 @@ public class MainActivity extends BaseActivity implements RealtimeListener {
     }
     
     private void checkProfilePictureAndNavigate() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 int userId = preferencesManager.getUserId();
                 User user = database.userDao().getUserById(userId);
@@ -244,10 +248,9 @@ public class MainActivity extends BaseActivity implements RealtimeListener {
     protected void onDestroy() {
         super.onDestroy();
         
-        // Disconnect WebSocket when app is destroyed
+        // ✅ Router finishes as soon as it routes - the shared socket stays up for the dashboards
         if (webSocketManager != null) {
-            android.util.Log.d("MainActivity", "🔌 Disconnecting WebSocket");
-            webSocketManager.disconnect();
+            webSocketManager.removeListener(this);
         }
     }
     
@@ -1,15 +1,12 @@
 package com.example.blottermanagementsystem.data.api;
 
-import okhttp3.OkHttpClient;
-import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
-import java.util.concurrent.TimeUnit;
 
 public class ApiConfig {
     
     // Cloud API Base URL (for production)
-    private static final String BASE_URL = "https://bms-1op6.onrender.com/";
+    static final String BASE_URL = "https://bms-1op6.onrender.com/";
     
     // Localhost API Base URL (for development)
     // Use 10.0.2.2 for Android Emulator (maps to host machine's localhost)
@@ -21,23 +18,11 @@ public class ApiConfig {
     
     public static Retrofit getRetrofit() {
         if (retrofit == null) {
-            // Logging Interceptor for debugging
-            HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
-            loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
-            
-            // OkHttp Client with timeout and logging
-            OkHttpClient okHttpClient = new OkHttpClient.Builder()
-                .addInterceptor(loggingInterceptor)
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .writeTimeout(30, TimeUnit.SECONDS)
-                .build();
-            
-            // Retrofit Instance
+            // Retrofit Instance on the shared HTTP engine (pool, dispatcher, debug-only logging)
             retrofit = new Retrofit.Builder()
                 .baseUrl(BASE_URL)
-                .client(okHttpClient)
-                .addConverterFactory(GsonConverterFactory.create())
+                .client(HttpEngine.getClient())
+                .addConverterFactory(GsonConverterFactory.create(JsonCodec.gson()))
                 .build();
         }
         return retrofit;
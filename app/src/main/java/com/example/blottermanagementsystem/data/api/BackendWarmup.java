@@ -0,0 +1,154 @@
+package com.example.blottermanagementsystem.data.api;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * ✅ BACKEND WARM-UP - RENDER COLD STARTS
+ * The backend sleeps after ~15 minutes idle and the first request then waits while the
+ * instance boots. start() (from MainActivity, while the splash is up) pings the health
+ * route once: DNS, TCP and TLS are done then, and the pooled connection is reused by
+ * ApiClient, so nothing a user does pays for the cold start again.
+ *
+ * Latency-sensitive calls (login) go through whenReady() instead of racing the boot
+ * with their own 30s timeout. Ping and first-call latencies are kept in stats().
+ */
+public final class BackendWarmup {
+    private static final String TAG = "BackendWarmup";
+
+    // The backend's root route is its health check
+    private static final String HEALTH_URL = ApiConfig.BASE_URL;
+
+    // Render cold starts take up to ~50s - only the warm-up waits that long
+    private static final long MAX_WAIT_SECONDS = 75;
+    // Slower than this and the instance was asleep
+    private static final long COLD_THRESHOLD_MS = 3_000;
+    // Render's idle timeout - after this long a finished warm-up is stale
+    private static final long IDLE_SLEEP_MS = 15 * 60 * 1000L;
+
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private static final Stats STATS = new Stats();
+
+    private static CompletableFuture<Boolean> warmup;
+    private static long lastWarmAt;
+
+    private BackendWarmup() {}
+
+    public static Stats stats() {
+        return STATS;
+    }
+
+    /**
+     * Ping the backend unless a warm-up is running or succeeded recently.
+     * Completes with true once the backend answered, false if it couldn't be reached.
+     */
+    public static synchronized CompletableFuture<Boolean> start() {
+        if (warmup != null && (!warmup.isDone() || isFresh())) return warmup;
+
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        warmup = future;
+        long startedAt = System.currentTimeMillis();
+        Log.d(TAG, "🔥 Warming up backend");
+
+        OkHttpClient client = HttpEngine.newBuilder()
+            .callTimeout(MAX_WAIT_SECONDS, TimeUnit.SECONDS)
+            .readTimeout(MAX_WAIT_SECONDS, TimeUnit.SECONDS)
+            .build();
+        client.newCall(new Request.Builder().url(HEALTH_URL).build()).enqueue(new Callback() {
+            @Override
+            public void onResponse(@NonNull Call call, @NonNull Response response) {
+                response.close();
+                long elapsed = System.currentTimeMillis() - startedAt;
+                STATS.recordPing(elapsed);
+                markWarm();
+                Log.d(TAG, (elapsed >= COLD_THRESHOLD_MS ? "🥶 Cold" : "✅ Warm") + " backend answered in "
+                    + elapsed + "ms (HTTP " + response.code() + ")");
+                future.complete(true);
+            }
+
+            @Override
+            public void onFailure(@NonNull Call call, @NonNull IOException e) {
+                Log.w(TAG, "⚠️ Backend warm-up failed after " + (System.currentTimeMillis() - startedAt)
+                    + "ms: " + e.getMessage());
+                future.complete(false);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Run action on the main thread once the backend is awake (or known unreachable -
+     * the caller's own error handling takes over from there)
+     */
+    public static void whenReady(Runnable action) {
+        CompletableFuture<Boolean> future = start();
+        if (future.isDone()) {
+            mainHandler.post(action);
+        } else {
+            Log.d(TAG, "⏳ Waiting for backend warm-up");
+            future.whenComplete((ok, error) -> mainHandler.post(action));
+        }
+    }
+
+    /**
+     * Latency of the first call parked behind the warm-up (the login), for the session record
+     */
+    public static void recordFirstCall(long elapsedMs) {
+        STATS.recordFirstCall(elapsedMs);
+    }
+
+    private static synchronized void markWarm() {
+        lastWarmAt = System.currentTimeMillis();
+    }
+
+    private static boolean isFresh() {
+        return warmup.getNow(false) && System.currentTimeMillis() - lastWarmAt < IDLE_SLEEP_MS;
+    }
+
+    /**
+     * Cold vs. warm latency for this session, for the debug screen
+     */
+    public static final class Stats {
+        private long pings;
+        private long coldPings;
+        private long lastPingMs = -1;
+        private long firstCallMs = -1;
+
+        synchronized void recordPing(long elapsedMs) {
+            pings++;
+            if (elapsedMs >= COLD_THRESHOLD_MS) coldPings++;
+            lastPingMs = elapsedMs;
+        }
+
+        synchronized void recordFirstCall(long elapsedMs) {
+            if (firstCallMs < 0) firstCallMs = elapsedMs;
+        }
+
+        public synchronized long getPings() { return pings; }
+        public synchronized long getColdPings() { return coldPings; }
+        public synchronized long getLastPingMs() { return lastPingMs; }
+        public synchronized long getFirstCallMs() { return firstCallMs; }
+
+        public synchronized boolean wasCold() {
+            return lastPingMs >= COLD_THRESHOLD_MS;
+        }
+
+        @NonNull
+        @Override
+        public synchronized String toString() {
+            return (lastPingMs < 0 ? "not warmed" : (wasCold() ? "cold " : "warm ") + lastPingMs + "ms")
+                + " pings=" + pings + " cold=" + coldPings
+                + " firstCall=" + (firstCallMs < 0 ? "-" : firstCallMs + "ms");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.data.entity.Officer;
 import java.util.List;
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.*;
 
@@ -22,6 +23,11 @@ public interface BlotterApiService {
     @GET("api/users")
     Call<ApiResponse<List<User>>> getAllUsers();
     
+    // Same list, unbuffered - decode with StreamingListDecoder (e.g. BulkSyncWriter.applyUserStream)
+    @Streaming
+    @GET("api/users")
+    Call<ResponseBody> streamAllUsers();
+    
     @GET("api/users/{id}")
     Call<ApiResponse<User>> getUserById(@Path("id") int id);
     
@@ -56,9 +62,11 @@ public interface BlotterApiService {
     @GET("api/reports/{id}")
     Call<ApiResponse<BlotterReport>> getReportById(@Path("id") int id);
     
+    @Headers(RequestCompression.GZIP)
     @POST("api/reports")
     Call<ApiResponse<BlotterReport>> createReport(@Body BlotterReport report);
     
+    @Headers(RequestCompression.GZIP)
     @PUT("api/reports/{id}")
     Call<ApiResponse<BlotterReport>> updateReport(@Path("id") int id, @Body BlotterReport report);
     
@@ -73,12 +81,21 @@ public interface BlotterApiService {
     
     // ==================== Sync ====================
     
+    // Batched sync payloads compress best of all
+    @Headers(RequestCompression.GZIP)
     @POST("api/sync/upload")
     Call<ApiResponse<SyncResponse>> syncUpload(@Body SyncRequest request);
     
     @GET("api/sync/download")
     Call<ApiResponse<SyncData>> syncDownload(@Query("lastSync") long lastSync);
     
+    // Delta sync: only rows changed or deleted after each per-entity cursor
+    @GET("api/sync/changes")
+    Call<ApiResponse<SyncDelta>> syncChanges(@Query("reportsSince") long reportsSince,
+                                             @Query("usersSince") long usersSince,
+                                             @Query("officersSince") long officersSince,
+                                             @Query("limit") int limit);
+    
     // ==================== Request/Response Models ====================
     
     class LoginRequest {
@@ -144,4 +161,21 @@ public interface BlotterApiService {
         public List<Officer> officers;
         public long timestamp;
     }
+    
+    class SyncDelta {
+        // Changed rows (created or updated after the cursor)
+        public List<BlotterReport> reports;
+        public List<User> users;
+        public List<Officer> officers;
+        // Tombstones: ids deleted after the cursor
+        public List<Integer> deletedReportIds;
+        public List<Integer> deletedUserIds;
+        public List<Integer> deletedOfficerIds;
+        // New high-water marks to send on the next request
+        public long reportsCursor;
+        public long usersCursor;
+        public long officersCursor;
+        // True when the page limit was hit and another request is needed
+        public boolean hasMore;
+    }
 }
@@ -0,0 +1,157 @@
+package com.example.blottermanagementsystem.data.api;
+
+import androidx.annotation.NonNull;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.CacheControl;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * ✅ HTTP CACHE POLICY
+ * Per-endpoint caching for GETs on the shared HttpEngine cache. Opt a Retrofit method in with
+ * {@code @Headers(HttpCache.REVALIDATE)} (or another policy below); every other GET bypasses
+ * the disk cache entirely.
+ *
+ * The backend answers GETs with an ETag, so a revalidation goes out with If-None-Match and an
+ * unchanged list comes back as 304 with no body - OkHttp serves the stored copy.
+ *
+ * When the network is unreachable a cacheable GET falls back to its stored copy (up to
+ * OFFLINE_MAX_STALE_DAYS old), so screens the PrefetchScheduler warmed still open in the field.
+ */
+public final class HttpCache {
+
+    public static final String POLICY_HEADER = "X-Cache-Policy";
+
+    // Always ask the server, but conditionally - 304 costs headers only.
+    // max-age=0 rather than no-cache: same revalidation online, but the copy stays usable offline
+    public static final String REVALIDATE = POLICY_HEADER + ": max-age=0";
+    // Serve from disk for a minute without touching the network, then revalidate
+    public static final String FRESH_1_MIN = POLICY_HEADER + ": max-age=60";
+
+    private static final int OFFLINE_MAX_STALE_DAYS = 7;
+
+    private static final CacheControl NO_STORE = new CacheControl.Builder().noStore().build();
+    private static final CacheControl OFFLINE = new CacheControl.Builder()
+        .onlyIfCached()
+        .maxStale(OFFLINE_MAX_STALE_DAYS, TimeUnit.DAYS)
+        .build();
+
+    private static final Stats STATS = new Stats();
+
+    private HttpCache() {}
+
+    public static Stats stats() {
+        return STATS;
+    }
+
+    /**
+     * Application interceptor: GETs without a policy never read or write the cache;
+     * GETs with one fall back to the stored copy when the network is unreachable
+     */
+    static Interceptor policyInterceptor() {
+        return chain -> {
+            Request request = chain.request();
+            if (!"GET".equals(request.method())) return chain.proceed(request);
+            if (request.header(POLICY_HEADER) == null) {
+                return chain.proceed(request.newBuilder().cacheControl(NO_STORE).build());
+            }
+            try {
+                return chain.proceed(request);
+            } catch (IOException offline) {
+                Response cached = chain.proceed(request.newBuilder().cacheControl(OFFLINE).build());
+                // 504 = nothing stored for this URL - report the real failure
+                if (cached.code() == 504) {
+                    cached.close();
+                    throw offline;
+                }
+                STATS.offlineHits.incrementAndGet();
+                return cached;
+            }
+        };
+    }
+
+    /**
+     * Network interceptor: strips the policy header off the wire and stamps it on the response
+     * as Cache-Control, which is what OkHttp's cache honours. A server no-store always wins.
+     */
+    static Interceptor responseInterceptor() {
+        return chain -> {
+            Request request = chain.request();
+            String policy = request.header(POLICY_HEADER);
+            if (policy == null) return chain.proceed(request);
+
+            Response response = chain.proceed(request.newBuilder().removeHeader(POLICY_HEADER).build());
+            if (response.cacheControl().noStore()) return response;
+            return response.newBuilder()
+                .header("Cache-Control", policy)
+                .removeHeader("Pragma")
+                .build();
+        };
+    }
+
+    /**
+     * Hit/miss counters for the debug screen.
+     * hit = served from disk with no request, conditionalHit = 304 revalidation,
+     * miss = full body downloaded for a cacheable request, offlineHit = stored copy served
+     * because the network was unreachable. networkBytes counts every response body byte
+     * read off the wire (cached or not) - the PrefetchScheduler budgets against it.
+     */
+    public static final class Stats extends EventListener {
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong conditionalHits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong offlineHits = new AtomicLong();
+        private final AtomicLong networkBytes = new AtomicLong();
+
+        @Override
+        public void cacheHit(@NonNull Call call, @NonNull Response response) {
+            hits.incrementAndGet();
+        }
+
+        @Override
+        public void cacheConditionalHit(@NonNull Call call, @NonNull Response cachedResponse) {
+            conditionalHits.incrementAndGet();
+        }
+
+        @Override
+        public void cacheMiss(@NonNull Call call) {
+            // Uncached GETs carry no-store - don't count those as misses
+            if (call.request().header(POLICY_HEADER) != null) misses.incrementAndGet();
+        }
+
+        @Override
+        public void responseBodyEnd(@NonNull Call call, long byteCount) {
+            networkBytes.addAndGet(byteCount);
+        }
+
+        public long getHits() { return hits.get(); }
+        public long getConditionalHits() { return conditionalHits.get(); }
+        public long getMisses() { return misses.get(); }
+        public long getOfflineHits() { return offlineHits.get(); }
+        public long getNetworkBytes() { return networkBytes.get(); }
+
+        public double getHitRatio() {
+            long total = hits.get() + conditionalHits.get() + misses.get();
+            return total == 0 ? 0 : (double) (hits.get() + conditionalHits.get()) / total;
+        }
+
+        public void reset() {
+            hits.set(0);
+            conditionalHits.set(0);
+            misses.set(0);
+            offlineHits.set(0);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "hits=" + getHits() + " 304s=" + getConditionalHits() + " misses=" + getMisses()
+                + String.format(" (%.0f%%)", getHitRatio() * 100) + " offline=" + getOfflineHits();
+        }
+    }
+}
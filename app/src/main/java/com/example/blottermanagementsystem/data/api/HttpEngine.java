@@ -0,0 +1,155 @@
+package com.example.blottermanagementsystem.data.api;
+
+import android.content.Context;
+import android.util.Log;
+import com.example.blottermanagementsystem.BuildConfig;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.logging.HttpLoggingInterceptor;
+
+/**
+ * ✅ HTTP ENGINE - ONE SHARED OKHTTP STACK
+ * ApiClient, ApiConfig and WebSocketManager all hang off this client, so the app has a
+ * single connection pool and dispatcher. Everything talks to one backend host, so with
+ * HTTP/2 concurrent calls multiplex over one connection instead of each stack opening
+ * (and TLS-handshaking) its own.
+ *
+ * Need different settings (auth header, ping interval)? Use newBuilder() - clients derived
+ * from it still share the pool and dispatcher.
+ * GETs opted in via HttpCache policies are kept in an on-disk cache once init() has run;
+ * uploads opted in via RequestCompression.GZIP are gzipped.
+ */
+public final class HttpEngine {
+    private static final String TAG = "HttpEngine";
+
+    // Sync, outbox replay and a couple of screens in flight at once - not hundreds
+    private static final int MAX_REQUESTS = 16;
+    private static final int MAX_REQUESTS_PER_HOST = 8;
+    private static final int MAX_IDLE_CONNECTIONS = 4;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+    private static final long TIMEOUT_SECONDS = 30;
+    private static final long CACHE_SIZE_BYTES = 20L * 1024 * 1024;
+
+    private static volatile OkHttpClient client;
+    private static File cacheDir;
+    private static volatile Future<?> pendingClear; // Last clearCache() eviction; requests wait for it
+
+    private HttpEngine() {}
+
+    /**
+     * Point the HTTP cache at the app's cache dir. Call from Application.onCreate,
+     * before the first request - a client built earlier runs without a disk cache.
+     */
+    public static synchronized void init(Context context) {
+        if (cacheDir != null) return;
+        cacheDir = new File(context.getApplicationContext().getCacheDir(), "http");
+        if (client != null) Log.w(TAG, "⚠️ HttpEngine already built - HTTP cache disabled for this process");
+    }
+
+    public static OkHttpClient getClient() {
+        if (client == null) {
+            synchronized (HttpEngine.class) {
+                if (client == null) {
+                    client = build();
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * A builder sharing the engine's connection pool, dispatcher and logging
+     */
+    public static OkHttpClient.Builder newBuilder() {
+        return getClient().newBuilder();
+    }
+
+    /**
+     * Drop every cached response - on logout, so the next account never sees the last one's lists.
+     * The eviction runs on the disk pool; every request made after this call waits for it to
+     * finish before it can touch the cache.
+     */
+    public static void clearCache() {
+        Cache cache = client != null ? client.cache() : null;
+        if (cache == null) return;
+        pendingClear = AppExecutors.disk().submit(() -> {
+            try {
+                cache.evictAll();
+                Log.d(TAG, "✅ HTTP cache cleared");
+            } catch (IOException e) {
+                Log.w(TAG, "⚠️ Could not clear HTTP cache: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Application interceptor: holds a request until a pending clearCache() has finished,
+     * so a call made right after logout can't be answered from the previous account's cache
+     */
+    private static Interceptor awaitCacheClear() {
+        return chain -> {
+            Future<?> clear = pendingClear;
+            if (clear != null && !clear.isDone()) {
+                try {
+                    clear.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted waiting for HTTP cache clear");
+                } catch (TimeoutException e) {
+                    throw new IOException("HTTP cache clear still running", e);
+                } catch (ExecutionException e) {
+                    Log.w(TAG, "⚠️ HTTP cache clear failed: " + e.getCause());
+                }
+            }
+            return chain.proceed(chain.request());
+        };
+    }
+
+    private static OkHttpClient build() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+            .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+            .retryOnConnectionFailure(true)
+            .connectTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .readTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .writeTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .addInterceptor(awaitCacheClear())
+            .addInterceptor(HttpCache.policyInterceptor())
+            .addInterceptor(RequestCompression.interceptor())
+            .addNetworkInterceptor(HttpCache.responseInterceptor())
+            .eventListener(HttpCache.stats());
+
+        if (cacheDir != null) {
+            builder.cache(new Cache(cacheDir, CACHE_SIZE_BYTES));
+        }
+
+        // Body logging buffers every response in memory - debug builds only
+        if (BuildConfig.DEBUG) {
+            HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
+            loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
+            // Logcat is readable by anyone with adb - never write the JWT into it
+            loggingInterceptor.redactHeader("Authorization");
+            // Network interceptor so it logs what actually goes on the wire
+            builder.addNetworkInterceptor(loggingInterceptor);
+        }
+        return builder.build();
+    }
+}
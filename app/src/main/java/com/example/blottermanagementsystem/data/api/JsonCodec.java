@@ -0,0 +1,25 @@
+package com.example.blottermanagementsystem.data.api;
+
+import com.example.blottermanagementsystem.data.api.adapter.EntityTypeAdapterFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * ✅ JSON CODEC - THE SHARED GSON INSTANCE
+ * One Gson for Retrofit converters, the outbox and sync, with the entity TypeAdapters
+ * registered. Gson caches adapters per instance, so sharing it also means each type's
+ * adapter is built once per process.
+ */
+public final class JsonCodec {
+
+    private static final Gson GSON = new GsonBuilder()
+        .registerTypeAdapterFactory(new EntityTypeAdapterFactory())
+        .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+        .create();
+
+    private JsonCodec() {}
+
+    public static Gson gson() {
+        return GSON;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.blottermanagementsystem.data.api;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+/**
+ * ✅ REQUEST COMPRESSION
+ * Gzips upload bodies (Content-Encoding: gzip) for endpoints that opt in with
+ * {@code @Headers(RequestCompression.GZIP)}. Report narratives and sync batches are repetitive
+ * JSON and shrink several-fold, which officers on mobile data pay for.
+ *
+ * Bodies under MIN_BYTES go out as-is - gzip's header and the CPU aren't worth it there.
+ * A server that answers 415 to a gzipped body gets the request again uncompressed, and that
+ * host is not sent gzip again for the rest of the process.
+ */
+public final class RequestCompression {
+    private static final String TAG = "RequestCompression";
+
+    public static final String POLICY_HEADER = "X-Compress";
+    public static final String GZIP = POLICY_HEADER + ": gzip";
+
+    static final long MIN_BYTES = 1024;
+    private static final int UNSUPPORTED_MEDIA_TYPE = 415;
+
+    private static final Set<String> gzipRejectedHosts = ConcurrentHashMap.newKeySet();
+    private static final Stats STATS = new Stats();
+
+    private RequestCompression() {}
+
+    public static Stats stats() {
+        return STATS;
+    }
+
+    /**
+     * Application interceptor: strips the policy header and compresses the body when it pays off
+     */
+    static Interceptor interceptor() {
+        return chain -> {
+            Request request = chain.request();
+            if (request.header(POLICY_HEADER) == null) return chain.proceed(request);
+
+            Request plain = request.newBuilder().removeHeader(POLICY_HEADER).build();
+            RequestBody body = plain.body();
+            String host = plain.url().host();
+            if (body == null || plain.header("Content-Encoding") != null || gzipRejectedHosts.contains(host)) {
+                return chain.proceed(plain);
+            }
+
+            // Buffer once: the size decides, and a fixed-length body survives retries and the 415 fallback
+            Buffer raw = new Buffer();
+            body.writeTo(raw);
+            long rawBytes = raw.size();
+            RequestBody rawBody = RequestBody.create(raw.readByteString(), body.contentType());
+            plain = plain.newBuilder().method(plain.method(), rawBody).build();
+            if (rawBytes < MIN_BYTES) {
+                STATS.record(rawBytes, rawBytes);
+                return chain.proceed(plain);
+            }
+
+            RequestBody gzipped = gzip(rawBody);
+            Response response = chain.proceed(plain.newBuilder()
+                .header("Content-Encoding", "gzip")
+                .method(plain.method(), gzipped)
+                .build());
+            if (response.code() != UNSUPPORTED_MEDIA_TYPE) {
+                STATS.record(rawBytes, gzipped.contentLength());
+                return response;
+            }
+
+            Log.w(TAG, "⚠️ " + host + " rejected a gzip body - sending uncompressed from now on");
+            gzipRejectedHosts.add(host);
+            response.close();
+            STATS.record(rawBytes, rawBytes);
+            return chain.proceed(plain);
+        };
+    }
+
+    /**
+     * Gzip a body into a fixed-length one with the same content type
+     */
+    static RequestBody gzip(RequestBody body) throws IOException {
+        Buffer compressed = new Buffer();
+        try (BufferedSink sink = Okio.buffer(new GzipSink(compressed))) {
+            body.writeTo(sink);
+        }
+        return RequestBody.create(compressed.readByteString(), body.contentType());
+    }
+
+    /**
+     * Upload byte counters for the debug screen - bytes before and after compression
+     */
+    public static final class Stats {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong rawBytes = new AtomicLong();
+        private final AtomicLong sentBytes = new AtomicLong();
+
+        void record(long raw, long sent) {
+            requests.incrementAndGet();
+            rawBytes.addAndGet(raw);
+            sentBytes.addAndGet(sent);
+        }
+
+        public long getRequests() { return requests.get(); }
+        public long getRawBytes() { return rawBytes.get(); }
+        public long getSentBytes() { return sentBytes.get(); }
+
+        /**
+         * Fraction of upload bytes saved, 0 when nothing was sent
+         */
+        public double getSavedRatio() {
+            long raw = rawBytes.get();
+            return raw == 0 ? 0 : 1 - (double) sentBytes.get() / raw;
+        }
+
+        public void reset() {
+            requests.set(0);
+            rawBytes.set(0);
+            sentBytes.set(0);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "uploads=" + getRequests() + " " + getRawBytes() / 1024 + "KB -> " + getSentBytes() / 1024 + "KB"
+                + String.format(" (%.0f%% saved)", getSavedRatio() * 100);
+        }
+    }
+}
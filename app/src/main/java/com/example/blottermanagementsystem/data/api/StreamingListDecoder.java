@@ -0,0 +1,94 @@
+package com.example.blottermanagementsystem.data.api;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ✅ STREAMING LIST DECODER
+ * Reads a JSON list response element by element instead of materializing the whole
+ * List first, handing rows to the caller in fixed-size batches. Memory stays at one batch
+ * no matter how many thousand reports an admin's list holds, and the first rows can be
+ * stored while the rest are still on the wire.
+ *
+ * Accepts a bare array or the {@code { success, message, data: [...] }} envelope (ApiResponse).
+ */
+public final class StreamingListDecoder<T> {
+
+    /**
+     * Receives each batch; the list is not reused, so it may be kept
+     */
+    public interface BatchSink<T> {
+        void onBatch(List<T> batch) throws IOException;
+    }
+
+    private final TypeAdapter<T> adapter;
+    private final int batchSize;
+
+    public StreamingListDecoder(Gson gson, Class<T> type, int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive");
+        this.adapter = gson.getAdapter(type);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Decode the whole body. Returns the number of elements delivered.
+     * @throws IOException on malformed JSON or an envelope with success=false
+     */
+    public int decode(Reader body, BatchSink<T> sink) throws IOException {
+        try (JsonReader reader = new JsonReader(body)) {
+            JsonToken token = reader.peek();
+            if (token == JsonToken.BEGIN_ARRAY) {
+                return readArray(reader, sink);
+            }
+            if (token != JsonToken.BEGIN_OBJECT) {
+                throw new IOException("Expected a JSON list or envelope but was " + token);
+            }
+
+            int count = 0;
+            boolean success = true;
+            String message = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if ("data".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    count = readArray(reader, sink);
+                } else if ("success".equals(name) && reader.peek() == JsonToken.BOOLEAN) {
+                    success = reader.nextBoolean();
+                } else if (("message".equals(name) || "error".equals(name)) && reader.peek() == JsonToken.STRING) {
+                    String text = reader.nextString();
+                    if (message == null) message = text;
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            if (!success) throw new IOException(message != null ? message : "Request failed");
+            return count;
+        }
+    }
+
+    private int readArray(JsonReader reader, BatchSink<T> sink) throws IOException {
+        int count = 0;
+        List<T> batch = new ArrayList<>(batchSize);
+        reader.beginArray();
+        while (reader.hasNext()) {
+            T item = adapter.read(reader);
+            if (item == null) continue;
+            batch.add(item);
+            count++;
+            if (batch.size() == batchSize) {
+                sink.onBatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        reader.endArray();
+        if (!batch.isEmpty()) sink.onBatch(batch);
+        return count;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.blottermanagementsystem.data.api.adapter;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON mapping for BlotterReport. Property names match the field names Gson's
+ * reflective adapter used, so the wire format is unchanged.
+ */
+final class BlotterReportAdapter extends TypeAdapter<BlotterReport> {
+
+    @Override
+    public void write(JsonWriter out, BlotterReport value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("caseNumber").value(value.getCaseNumber());
+        out.name("complainantName").value(value.getComplainantName());
+        out.name("complainantContact").value(value.getComplainantContact());
+        out.name("complainantAddress").value(value.getComplainantAddress());
+        out.name("incidentType").value(value.getIncidentType());
+        out.name("incidentDate").value(value.getIncidentDate());
+        out.name("incidentTime").value(value.getIncidentTime());
+        out.name("incidentLocation").value(value.getIncidentLocation());
+        out.name("narrative").value(value.getNarrative());
+        out.name("respondentName").value(value.getRespondentName());
+        out.name("respondentAlias").value(value.getRespondentAlias());
+        out.name("respondentAddress").value(value.getRespondentAddress());
+        out.name("respondentContact").value(value.getRespondentContact());
+        out.name("accusation").value(value.getAccusation());
+        out.name("relationshipToComplainant").value(value.getRelationshipToComplainant());
+        out.name("status").value(value.getStatus());
+        out.name("dateFiled").value(value.getDateFiled());
+        out.name("assignedOfficer").value(value.getAssignedOfficer());
+        out.name("assignedOfficerId").value(value.getAssignedOfficerId());
+        out.name("assignedOfficerIds").value(value.getAssignedOfficerIds());
+        out.name("userId").value(value.getUserId());
+        out.name("isArchived").value(value.isArchived());
+        out.name("archivedDate").value(value.getArchivedDate());
+        out.name("archivedBy").value(value.getArchivedBy());
+        out.name("archivedReason").value(value.getArchivedReason());
+        out.name("imageUris").value(value.getImageUris());
+        out.name("videoUris").value(value.getVideoUris());
+        out.name("videoDurations").value(value.getVideoDurations());
+        out.name("audioUri").value(value.getAudioUri());
+        out.name("audioUris").value(value.getAudioUris());
+        out.name("audioDurations").value(value.getAudioDurations());
+        out.name("latitude").value(value.getLatitude());
+        out.name("longitude").value(value.getLongitude());
+        out.name("version").value(value.getVersion());
+        out.endObject();
+    }
+
+    @Override
+    public BlotterReport read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        BlotterReport value = new BlotterReport();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                setNull(value, name);
+                continue;
+            }
+            switch (name) {
+                case "id": value.setId(in.nextInt()); break;
+                case "caseNumber": value.setCaseNumber(JsonReads.nextString(in)); break;
+                case "complainantName": value.setComplainantName(JsonReads.nextString(in)); break;
+                case "complainantContact": value.setComplainantContact(JsonReads.nextString(in)); break;
+                case "complainantAddress": value.setComplainantAddress(JsonReads.nextString(in)); break;
+                case "incidentType": value.setIncidentType(JsonReads.nextString(in)); break;
+                case "incidentDate": value.setIncidentDate(in.nextLong()); break;
+                case "incidentTime": value.setIncidentTime(JsonReads.nextString(in)); break;
+                case "incidentLocation": value.setIncidentLocation(JsonReads.nextString(in)); break;
+                case "narrative": value.setNarrative(JsonReads.nextString(in)); break;
+                case "respondentName": value.setRespondentName(JsonReads.nextString(in)); break;
+                case "respondentAlias": value.setRespondentAlias(JsonReads.nextString(in)); break;
+                case "respondentAddress": value.setRespondentAddress(JsonReads.nextString(in)); break;
+                case "respondentContact": value.setRespondentContact(JsonReads.nextString(in)); break;
+                case "accusation": value.setAccusation(JsonReads.nextString(in)); break;
+                case "relationshipToComplainant": value.setRelationshipToComplainant(JsonReads.nextString(in)); break;
+                case "status": value.setStatus(JsonReads.nextString(in)); break;
+                case "dateFiled": value.setDateFiled(in.nextLong()); break;
+                case "assignedOfficer": value.setAssignedOfficer(JsonReads.nextString(in)); break;
+                case "assignedOfficerId": value.setAssignedOfficerId(in.nextInt()); break;
+                case "assignedOfficerIds": value.setAssignedOfficerIds(JsonReads.nextString(in)); break;
+                case "userId": value.setUserId(in.nextInt()); break;
+                case "isArchived": value.setArchived(JsonReads.nextBoolean(in)); break;
+                case "archivedDate": value.setArchivedDate(in.nextLong()); break;
+                case "archivedBy": value.setArchivedBy(JsonReads.nextString(in)); break;
+                case "archivedReason": value.setArchivedReason(JsonReads.nextString(in)); break;
+                case "imageUris": value.setImageUris(JsonReads.nextString(in)); break;
+                case "videoUris": value.setVideoUris(JsonReads.nextString(in)); break;
+                case "videoDurations": value.setVideoDurations(JsonReads.nextString(in)); break;
+                case "audioUri": value.setAudioUri(JsonReads.nextString(in)); break;
+                case "audioUris": value.setAudioUris(JsonReads.nextString(in)); break;
+                case "audioDurations": value.setAudioDurations(JsonReads.nextString(in)); break;
+                case "latitude": value.setLatitude(in.nextDouble()); break;
+                case "longitude": value.setLongitude(in.nextDouble()); break;
+                case "version": value.setVersion(in.nextLong()); break;
+                default: in.skipValue();
+            }
+        }
+        in.endObject();
+        return value;
+    }
+
+    // Explicit JSON null: clear reference fields, leave primitives at their current value (as Gson does)
+    private static void setNull(BlotterReport value, String name) {
+        switch (name) {
+            case "caseNumber": value.setCaseNumber(null); break;
+            case "complainantName": value.setComplainantName(null); break;
+            case "complainantContact": value.setComplainantContact(null); break;
+            case "complainantAddress": value.setComplainantAddress(null); break;
+            case "incidentType": value.setIncidentType(null); break;
+            case "incidentTime": value.setIncidentTime(null); break;
+            case "incidentLocation": value.setIncidentLocation(null); break;
+            case "narrative": value.setNarrative(null); break;
+            case "respondentName": value.setRespondentName(null); break;
+            case "respondentAlias": value.setRespondentAlias(null); break;
+            case "respondentAddress": value.setRespondentAddress(null); break;
+            case "respondentContact": value.setRespondentContact(null); break;
+            case "accusation": value.setAccusation(null); break;
+            case "relationshipToComplainant": value.setRelationshipToComplainant(null); break;
+            case "status": value.setStatus(null); break;
+            case "assignedOfficer": value.setAssignedOfficer(null); break;
+            case "assignedOfficerId": value.setAssignedOfficerId(null); break;
+            case "assignedOfficerIds": value.setAssignedOfficerIds(null); break;
+            case "archivedDate": value.setArchivedDate(null); break;
+            case "archivedBy": value.setArchivedBy(null); break;
+            case "archivedReason": value.setArchivedReason(null); break;
+            case "imageUris": value.setImageUris(null); break;
+            case "videoUris": value.setVideoUris(null); break;
+            case "videoDurations": value.setVideoDurations(null); break;
+            case "audioUri": value.setAudioUri(null); break;
+            case "audioUris": value.setAudioUris(null); break;
+            case "audioDurations": value.setAudioDurations(null); break;
+            default: break;
+        }
+    }
+}
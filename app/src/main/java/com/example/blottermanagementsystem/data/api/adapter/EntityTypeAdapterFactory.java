@@ -0,0 +1,41 @@
+package com.example.blottermanagementsystem.data.api.adapter;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.Officer;
+import com.example.blottermanagementsystem.data.entity.Resolution;
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.example.blottermanagementsystem.data.entity.User;
+import com.example.blottermanagementsystem.data.entity.Witness;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * ✅ ENTITY TYPE ADAPTERS
+ * Hand-written adapters for every entity that goes over the wire (API bodies and outbox
+ * payloads). No reflection: each adapter reads and writes through the entity's accessors.
+ * Matches exact classes only - the Room base-snapshot subclasses never leave the device.
+ * Room-only entities (FTS rows, outbox, join tables...) keep Gson's default handling.
+ */
+public final class EntityTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        TypeAdapter<?> adapter;
+        if (raw == BlotterReport.class) adapter = new BlotterReportAdapter();
+        else if (raw == User.class) adapter = new UserAdapter();
+        else if (raw == Officer.class) adapter = new OfficerAdapter();
+        else if (raw == Witness.class) adapter = new WitnessAdapter();
+        else if (raw == Suspect.class) adapter = new SuspectAdapter();
+        else if (raw == Evidence.class) adapter = new EvidenceAdapter();
+        else if (raw == Hearing.class) adapter = new HearingAdapter();
+        else if (raw == Resolution.class) adapter = new ResolutionAdapter();
+        else return null;
+        return (TypeAdapter<T>) adapter;
+    }
+}
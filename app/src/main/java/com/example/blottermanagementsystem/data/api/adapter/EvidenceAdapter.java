@@ -0,0 +1,90 @@
+package com.example.blottermanagementsystem.data.api.adapter;
+
+import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON mapping for Evidence. Property names match the field names Gson's
+ * reflective adapter used, so the wire format is unchanged.
+ */
+final class EvidenceAdapter extends TypeAdapter<Evidence> {
+
+    @Override
+    public void write(JsonWriter out, Evidence value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("blotterReportId").value(value.getBlotterReportId());
+        out.name("evidenceType").value(value.getEvidenceType());
+        out.name("description").value(value.getDescription());
+        out.name("filePath").value(value.getFilePath());
+        out.name("collectedDate").value(value.getCollectedDate());
+        out.name("collectedBy").value(value.getCollectedBy());
+        out.name("locationFound").value(value.getLocationFound());
+        out.name("chainOfCustodyNotes").value(value.getChainOfCustodyNotes());
+        out.name("photoUris").value(value.getPhotoUris());
+        out.name("videoUris").value(value.getVideoUris());
+        out.name("capturedBy").value(value.getCapturedBy());
+        out.name("captureTimestamp").value(value.getCaptureTimestamp());
+        out.endObject();
+    }
+
+    @Override
+    public Evidence read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Evidence value = new Evidence();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                setNull(value, name);
+                continue;
+            }
+            switch (name) {
+                case "id": value.setId(in.nextInt()); break;
+                case "blotterReportId": value.setBlotterReportId(in.nextInt()); break;
+                case "evidenceType": value.setEvidenceType(JsonReads.nextString(in)); break;
+                case "description": value.setDescription(JsonReads.nextString(in)); break;
+                case "filePath": value.setFilePath(JsonReads.nextString(in)); break;
+                case "collectedDate": value.setCollectedDate(in.nextLong()); break;
+                case "collectedBy": value.setCollectedBy(JsonReads.nextString(in)); break;
+                case "locationFound": value.setLocationFound(JsonReads.nextString(in)); break;
+                case "chainOfCustodyNotes": value.setChainOfCustodyNotes(JsonReads.nextString(in)); break;
+                case "photoUris": value.setPhotoUris(JsonReads.nextString(in)); break;
+                case "videoUris": value.setVideoUris(JsonReads.nextString(in)); break;
+                case "capturedBy": value.setCapturedBy(JsonReads.nextString(in)); break;
+                case "captureTimestamp": value.setCaptureTimestamp(in.nextLong()); break;
+                default: in.skipValue();
+            }
+        }
+        in.endObject();
+        return value;
+    }
+
+    // Explicit JSON null: clear reference fields, leave primitives at their current value (as Gson does)
+    private static void setNull(Evidence value, String name) {
+        switch (name) {
+            case "evidenceType": value.setEvidenceType(null); break;
+            case "description": value.setDescription(null); break;
+            case "filePath": value.setFilePath(null); break;
+            case "collectedBy": value.setCollectedBy(null); break;
+            case "locationFound": value.setLocationFound(null); break;
+            case "chainOfCustodyNotes": value.setChainOfCustodyNotes(null); break;
+            case "photoUris": value.setPhotoUris(null); break;
+            case "videoUris": value.setVideoUris(null); break;
+            case "capturedBy": value.setCapturedBy(null); break;
+            default: break;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.blottermanagementsystem.data.api.adapter;
+
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON mapping for Hearing. Property names match the field names Gson's
+ * reflective adapter used, so the wire format is unchanged.
+ */
+final class HearingAdapter extends TypeAdapter<Hearing> {
+
+    @Override
+    public void write(JsonWriter out, Hearing value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("blotterReportId").value(value.getBlotterReportId());
+        out.name("hearingDate").value(value.getHearingDate());
+        out.name("hearingTime").value(value.getHearingTime());
+        out.name("location").value(value.getLocation());
+        out.name("purpose").value(value.getPurpose());
+        out.name("status").value(value.getStatus());
+        out.name("createdAt").value(value.getCreatedAt());
+        out.endObject();
+    }
+
+    @Override
+    public Hearing read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Hearing value = new Hearing();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                setNull(value, name);
+                continue;
+            }
+            switch (name) {
+                case "id": value.setId(in.nextInt()); break;
+                case "blotterReportId": value.setBlotterReportId(in.nextInt()); break;
+                case "hearingDate": value.setHearingDate(JsonReads.nextString(in)); break;
+                case "hearingTime": value.setHearingTime(JsonReads.nextString(in)); break;
+                case "location": value.setLocation(JsonReads.nextString(in)); break;
+                case "purpose": value.setPurpose(JsonReads.nextString(in)); break;
+                case "status": value.setStatus(JsonReads.nextString(in)); break;
+                case "createdAt": value.setCreatedAt(in.nextLong()); break;
+                default: in.skipValue();
+            }
+        }
+        in.endObject();
+        return value;
+    }
+
+    // Explicit JSON null: clear reference fields, leave primitives at their current value (as Gson does)
+    private static void setNull(Hearing value, String name) {
+        switch (name) {
+            case "hearingDate": value.setHearingDate(null); break;
+            case "hearingTime": value.setHearingTime(null); break;
+            case "location": value.setLocation(null); break;
+            case "purpose": value.setPurpose(null); break;
+            case "status": value.setStatus(null); break;
+            default: break;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.blottermanagementsystem.data.api.adapter;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+
+/**
+ * Token coercions matching Gson's built-in adapters, so hand-written adapters accept the
+ * same loosely-typed payloads the reflective path did ("true" for a boolean, 42 for a string).
+ */
+final class JsonReads {
+
+    private JsonReads() {}
+
+    static boolean nextBoolean(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+        return in.nextBoolean();
+    }
+
+    static String nextString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.blottermanagementsystem.data.api.adapter;
+
+import com.example.blottermanagementsystem.data.entity.Officer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON mapping for Officer. Property names match the field names Gson's
+ * reflective adapter used, so the wire format is unchanged.
+ *
+ * Officer has no no-arg constructor; fields missing from the JSON keep the constructor's defaults.
+ */
+final class OfficerAdapter extends TypeAdapter<Officer> {
+
+    @Override
+    public void write(JsonWriter out, Officer value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("userId").value(value.getUserId());
+        out.name("name").value(value.getName());
+        out.name("rank").value(value.getRank());
+        out.name("badgeNumber").value(value.getBadgeNumber());
+        out.name("contactNumber").value(value.getContactNumber());
+        out.name("email").value(value.getEmail());
+        out.name("gender").value(value.getGender());
+        out.name("assignedCases").value(value.getAssignedCases());
+        out.name("isAvailable").value(value.isAvailable());
+        out.name("isActive").value(value.isActive());
+        out.name("dateAdded").value(value.getDateAdded());
+        out.endObject();
+    }
+
+    @Override
+    public Officer read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Officer value = new Officer(null, null, null);
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                setNull(value, name);
+                continue;
+            }
+            switch (name) {
+                case "id": value.setId(in.nextInt()); break;
+                case "userId": value.setUserId(in.nextInt()); break;
+                case "name": value.setName(JsonReads.nextString(in)); break;
+                case "rank": value.setRank(JsonReads.nextString(in)); break;
+                case "badgeNumber": value.setBadgeNumber(JsonReads.nextString(in)); break;
+                case "contactNumber": value.setContactNumber(JsonReads.nextString(in)); break;
+                case "email": value.setEmail(JsonReads.nextString(in)); break;
+                case "gender": value.setGender(JsonReads.nextString(in)); break;
+                case "assignedCases": value.setAssignedCases(in.nextInt()); break;
+                case "isAvailable": value.setAvailable(JsonReads.nextBoolean(in)); break;
+                case "isActive": value.setActive(JsonReads.nextBoolean(in)); break;
+                case "dateAdded": value.setDateAdded(in.nextLong()); break;
+                default: in.skipValue();
+            }
+        }
+        in.endObject();
+        return value;
+    }
+
+    // Explicit JSON null: clear reference fields, leave primitives at their current value (as Gson does)
+    private static void setNull(Officer value, String name) {
+        switch (name) {
+            case "userId": value.setUserId(null); break;
+            case "name": value.setName(null); break;
+            case "rank": value.setRank(null); break;
+            case "badgeNumber": value.setBadgeNumber(null); break;
+            case "contactNumber": value.setContactNumber(null); break;
+            case "email": value.setEmail(null); break;
+            case "gender": value.setGender(null); break;
+            default: break;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.blottermanagementsystem.data.api.adapter;
+
+import com.example.blottermanagementsystem.data.entity.Resolution;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON mapping for Resolution. Property names match the field names Gson's
+ * reflective adapter used, so the wire format is unchanged.
+ *
+ * Resolution has no no-arg constructor; fields missing from the JSON keep the constructor's defaults.
+ */
+final class ResolutionAdapter extends TypeAdapter<Resolution> {
+
+    @Override
+    public void write(JsonWriter out, Resolution value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("blotterReportId").value(value.getBlotterReportId());
+        out.name("resolutionType").value(value.getResolutionType());
+        out.name("resolutionDetails").value(value.getResolutionDetails());
+        out.name("resolvedBy").value(value.getResolvedBy());
+        out.name("resolvedDate").value(value.getResolvedDate());
+        out.name("createdAt").value(value.getCreatedAt());
+        out.endObject();
+    }
+
+    @Override
+    public Resolution read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Resolution value = new Resolution(0, null, null, 0);
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                setNull(value, name);
+                continue;
+            }
+            switch (name) {
+                case "id": value.setId(in.nextInt()); break;
+                case "blotterReportId": value.setBlotterReportId(in.nextInt()); break;
+                case "resolutionType": value.setResolutionType(JsonReads.nextString(in)); break;
+                case "resolutionDetails": value.setResolutionDetails(JsonReads.nextString(in)); break;
+                case "resolvedBy": value.setResolvedBy(in.nextInt()); break;
+                case "resolvedDate": value.setResolvedDate(in.nextLong()); break;
+                case "createdAt": value.setCreatedAt(in.nextLong()); break;
+                default: in.skipValue();
+            }
+        }
+        in.endObject();
+        return value;
+    }
+
+    // Explicit JSON null: clear reference fields, leave primitives at their current value (as Gson does)
+    private static void setNull(Resolution value, String name) {
+        switch (name) {
+            case "resolutionType": value.setResolutionType(null); break;
+            case "resolutionDetails": value.setResolutionDetails(null); break;
+            default: break;
+        }
+    }
+}
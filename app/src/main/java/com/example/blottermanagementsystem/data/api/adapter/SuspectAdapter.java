@@ -0,0 +1,82 @@
+package com.example.blottermanagementsystem.data.api.adapter;
+
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON mapping for Suspect. Property names match the field names Gson's
+ * reflective adapter used, so the wire format is unchanged.
+ */
+final class SuspectAdapter extends TypeAdapter<Suspect> {
+
+    @Override
+    public void write(JsonWriter out, Suspect value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("blotterReportId").value(value.getBlotterReportId());
+        out.name("name").value(value.getName());
+        out.name("alias").value(value.getAlias());
+        out.name("age").value(value.getAge());
+        out.name("gender").value(value.getGender());
+        out.name("address").value(value.getAddress());
+        out.name("description").value(value.getDescription());
+        out.name("photoUri").value(value.getPhotoUri());
+        out.name("dateAdded").value(value.getDateAdded());
+        out.endObject();
+    }
+
+    @Override
+    public Suspect read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Suspect value = new Suspect();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                setNull(value, name);
+                continue;
+            }
+            switch (name) {
+                case "id": value.setId(in.nextInt()); break;
+                case "blotterReportId": value.setBlotterReportId(in.nextInt()); break;
+                case "name": value.setName(JsonReads.nextString(in)); break;
+                case "alias": value.setAlias(JsonReads.nextString(in)); break;
+                case "age": value.setAge(in.nextInt()); break;
+                case "gender": value.setGender(JsonReads.nextString(in)); break;
+                case "address": value.setAddress(JsonReads.nextString(in)); break;
+                case "description": value.setDescription(JsonReads.nextString(in)); break;
+                case "photoUri": value.setPhotoUri(JsonReads.nextString(in)); break;
+                case "dateAdded": value.setDateAdded(in.nextLong()); break;
+                default: in.skipValue();
+            }
+        }
+        in.endObject();
+        return value;
+    }
+
+    // Explicit JSON null: clear reference fields, leave primitives at their current value (as Gson does)
+    private static void setNull(Suspect value, String name) {
+        switch (name) {
+            case "name": value.setName(null); break;
+            case "alias": value.setAlias(null); break;
+            case "age": value.setAge(null); break;
+            case "gender": value.setGender(null); break;
+            case "address": value.setAddress(null); break;
+            case "description": value.setDescription(null); break;
+            case "photoUri": value.setPhotoUri(null); break;
+            default: break;
+        }
+    }
+}
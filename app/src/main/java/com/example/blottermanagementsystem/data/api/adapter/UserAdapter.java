@@ -0,0 +1,116 @@
+package com.example.blottermanagementsystem.data.api.adapter;
+
+import com.example.blottermanagementsystem.data.entity.User;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON mapping for User. Property names match the field names Gson's
+ * reflective adapter used, so the wire format is unchanged.
+ */
+final class UserAdapter extends TypeAdapter<User> {
+
+    @Override
+    public void write(JsonWriter out, User value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("firstName").value(value.getFirstName());
+        out.name("lastName").value(value.getLastName());
+        out.name("username").value(value.getUsername());
+        out.name("password").value(value.getPassword());
+        out.name("role").value(value.getRole());
+        out.name("email").value(value.getEmail());
+        out.name("phoneNumber").value(value.getPhoneNumber());
+        out.name("profilePhotoUri").value(value.getProfilePhotoUri());
+        out.name("gender").value(value.getGender());
+        out.name("accountCreated").value(value.getAccountCreated());
+        out.name("profileCompleted").value(value.isProfileCompleted());
+        out.name("badgeNumber").value(value.getBadgeNumber());
+        out.name("rank").value(value.getRank());
+        out.name("dutyStatus").value(value.getDutyStatus());
+        out.name("mustChangePassword").value(value.isMustChangePassword());
+        out.name("isActive").value(value.isActive());
+        out.name("fcmToken").value(value.getFcmToken());
+        out.name("deviceId").value(value.getDeviceId());
+        out.name("resetCode").value(value.getResetCode());
+        out.name("resetCodeExpiry").value(value.getResetCodeExpiry());
+        out.name("hasSeenTooltips").value(value.hasSeenTooltips());
+        out.name("version").value(value.getVersion());
+        out.endObject();
+    }
+
+    @Override
+    public User read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        User value = new User();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                setNull(value, name);
+                continue;
+            }
+            switch (name) {
+                case "id": value.setId(in.nextInt()); break;
+                case "firstName": value.setFirstName(JsonReads.nextString(in)); break;
+                case "lastName": value.setLastName(JsonReads.nextString(in)); break;
+                case "username": value.setUsername(JsonReads.nextString(in)); break;
+                case "password": value.setPassword(JsonReads.nextString(in)); break;
+                case "role": value.setRole(JsonReads.nextString(in)); break;
+                case "email": value.setEmail(JsonReads.nextString(in)); break;
+                case "phoneNumber": value.setPhoneNumber(JsonReads.nextString(in)); break;
+                case "profilePhotoUri": value.setProfilePhotoUri(JsonReads.nextString(in)); break;
+                case "gender": value.setGender(JsonReads.nextString(in)); break;
+                case "accountCreated": value.setAccountCreated(in.nextLong()); break;
+                case "profileCompleted": value.setProfileCompleted(JsonReads.nextBoolean(in)); break;
+                case "badgeNumber": value.setBadgeNumber(JsonReads.nextString(in)); break;
+                case "rank": value.setRank(JsonReads.nextString(in)); break;
+                case "dutyStatus": value.setDutyStatus(JsonReads.nextString(in)); break;
+                case "mustChangePassword": value.setMustChangePassword(JsonReads.nextBoolean(in)); break;
+                case "isActive": value.setActive(JsonReads.nextBoolean(in)); break;
+                case "fcmToken": value.setFcmToken(JsonReads.nextString(in)); break;
+                case "deviceId": value.setDeviceId(JsonReads.nextString(in)); break;
+                case "resetCode": value.setResetCode(JsonReads.nextString(in)); break;
+                case "resetCodeExpiry": value.setResetCodeExpiry(in.nextLong()); break;
+                case "hasSeenTooltips": value.setHasSeenTooltips(JsonReads.nextBoolean(in)); break;
+                case "version": value.setVersion(in.nextLong()); break;
+                default: in.skipValue();
+            }
+        }
+        in.endObject();
+        return value;
+    }
+
+    // Explicit JSON null: clear reference fields, leave primitives at their current value (as Gson does)
+    private static void setNull(User value, String name) {
+        switch (name) {
+            case "firstName": value.setFirstName(null); break;
+            case "lastName": value.setLastName(null); break;
+            case "username": value.setUsername(null); break;
+            case "password": value.setPassword(null); break;
+            case "role": value.setRole(null); break;
+            case "email": value.setEmail(null); break;
+            case "phoneNumber": value.setPhoneNumber(null); break;
+            case "profilePhotoUri": value.setProfilePhotoUri(null); break;
+            case "gender": value.setGender(null); break;
+            case "badgeNumber": value.setBadgeNumber(null); break;
+            case "rank": value.setRank(null); break;
+            case "dutyStatus": value.setDutyStatus(null); break;
+            case "fcmToken": value.setFcmToken(null); break;
+            case "deviceId": value.setDeviceId(null); break;
+            case "resetCode": value.setResetCode(null); break;
+            default: break;
+        }
+    }
+}
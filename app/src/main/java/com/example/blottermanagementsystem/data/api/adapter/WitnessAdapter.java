@@ -0,0 +1,73 @@
+package com.example.blottermanagementsystem.data.api.adapter;
+
+import com.example.blottermanagementsystem.data.entity.Witness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON mapping for Witness. Property names match the field names Gson's
+ * reflective adapter used, so the wire format is unchanged.
+ */
+final class WitnessAdapter extends TypeAdapter<Witness> {
+
+    @Override
+    public void write(JsonWriter out, Witness value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("id").value(value.getId());
+        out.name("blotterReportId").value(value.getBlotterReportId());
+        out.name("name").value(value.getName());
+        out.name("contactNumber").value(value.getContactNumber());
+        out.name("address").value(value.getAddress());
+        out.name("statement").value(value.getStatement());
+        out.name("createdAt").value(value.getCreatedAt());
+        out.endObject();
+    }
+
+    @Override
+    public Witness read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Witness value = new Witness();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                setNull(value, name);
+                continue;
+            }
+            switch (name) {
+                case "id": value.setId(in.nextInt()); break;
+                case "blotterReportId": value.setBlotterReportId(in.nextInt()); break;
+                case "name": value.setName(JsonReads.nextString(in)); break;
+                case "contactNumber": value.setContactNumber(JsonReads.nextString(in)); break;
+                case "address": value.setAddress(JsonReads.nextString(in)); break;
+                case "statement": value.setStatement(JsonReads.nextString(in)); break;
+                case "createdAt": value.setCreatedAt(in.nextLong()); break;
+                default: in.skipValue();
+            }
+        }
+        in.endObject();
+        return value;
+    }
+
+    // Explicit JSON null: clear reference fields, leave primitives at their current value (as Gson does)
+    private static void setNull(Witness value, String name) {
+        switch (name) {
+            case "name": value.setName(null); break;
+            case "contactNumber": value.setContactNumber(null); break;
+            case "address": value.setAddress(null); break;
+            case "statement": value.setStatement(null); break;
+            default: break;
+        }
+    }
+}
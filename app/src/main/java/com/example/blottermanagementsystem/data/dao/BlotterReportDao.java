@@ -2,10 +2,103 @@ package com.example.blottermanagementsystem.data.dao;
 
 import androidx.room.*;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.ReportOfficer;
+import com.example.blottermanagementsystem.data.model.DashboardCounts;
+import com.example.blottermanagementsystem.data.model.ReportSearchHit;
+import com.example.blottermanagementsystem.data.model.StatusCount;
 import java.util.List;
 
 @Dao
 public interface BlotterReportDao {
+    // ==================== Keyset paging on (dateFiled, id) ====================
+    // Shared filter for the list screens: status chip (or any) + FTS match expression (or empty)
+    String PAGE_FILTER = "isArchived = 0 AND (:anyStatus OR UPPER(TRIM(status)) IN (:statuses)) "
+        + "AND (:match = '' OR id IN (SELECT rowid FROM blotter_reports_fts WHERE blotter_reports_fts MATCH :match))";
+    String OLDER_THAN = "(dateFiled < :cursorDate OR (dateFiled = :cursorDate AND id < :cursorId))";
+    String NEWER_THAN = "(dateFiled > :cursorDate OR (dateFiled = :cursorDate AND id > :cursorId))";
+    // Indexed lookup through report_officers (see ReportOfficer)
+    String OFFICER_SCOPE = "id IN (SELECT reportId FROM report_officers WHERE officerId = :officerId)";
+    String NEWEST_FIRST = " ORDER BY dateFiled DESC, id DESC LIMIT :limit";
+    String OLDEST_FIRST = " ORDER BY dateFiled ASC, id ASC LIMIT :limit";
+    
+    @Query("SELECT * FROM blotter_reports WHERE " + PAGE_FILTER + " AND " + OLDER_THAN + NEWEST_FIRST)
+    List<BlotterReport> getReportsOlderThan(boolean anyStatus, List<String> statuses, String match,
+                                            long cursorDate, int cursorId, int limit);
+    
+    @Query("SELECT * FROM blotter_reports WHERE " + PAGE_FILTER + " AND " + NEWER_THAN + OLDEST_FIRST)
+    List<BlotterReport> getReportsNewerThan(boolean anyStatus, List<String> statuses, String match,
+                                            long cursorDate, int cursorId, int limit);
+    
+    @Query("SELECT * FROM blotter_reports WHERE userId = :userId AND " + PAGE_FILTER + " AND " + OLDER_THAN + NEWEST_FIRST)
+    List<BlotterReport> getUserReportsOlderThan(int userId, boolean anyStatus, List<String> statuses, String match,
+                                                long cursorDate, int cursorId, int limit);
+    
+    @Query("SELECT * FROM blotter_reports WHERE userId = :userId AND " + PAGE_FILTER + " AND " + NEWER_THAN + OLDEST_FIRST)
+    List<BlotterReport> getUserReportsNewerThan(int userId, boolean anyStatus, List<String> statuses, String match,
+                                                long cursorDate, int cursorId, int limit);
+    
+    @Query("SELECT * FROM blotter_reports WHERE " + OFFICER_SCOPE + " AND " + PAGE_FILTER + " AND " + OLDER_THAN + NEWEST_FIRST)
+    List<BlotterReport> getOfficerReportsOlderThan(int officerId, boolean anyStatus, List<String> statuses, String match,
+                                                   long cursorDate, int cursorId, int limit);
+    
+    @Query("SELECT * FROM blotter_reports WHERE " + OFFICER_SCOPE + " AND " + PAGE_FILTER + " AND " + NEWER_THAN + OLDEST_FIRST)
+    List<BlotterReport> getOfficerReportsNewerThan(int officerId, boolean anyStatus, List<String> statuses, String match,
+                                                   long cursorDate, int cursorId, int limit);
+    
+    // Status counters for list headers without loading rows
+    @Query("SELECT UPPER(TRIM(status)) AS status, COUNT(*) AS count FROM blotter_reports "
+        + "WHERE isArchived = 0 GROUP BY UPPER(TRIM(status))")
+    List<StatusCount> getStatusCounts();
+    
+    @Query("SELECT UPPER(TRIM(status)) AS status, COUNT(*) AS count FROM blotter_reports "
+        + "WHERE userId = :userId AND isArchived = 0 GROUP BY UPPER(TRIM(status))")
+    List<StatusCount> getUserStatusCounts(int userId);
+    
+    @Query("SELECT UPPER(TRIM(status)) AS status, COUNT(*) AS count FROM blotter_reports "
+        + "WHERE " + OFFICER_SCOPE + " AND isArchived = 0 GROUP BY UPPER(TRIM(status))")
+    List<StatusCount> getOfficerStatusCounts(int officerId);
+    
+    // ==================== Dashboard ====================
+    // Status buckets shared with DashboardViewModel.DashboardStats.bucketOf()
+    String PENDING_STATUSES = "('PENDING', 'ASSIGNED')";
+    String ONGOING_STATUSES = "('ONGOING', 'IN PROGRESS', 'UNDER INVESTIGATION')";
+    String RESOLVED_STATUSES = "('RESOLVED', 'CLOSED', 'SETTLED')";
+    
+    // Every dashboard counter in one pass over blotter_reports plus three COUNT(*) subqueries - no entity rows
+    // totalReports includes archived reports, like the old getAllReports().size(); totalUsers
+    // matches getTotalUserCount() (active residents only), which the admin card always showed
+    @Query("SELECT COUNT(*) AS totalReports, "
+        + "SUM(CASE WHEN isArchived = 0 AND UPPER(TRIM(status)) IN " + PENDING_STATUSES + " THEN 1 ELSE 0 END) AS pendingReports, "
+        + "SUM(CASE WHEN isArchived = 0 AND UPPER(TRIM(status)) IN " + ONGOING_STATUSES + " THEN 1 ELSE 0 END) AS ongoingReports, "
+        + "SUM(CASE WHEN isArchived = 0 AND UPPER(TRIM(status)) IN " + RESOLVED_STATUSES + " THEN 1 ELSE 0 END) AS resolvedReports, "
+        + "SUM(isArchived) AS archivedReports, "
+        + "(SELECT COUNT(*) FROM officers) AS totalOfficers, "
+        + "(SELECT COUNT(*) FROM users WHERE role NOT IN ('Admin', 'Officer') AND isActive = 1) AS totalUsers, "
+        + "(SELECT COUNT(*) FROM notifications WHERE userId = :userId AND isRead = 0) AS unreadNotifications "
+        + "FROM blotter_reports")
+    DashboardCounts getDashboardCounts(int userId);
+    
+    // ==================== Full-text search ====================
+    // matchinfo 'pcnx': phrase count, column count, row count, then per phrase/column hit stats
+    @Query("SELECT rowid AS reportId, matchinfo(blotter_reports_fts, 'pcnx') AS matchInfo "
+        + "FROM blotter_reports_fts WHERE blotter_reports_fts MATCH :match")
+    List<ReportSearchHit> searchReportHits(String match);
+    
+    // Unranked - for screens that filter an already-loaded list
+    @Query("SELECT rowid FROM blotter_reports_fts WHERE blotter_reports_fts MATCH :match")
+    List<Integer> searchReportIds(String match);
+    
+    @Query("SELECT * FROM blotter_reports WHERE id IN (:reportIds)")
+    List<BlotterReport> getReportsByIds(List<Integer> reportIds);
+    
+    // Server reports (id > 0) the outbox has no work for - the ones a full snapshot may prune
+    @Query("SELECT id FROM blotter_reports WHERE id > 0 "
+        + "AND id NOT IN (SELECT entityId FROM outbox WHERE entityType = 'report') "
+        + "AND id NOT IN (SELECT reportId FROM outbox)")
+    List<Integer> getUnqueuedServerReportIds();
+    
+    // ==================== Lookups ====================
+    
     @Query("SELECT * FROM blotter_reports WHERE isArchived = 0 ORDER BY dateFiled DESC")
     List<BlotterReport> getAllActiveReports();
     
@@ -24,20 +117,99 @@ public interface BlotterReportDao {
     @Query("SELECT * FROM blotter_reports WHERE assignedOfficer = :officerName AND isArchived = 0")
     List<BlotterReport> getReportsByOfficer(String officerName);
     
-    @Query("SELECT * FROM blotter_reports WHERE assignedOfficerIds LIKE '%' || :officerId || '%' AND isArchived = 0")
+    @Query("SELECT r.* FROM report_officers ro JOIN blotter_reports r ON r.id = ro.reportId "
+        + "WHERE ro.officerId = :officerId AND r.isArchived = 0 ORDER BY r.dateFiled DESC")
     List<BlotterReport> getReportsByOfficerId(int officerId);
     
+    // Includes archived cases, for the officer's own "my cases" screens
+    @Query("SELECT r.* FROM report_officers ro JOIN blotter_reports r ON r.id = ro.reportId "
+        + "WHERE ro.officerId = :officerId ORDER BY r.dateFiled DESC")
+    List<BlotterReport> getAllReportsForOfficer(int officerId);
+    
     @Query("SELECT * FROM blotter_reports WHERE status = :status AND isArchived = 0")
     List<BlotterReport> getReportsByStatus(String status);
     
     @Query("SELECT * FROM blotter_reports WHERE userId = :userId AND isArchived = 0")
     List<BlotterReport> getReportsByUser(int userId);
     
+    // ==================== Writes ====================
+    // Every report write also rewrites its report_officers rows, so the
+    // assignment index never drifts from assignedOfficerId/assignedOfficerIds.
+    
+    @Transaction
+    default long insertReport(BlotterReport report) {
+        long rowId = insertReportRow(report);
+        syncOfficerAssignments(report, (int) rowId);
+        return rowId;
+    }
+    
+    // Below every cached id and below -1 (the "no id" extra screens check for); server ids are
+    // positive, so a sync can't land on an unsent report
+    @Query("SELECT MIN(COALESCE(MIN(id), 0), -1) - 1 FROM blotter_reports")
+    int nextLocalReportId();
+    
+    /**
+     * Insert a report filed on this device under a temporary negative id; the outbox
+     * moves it to the server's id once the create is delivered
+     */
+    @Transaction
+    default int insertLocalReport(BlotterReport report) {
+        report.setId(nextLocalReportId());
+        insertReport(report);
+        return report.getId();
+    }
+    
+    @Transaction
+    default void updateReport(BlotterReport report) {
+        updateReportRow(report);
+        syncOfficerAssignments(report, report.getId());
+    }
+    
+    // Insert-or-update without REPLACE's delete, so child rows (witnesses, hearings...) survive a refresh
+    @Transaction
+    default void upsertReport(BlotterReport report) {
+        upsertReportRow(report);
+        syncOfficerAssignments(report, report.getId());
+    }
+    
+    @Transaction
+    default void upsertReports(List<BlotterReport> reports) {
+        upsertReportRows(reports);
+        List<Integer> reportIds = new java.util.ArrayList<>(reports.size());
+        List<ReportOfficer> assignments = new java.util.ArrayList<>();
+        for (BlotterReport report : reports) {
+            reportIds.add(report.getId());
+            assignments.addAll(ReportOfficer.fromReport(report, report.getId()));
+        }
+        deleteOfficerAssignments(reportIds);
+        insertOfficerAssignments(assignments);
+    }
+    
+    default void syncOfficerAssignments(BlotterReport report, int reportId) {
+        deleteOfficerAssignments(java.util.Collections.singletonList(reportId));
+        insertOfficerAssignments(ReportOfficer.fromReport(report, reportId));
+    }
+    
     @Insert(onConflict = OnConflictStrategy.REPLACE)
-    long insertReport(BlotterReport report);
+    long insertReportRow(BlotterReport report);
     
     @Update
-    void updateReport(BlotterReport report);
+    void updateReportRow(BlotterReport report);
+    
+    @Upsert
+    void upsertReportRow(BlotterReport report);
+    
+    @Upsert
+    void upsertReportRows(List<BlotterReport> reports);
+    
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    void insertOfficerAssignments(List<ReportOfficer> assignments);
+    
+    @Query("DELETE FROM report_officers WHERE reportId IN (:reportIds)")
+    void deleteOfficerAssignments(List<Integer> reportIds);
+    
+    @Query("DELETE FROM blotter_reports WHERE id IN (:reportIds)")
+    void deleteReportsByIds(List<Integer> reportIds);
     
     @Delete
     void deleteReport(BlotterReport report);
@@ -18,6 +18,22 @@ public interface EvidenceDao {
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insertEvidence(Evidence evidence);
     
+    // Below every cached id and below -1 (the "no id" extra screens check for); server ids are
+    // positive, so a sync can't land on an unsent row
+    @Query("SELECT MIN(COALESCE(MIN(id), 0), -1) - 1 FROM evidence")
+    int nextLocalEvidenceId();
+    
+    /**
+     * Insert a evidence created on this device under a temporary negative id; the outbox
+     * re-keys it to the server's id once the create is delivered
+     */
+    @Transaction
+    default int insertLocalEvidence(Evidence evidence) {
+        evidence.setId(nextLocalEvidenceId());
+        insertEvidence(evidence);
+        return evidence.getId();
+    }
+    
     @Update
     void updateEvidence(Evidence evidence);
     
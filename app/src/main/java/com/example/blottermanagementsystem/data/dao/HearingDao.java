@@ -29,6 +29,22 @@ public interface HearingDao {
 
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insertHearing(Hearing hearing);
+    
+    // Below every cached id and below -1 (the "no id" extra screens check for); server ids are
+    // positive, so a sync can't land on an unsent row
+    @Query("SELECT MIN(COALESCE(MIN(id), 0), -1) - 1 FROM hearings")
+    int nextLocalHearingId();
+    
+    /**
+     * Insert a hearing created on this device under a temporary negative id; the outbox
+     * re-keys it to the server's id once the create is delivered
+     */
+    @Transaction
+    default int insertLocalHearing(Hearing hearing) {
+        hearing.setId(nextLocalHearingId());
+        insertHearing(hearing);
+        return hearing.getId();
+    }
 
     @Update
     void updateHearing(Hearing hearing);
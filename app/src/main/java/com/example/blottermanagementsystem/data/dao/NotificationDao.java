@@ -30,8 +30,9 @@ public interface NotificationDao {
     @Query("UPDATE notifications SET isRead = 1 WHERE id = :notificationId")
     void markAsRead(int notificationId);
     
-    @Query("UPDATE notifications SET isRead = 1 WHERE userId = :userId")
-    void markAllAsRead(int userId);
+    // Returns how many were unread
+    @Query("UPDATE notifications SET isRead = 1 WHERE userId = :userId AND isRead = 0")
+    int markAllAsRead(int userId);
     
     @Query("DELETE FROM notifications WHERE userId = :userId")
     void deleteAllByUserId(int userId);
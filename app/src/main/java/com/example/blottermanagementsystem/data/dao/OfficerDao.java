@@ -27,6 +27,12 @@ public interface OfficerDao {
     @Update
     void updateOfficer(Officer officer);
     
+    @Upsert
+    void upsertOfficers(List<Officer> officers);
+    
+    @Query("DELETE FROM officers WHERE id IN (:officerIds)")
+    void deleteOfficersByIds(List<Integer> officerIds);
+    
     @Delete
     void deleteOfficer(Officer officer);
     
@@ -0,0 +1,171 @@
+package com.example.blottermanagementsystem.data.dao;
+
+import androidx.room.*;
+import com.example.blottermanagementsystem.data.entity.OutboxEntry;
+import java.util.List;
+import java.util.UUID;
+
+@Dao
+public interface OutboxDao {
+    @Query("SELECT * FROM outbox WHERE entityType = :entityType AND entityId = :entityId")
+    OutboxEntry getEntry(String entityType, int entityId);
+
+    @Query("SELECT * FROM outbox WHERE entityType = :entityType AND entityId IN (:entityIds)")
+    List<OutboxEntry> getEntries(String entityType, List<Integer> entityIds);
+
+    // FIFO - coalesced rows keep their original position, so a report is always sent before its children
+    @Query("SELECT * FROM outbox WHERE userId = :userId AND status = 'PENDING' ORDER BY id LIMIT :limit")
+    List<OutboxEntry> getPendingBatch(int userId, int limit);
+
+    @Query("SELECT COUNT(*) FROM outbox WHERE userId = :userId AND status = 'PENDING'")
+    int getPendingCount(int userId);
+
+    @Query("SELECT * FROM outbox WHERE userId = :userId AND status = 'FAILED' ORDER BY id")
+    List<OutboxEntry> getFailedEntries(int userId);
+
+    @Query("SELECT COUNT(*) FROM outbox WHERE userId = :userId AND status = 'FAILED'")
+    int getFailedCount(int userId);
+
+    @Insert
+    long insertEntry(OutboxEntry entry);
+
+    @Update
+    void updateEntry(OutboxEntry entry);
+
+    @Query("DELETE FROM outbox WHERE id = :id")
+    void deleteEntry(long id);
+
+    /**
+     * Remove a delivered entry unless it was coalesced with a newer mutation while in flight
+     */
+    @Query("DELETE FROM outbox WHERE id = :id AND updatedAt = :updatedAt")
+    int deleteIfUnchanged(long id, long updatedAt);
+
+    @Query("UPDATE outbox SET attempts = attempts + 1, lastError = :error WHERE id = :id")
+    void recordAttempt(long id, String error);
+
+    @Query("UPDATE outbox SET status = 'FAILED', attempts = attempts + 1, lastError = :error WHERE id = :id")
+    void markFailed(long id, String error);
+
+    @Query("UPDATE outbox SET status = 'PENDING', attempts = 0, lastError = NULL "
+        + "WHERE userId = :userId AND status = 'FAILED'")
+    int retryFailed(int userId);
+
+    /**
+     * Give entries queued before authors were recorded (userId 0) to the user who was signed in then
+     */
+    @Query("UPDATE outbox SET userId = :userId WHERE userId = 0")
+    int claimUnowned(int userId);
+
+    /**
+     * Journal a mutation, coalescing it with anything already queued for the same entity:
+     * CREATE + UPDATE → CREATE with the latest payload, UPDATE + UPDATE → latest UPDATE,
+     * CREATE + DELETE → nothing to send, UPDATE + DELETE → DELETE.
+     * A CREATE keeps its idempotency key so a re-sent create is never a second case;
+     * a new UPDATE/DELETE payload is a new request and gets a fresh key.
+     */
+    @Transaction
+    default void enqueue(OutboxEntry entry) {
+        OutboxEntry queued = getEntry(entry.getEntityType(), entry.getEntityId());
+        if (queued == null) {
+            insertEntry(entry);
+            return;
+        }
+
+        String op = entry.getOperation();
+        boolean queuedCreate = OutboxEntry.OP_CREATE.equals(queued.getOperation());
+        if (OutboxEntry.OP_DELETE.equals(op) && queuedCreate) {
+            // Never reached the server - nothing to create or delete
+            deleteEntry(queued.getId());
+            return;
+        }
+
+        if (!queuedCreate || OutboxEntry.OP_DELETE.equals(op)) {
+            queued.setOperation(op);
+            queued.setIdempotencyKey(UUID.randomUUID().toString());
+        }
+        queued.setPayload(entry.getPayload());
+        queued.setReportId(entry.getReportId());
+        queued.setUserId(entry.getUserId()); // Sent under the session of whoever changed it last
+        // Strictly increasing so an in-flight send can tell it was superseded
+        queued.setUpdatedAt(Math.max(entry.getUpdatedAt(), queued.getUpdatedAt() + 1));
+        queued.setStatus(OutboxEntry.STATUS_PENDING);
+        queued.setAttempts(0);
+        queued.setLastError(null);
+        updateEntry(queued);
+    }
+
+    // ============ SERVER-ASSIGNED REPORT IDS ============
+
+    @Query("UPDATE outbox SET reportId = :newId WHERE reportId = :oldId")
+    void remapOutboxReportId(int oldId, int newId);
+
+    @Query("UPDATE outbox SET entityId = :newId WHERE entityType = 'report' AND entityId = :oldId")
+    void remapOutboxReportEntity(int oldId, int newId);
+
+    @Query("UPDATE witnesses SET blotterReportId = :newId WHERE blotterReportId = :oldId")
+    void remapWitnesses(int oldId, int newId);
+
+    @Query("UPDATE suspects SET blotterReportId = :newId WHERE blotterReportId = :oldId")
+    void remapSuspects(int oldId, int newId);
+
+    @Query("UPDATE evidence SET blotterReportId = :newId WHERE blotterReportId = :oldId")
+    void remapEvidence(int oldId, int newId);
+
+    @Query("UPDATE hearings SET blotterReportId = :newId WHERE blotterReportId = :oldId")
+    void remapHearings(int oldId, int newId);
+
+    @Query("UPDATE resolutions SET blotterReportId = :newId WHERE blotterReportId = :oldId")
+    void remapResolutions(int oldId, int newId);
+
+    // ============ SERVER-ASSIGNED CHILD IDS ============
+    // OR REPLACE: a sync may already have cached the server's copy under that id
+
+    @Query("UPDATE outbox SET entityId = :newId WHERE entityType = :entityType AND entityId = :oldId")
+    void remapOutboxEntity(String entityType, int oldId, int newId);
+
+    @Query("UPDATE OR REPLACE witnesses SET id = :newId WHERE id = :oldId")
+    void moveWitness(int oldId, int newId);
+
+    @Query("UPDATE OR REPLACE suspects SET id = :newId WHERE id = :oldId")
+    void moveSuspect(int oldId, int newId);
+
+    @Query("UPDATE OR REPLACE evidence SET id = :newId WHERE id = :oldId")
+    void moveEvidence(int oldId, int newId);
+
+    @Query("UPDATE OR REPLACE hearings SET id = :newId WHERE id = :oldId")
+    void moveHearing(int oldId, int newId);
+
+    @Query("UPDATE OR REPLACE resolutions SET id = :newId WHERE id = :oldId")
+    void moveResolution(int oldId, int newId);
+
+    /**
+     * Move a child created on this device (temporary negative id) and its queued work to the server's id
+     */
+    @Transaction
+    default void remapChildId(String entityType, int oldId, int newId) {
+        remapOutboxEntity(entityType, oldId, newId);
+        switch (entityType) {
+            case OutboxEntry.TYPE_WITNESS: moveWitness(oldId, newId); break;
+            case OutboxEntry.TYPE_SUSPECT: moveSuspect(oldId, newId); break;
+            case OutboxEntry.TYPE_EVIDENCE: moveEvidence(oldId, newId); break;
+            case OutboxEntry.TYPE_HEARING: moveHearing(oldId, newId); break;
+            case OutboxEntry.TYPE_RESOLUTION: moveResolution(oldId, newId); break;
+            default: break;
+        }
+    }
+
+    /**
+     * Move queued work and cached children from a locally generated report id to the server's id
+     */
+    @Transaction
+    default void remapReportId(int oldId, int newId) {
+        remapOutboxReportId(oldId, newId);
+        remapOutboxReportEntity(oldId, newId);
+        remapWitnesses(oldId, newId);
+        remapSuspects(oldId, newId);
+        remapEvidence(oldId, newId);
+        remapHearings(oldId, newId);
+        remapResolutions(oldId, newId);
+    }
+}
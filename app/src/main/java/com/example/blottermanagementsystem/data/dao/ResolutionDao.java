@@ -15,6 +15,22 @@ public interface ResolutionDao {
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insertResolution(Resolution resolution);
     
+    // Below every cached id and below -1 (the "no id" extra screens check for); server ids are
+    // positive, so a sync can't land on an unsent row
+    @Query("SELECT MIN(COALESCE(MIN(id), 0), -1) - 1 FROM resolutions")
+    int nextLocalResolutionId();
+    
+    /**
+     * Insert a resolution created on this device under a temporary negative id; the outbox
+     * re-keys it to the server's id once the create is delivered
+     */
+    @Transaction
+    default int insertLocalResolution(Resolution resolution) {
+        resolution.setId(nextLocalResolutionId());
+        insertResolution(resolution);
+        return resolution.getId();
+    }
+    
     @Update
     void updateResolution(Resolution resolution);
     
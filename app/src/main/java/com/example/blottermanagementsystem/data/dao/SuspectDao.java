@@ -15,6 +15,22 @@ public interface SuspectDao {
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insertSuspect(Suspect suspect);
     
+    // Below every cached id and below -1 (the "no id" extra screens check for); server ids are
+    // positive, so a sync can't land on an unsent row
+    @Query("SELECT MIN(COALESCE(MIN(id), 0), -1) - 1 FROM suspects")
+    int nextLocalSuspectId();
+    
+    /**
+     * Insert a suspect created on this device under a temporary negative id; the outbox
+     * re-keys it to the server's id once the create is delivered
+     */
+    @Transaction
+    default int insertLocalSuspect(Suspect suspect) {
+        suspect.setId(nextLocalSuspectId());
+        insertSuspect(suspect);
+        return suspect.getId();
+    }
+    
     @Update
     void updateSuspect(Suspect suspect);
     
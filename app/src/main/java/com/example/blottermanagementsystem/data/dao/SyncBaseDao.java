@@ -0,0 +1,33 @@
+package com.example.blottermanagementsystem.data.dao;
+
+import androidx.room.*;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.BlotterReportBase;
+import com.example.blottermanagementsystem.data.entity.User;
+import com.example.blottermanagementsystem.data.entity.UserBase;
+import java.util.List;
+
+/**
+ * Merge-base snapshots for ConflictResolver. Rows are read and written as plain
+ * BlotterReport/User so server responses can be stored without copying.
+ */
+@Dao
+public interface SyncBaseDao {
+    @Query("SELECT * FROM blotter_reports_base WHERE id IN (:reportIds)")
+    List<BlotterReport> getReportBases(List<Integer> reportIds);
+
+    @Upsert(entity = BlotterReportBase.class)
+    void upsertReportBases(List<BlotterReport> reports);
+
+    @Query("DELETE FROM blotter_reports_base WHERE id IN (:reportIds)")
+    void deleteReportBases(List<Integer> reportIds);
+
+    @Query("SELECT * FROM users_base WHERE id IN (:userIds)")
+    List<User> getUserBases(List<Integer> userIds);
+
+    @Upsert(entity = UserBase.class)
+    void upsertUserBases(List<User> users);
+
+    @Query("DELETE FROM users_base WHERE id IN (:userIds)")
+    void deleteUserBases(List<Integer> userIds);
+}
@@ -0,0 +1,31 @@
+package com.example.blottermanagementsystem.data.dao;
+
+import androidx.lifecycle.LiveData;
+import androidx.room.*;
+import com.example.blottermanagementsystem.data.entity.SyncConflict;
+import java.util.List;
+
+/**
+ * Field conflicts recorded by BulkSyncWriter, newest first, until the user dismisses them
+ */
+@Dao
+public interface SyncConflictDao {
+    @Insert
+    void insertConflicts(List<SyncConflict> conflicts);
+
+    @Query("SELECT * FROM sync_conflicts WHERE dismissed = 0 ORDER BY detectedAt DESC")
+    List<SyncConflict> getOpenConflicts();
+
+    @Query("SELECT * FROM sync_conflicts WHERE dismissed = 0 AND entityType = :entityType AND entityId = :entityId "
+        + "ORDER BY detectedAt DESC")
+    List<SyncConflict> getOpenConflicts(String entityType, int entityId);
+
+    @Query("SELECT COUNT(*) FROM sync_conflicts WHERE dismissed = 0")
+    LiveData<Integer> observeOpenConflictCount();
+
+    @Query("UPDATE sync_conflicts SET dismissed = 1 WHERE id = :id")
+    void dismiss(long id);
+
+    @Query("UPDATE sync_conflicts SET dismissed = 1 WHERE dismissed = 0")
+    int dismissAll();
+}
@@ -12,6 +12,9 @@ public interface UserDao {
     @Query("SELECT * FROM users WHERE id = :userId")
     User getUserById(int userId);
     
+    @Query("SELECT * FROM users WHERE id IN (:userIds)")
+    List<User> getUsersByIds(List<Integer> userIds);
+    
     @Query("SELECT * FROM users WHERE username = :username")
     User getUserByUsername(String username);
     
@@ -33,6 +36,12 @@ public interface UserDao {
     @Update
     void updateUser(User user);
     
+    @Upsert
+    void upsertUsers(List<User> users);
+    
+    @Query("DELETE FROM users WHERE id IN (:userIds)")
+    void deleteUsersByIds(List<Integer> userIds);
+    
     @Delete
     void deleteUser(User user);
     
@@ -15,6 +15,22 @@ public interface WitnessDao {
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insertWitness(Witness witness);
     
+    // Below every cached id and below -1 (the "no id" extra screens check for); server ids are
+    // positive, so a sync can't land on an unsent row
+    @Query("SELECT MIN(COALESCE(MIN(id), 0), -1) - 1 FROM witnesses")
+    int nextLocalWitnessId();
+    
+    /**
+     * Insert a witness created on this device under a temporary negative id; the outbox
+     * re-keys it to the server's id once the create is delivered
+     */
+    @Transaction
+    default int insertLocalWitness(Witness witness) {
+        witness.setId(nextLocalWitnessId());
+        insertWitness(witness);
+        return witness.getId();
+    }
+    
     @Update
     void updateWitness(Witness witness);
     
@@ -2,31 +2,33 @@ package com.example.blottermanagementsystem.data.database;
 
 import android.content.Context;
 import android.util.Log;
+import androidx.annotation.NonNull;
 import androidx.room.Database;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
 import com.example.blottermanagementsystem.data.dao.*;
 import com.example.blottermanagementsystem.data.entity.*;
 
 /**
- * 🚀 PURE NEON ONLINE-ONLY MODE
- * 
- * BlotterDatabase is now a STUB/NO-OP implementation
- * All data operations go directly to Neon via REST API
- * Local SQLite is DISABLED for simplified debugging
- * 
- * Once Neon works perfectly, we'll add offline support back
+ * ✅ LOCAL CACHE DATABASE
+ * Room-backed read-through cache for Neon data.
+ * Screens render from local rows first, then revalidate against the REST API
+ * (see ReportRepository / CachePolicy). Neon stays the source of truth, so the
+ * cache is rebuilt from the server when the schema version changes.
  */
 @Database(
     entities = {
-        User.class, BlotterReport.class, Suspect.class, Witness.class, Evidence.class,
+        User.class, BlotterReport.class, BlotterReportFts.class, Suspect.class, Witness.class, Evidence.class,
         Hearing.class, StatusHistory.class, Resolution.class, Officer.class, InvestigationTask.class,
         Notification.class, Status.class, Person.class, Respondent.class, PersonHistory.class,
         SmsNotification.class, RespondentStatement.class, Summons.class, KPForm.class,
         MediationSession.class, CaseTimeline.class, CaseTemplate.class,
-        ConnectedDevice.class, LegalDocument.class, CloudinaryImage.class
+        ConnectedDevice.class, LegalDocument.class, CloudinaryImage.class, ReportOfficer.class,
+        OutboxEntry.class, BlotterReportBase.class, UserBase.class, SyncConflict.class
     },
-    version = 14,
+    version = 21,
     exportSchema = false
 )
 public abstract class BlotterDatabase extends RoomDatabase {
@@ -56,26 +58,206 @@ public abstract class BlotterDatabase extends RoomDatabase {
     public abstract LegalDocumentDao legalDocumentDao();
     public abstract InvestigationTaskDao investigationTaskDao();
     public abstract CloudinaryImageDao cloudinaryImageDao();
+    public abstract OutboxDao outboxDao();
+    public abstract SyncBaseDao syncBaseDao();
+    public abstract SyncConflictDao syncConflictDao();
     
     private static volatile BlotterDatabase INSTANCE;
     
+    private static final String DATABASE_NAME = "blotter_cache.db";
+    
     /**
-     * 🚀 STUB IMPLEMENTATION - PURE NEON MODE
-     * Returns null - all data comes from Neon via REST API
-     * Local SQLite is completely disabled
+     * The cache holds partial graphs (e.g. a report whose filer was never fetched),
+     * so referential integrity is left to Neon instead of local FK enforcement.
+     * Test databases add it too, so they run under the same rules as the app.
      */
-    public static BlotterDatabase getDatabase(final Context context) {
-        Log.d("BlotterDatabase", "⚠️ PURE NEON MODE: Local SQLite is DISABLED");
-        Log.d("BlotterDatabase", "✅ All data operations use Neon REST API");
-        return null; // ✅ NO local database in pure Neon mode
-    }
+    public static final RoomDatabase.Callback CACHE_CALLBACK = new RoomDatabase.Callback() {
+        @Override
+        public void onOpen(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("PRAGMA foreign_keys = OFF");
+            // With FKs off the report_officers cascade never fires - clean up assignments ourselves
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS report_officers_on_report_delete "
+                + "AFTER DELETE ON blotter_reports BEGIN "
+                + "DELETE FROM report_officers WHERE reportId = OLD.id; END");
+        }
+    };
+    
+    /**
+     * 15 → 16: report_officers join table, backfilled from assignedOfficerId and the
+     * comma-separated assignedOfficerIds so cached assignments survive the upgrade.
+     */
+    static final Migration MIGRATION_15_16 = new Migration(15, 16) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `report_officers` ("
+                + "`reportId` INTEGER NOT NULL, `officerId` INTEGER NOT NULL, "
+                + "PRIMARY KEY(`reportId`, `officerId`), "
+                + "FOREIGN KEY(`reportId`) REFERENCES `blotter_reports`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_report_officers_officerId_reportId` "
+                + "ON `report_officers` (`officerId`, `reportId`)");
+            
+            db.execSQL("INSERT OR IGNORE INTO report_officers (reportId, officerId) "
+                + "SELECT id, assignedOfficerId FROM blotter_reports WHERE assignedOfficerId IS NOT NULL");
+            
+            // Split "1, 2,3" into one row per id; non-numeric fragments are skipped
+            db.execSQL("WITH RECURSIVE split(reportId, item, rest) AS ("
+                + "SELECT id, '', REPLACE(assignedOfficerIds, ' ', '') || ',' FROM blotter_reports "
+                + "WHERE assignedOfficerIds IS NOT NULL AND assignedOfficerIds != '' "
+                + "UNION ALL SELECT reportId, substr(rest, 1, instr(rest, ',') - 1), substr(rest, instr(rest, ',') + 1) "
+                + "FROM split WHERE rest != '') "
+                + "INSERT OR IGNORE INTO report_officers (reportId, officerId) "
+                + "SELECT reportId, CAST(item AS INTEGER) FROM split "
+                + "WHERE item != '' AND item NOT GLOB '*[^0-9]*'");
+            Log.d("BlotterDatabase", "✅ Migrated officer assignments to report_officers");
+        }
+    };
     
     /**
-     * 🚀 STUB - NOT USED IN PURE NEON MODE
-     * This method is completely disabled - all data comes from Neon backend
+     * 16 → 17: composite indices on blotter_reports matching the DAO's hot queries
      */
-    private static void populateDatabase(Context context) {
-        Log.d("BlotterDatabase", "⚠️ populateDatabase() called but DISABLED in pure Neon mode");
-        // ✅ NO local database operations in pure Neon mode
+    static final Migration MIGRATION_16_17 = new Migration(16, 17) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            // The userId-only index is a prefix of the new user index
+            db.execSQL("DROP INDEX IF EXISTS `index_blotter_reports_userId`");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_blotter_reports_userId_isArchived_dateFiled_id` "
+                + "ON `blotter_reports` (`userId`, `isArchived`, `dateFiled`, `id`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_blotter_reports_isArchived_dateFiled_id` "
+                + "ON `blotter_reports` (`isArchived`, `dateFiled`, `id`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_blotter_reports_isArchived_archivedDate` "
+                + "ON `blotter_reports` (`isArchived`, `archivedDate`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_blotter_reports_status_isArchived` "
+                + "ON `blotter_reports` (`status`, `isArchived`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_blotter_reports_assignedOfficer_isArchived` "
+                + "ON `blotter_reports` (`assignedOfficer`, `isArchived`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_blotter_reports_caseNumber` "
+                + "ON `blotter_reports` (`caseNumber`)");
+            db.execSQL("ANALYZE blotter_reports");
+        }
+    };
+    
+    /**
+     * 17 → 18: outbox of mutations waiting to be replayed against the API.
+     * Unlike the cached tables this is local-only data, so it must survive upgrades.
+     */
+    static final Migration MIGRATION_17_18 = new Migration(17, 18) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `outbox` ("
+                + "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `entityType` TEXT NOT NULL, "
+                + "`entityId` INTEGER NOT NULL, `reportId` INTEGER NOT NULL, `operation` TEXT NOT NULL, "
+                + "`payload` TEXT, `idempotencyKey` TEXT NOT NULL, `createdAt` INTEGER NOT NULL, "
+                + "`updatedAt` INTEGER NOT NULL, `attempts` INTEGER NOT NULL, `lastError` TEXT, "
+                + "`status` TEXT NOT NULL)");
+            db.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS `index_outbox_entityType_entityId` "
+                + "ON `outbox` (`entityType`, `entityId`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_outbox_status_id` ON `outbox` (`status`, `id`)");
+        }
+    };
+    
+    // Explicit column lists - physical column order depends on which migrations built the cached tables
+    private static final String REPORT_COLUMNS = "id, caseNumber, complainantName, complainantContact, complainantAddress, incidentType, "
+        + "incidentDate, incidentTime, incidentLocation, narrative, respondentName, respondentAlias, "
+        + "respondentAddress, respondentContact, accusation, relationshipToComplainant, status, dateFiled, "
+        + "assignedOfficer, assignedOfficerId, assignedOfficerIds, userId, isArchived, archivedDate, "
+        + "archivedBy, archivedReason, imageUris, videoUris, videoDurations, audioUri, "
+        + "audioUris, audioDurations, latitude, longitude, version";
+    private static final String USER_COLUMNS = "id, firstName, lastName, username, password, role, "
+        + "email, phoneNumber, profilePhotoUri, gender, accountCreated, profileCompleted, "
+        + "badgeNumber, rank, dutyStatus, mustChangePassword, isActive, fcmToken, "
+        + "deviceId, resetCode, resetCodeExpiry, hasSeenTooltips, version";
+    
+    /**
+     * 18 → 19: server version numbers on reports/users, plus base snapshots for
+     * ConflictResolver's three-way merge. Bases are seeded from the cached rows,
+     * except reports with local edits still waiting in the outbox.
+     */
+    static final Migration MIGRATION_18_19 = new Migration(18, 19) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("ALTER TABLE `blotter_reports` ADD COLUMN `version` INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("ALTER TABLE `users` ADD COLUMN `version` INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("CREATE TABLE IF NOT EXISTS `blotter_reports_base` ("
+                + "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `caseNumber` TEXT, `complainantName` TEXT, "
+                + "`complainantContact` TEXT, `complainantAddress` TEXT, `incidentType` TEXT, "
+                + "`incidentDate` INTEGER NOT NULL, `incidentTime` TEXT, `incidentLocation` TEXT, "
+                + "`narrative` TEXT, `respondentName` TEXT, `respondentAlias` TEXT, "
+                + "`respondentAddress` TEXT, `respondentContact` TEXT, `accusation` TEXT, "
+                + "`relationshipToComplainant` TEXT, `status` TEXT, `dateFiled` INTEGER NOT NULL, "
+                + "`assignedOfficer` TEXT, `assignedOfficerId` INTEGER, `assignedOfficerIds` TEXT, "
+                + "`userId` INTEGER NOT NULL, `isArchived` INTEGER NOT NULL, `archivedDate` INTEGER, "
+                + "`archivedBy` TEXT, `archivedReason` TEXT, `imageUris` TEXT, "
+                + "`videoUris` TEXT, `videoDurations` TEXT, `audioUri` TEXT, "
+                + "`audioUris` TEXT, `audioDurations` TEXT, `latitude` REAL NOT NULL, "
+                + "`longitude` REAL NOT NULL, `version` INTEGER NOT NULL DEFAULT 0)");
+            db.execSQL("CREATE TABLE IF NOT EXISTS `users_base` ("
+                + "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `firstName` TEXT, `lastName` TEXT, "
+                + "`username` TEXT, `password` TEXT, `role` TEXT, "
+                + "`email` TEXT, `phoneNumber` TEXT, `profilePhotoUri` TEXT, "
+                + "`gender` TEXT, `accountCreated` INTEGER NOT NULL, `profileCompleted` INTEGER NOT NULL, "
+                + "`badgeNumber` TEXT, `rank` TEXT, `dutyStatus` TEXT, "
+                + "`mustChangePassword` INTEGER NOT NULL, `isActive` INTEGER NOT NULL, `fcmToken` TEXT, "
+                + "`deviceId` TEXT, `resetCode` TEXT, `resetCodeExpiry` INTEGER NOT NULL, "
+                + "`hasSeenTooltips` INTEGER NOT NULL, `version` INTEGER NOT NULL DEFAULT 0)");
+            db.execSQL("INSERT INTO `blotter_reports_base` (" + REPORT_COLUMNS + ") "
+                + "SELECT " + REPORT_COLUMNS + " FROM blotter_reports "
+                + "WHERE id NOT IN (SELECT entityId FROM outbox WHERE entityType = 'report')");
+            db.execSQL("INSERT INTO `users_base` (" + USER_COLUMNS + ") SELECT " + USER_COLUMNS + " FROM users");
+        }
+    };
+    
+    /**
+     * 19 → 20: sync_conflicts, the fields a merge gave to the server. Local-only, like the outbox.
+     */
+    static final Migration MIGRATION_19_20 = new Migration(19, 20) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `sync_conflicts` ("
+                + "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `entityType` TEXT NOT NULL, "
+                + "`entityId` INTEGER NOT NULL, `fields` TEXT NOT NULL, `localPayload` TEXT, "
+                + "`detectedAt` INTEGER NOT NULL, `dismissed` INTEGER NOT NULL)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_sync_conflicts_dismissed_detectedAt` "
+                + "ON `sync_conflicts` (`dismissed`, `detectedAt`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_sync_conflicts_entityType_entityId` "
+                + "ON `sync_conflicts` (`entityType`, `entityId`)");
+        }
+    };
+    
+    /**
+     * 20 → 21: outbox entries record their author, so one user's queued edits are never
+     * replayed with another user's JWT. Existing rows start at 0 and are claimed on startup.
+     */
+    static final Migration MIGRATION_20_21 = new Migration(20, 21) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("ALTER TABLE `outbox` ADD COLUMN `userId` INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("DROP INDEX IF EXISTS `index_outbox_status_id`");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_outbox_userId_status_id` "
+                + "ON `outbox` (`userId`, `status`, `id`)");
+        }
+    };
+    
+    /**
+     * Get the shared Room database instance (lazily created, thread-safe)
+     */
+    public static BlotterDatabase getDatabase(final Context context) {
+        if (INSTANCE == null) {
+            synchronized (BlotterDatabase.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = Room.databaseBuilder(
+                            context.getApplicationContext(),
+                            BlotterDatabase.class,
+                            DATABASE_NAME)
+                        .addMigrations(MIGRATION_15_16, MIGRATION_16_17, MIGRATION_17_18, MIGRATION_18_19,
+                            MIGRATION_19_20, MIGRATION_20_21)
+                        // Local rows are only a cache of Neon - drop and re-fetch when no migration path exists
+                        .fallbackToDestructiveMigration()
+                        .addCallback(CACHE_CALLBACK)
+                        .build();
+                    Log.d("BlotterDatabase", "✅ Local cache database opened: " + DATABASE_NAME);
+                }
+            }
+        }
+        return INSTANCE;
     }
 }
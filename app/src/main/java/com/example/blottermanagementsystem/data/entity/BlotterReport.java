@@ -1,5 +1,6 @@
 package com.example.blottermanagementsystem.data.entity;
 
+import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.ForeignKey;
 import androidx.room.Ignore;
@@ -14,7 +15,16 @@ import androidx.room.PrimaryKey;
         childColumns = "userId",
         onDelete = ForeignKey.CASCADE
     ),
-    indices = {@Index("userId")}
+    // Composite indices shaped after BlotterReportDao's queries (equality columns first, then sort keys).
+    // Checked by BlotterReportDaoQueryPlanTest - update both together.
+    indices = {
+        @Index({"userId", "isArchived", "dateFiled", "id"}),   // user scope pages/counts, getReportsByUser
+        @Index({"isArchived", "dateFiled", "id"}),             // keyset pages, active list, status counts
+        @Index({"isArchived", "archivedDate"}),                // archived list
+        @Index({"status", "isArchived"}),                      // getReportsByStatus / counts by status
+        @Index({"assignedOfficer", "isArchived"}),             // getReportsByOfficer (by name)
+        @Index("caseNumber")                                   // getReportByCaseNumber
+    }
 )
 public class BlotterReport {
     @PrimaryKey(autoGenerate = true)
@@ -52,6 +62,9 @@ public class BlotterReport {
     private String audioDurations;
     private double latitude = 0.0;
     private double longitude = 0.0;
+    // Server revision this row was last merged from - see ConflictResolver
+    @ColumnInfo(defaultValue = "0")
+    private long version;
 
     public BlotterReport() {
         // No-arg constructor for Room
@@ -212,4 +225,7 @@ public class BlotterReport {
     public void setLatitude(double latitude) { this.latitude = latitude; }
     public double getLongitude() { return longitude; }
     public void setLongitude(double longitude) { this.longitude = longitude; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
 }
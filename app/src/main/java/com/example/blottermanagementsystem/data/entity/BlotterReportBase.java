@@ -0,0 +1,14 @@
+package com.example.blottermanagementsystem.data.entity;
+
+import androidx.room.Entity;
+
+/**
+ * ✅ REPORT MERGE BASE
+ * The last server copy of each report, as it was before any local edits.
+ * ConflictResolver diffs the local row and the incoming server row against this
+ * snapshot to tell "edited here" from "edited on the server" field by field.
+ * Same columns as blotter_reports; no indices beyond the primary key.
+ */
+@Entity(tableName = "blotter_reports_base")
+public class BlotterReportBase extends BlotterReport {
+}
@@ -0,0 +1,46 @@
+package com.example.blottermanagementsystem.data.entity;
+
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+
+/**
+ * ✅ FULL-TEXT INDEX FOR BLOTTER REPORTS
+ * External-content FTS4 table over blotter_reports. Room generates the
+ * insert/update/delete triggers that keep it in sync, so only the searchable
+ * text is indexed and the rows themselves are never duplicated.
+ * rowid == blotter_reports.id
+ */
+@Fts4(contentEntity = BlotterReport.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61)
+@Entity(tableName = "blotter_reports_fts")
+public class BlotterReportFts {
+    // Column order matters: ReportSearchRepository weights matchinfo() by column index
+    private String caseNumber;
+    private String complainantName;
+    private String respondentName;
+    private String respondentAlias;
+    private String incidentLocation;
+    private String incidentType;
+    private String narrative;
+
+    public String getCaseNumber() { return caseNumber; }
+    public void setCaseNumber(String caseNumber) { this.caseNumber = caseNumber; }
+
+    public String getComplainantName() { return complainantName; }
+    public void setComplainantName(String complainantName) { this.complainantName = complainantName; }
+
+    public String getRespondentName() { return respondentName; }
+    public void setRespondentName(String respondentName) { this.respondentName = respondentName; }
+
+    public String getRespondentAlias() { return respondentAlias; }
+    public void setRespondentAlias(String respondentAlias) { this.respondentAlias = respondentAlias; }
+
+    public String getIncidentLocation() { return incidentLocation; }
+    public void setIncidentLocation(String incidentLocation) { this.incidentLocation = incidentLocation; }
+
+    public String getIncidentType() { return incidentType; }
+    public void setIncidentType(String incidentType) { this.incidentType = incidentType; }
+
+    public String getNarrative() { return narrative; }
+    public void setNarrative(String narrative) { this.narrative = narrative; }
+}
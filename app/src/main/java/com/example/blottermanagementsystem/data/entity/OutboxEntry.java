@@ -0,0 +1,121 @@
+package com.example.blottermanagementsystem.data.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Ignore;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+import java.util.UUID;
+
+/**
+ * ✅ OUTBOX ENTRY
+ * One pending mutation waiting to be sent to the API.
+ * At most one row per (entityType, entityId): a newer mutation of the same entity
+ * is coalesced into the existing row, which keeps its idempotency key so a
+ * replay of an already-delivered request is recognised by the server.
+ * Each entry belongs to the user who made the change and is only replayed under their session.
+ */
+@Entity(
+    tableName = "outbox",
+    indices = {
+        @Index(value = {"entityType", "entityId"}, unique = true),
+        @Index({"userId", "status", "id"})
+    }
+)
+public class OutboxEntry {
+    public static final String TYPE_REPORT = "report";
+    public static final String TYPE_WITNESS = "witness";
+    public static final String TYPE_SUSPECT = "suspect";
+    public static final String TYPE_EVIDENCE = "evidence";
+    public static final String TYPE_HEARING = "hearing";
+    public static final String TYPE_RESOLUTION = "resolution";
+
+    public static final String OP_CREATE = "CREATE";
+    public static final String OP_UPDATE = "UPDATE";
+    public static final String OP_DELETE = "DELETE";
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_FAILED = "FAILED"; // Rejected by the server - kept for inspection, never replayed
+
+    @PrimaryKey(autoGenerate = true)
+    private long id;
+    @NonNull
+    private String entityType = TYPE_REPORT;
+    private int entityId;
+    private int reportId; // Parent report, so a server-assigned report id can be patched into children
+    @ColumnInfo(defaultValue = "0")
+    private int userId; // Author - replayed only with this user's JWT
+    @NonNull
+    private String operation = OP_CREATE;
+    private String payload; // Entity JSON at the time of the latest mutation
+    @NonNull
+    private String idempotencyKey = "";
+    private long createdAt;
+    private long updatedAt;
+    private int attempts;
+    private String lastError;
+    @NonNull
+    private String status = STATUS_PENDING;
+
+    public OutboxEntry() {
+    }
+
+    @Ignore
+    public OutboxEntry(@NonNull String entityType, int entityId, int reportId,
+                       @NonNull String operation, String payload) {
+        long now = System.currentTimeMillis();
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.reportId = reportId;
+        this.operation = operation;
+        this.payload = payload;
+        this.idempotencyKey = UUID.randomUUID().toString();
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    public long getId() { return id; }
+    public void setId(long id) { this.id = id; }
+
+    @NonNull
+    public String getEntityType() { return entityType; }
+    public void setEntityType(@NonNull String entityType) { this.entityType = entityType; }
+
+    public int getEntityId() { return entityId; }
+    public void setEntityId(int entityId) { this.entityId = entityId; }
+
+    public int getReportId() { return reportId; }
+    public void setReportId(int reportId) { this.reportId = reportId; }
+
+    public int getUserId() { return userId; }
+    public void setUserId(int userId) { this.userId = userId; }
+
+    @NonNull
+    public String getOperation() { return operation; }
+    public void setOperation(@NonNull String operation) { this.operation = operation; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    @NonNull
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public void setIdempotencyKey(@NonNull String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
+
+    public long getCreatedAt() { return createdAt; }
+    public void setCreatedAt(long createdAt) { this.createdAt = createdAt; }
+
+    public long getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(long updatedAt) { this.updatedAt = updatedAt; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    @NonNull
+    public String getStatus() { return status; }
+    public void setStatus(@NonNull String status) { this.status = status; }
+}
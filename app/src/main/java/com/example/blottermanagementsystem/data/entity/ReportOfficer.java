@@ -0,0 +1,77 @@
+package com.example.blottermanagementsystem.data.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.Ignore;
+import androidx.room.Index;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ✅ REPORT ↔ OFFICER ASSIGNMENT
+ * One row per officer assigned to a report, derived from
+ * BlotterReport.assignedOfficerId + assignedOfficerIds ("1,2,3").
+ * Indexed on (officerId, reportId) so "my cases" is an index lookup
+ * instead of a LIKE scan over the comma-separated string.
+ */
+@Entity(
+    tableName = "report_officers",
+    primaryKeys = {"reportId", "officerId"},
+    foreignKeys = @ForeignKey(
+        entity = BlotterReport.class,
+        parentColumns = "id",
+        childColumns = "reportId",
+        onDelete = ForeignKey.CASCADE
+    ),
+    indices = {@Index({"officerId", "reportId"})}
+)
+public class ReportOfficer {
+    private int reportId;
+    private int officerId;
+
+    public ReportOfficer() {
+    }
+
+    @Ignore
+    public ReportOfficer(int reportId, int officerId) {
+        this.reportId = reportId;
+        this.officerId = officerId;
+    }
+
+    /**
+     * Assignment rows for a report: the single assignedOfficerId plus every id in assignedOfficerIds
+     */
+    @NonNull
+    public static List<ReportOfficer> fromReport(BlotterReport report, int reportId) {
+        Set<Integer> officerIds = new LinkedHashSet<>();
+        if (report.getAssignedOfficerId() != null) {
+            officerIds.add(report.getAssignedOfficerId());
+        }
+        String csv = report.getAssignedOfficerIds();
+        if (csv != null && !csv.isEmpty()) {
+            for (String id : csv.split(",")) {
+                try {
+                    officerIds.add(Integer.parseInt(id.trim()));
+                } catch (NumberFormatException e) {
+                    // Ignore invalid IDs
+                }
+            }
+        }
+
+        List<ReportOfficer> rows = new ArrayList<>(officerIds.size());
+        for (Integer officerId : officerIds) {
+            rows.add(new ReportOfficer(reportId, officerId));
+        }
+        return rows;
+    }
+
+    public int getReportId() { return reportId; }
+    public void setReportId(int reportId) { this.reportId = reportId; }
+
+    public int getOfficerId() { return officerId; }
+    public void setOfficerId(int officerId) { this.officerId = officerId; }
+}
@@ -0,0 +1,69 @@
+package com.example.blottermanagementsystem.data.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Ignore;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * ✅ SYNC CONFLICT
+ * A field both this device and the server changed differently. The merge kept the
+ * server's value; this row records what was overwritten so it can be shown to the
+ * user and re-applied by hand. Local-only data - kept until the user dismisses it.
+ */
+@Entity(
+    tableName = "sync_conflicts",
+    indices = {
+        @Index({"dismissed", "detectedAt"}),
+        @Index({"entityType", "entityId"})
+    }
+)
+public class SyncConflict {
+    @PrimaryKey(autoGenerate = true)
+    private long id;
+    @NonNull
+    private String entityType = "";
+    private int entityId;
+    @NonNull
+    private String fields = ""; // Comma-separated names of the fields the server won
+    private String localPayload; // The unsent local edit (outbox payload), or null if none was queued
+    private long detectedAt;
+    private boolean dismissed;
+
+    public SyncConflict() {
+    }
+
+    @Ignore
+    public SyncConflict(@NonNull String entityType, int entityId, @NonNull String fields,
+                        String localPayload) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.fields = fields;
+        this.localPayload = localPayload;
+        this.detectedAt = System.currentTimeMillis();
+    }
+
+    public long getId() { return id; }
+    public void setId(long id) { this.id = id; }
+
+    @NonNull
+    public String getEntityType() { return entityType; }
+    public void setEntityType(@NonNull String entityType) { this.entityType = entityType; }
+
+    public int getEntityId() { return entityId; }
+    public void setEntityId(int entityId) { this.entityId = entityId; }
+
+    @NonNull
+    public String getFields() { return fields; }
+    public void setFields(@NonNull String fields) { this.fields = fields; }
+
+    public String getLocalPayload() { return localPayload; }
+    public void setLocalPayload(String localPayload) { this.localPayload = localPayload; }
+
+    public long getDetectedAt() { return detectedAt; }
+    public void setDetectedAt(long detectedAt) { this.detectedAt = detectedAt; }
+
+    public boolean isDismissed() { return dismissed; }
+    public void setDismissed(boolean dismissed) { this.dismissed = dismissed; }
+}
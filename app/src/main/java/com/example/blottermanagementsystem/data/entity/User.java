@@ -1,5 +1,6 @@
 package com.example.blottermanagementsystem.data.entity;
 
+import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Ignore;
 import androidx.room.PrimaryKey;
@@ -29,6 +30,9 @@ public class User {
     private String resetCode;
     private long resetCodeExpiry;
     private boolean hasSeenTooltips;
+    // Server revision this row was last merged from - see ConflictResolver
+    @ColumnInfo(defaultValue = "0")
+    private long version;
 
     // No-arg constructor required by Room
     public User() {
@@ -228,4 +232,12 @@ public class User {
     public void setHasSeenTooltips(boolean hasSeenTooltips) {
         this.hasSeenTooltips = hasSeenTooltips;
     }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.blottermanagementsystem.data.entity;
+
+import androidx.room.Entity;
+
+/**
+ * ✅ USER MERGE BASE
+ * The last server copy of each user - the common ancestor for ConflictResolver's
+ * three-way merge. Same columns as users.
+ */
+@Entity(tableName = "users_base")
+public class UserBase extends User {
+}
@@ -0,0 +1,111 @@
+package com.example.blottermanagementsystem.data.model;
+
+import androidx.annotation.Nullable;
+import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.KPForm;
+import com.example.blottermanagementsystem.data.entity.Resolution;
+import com.example.blottermanagementsystem.data.entity.Summons;
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.example.blottermanagementsystem.data.entity.Witness;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ✅ CASE BUNDLE
+ * Everything recorded against one case on the server - witnesses, suspects, evidence,
+ * hearings, resolutions, KP forms and summons - as one immutable snapshot.
+ * A partial bundle (some parts still loading) is immutable too: each arriving part
+ * produces a new bundle via with()/withFailure().
+ */
+public final class CaseBundle {
+
+    public enum Part { WITNESSES, SUSPECTS, EVIDENCE, HEARINGS, RESOLUTIONS, KP_FORMS, SUMMONS }
+
+    private final int reportId;
+    private final Map<Part, List<?>> parts;
+    private final Set<Part> failed;
+
+    private CaseBundle(int reportId, Map<Part, List<?>> parts, Set<Part> failed) {
+        this.reportId = reportId;
+        this.parts = parts;
+        this.failed = failed;
+    }
+
+    public static CaseBundle empty(int reportId) {
+        return new CaseBundle(reportId, new EnumMap<>(Part.class), EnumSet.noneOf(Part.class));
+    }
+
+    /**
+     * A copy with one part loaded
+     */
+    public CaseBundle with(Part part, @Nullable List<?> rows) {
+        Map<Part, List<?>> copy = new EnumMap<>(parts);
+        copy.put(part, rows != null ? Collections.unmodifiableList(new ArrayList<>(rows)) : Collections.emptyList());
+        Set<Part> stillFailed = copyOf(failed);
+        stillFailed.remove(part);
+        return new CaseBundle(reportId, copy, stillFailed);
+    }
+
+    /**
+     * A copy with one part marked as failed (its rows stay empty)
+     */
+    public CaseBundle withFailure(Part part) {
+        Set<Part> copy = copyOf(failed);
+        copy.add(part);
+        return new CaseBundle(reportId, parts, copy);
+    }
+
+    public int getReportId() { return reportId; }
+
+    public boolean isLoaded(Part part) { return parts.containsKey(part); }
+    public boolean isFailed(Part part) { return failed.contains(part); }
+
+    /**
+     * Every part has either arrived or failed
+     */
+    public boolean isComplete() {
+        return parts.size() + failed.size() == Part.values().length;
+    }
+
+    public boolean hasFailures() { return !failed.isEmpty(); }
+
+    public List<Witness> getWitnesses() { return rows(Part.WITNESSES); }
+    public List<Suspect> getSuspects() { return rows(Part.SUSPECTS); }
+    public List<Evidence> getEvidence() { return rows(Part.EVIDENCE); }
+    public List<Hearing> getHearings() { return rows(Part.HEARINGS); }
+    public List<Resolution> getResolutions() { return rows(Part.RESOLUTIONS); }
+    public List<KPForm> getKpForms() { return rows(Part.KP_FORMS); }
+    public List<Summons> getSummons() { return rows(Part.SUMMONS); }
+
+    public int count(Part part) {
+        List<?> rows = parts.get(part);
+        return rows != null ? rows.size() : 0;
+    }
+
+    /**
+     * Count for the case screens: the server's count once that part has arrived, but never
+     * below what Room holds locally (rows recorded offline that haven't synced yet).
+     */
+    public static int countOf(@Nullable CaseBundle bundle, Part part, int localCount) {
+        if (bundle == null || !bundle.isLoaded(part)) return localCount;
+        return Math.max(localCount, bundle.count(part));
+    }
+
+    private static Set<Part> copyOf(Set<Part> parts) {
+        Set<Part> copy = EnumSet.noneOf(Part.class);
+        copy.addAll(parts);
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> rows(Part part) {
+        List<?> rows = parts.get(part);
+        return rows != null ? (List<T>) rows : Collections.emptyList();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.blottermanagementsystem.data.model;
+
+/**
+ * Row of the single-pass dashboard aggregate (see BlotterReportDao.getDashboardCounts)
+ */
+public class DashboardCounts {
+    public int totalReports;
+    public int pendingReports;
+    public int ongoingReports;
+    public int resolvedReports;
+    public int archivedReports;
+    public int totalOfficers;
+    public int totalUsers;
+    public int unreadNotifications;
+}
@@ -0,0 +1,12 @@
+package com.example.blottermanagementsystem.data.model;
+
+/**
+ * Raw FTS hit: report id plus the matchinfo('pcnx') blob used for ranking
+ */
+public class ReportSearchHit {
+    public int reportId;
+    public byte[] matchInfo;
+
+    public ReportSearchHit() {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.blottermanagementsystem.data.model;
+
+/**
+ * Row of a GROUP BY status count query (status is upper-cased and trimmed)
+ */
+public class StatusCount {
+    public String status;
+    public int count;
+
+    public StatusCount() {
+    }
+
+    public StatusCount(String status, int count) {
+        this.status = status;
+        this.count = count;
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.util.Log;
+import com.example.blottermanagementsystem.data.api.BlotterApiService;
+import com.example.blottermanagementsystem.data.api.JsonCodec;
+import com.example.blottermanagementsystem.data.api.StreamingListDecoder;
+import com.example.blottermanagementsystem.data.dao.OutboxDao;
+import com.example.blottermanagementsystem.data.dao.SyncBaseDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.KPForm;
+import com.example.blottermanagementsystem.data.entity.Officer;
+import com.example.blottermanagementsystem.data.entity.OutboxEntry;
+import com.example.blottermanagementsystem.data.entity.Resolution;
+import com.example.blottermanagementsystem.data.entity.Summons;
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.example.blottermanagementsystem.data.entity.SyncConflict;
+import com.example.blottermanagementsystem.data.entity.User;
+import com.example.blottermanagementsystem.data.entity.Witness;
+import com.example.blottermanagementsystem.data.model.CaseBundle;
+import com.example.blottermanagementsystem.utils.ConflictResolver;
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * ✅ BULK SYNC WRITER
+ * Writes server rows into the cache in chunked transactions instead of one
+ * transaction per row. Each chunk of chunkSize rows is one commit; inside it every
+ * entity goes through its list @Upsert, which binds and re-executes a single
+ * compiled statement for the whole list. Foreign-key checks are deferred to the
+ * commit so chunk order (reports before their assignments, etc.) doesn't matter.
+ * Reports and users are three-way merged (ConflictResolver) on the way in, so
+ * unsent local edits survive a sync. Fields the server won are recorded in
+ * sync_conflicts, and a queued report edit is rewritten to the merged row (or dropped
+ * when the server already has it) so the stale value is never pushed back. Large list responses can be fed in as a stream
+ * (applyReportStream/applyUserStream) so they are never fully materialized; a full report
+ * list (applyReportSnapshot) also drops cached reports the server no longer has.
+ *
+ * Blocking - call from a background thread.
+ */
+public class BulkSyncWriter {
+    private static final String TAG = "BulkSyncWriter";
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+    // Ids per IN (...) lookup - stays under SQLite's 999 bound-parameter limit
+    private static final int LOOKUP_CHUNK = 500;
+
+    private static final Gson GSON = JsonCodec.gson();
+
+    private final BlotterDatabase database;
+    private final SyncBaseDao syncBaseDao;
+    private final OutboxDao outboxDao;
+    private final int chunkSize;
+
+    public BulkSyncWriter(BlotterDatabase database) {
+        this(database, DEFAULT_CHUNK_SIZE);
+    }
+
+    public BulkSyncWriter(BlotterDatabase database, int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be positive");
+        this.database = database;
+        this.syncBaseDao = database.syncBaseDao();
+        this.outboxDao = database.outboxDao();
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Apply a full download (e.g. the initial sync). Users and officers go first so
+     * reports never point at rows that aren't there yet. Returns the number of rows written.
+     */
+    public int applySyncData(BlotterApiService.SyncData data) {
+        if (data == null) return 0;
+        long start = System.currentTimeMillis();
+        int rows = applyUsers(data.users) + applyOfficers(data.officers) + applyReports(data.reports);
+        Log.d(TAG, "✅ Applied " + rows + " synced rows in " + (System.currentTimeMillis() - start)
+            + "ms (chunks of " + chunkSize + ")");
+        return rows;
+    }
+
+    /**
+     * Decode a report list response body straight into the cache, one chunk at a time -
+     * the full list is never held in memory. Returns the number of reports written.
+     */
+    public int applyReportStream(Reader body) throws IOException {
+        return new StreamingListDecoder<>(GSON, BlotterReport.class, chunkSize).decode(body, this::applyReports);
+    }
+
+    /**
+     * applyReportStream for a response that is the complete report list: afterwards, cached
+     * server reports it no longer contains are deleted, unless the outbox still has work for them.
+     * Returns the number of reports written.
+     */
+    public int applyReportSnapshot(Reader body) throws IOException {
+        Set<Integer> seen = new HashSet<>();
+        int count = new StreamingListDecoder<>(GSON, BlotterReport.class, chunkSize).decode(body, chunk -> {
+            for (BlotterReport report : chunk) seen.add(report.getId());
+            applyReports(chunk);
+        });
+        pruneReports(seen);
+        return count;
+    }
+
+    private void pruneReports(Set<Integer> keep) {
+        int[] pruned = new int[1];
+        database.runInTransaction(() -> {
+            List<Integer> gone = new ArrayList<>();
+            for (Integer id : database.blotterReportDao().getUnqueuedServerReportIds()) {
+                if (!keep.contains(id)) gone.add(id);
+            }
+            for (int from = 0; from < gone.size(); from += LOOKUP_CHUNK) {
+                List<Integer> page = gone.subList(from, Math.min(gone.size(), from + LOOKUP_CHUNK));
+                database.blotterReportDao().deleteReportsByIds(page);
+                syncBaseDao.deleteReportBases(page);
+            }
+            pruned[0] = gone.size();
+        });
+        if (pruned[0] > 0) Log.d(TAG, "🧹 Pruned " + pruned[0] + " reports deleted on the server");
+    }
+
+    /**
+     * Same as applyReportStream for a user list
+     */
+    public int applyUserStream(Reader body) throws IOException {
+        return new StreamingListDecoder<>(GSON, User.class, chunkSize).decode(body, this::applyUsers);
+    }
+
+    public int applyReports(List<BlotterReport> reports) {
+        if (reports == null) return 0;
+        for (int from = 0; from < reports.size(); from += chunkSize) {
+            List<BlotterReport> chunk = reports.subList(from, Math.min(reports.size(), from + chunkSize));
+            inChunkTransaction(() -> mergeReports(chunk));
+        }
+        return reports.size();
+    }
+
+    public int applyUsers(List<User> users) {
+        if (users == null) return 0;
+        for (int from = 0; from < users.size(); from += chunkSize) {
+            List<User> chunk = users.subList(from, Math.min(users.size(), from + chunkSize));
+            inChunkTransaction(() -> mergeUsers(chunk));
+        }
+        return users.size();
+    }
+
+    public int applyOfficers(List<Officer> officers) {
+        if (officers == null) return 0;
+        for (int from = 0; from < officers.size(); from += chunkSize) {
+            List<Officer> chunk = officers.subList(from, Math.min(officers.size(), from + chunkSize));
+            inChunkTransaction(() -> database.officerDao().upsertOfficers(chunk));
+        }
+        return officers.size();
+    }
+
+    /**
+     * Store every part of a case bundle that arrived, so the case screens have it offline.
+     * Children with a change still waiting in the outbox are left as they are.
+     * Returns the number of rows written.
+     */
+    public int applyCaseBundle(CaseBundle bundle) {
+        int[] written = new int[1];
+        inChunkTransaction(() -> {
+            written[0] += putAll(bundle.getWitnesses(), OutboxEntry.TYPE_WITNESS, Witness::getId,
+                database.witnessDao()::insertWitness);
+            written[0] += putAll(bundle.getSuspects(), OutboxEntry.TYPE_SUSPECT, Suspect::getId,
+                database.suspectDao()::insertSuspect);
+            written[0] += putAll(bundle.getEvidence(), OutboxEntry.TYPE_EVIDENCE, Evidence::getId,
+                database.evidenceDao()::insertEvidence);
+            written[0] += putAll(bundle.getHearings(), OutboxEntry.TYPE_HEARING, Hearing::getId,
+                database.hearingDao()::insertHearing);
+            written[0] += putAll(bundle.getResolutions(), OutboxEntry.TYPE_RESOLUTION, Resolution::getId,
+                database.resolutionDao()::insertResolution);
+            // Never journalled - nothing local to protect
+            written[0] += putAll(bundle.getKpForms(), null, KPForm::getId, database.kpFormDao()::insertForm);
+            written[0] += putAll(bundle.getSummons(), null, Summons::getId, database.summonsDao()::insertSummons);
+        });
+        return written[0];
+    }
+
+    private <T> int putAll(List<T> rows, String outboxType, ToIntFunction<T> idOf, Consumer<T> insert) {
+        if (rows.isEmpty()) return 0;
+        Set<Integer> queued = new HashSet<>();
+        if (outboxType != null) {
+            List<Integer> ids = new ArrayList<>(rows.size());
+            for (T row : rows) ids.add(idOf.applyAsInt(row));
+            for (OutboxEntry entry : outboxDao.getEntries(outboxType, ids)) queued.add(entry.getEntityId());
+        }
+        int written = 0;
+        for (T row : rows) {
+            if (queued.contains(idOf.applyAsInt(row))) continue;
+            insert.accept(row);
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * Merge server reports into the cache field by field and store them as the new merge bases.
+     * Call inside a transaction. Returns the number of reports with genuine conflicts.
+     */
+    public int mergeReports(List<BlotterReport> reports) {
+        ConflictResolver resolver = new ConflictResolver();
+        int conflicts = 0;
+        for (int from = 0; from < reports.size(); from += LOOKUP_CHUNK) {
+            List<BlotterReport> page = reports.subList(from, Math.min(reports.size(), from + LOOKUP_CHUNK));
+            List<Integer> ids = new ArrayList<>(page.size());
+            for (BlotterReport report : page) ids.add(report.getId());
+
+            List<BlotterReport> rows = new ArrayList<>(page.size());
+            List<BlotterReport> bases = new ArrayList<>(page.size());
+            MergeRecorder recorder = new MergeRecorder(outboxDao.getEntries(OutboxEntry.TYPE_REPORT, ids));
+            conflicts += resolver.mergeReports(page, database.blotterReportDao().getReportsByIds(ids),
+                syncBaseDao.getReportBases(ids), rows, bases, recorder);
+            database.blotterReportDao().upsertReports(rows);
+            syncBaseDao.upsertReportBases(bases);
+            recorder.settleOutbox(rows);
+            recorder.saveConflicts();
+        }
+        return conflicts;
+    }
+
+    /**
+     * Same as mergeReports for users
+     */
+    public int mergeUsers(List<User> users) {
+        ConflictResolver resolver = new ConflictResolver();
+        int conflicts = 0;
+        for (int from = 0; from < users.size(); from += LOOKUP_CHUNK) {
+            List<User> page = users.subList(from, Math.min(users.size(), from + LOOKUP_CHUNK));
+            List<Integer> ids = new ArrayList<>(page.size());
+            for (User user : page) ids.add(user.getId());
+
+            List<User> rows = new ArrayList<>(page.size());
+            List<User> bases = new ArrayList<>(page.size());
+            // Users are never journalled in the outbox - only conflicts to record
+            MergeRecorder recorder = new MergeRecorder(Collections.emptyList());
+            conflicts += resolver.mergeUsers(page, database.userDao().getUsersByIds(ids),
+                syncBaseDao.getUserBases(ids), rows, bases, recorder);
+            database.userDao().upsertUsers(rows);
+            syncBaseDao.upsertUserBases(bases);
+            recorder.saveConflicts();
+        }
+        return conflicts;
+    }
+
+    /**
+     * Collects one page's conflicts, and which queued report edits still hold something
+     * the server doesn't have, while ConflictResolver merges it
+     */
+    private final class MergeRecorder implements ConflictResolver.ConflictListener {
+        private final Map<Integer, OutboxEntry> queued = new HashMap<>();
+        private final Set<Integer> merged = new HashSet<>();
+        private final Set<Integer> stillUnsent = new HashSet<>();
+        private final List<SyncConflict> conflicts = new ArrayList<>();
+
+        MergeRecorder(List<OutboxEntry> entries) {
+            for (OutboxEntry entry : entries) queued.put(entry.getEntityId(), entry);
+        }
+
+        @Override
+        public void onMerged(String entityType, int entityId, ConflictResolver.MergeResult result) {
+            if (!queued.containsKey(entityId)) return;
+            merged.add(entityId);
+            if (result.hasLocalChanges()) stillUnsent.add(entityId);
+        }
+
+        @Override
+        public void onConflict(String entityType, int entityId, List<String> fields) {
+            Log.w(TAG, "⚠️ Sync conflict on " + entityType + " " + entityId + " - server kept " + fields);
+            OutboxEntry entry = queued.get(entityId);
+            conflicts.add(new SyncConflict(entityType, entityId, String.join(",", fields),
+                entry != null ? entry.getPayload() : null));
+        }
+
+        /**
+         * A queued UPDATE was serialized before the merge, so it still carries the values the
+         * server just won. Replace it with the merged row, or drop it if nothing local is left.
+         */
+        void settleOutbox(List<BlotterReport> rows) {
+            if (merged.isEmpty()) return;
+            for (BlotterReport row : rows) {
+                if (!merged.contains(row.getId())) continue;
+                OutboxEntry entry = queued.get(row.getId());
+                if (!OutboxEntry.OP_UPDATE.equals(entry.getOperation())) continue; // A delete still goes out
+
+                if (stillUnsent.contains(row.getId())) {
+                    entry.setPayload(GSON.toJson(row));
+                    // A new payload is a new request; the newer updatedAt tells an in-flight send it was superseded
+                    entry.setIdempotencyKey(UUID.randomUUID().toString());
+                    entry.setUpdatedAt(Math.max(System.currentTimeMillis(), entry.getUpdatedAt() + 1));
+                    outboxDao.updateEntry(entry);
+                } else {
+                    outboxDao.deleteEntry(entry.getId());
+                    Log.d(TAG, "🧹 Dropped queued edit of report " + row.getId() + " - the server already has it");
+                }
+            }
+        }
+
+        void saveConflicts() {
+            if (!conflicts.isEmpty()) database.syncConflictDao().insertConflicts(conflicts);
+        }
+    }
+
+    private void inChunkTransaction(Runnable body) {
+        database.runInTransaction(() -> {
+            // Resets itself at COMMIT; a no-op while the cache runs with foreign_keys OFF
+            database.getOpenHelper().getWritableDatabase().execSQL("PRAGMA defer_foreign_keys = ON");
+            body.run();
+        });
+    }
+}
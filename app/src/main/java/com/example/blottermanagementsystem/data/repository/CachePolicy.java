@@ -0,0 +1,81 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ✅ CACHE POLICY
+ * Per-entity max-staleness for the local Room cache.
+ * Tracks when each cache key was last revalidated against Neon so repositories
+ * can decide whether a background refresh is needed.
+ */
+public class CachePolicy {
+    private static final String PREFS_NAME = "blotter_cache_policy";
+    private static final String KEY_FETCHED_PREFIX = "fetched_at_";
+    private static final String KEY_MAX_AGE_PREFIX = "max_age_";
+
+    // Entity types - only caches that revalidate through this policy get one.
+    // Case bundles keep their own in-memory expiry (CaseBundleRepository).
+    public static final String ENTITY_REPORTS = "reports";
+
+    private static final long MINUTE_MS = 60 * 1000L;
+    private static final long DEFAULT_MAX_AGE_MS = 5 * MINUTE_MS;
+    private static final Map<String, Long> DEFAULT_MAX_AGES = new HashMap<>();
+
+    static {
+        DEFAULT_MAX_AGES.put(ENTITY_REPORTS, 2 * MINUTE_MS);
+    }
+
+    private final SharedPreferences prefs;
+
+    public CachePolicy(Context context) {
+        prefs = context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * Max staleness for an entity type (override or default)
+     */
+    public long getMaxAgeMs(String entityType) {
+        Long fallback = DEFAULT_MAX_AGES.get(entityType);
+        return prefs.getLong(KEY_MAX_AGE_PREFIX + entityType, fallback != null ? fallback : DEFAULT_MAX_AGE_MS);
+    }
+
+    /**
+     * Override max staleness for an entity type (e.g. from settings)
+     */
+    public void setMaxAgeMs(String entityType, long maxAgeMs) {
+        prefs.edit().putLong(KEY_MAX_AGE_PREFIX + entityType, Math.max(0, maxAgeMs)).apply();
+    }
+
+    /**
+     * @param cacheKey entity type, optionally suffixed with a row id (e.g. "reports:42")
+     */
+    public boolean isStale(String entityType, String cacheKey) {
+        long fetchedAt = prefs.getLong(KEY_FETCHED_PREFIX + cacheKey, 0);
+        return System.currentTimeMillis() - fetchedAt > getMaxAgeMs(entityType);
+    }
+
+    public void markFresh(String cacheKey) {
+        prefs.edit().putLong(KEY_FETCHED_PREFIX + cacheKey, System.currentTimeMillis()).apply();
+    }
+
+    public void invalidate(String cacheKey) {
+        prefs.edit().remove(KEY_FETCHED_PREFIX + cacheKey).apply();
+    }
+
+    public void invalidateAll() {
+        SharedPreferences.Editor editor = prefs.edit();
+        for (String key : prefs.getAll().keySet()) {
+            if (key.startsWith(KEY_FETCHED_PREFIX)) {
+                editor.remove(key);
+            }
+        }
+        editor.apply();
+    }
+
+    public static String key(String entityType, int id) {
+        return entityType + ":" + id;
+    }
+}
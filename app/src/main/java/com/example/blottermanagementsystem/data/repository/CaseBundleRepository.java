@@ -0,0 +1,280 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.LruCache;
+import com.example.blottermanagementsystem.data.model.CaseBundle;
+import com.example.blottermanagementsystem.utils.ApiClient;
+import com.example.blottermanagementsystem.utils.ApiService;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * ✅ CASE BUNDLE REPOSITORY
+ * Loads everything a case screen shows from api/{witnesses,suspects,evidence,hearings,
+ * resolutions,kpforms,summons}/report/{reportId} in parallel instead of one after another,
+ * so opening a case takes as long as the slowest single call.
+ *
+ * - Parts are fetched on AppExecutors.io(), which is sized to the HTTP engine's per-host limit:
+ *   one case fans out fully, and flicking through several cases can't queue dozens of calls.
+ * - Each part is delivered as it arrives (onPartial) so screens render progressively.
+ * - Complete bundles are cached per reportId for CACHE_MAX_AGE_MS; concurrent loads of the
+ *   same case share one fan-out.
+ *
+ * Callbacks run on the main thread. Screens cancel(reportId, callback) when they are destroyed,
+ * so nothing is delivered to a dead activity and the fan-out stops holding on to it.
+ */
+public final class CaseBundleRepository {
+    private static final String TAG = "CaseBundleRepository";
+
+    private static final int CACHE_ENTRIES = 20;
+    private static final long CACHE_MAX_AGE_MS = 2 * 60 * 1000L;
+
+    private static volatile CaseBundleRepository instance;
+
+    public interface CaseBundleCallback {
+        /**
+         * A part arrived; the bundle holds every part loaded so far
+         */
+        void onPartial(CaseBundle bundle, CaseBundle.Part part);
+        /**
+         * Every part arrived or failed - check bundle.hasFailures()
+         */
+        void onSuccess(CaseBundle bundle);
+        /**
+         * Nothing could be loaded (offline, auth) - fall back to local data
+         */
+        void onError(String errorMessage);
+    }
+
+    private static final class CachedBundle {
+        final CaseBundle bundle;
+        final long loadedAt;
+
+        CachedBundle(CaseBundle bundle, long loadedAt) {
+            this.bundle = bundle;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * One load() call. Cancelled subscribers are skipped even if a delivery was already posted.
+     */
+    private static final class Subscriber {
+        final int reportId;
+        final CaseBundleCallback callback;
+        volatile boolean cancelled;
+
+        Subscriber(int reportId, CaseBundleCallback callback) {
+            this.reportId = reportId;
+            this.callback = callback;
+        }
+    }
+
+    private static final class Load {
+        final List<Subscriber> subscribers = new ArrayList<>();
+        final AtomicInteger remaining = new AtomicInteger(CaseBundle.Part.values().length);
+        CaseBundle bundle;
+        // Invalidated mid-flight - deliver the result but don't cache it
+        boolean stale;
+
+        Load(int reportId) {
+            bundle = CaseBundle.empty(reportId);
+        }
+    }
+
+    private final LruCache<Integer, CachedBundle> cache = new LruCache<>(CACHE_ENTRIES);
+    private final Map<Integer, Load> inFlight = new HashMap<>();
+    // Cache hits waiting for their posted delivery, so cancel() can still reach them
+    private final List<Subscriber> pendingHits = new ArrayList<>();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private CaseBundleRepository() {}
+
+    public static CaseBundleRepository getInstance() {
+        if (instance == null) {
+            synchronized (CaseBundleRepository.class) {
+                if (instance == null) {
+                    instance = new CaseBundleRepository();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Cached bundle if still fresh, else null
+     */
+    public CaseBundle getCached(int reportId) {
+        CachedBundle cached = cache.get(reportId);
+        if (cached == null || System.currentTimeMillis() - cached.loadedAt > CACHE_MAX_AGE_MS) return null;
+        return cached.bundle;
+    }
+
+    public void load(int reportId, CaseBundleCallback callback) {
+        Subscriber subscriber = new Subscriber(reportId, callback);
+        CaseBundle cached = getCached(reportId);
+        if (cached != null) {
+            Log.d(TAG, "✅ Case bundle " + reportId + " served from cache");
+            synchronized (inFlight) {
+                pendingHits.add(subscriber);
+            }
+            mainHandler.post(() -> {
+                synchronized (inFlight) {
+                    pendingHits.remove(subscriber);
+                }
+                if (!subscriber.cancelled) callback.onSuccess(cached);
+            });
+            return;
+        }
+
+        Load load;
+        synchronized (inFlight) {
+            load = inFlight.get(reportId);
+            if (load != null) {
+                // Join the running fan-out; replay what has arrived so far
+                load.subscribers.add(subscriber);
+                CaseBundle soFar = load.bundle;
+                for (CaseBundle.Part part : CaseBundle.Part.values()) {
+                    if (soFar.isLoaded(part)) {
+                        mainHandler.post(() -> {
+                            if (!subscriber.cancelled) callback.onPartial(soFar, part);
+                        });
+                    }
+                }
+                return;
+            }
+            load = new Load(reportId);
+            load.subscribers.add(subscriber);
+            inFlight.put(reportId, load);
+        }
+
+        Log.d(TAG, "🚀 Loading case bundle " + reportId + " (" + CaseBundle.Part.values().length + " calls in parallel)");
+        long startedAt = System.currentTimeMillis();
+        ApiService api = ApiClient.getApiService();
+        for (CaseBundle.Part part : CaseBundle.Part.values()) {
+            Load current = load;
+            AppExecutors.io().execute(() -> fetchPart(api, current, part, startedAt));
+        }
+    }
+
+    /**
+     * Stop delivering to a callback passed to load() - call from the screen's onDestroy().
+     * The fan-out keeps going for any other subscriber and still fills the cache.
+     */
+    public void cancel(int reportId, CaseBundleCallback callback) {
+        synchronized (inFlight) {
+            Load load = inFlight.get(reportId);
+            if (load != null) cancelIn(load.subscribers, reportId, callback);
+            cancelIn(pendingHits, reportId, callback);
+        }
+    }
+
+    private static void cancelIn(List<Subscriber> subscribers, int reportId, CaseBundleCallback callback) {
+        for (Iterator<Subscriber> it = subscribers.iterator(); it.hasNext(); ) {
+            Subscriber subscriber = it.next();
+            if (subscriber.reportId == reportId && subscriber.callback == callback) {
+                subscriber.cancelled = true;
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Drop one case - call after recording a witness, hearing, etc. for it
+     */
+    public void invalidate(int reportId) {
+        cache.remove(reportId);
+        synchronized (inFlight) {
+            // Its responses may predate the new row
+            Load load = inFlight.get(reportId);
+            if (load != null) load.stale = true;
+        }
+    }
+
+    public void invalidateAll() {
+        cache.evictAll();
+    }
+
+    private void fetchPart(ApiService api, Load load, CaseBundle.Part part, long startedAt) {
+        int reportId = load.bundle.getReportId();
+        List<?> rows = null;
+        boolean ok = false;
+        try {
+            Response<? extends List<?>> response = callFor(api, part, reportId).execute();
+            if (response.isSuccessful()) {
+                rows = response.body();
+                ok = true;
+            } else {
+                Log.w(TAG, "⚠️ " + part + " for case " + reportId + " failed: HTTP " + response.code());
+            }
+        } catch (Exception e) {
+            Log.w(TAG, "⚠️ " + part + " for case " + reportId + " failed: " + e.getMessage());
+        }
+
+        CaseBundle bundle;
+        List<Subscriber> subscribers;
+        boolean complete;
+        boolean stale;
+        synchronized (inFlight) {
+            load.bundle = ok ? load.bundle.with(part, rows) : load.bundle.withFailure(part);
+            bundle = load.bundle;
+            complete = load.remaining.decrementAndGet() == 0;
+            if (complete) inFlight.remove(reportId);
+            subscribers = new ArrayList<>(load.subscribers);
+            stale = load.stale;
+        }
+
+        if (bundle.isLoaded(part)) {
+            mainHandler.post(() -> {
+                for (Subscriber subscriber : subscribers) {
+                    if (!subscriber.cancelled) subscriber.callback.onPartial(bundle, part);
+                }
+            });
+        }
+        if (!complete) return;
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        boolean anyLoaded = false;
+        for (CaseBundle.Part p : CaseBundle.Part.values()) anyLoaded |= bundle.isLoaded(p);
+        if (!anyLoaded) {
+            Log.e(TAG, "❌ Case bundle " + reportId + " failed entirely after " + elapsed + "ms");
+            mainHandler.post(() -> {
+                for (Subscriber subscriber : subscribers) {
+                    if (!subscriber.cancelled) subscriber.callback.onError("Could not load case details");
+                }
+            });
+            return;
+        }
+
+        // Only cache a full, current bundle - a partial one would hide the failed parts until it expires
+        if (!bundle.hasFailures() && !stale) cache.put(reportId, new CachedBundle(bundle, System.currentTimeMillis()));
+        Log.d(TAG, "✅ Case bundle " + reportId + " loaded in " + elapsed + "ms");
+        mainHandler.post(() -> {
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.cancelled) subscriber.callback.onSuccess(bundle);
+            }
+        });
+    }
+
+    private static Call<? extends List<?>> callFor(ApiService api, CaseBundle.Part part, int reportId) {
+        switch (part) {
+            case WITNESSES: return api.getWitnessesByReportId(reportId);
+            case SUSPECTS: return api.getSuspectsByReportId(reportId);
+            case EVIDENCE: return api.getEvidenceByReportId(reportId);
+            case HEARINGS: return api.getHearingsByReportId(reportId);
+            case RESOLUTIONS: return api.getResolutionsByReportId(reportId);
+            case KP_FORMS: return api.getKPFormsByReportId(reportId);
+            case SUMMONS: return api.getSummonsByReportId(reportId);
+            default: throw new IllegalArgumentException("Unknown part " + part);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.content.Context;
+import android.util.Log;
+import com.example.blottermanagementsystem.data.api.ApiConfig;
+import com.example.blottermanagementsystem.data.api.ApiResponse;
+import com.example.blottermanagementsystem.data.api.BlotterApiService;
+import com.example.blottermanagementsystem.data.dao.SyncBaseDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.utils.TaskScope;
+import java.io.IOException;
+import java.util.List;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * ✅ DELTA SYNC REPOSITORY
+ * Cursor-based incremental sync for reports, users and officers.
+ * Each round trip only carries rows changed or deleted since the stored
+ * high-water marks; every page is applied in a single Room transaction and the
+ * cursors are advanced only after that transaction commits.
+ * Changed reports and users are three-way merged into the cache (BulkSyncWriter),
+ * so local edits that haven't reached the server yet survive a sync.
+ *
+ * Blocking - call from a background thread.
+ */
+public class DeltaSyncRepository {
+    private static final String TAG = "DeltaSyncRepository";
+    private static final int PAGE_LIMIT = 500;
+    // Guard against a server that keeps answering hasMore=true
+    private static final int MAX_PAGES_PER_SYNC = 200;
+
+    // Flipped off when the backend answers 404/501 so callers stop probing and use full snapshots
+    private static volatile boolean endpointAvailable = true;
+
+    private final BlotterApiService apiService;
+    private final BlotterDatabase database;
+    private final SyncCursorStore cursorStore;
+    private final SyncBaseDao syncBaseDao;
+    private final BulkSyncWriter syncWriter;
+
+    public DeltaSyncRepository(Context context) {
+        this(ApiConfig.getApiService(), BlotterDatabase.getDatabase(context), new SyncCursorStore(context));
+    }
+
+    DeltaSyncRepository(BlotterApiService apiService, BlotterDatabase database, SyncCursorStore cursorStore) {
+        this.apiService = apiService;
+        this.database = database;
+        this.cursorStore = cursorStore;
+        this.syncBaseDao = database.syncBaseDao();
+        this.syncWriter = new BulkSyncWriter(database);
+    }
+
+    /**
+     * Pull all pending changes. Returns the number of rows applied (upserts + deletes).
+     * @throws IOException on network failure or a non-successful response; cursors are left
+     *                     at the last fully applied page so the next call resumes from there
+     */
+    public int syncNow() throws IOException {
+        return syncNow(null);
+    }
+
+    /**
+     * Like syncNow(), with each page request cancelled if scope ends (e.g. its screen closes).
+     * Pages already applied stay applied; the next sync resumes from their cursors.
+     */
+    public int syncNow(TaskScope scope) throws IOException {
+        int applied = 0;
+        for (int page = 0; page < MAX_PAGES_PER_SYNC; page++) {
+            Call<ApiResponse<BlotterApiService.SyncDelta>> call = apiService.syncChanges(
+                cursorStore.getCursor(SyncCursorStore.ENTITY_REPORTS),
+                cursorStore.getCursor(SyncCursorStore.ENTITY_USERS),
+                cursorStore.getCursor(SyncCursorStore.ENTITY_OFFICERS),
+                PAGE_LIMIT
+            );
+            Response<ApiResponse<BlotterApiService.SyncDelta>> response =
+                (scope != null ? scope.track(call) : call).execute();
+
+            if (response.code() == 404 || response.code() == 501) {
+                endpointAvailable = false;
+                throw new IOException("Delta sync not supported by backend: " + response.code());
+            }
+            if (!response.isSuccessful() || response.body() == null || !response.body().isSuccess()) {
+                throw new IOException("Delta sync failed: " + response.code());
+            }
+
+            BlotterApiService.SyncDelta delta = response.body().getData();
+            if (delta == null) break;
+
+            applied += applyDelta(delta);
+            cursorStore.saveCursors(delta.reportsCursor, delta.usersCursor, delta.officersCursor);
+
+            if (!delta.hasMore) break;
+        }
+        Log.d(TAG, "✅ Delta sync applied " + applied + " changes");
+        return applied;
+    }
+
+    public static boolean isEndpointAvailable() {
+        return endpointAvailable;
+    }
+
+    int applyDelta(BlotterApiService.SyncDelta delta) {
+        int[] count = {0};
+        database.runInTransaction(() -> {
+            if (notEmpty(delta.users)) {
+                syncWriter.mergeUsers(delta.users);
+                count[0] += delta.users.size();
+            }
+            if (notEmpty(delta.officers)) {
+                database.officerDao().upsertOfficers(delta.officers);
+                count[0] += delta.officers.size();
+            }
+            if (notEmpty(delta.reports)) {
+                syncWriter.mergeReports(delta.reports);
+                count[0] += delta.reports.size();
+            }
+            if (notEmpty(delta.deletedReportIds)) {
+                database.blotterReportDao().deleteReportsByIds(delta.deletedReportIds);
+                syncBaseDao.deleteReportBases(delta.deletedReportIds);
+                count[0] += delta.deletedReportIds.size();
+            }
+            if (notEmpty(delta.deletedOfficerIds)) {
+                database.officerDao().deleteOfficersByIds(delta.deletedOfficerIds);
+                count[0] += delta.deletedOfficerIds.size();
+            }
+            if (notEmpty(delta.deletedUserIds)) {
+                database.userDao().deleteUsersByIds(delta.deletedUserIds);
+                syncBaseDao.deleteUserBases(delta.deletedUserIds);
+                count[0] += delta.deletedUserIds.size();
+            }
+        });
+        return count[0];
+    }
+
+    private static boolean notEmpty(List<?> list) {
+        return list != null && !list.isEmpty();
+    }
+}
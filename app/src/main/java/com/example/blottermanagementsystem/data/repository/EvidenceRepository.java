@@ -8,6 +8,7 @@ import com.example.blottermanagementsystem.data.dao.EvidenceDao;
 import com.example.blottermanagementsystem.data.entity.Evidence;
 import com.example.blottermanagementsystem.utils.FirebaseImageManager;
 import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import java.util.List;
 
 /**
@@ -67,7 +68,7 @@ public class EvidenceRepository {
     public void getEvidenceForReport(int reportId, RepositoryCallback<List<Evidence>> callback) {
         Log.d(TAG, "📥 Loading evidence for report: " + reportId);
         
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 List<Evidence> evidence = localDao.getEvidenceByReportId(reportId);
                 Log.d(TAG, "✅ Loaded " + evidence.size() + " evidence items");
@@ -83,7 +84,7 @@ public class EvidenceRepository {
     public void deleteEvidence(Evidence evidence, RepositoryCallback<String> callback) {
         Log.d(TAG, "🗑️ Deleting evidence: " + evidence.getId());
         
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Delete from Firebase
                 if (evidence.getPhotoUri() != null) {
@@ -121,7 +122,7 @@ public class EvidenceRepository {
     
     // ✅ PRIVATE: Save evidence hybrid (local + Neon)
     private void saveEvidenceHybrid(Evidence evidence, RepositoryCallback<Evidence> callback) {
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Save to local database
                 localDao.insertEvidence(evidence);
@@ -0,0 +1,397 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+import androidx.lifecycle.LiveData;
+import com.example.blottermanagementsystem.data.api.JsonCodec;
+import com.example.blottermanagementsystem.data.dao.BlotterReportDao;
+import com.example.blottermanagementsystem.data.dao.OutboxDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.OutboxEntry;
+import com.example.blottermanagementsystem.data.entity.Resolution;
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.example.blottermanagementsystem.data.entity.SyncConflict;
+import com.example.blottermanagementsystem.data.entity.Witness;
+import com.example.blottermanagementsystem.utils.ApiClient;
+import com.example.blottermanagementsystem.utils.ApiService;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import retrofit2.Response;
+
+/**
+ * ✅ OUTBOX REPOSITORY - DURABLE MUTATIONS
+ * Screens save to Room and journal the mutation here instead of calling the API directly,
+ * so nothing an officer enters is lost to a dropped connection.
+ * Mutations are coalesced per entity (see OutboxDao.enqueue) and replayed oldest-first in
+ * batches whenever NetworkMonitor reports connectivity. Every request carries the entry's
+ * Idempotency-Key, so a create that reached the server before the connection dropped is
+ * never filed twice.
+ * Entries carry their author's user id and are only replayed while that user is signed in;
+ * a 401/403 pauses the queue until the next login instead of discarding the edit.
+ */
+public class OutboxRepository {
+    private static final String TAG = "OutboxRepository";
+
+    private static final int BATCH_SIZE = 25;
+
+    private static final int SENT = 0;
+    private static final int REJECTED = 1;
+    private static final int RETRY_LATER = 2;
+
+    private static volatile OutboxRepository INSTANCE;
+
+    // One replay at a time, in journal order
+    private static final AppExecutors.SerialExecutor executor = AppExecutors.serial("outbox", AppExecutors.io());
+
+    private final BlotterDatabase database;
+    private final OutboxDao outboxDao;
+    private final BlotterReportDao reportDao;
+    private final NetworkMonitor networkMonitor;
+    private final PreferencesManager preferences;
+    private final Gson gson = JsonCodec.gson();
+    private final AtomicBoolean replayQueued = new AtomicBoolean(false);
+    private boolean monitoring;
+
+    // Held here - SharedPreferences keeps listeners weakly
+    private final SharedPreferences.OnSharedPreferenceChangeListener sessionListener = (prefs, key) -> {
+        if (PreferencesManager.isSessionKey(key)) replay();
+    };
+
+    private OutboxRepository(Context context) {
+        this.database = BlotterDatabase.getDatabase(context);
+        this.outboxDao = database.outboxDao();
+        this.reportDao = database.blotterReportDao();
+        this.networkMonitor = new NetworkMonitor(context.getApplicationContext());
+        this.preferences = new PreferencesManager(context.getApplicationContext());
+    }
+
+    public static OutboxRepository getInstance(Context context) {
+        if (INSTANCE == null) {
+            synchronized (OutboxRepository.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new OutboxRepository(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Replay whenever the device comes back online or a user logs in. Called once from BlotterApplication.
+     */
+    public synchronized void start() {
+        if (monitoring) return;
+        monitoring = true;
+        // Queued before entries had an author - the last user to sign in on this device made them
+        int lastUserId = preferences.getLastUserId();
+        if (lastUserId > 0) {
+            executor.execute(() -> {
+                int claimed = outboxDao.claimUnowned(lastUserId);
+                if (claimed > 0) Log.d(TAG, "📝 Assigned " + claimed + " queued mutations to user " + lastUserId);
+            });
+        }
+        preferences.registerSessionListener(sessionListener);
+        networkMonitor.startMonitoring(new NetworkMonitor.NetworkCallback() {
+            @Override
+            public void onNetworkAvailable() {
+                Log.d(TAG, "🌐 Network available - replaying outbox");
+                replay();
+            }
+
+            @Override
+            public void onNetworkLost() {
+                Log.d(TAG, "📴 Network lost - mutations will stay queued");
+            }
+        });
+        replay();
+    }
+
+    // ============ JOURNAL ============
+    // Blocking Room writes - call from the same background thread that saved the local row.
+
+    public void queueReport(String operation, BlotterReport report) {
+        enqueue(OutboxEntry.TYPE_REPORT, operation, report.getId(), report.getId(), report);
+    }
+
+    public void queueWitness(String operation, Witness witness) {
+        enqueue(OutboxEntry.TYPE_WITNESS, operation, witness.getId(), witness.getBlotterReportId(), witness);
+    }
+
+    public void queueSuspect(String operation, Suspect suspect) {
+        enqueue(OutboxEntry.TYPE_SUSPECT, operation, suspect.getId(), suspect.getBlotterReportId(), suspect);
+    }
+
+    public void queueEvidence(String operation, Evidence evidence) {
+        enqueue(OutboxEntry.TYPE_EVIDENCE, operation, evidence.getId(), evidence.getBlotterReportId(), evidence);
+    }
+
+    public void queueHearing(String operation, Hearing hearing) {
+        enqueue(OutboxEntry.TYPE_HEARING, operation, hearing.getId(), hearing.getBlotterReportId(), hearing);
+    }
+
+    public void queueResolution(String operation, Resolution resolution) {
+        enqueue(OutboxEntry.TYPE_RESOLUTION, operation, resolution.getId(), resolution.getBlotterReportId(), resolution);
+    }
+
+    private void enqueue(String entityType, String operation, int entityId, int reportId, Object entity) {
+        String payload = OutboxEntry.OP_DELETE.equals(operation) ? null : gson.toJson(entity);
+        OutboxEntry entry = new OutboxEntry(entityType, entityId, reportId, operation, payload);
+        entry.setUserId(preferences.getUserId());
+        outboxDao.enqueue(entry);
+        Log.d(TAG, "📝 Queued " + operation + " " + entityType + " " + entityId);
+        replay();
+    }
+
+    // Blocking Room reads for the signed-in user's entries - call from a background thread
+
+    public int getPendingCount() {
+        return outboxDao.getPendingCount(preferences.getUserId());
+    }
+
+    public int getFailedCount() {
+        return outboxDao.getFailedCount(preferences.getUserId());
+    }
+
+    /**
+     * Put the signed-in user's entries the server rejected back in the queue
+     * (e.g. after they fixed the data). Called from SettingsActivity.
+     */
+    public void retryFailed() {
+        executor.execute(() -> {
+            int count = outboxDao.retryFailed(preferences.getUserId());
+            Log.d(TAG, "🔁 Re-queued " + count + " failed mutations");
+            drain();
+        });
+    }
+
+    // ============ CONFLICTS ============
+    // Queued edits a sync overwrote (see BulkSyncWriter) - shown so the user can redo them.
+
+    public LiveData<Integer> observeConflictCount() {
+        return database.syncConflictDao().observeOpenConflictCount();
+    }
+
+    /**
+     * Blocking Room read - call from a background thread
+     */
+    public List<SyncConflict> getOpenConflicts() {
+        return database.syncConflictDao().getOpenConflicts();
+    }
+
+    public void dismissConflict(long conflictId) {
+        AppExecutors.disk().execute(() -> database.syncConflictDao().dismiss(conflictId));
+    }
+
+    // ============ REPLAY ============
+
+    /**
+     * Schedule a replay if online and signed in. Calls made while one is already waiting to start are folded into it.
+     */
+    public void replay() {
+        if (!networkMonitor.isNetworkAvailable() || !preferences.isLoggedIn()) return;
+        if (!replayQueued.compareAndSet(false, true)) return;
+        executor.execute(() -> {
+            replayQueued.set(false);
+            drain();
+        });
+    }
+
+    private void drain() {
+        try {
+            int sent = 0;
+            List<OutboxEntry> batch;
+            while (networkMonitor.isNetworkAvailable()
+                    && !(batch = nextBatch()).isEmpty()) {
+                for (OutboxEntry entry : batch) {
+                    // Session changed mid-batch - never send one user's edit with another's JWT
+                    if (!isAuthor(entry)) return;
+                    int result = send(entry);
+                    if (result == RETRY_LATER) {
+                        // Server down or connection gone - keep order and wait for the next trigger
+                        Log.w(TAG, "⏸️ Outbox replay paused after " + sent + " sent: " + entry.getLastError());
+                        return;
+                    }
+                    if (result == SENT) sent++;
+                }
+            }
+            if (sent > 0) Log.d(TAG, "✅ Outbox replayed " + sent + " mutations");
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Outbox replay failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The signed-in user's next entries; nothing once they log out or another user logs in
+     */
+    private List<OutboxEntry> nextBatch() {
+        if (!preferences.isLoggedIn()) return Collections.emptyList();
+        return outboxDao.getPendingBatch(preferences.getUserId(), BATCH_SIZE);
+    }
+
+    private boolean isAuthor(OutboxEntry entry) {
+        return preferences.isLoggedIn() && entry.getUserId() == preferences.getUserId();
+    }
+
+    private int send(OutboxEntry entry) {
+        ApiService api = ApiClient.getApiService();
+        String url = collectionPath(entry.getEntityType());
+        String key = entry.getIdempotencyKey();
+        String op = entry.getOperation();
+
+        try {
+            Response<?> response;
+            if (OutboxEntry.OP_CREATE.equals(op)) {
+                response = api.replayCreate(url, key, requestBody(entry)).execute();
+            } else if (OutboxEntry.OP_UPDATE.equals(op)) {
+                response = api.replayUpdate(url + "/" + entry.getEntityId(), key, requestBody(entry)).execute();
+            } else {
+                response = api.replayDelete(url + "/" + entry.getEntityId(), key).execute();
+            }
+
+            int code = response.code();
+            // 409 on create: the server already has it. 404 on delete: already gone.
+            if (response.isSuccessful()
+                    || (code == 409 && OutboxEntry.OP_CREATE.equals(op))
+                    || (code == 404 && OutboxEntry.OP_DELETE.equals(op))) {
+                Object body = response.body();
+                onDelivered(entry, body instanceof JsonElement ? (JsonElement) body : null);
+                return SENT;
+            }
+
+            String error = "HTTP " + code;
+            // 401/403: the session expired or changed - the edit is still valid, resend after the next login
+            if (code == 401 || code == 403 || code == 408 || code == 429 || code >= 500) {
+                outboxDao.recordAttempt(entry.getId(), error);
+                entry.setLastError(error);
+                return RETRY_LATER;
+            }
+            Log.e(TAG, "❌ " + op + " " + entry.getEntityType() + " " + entry.getEntityId() + " rejected: " + error);
+            outboxDao.markFailed(entry.getId(), error);
+            return REJECTED;
+        } catch (IOException e) {
+            outboxDao.recordAttempt(entry.getId(), e.getMessage());
+            entry.setLastError(e.getMessage());
+            return RETRY_LATER;
+        }
+    }
+
+    /**
+     * The queued payload, with the parent report id patched in - it may have been
+     * re-mapped to a server id after the child was queued.
+     */
+    private JsonElement requestBody(OutboxEntry entry) {
+        JsonElement body = JsonParser.parseString(entry.getPayload() != null ? entry.getPayload() : "{}");
+        if (!OutboxEntry.TYPE_REPORT.equals(entry.getEntityType()) && body.isJsonObject()) {
+            body.getAsJsonObject().addProperty("blotterReportId", entry.getReportId());
+        }
+        // The temporary local id means nothing to the server - it assigns its own
+        if (OutboxEntry.OP_CREATE.equals(entry.getOperation()) && body.isJsonObject()) {
+            body.getAsJsonObject().remove("id");
+        }
+        return body;
+    }
+
+    private void onDelivered(OutboxEntry entry, JsonElement body) {
+        // The server changed - don't hand out a memoized pre-mutation GET
+        ApiClient.invalidateCoalescedReads();
+        CaseBundleRepository.getInstance().invalidateAll();
+        boolean isReport = OutboxEntry.TYPE_REPORT.equals(entry.getEntityType());
+        JsonObject created = OutboxEntry.OP_CREATE.equals(entry.getOperation()) ? unwrap(body) : null;
+        BlotterReport serverReport = isReport ? parseReport(created) : null;
+        int serverId = isReport ? (serverReport != null ? serverReport.getId() : 0) : parseId(created);
+
+        database.runInTransaction(() -> {
+            int entityId = entry.getEntityId();
+            // Created here under a temporary negative id - switch to the one the server assigned
+            if (serverId > 0 && serverId != entityId) {
+                if (isReport) moveReport(entityId, serverId);
+                else outboxDao.remapChildId(entry.getEntityType(), entityId, serverId);
+                entityId = serverId;
+            }
+
+            if (outboxDao.deleteIfUnchanged(entry.getId(), entry.getUpdatedAt()) > 0) {
+                if (serverReport != null) reportDao.upsertReport(serverReport);
+                return;
+            }
+
+            // Edited while the create was in flight: the case now exists, so the newer payload goes as an update
+            OutboxEntry queued = outboxDao.getEntry(entry.getEntityType(), entityId);
+            if (OutboxEntry.OP_CREATE.equals(entry.getOperation())
+                    && queued != null && OutboxEntry.OP_CREATE.equals(queued.getOperation())) {
+                queued.setOperation(OutboxEntry.OP_UPDATE);
+                queued.setIdempotencyKey(UUID.randomUUID().toString());
+                outboxDao.updateEntry(queued);
+            }
+        });
+    }
+
+    /**
+     * Re-key a report filed on this device (temporary negative id) to the server's id,
+     * with everything that points at it
+     */
+    private void moveReport(int localId, int serverId) {
+        BlotterReport local = reportDao.getReportById(localId);
+        if (local != null) {
+            reportDao.deleteReport(local);
+            local.setId(serverId);
+            reportDao.insertReport(local);
+        }
+        outboxDao.remapReportId(localId, serverId);
+        Log.d(TAG, "🔀 Report " + localId + " is " + serverId + " on the server");
+    }
+
+    // Accepts both a bare entity and the { success, data } envelope
+    private static JsonObject unwrap(JsonElement body) {
+        if (body == null || !body.isJsonObject()) return null;
+        JsonObject json = body.getAsJsonObject();
+        if (json.has("data") && json.get("data").isJsonObject()) {
+            json = json.getAsJsonObject("data");
+        }
+        return json;
+    }
+
+    private static int parseId(JsonObject json) {
+        try {
+            return json != null && json.has("id") ? json.get("id").getAsInt() : 0;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private BlotterReport parseReport(JsonObject json) {
+        if (json == null) return null;
+        try {
+            BlotterReport report = gson.fromJson(json, BlotterReport.class);
+            return report != null && report.getId() > 0 ? report : null;
+        } catch (Exception e) {
+            Log.w(TAG, "⚠️ Unreadable create response: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String collectionPath(String entityType) {
+        switch (entityType) {
+            case OutboxEntry.TYPE_WITNESS: return "api/witnesses";
+            case OutboxEntry.TYPE_SUSPECT: return "api/suspects";
+            case OutboxEntry.TYPE_EVIDENCE: return "api/evidence";
+            case OutboxEntry.TYPE_HEARING: return "api/hearings";
+            case OutboxEntry.TYPE_RESOLUTION: return "api/resolutions";
+            case OutboxEntry.TYPE_REPORT:
+            default: return "api/reports";
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.BatteryManager;
+import android.util.Log;
+import com.example.blottermanagementsystem.data.api.HttpCache;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Officer;
+import com.example.blottermanagementsystem.data.model.CaseBundle;
+import com.example.blottermanagementsystem.utils.ApiClient;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.utils.PreferencesManager;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import retrofit2.Response;
+
+/**
+ * ✅ PREFETCH SCHEDULER - WARM THE CACHE WHILE ONLINE
+ * When the device comes back online, or is plugged in on unmetered Wi-Fi, an officer's
+ * assigned cases, upcoming hearings and case bundles are fetched ahead of time:
+ * - assigned reports are merged into Room (BulkSyncWriter - unsent local edits survive)
+ * - each case bundle (witnesses, suspects, evidence, hearings, ...) is written into Room
+ *   too, so case screens still show them in the field
+ * - the officer's upcoming hearings list lands in the HTTP disk cache, which HttpCache
+ *   serves for that screen when the network is gone
+ *
+ * Every run has a byte and time budget (bigger on Wi-Fi + charging), checked before each
+ * request, and stops as soon as connectivity drops. Runs are at least MIN_INTERVAL_MS apart.
+ */
+public class PrefetchScheduler {
+    private static final String TAG = "PrefetchScheduler";
+
+    // Let a flapping connection settle (and the outbox replay go first)
+    private static final long SETTLE_DELAY_MS = 5_000;
+    private static final long MIN_INTERVAL_MS = 15 * 60 * 1000L;
+    private static final int MAX_CASES = 30;
+
+    private static final Budget METERED = new Budget(1024 * 1024, 20_000);
+    private static final Budget UNMETERED_CHARGING = new Budget(8 * 1024 * 1024, 90_000);
+
+    private static volatile PrefetchScheduler INSTANCE;
+
+    // One run at a time; delays are timed on the shared scheduler, not slept
+    private static final AppExecutors.SerialExecutor executor = AppExecutors.serial("prefetch", AppExecutors.io());
+
+    private final Context context;
+    private final BlotterDatabase database;
+    private final NetworkMonitor networkMonitor;
+    private final PreferencesManager preferencesManager;
+
+    private ScheduledFuture<?> pending;
+    private volatile boolean online;
+    private volatile long lastRunAt;
+    private boolean monitoring;
+
+    /**
+     * Byte and time limits for one run
+     */
+    static final class Budget {
+        final long maxBytes;
+        final long maxMillis;
+
+        Budget(long maxBytes, long maxMillis) {
+            this.maxBytes = maxBytes;
+            this.maxMillis = maxMillis;
+        }
+    }
+
+    private PrefetchScheduler(Context context) {
+        this.context = context;
+        this.database = BlotterDatabase.getDatabase(context);
+        this.networkMonitor = new NetworkMonitor(context);
+        this.preferencesManager = new PreferencesManager(context);
+    }
+
+    public static PrefetchScheduler getInstance(Context context) {
+        if (INSTANCE == null) {
+            synchronized (PrefetchScheduler.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new PrefetchScheduler(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Prefetch on reconnect and when the charger goes in. Called once from BlotterApplication.
+     */
+    public synchronized void start() {
+        if (monitoring) return;
+        monitoring = true;
+        networkMonitor.startMonitoring(new NetworkMonitor.NetworkCallback() {
+            @Override
+            public void onNetworkAvailable() {
+                online = true;
+                schedule("network available");
+            }
+
+            @Override
+            public void onNetworkLost() {
+                online = networkMonitor.isNetworkAvailable();
+                if (!online) cancelPending();
+            }
+        });
+        context.registerReceiver(new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                if (networkMonitor.isNetworkUnmetered()) schedule("charging on unmetered network");
+            }
+        }, new IntentFilter(Intent.ACTION_POWER_CONNECTED));
+    }
+
+    private synchronized void schedule(String reason) {
+        if (pending != null && !pending.isDone()) return;
+        if (System.currentTimeMillis() - lastRunAt < MIN_INTERVAL_MS) return;
+        Log.d(TAG, "⏳ Prefetch scheduled (" + reason + ")");
+        pending = AppExecutors.scheduler().schedule(() -> executor.execute(this::run), SETTLE_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void cancelPending() {
+        if (pending != null) pending.cancel(false);
+        pending = null;
+    }
+
+    private void run() {
+        try {
+            prefetch();
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Prefetch failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void prefetch() {
+        if (!online || !networkMonitor.isNetworkAvailable()) return;
+        if (!preferencesManager.isLoggedIn()) return;
+
+        Officer officer = database.officerDao().getOfficerByUserId(preferencesManager.getUserId());
+        if (officer == null) return; // Only officers have assigned cases to take into the field
+
+        lastRunAt = System.currentTimeMillis();
+        Budget budget = networkMonitor.isNetworkUnmetered() && isCharging() ? UNMETERED_CHARGING : METERED;
+        long startBytes = HttpCache.stats().getNetworkBytes();
+        long deadline = lastRunAt + budget.maxMillis;
+
+        int reports = 0;
+        int bundles = 0;
+        if (withinBudget(budget, startBytes, deadline)) reports = fetchAssignedReports(officer.getId());
+        if (withinBudget(budget, startBytes, deadline)) fetchUpcomingHearings();
+        for (BlotterReport report : casesToWarm(officer.getId())) {
+            if (!withinBudget(budget, startBytes, deadline)) break;
+            if (fetchBundle(report.getId(), deadline)) bundles++;
+        }
+
+        long bytes = HttpCache.stats().getNetworkBytes() - startBytes;
+        Log.d(TAG, "✅ Prefetched " + reports + " reports, " + bundles + " case bundles - "
+            + bytes / 1024 + "KB in " + (System.currentTimeMillis() - lastRunAt) + "ms");
+    }
+
+    /**
+     * Newest page of the officer's reports into Room. Backends without the paged endpoint
+     * (see ReportPagingSource) get the full list, filtered to the officer's cases.
+     */
+    private int fetchAssignedReports(int officerId) {
+        try {
+            if (ReportPagingSource.isRemotePagingAvailable()) {
+                Response<List<BlotterReport>> response = ApiClient.getApiService().getReportsPage(
+                    Long.MAX_VALUE, Integer.MAX_VALUE, "older", MAX_CASES, null, null, officerId
+                ).execute();
+                if (response.code() != 404 && response.code() != 501) {
+                    List<BlotterReport> page = response.body();
+                    if (!response.isSuccessful() || page == null) return 0;
+                    return new BulkSyncWriter(database).applyReports(page);
+                }
+                ReportPagingSource.markRemotePagingUnavailable();
+            }
+            List<BlotterReport> assigned = fetchAssignedFromFullList(officerId);
+            return assigned != null ? new BulkSyncWriter(database).applyReports(assigned) : 0;
+        } catch (Exception e) {
+            Log.w(TAG, "⚠️ Assigned reports prefetch failed: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private List<BlotterReport> fetchAssignedFromFullList(int officerId) throws IOException {
+        Response<List<BlotterReport>> response = ApiClient.getApiService().getAllReports().execute();
+        List<BlotterReport> all = response.body();
+        if (!response.isSuccessful() || all == null) return null;
+        List<BlotterReport> assigned = new ArrayList<>();
+        for (BlotterReport report : all) {
+            if (isAssignedTo(report, officerId)) assigned.add(report);
+        }
+        return assigned;
+    }
+
+    private static boolean isAssignedTo(BlotterReport report, int officerId) {
+        if (report.getAssignedOfficerId() != null && report.getAssignedOfficerId() == officerId) return true;
+        if (report.getAssignedOfficerIds() == null) return false;
+        for (String id : report.getAssignedOfficerIds().split(",")) {
+            if (id.trim().equals(String.valueOf(officerId))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Just issued - the untyped response has no table of its own, so the HTTP cache keeps it
+     */
+    private void fetchUpcomingHearings() {
+        try {
+            ApiClient.getApiService().getUserHearings(String.valueOf(preferencesManager.getUserId())).execute();
+        } catch (Exception e) {
+            Log.w(TAG, "⚠️ Hearings prefetch failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Open cases first, newest first - resolved ones only if the budget allows
+     */
+    private List<BlotterReport> casesToWarm(int officerId) {
+        List<BlotterReport> open = new ArrayList<>();
+        List<BlotterReport> closed = new ArrayList<>();
+        for (BlotterReport report : database.blotterReportDao().getReportsByOfficerId(officerId)) {
+            String status = report.getStatus() != null ? report.getStatus().toUpperCase() : "";
+            if ("RESOLVED".equals(status) || "CLOSED".equals(status)) closed.add(report);
+            else open.add(report);
+        }
+        open.addAll(closed);
+        return open.size() > MAX_CASES ? open.subList(0, MAX_CASES) : open;
+    }
+
+    /**
+     * Blocks this (prefetch) thread until the bundle's fan-out completes or the budget runs out,
+     * then writes whatever parts arrived into Room
+     */
+    private boolean fetchBundle(int reportId, long deadline) {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<CaseBundle> result = new AtomicReference<>();
+        CaseBundleRepository.CaseBundleCallback callback = new CaseBundleRepository.CaseBundleCallback() {
+            @Override
+            public void onPartial(CaseBundle bundle, CaseBundle.Part part) {}
+
+            @Override
+            public void onSuccess(CaseBundle bundle) {
+                result.set(bundle);
+                done.countDown();
+            }
+
+            @Override
+            public void onError(String errorMessage) {
+                done.countDown();
+            }
+        };
+        CaseBundleRepository.getInstance().load(reportId, callback);
+        try {
+            if (!done.await(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS)) {
+                CaseBundleRepository.getInstance().cancel(reportId, callback);
+            }
+        } catch (InterruptedException e) {
+            CaseBundleRepository.getInstance().cancel(reportId, callback);
+            Thread.currentThread().interrupt();
+        }
+
+        // Callbacks run on the main thread - the Room write happens here instead
+        CaseBundle bundle = result.get();
+        if (bundle == null) return false;
+        new BulkSyncWriter(database).applyCaseBundle(bundle);
+        return !bundle.hasFailures();
+    }
+
+    private boolean withinBudget(Budget budget, long startBytes, long deadline) {
+        if (!online) {
+            Log.d(TAG, "📴 Network lost - prefetch stopped");
+            return false;
+        }
+        if (System.currentTimeMillis() >= deadline) return false;
+        return HttpCache.stats().getNetworkBytes() - startBytes < budget.maxBytes;
+    }
+
+    private boolean isCharging() {
+        Intent battery = context.registerReceiver(null, new IntentFilter(Intent.ACTION_BATTERY_CHANGED));
+        int plugged = battery != null ? battery.getIntExtra(BatteryManager.EXTRA_PLUGGED, 0) : 0;
+        return plugged != 0;
+    }
+}
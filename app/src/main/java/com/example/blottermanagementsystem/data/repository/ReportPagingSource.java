@@ -0,0 +1,172 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.content.Context;
+import android.util.Log;
+import com.example.blottermanagementsystem.data.dao.BlotterReportDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.model.StatusCount;
+import com.example.blottermanagementsystem.utils.ApiClient;
+import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import retrofit2.Response;
+
+/**
+ * ✅ REPORT PAGING SOURCE
+ * Keyset pagination over (dateFiled, id) for the View*Reports screens.
+ * Pages come from the local Room cache; when the cache runs out before a page
+ * is full, the next page is pulled from the API, cached, and re-read locally.
+ * Search terms go through the FTS index (prefix match per word) instead of LIKE scans.
+ *
+ * Blocking - call from a background thread.
+ */
+public class ReportPagingSource {
+    private static final String TAG = "ReportPagingSource";
+
+    public static final int SCOPE_ALL = 0;
+    public static final int SCOPE_USER = 1;
+    public static final int SCOPE_OFFICER = 2;
+
+    // Flipped off when the backend has no paged endpoint (404/501)
+    private static volatile boolean remotePagingAvailable = true;
+
+    private final BlotterReportDao reportDao;
+    private final BlotterDatabase database;
+    private final NetworkMonitor networkMonitor;
+
+    public ReportPagingSource(Context context) {
+        this.database = BlotterDatabase.getDatabase(context);
+        this.reportDao = database.blotterReportDao();
+        this.networkMonitor = new NetworkMonitor(context.getApplicationContext());
+    }
+
+    /**
+     * Load up to {@code limit} reports after the anchor, in display order.
+     *
+     * @param anchor    last item already shown in that direction, or null for the first page
+     * @param forward   true = continue towards the end of the list, false = towards the start
+     * @return reports in list order (ready to append when forward, to prepend when not)
+     */
+    public List<BlotterReport> loadPage(ReportQuery query, BlotterReport anchor, boolean forward, int limit) {
+        // Newest-first lists move towards older rows when scrolling forward
+        boolean older = query.newestFirst == forward;
+        long cursorDate = anchor != null ? anchor.getDateFiled() : (older ? Long.MAX_VALUE : Long.MIN_VALUE);
+        int cursorId = anchor != null ? anchor.getId() : (older ? Integer.MAX_VALUE : Integer.MIN_VALUE);
+
+        List<BlotterReport> page = queryLocal(query, older, cursorDate, cursorId, limit);
+
+        if (forward && page.size() < limit && fetchRemote(query, older, cursorDate, cursorId, limit)) {
+            page = queryLocal(query, older, cursorDate, cursorId, limit);
+        }
+
+        // DAO returns rows in scan order; backward pages must be flipped into display order
+        if (!forward) {
+            page = new ArrayList<>(page);
+            Collections.reverse(page);
+        }
+        return page;
+    }
+
+    public List<StatusCount> loadStatusCounts(ReportQuery query) {
+        switch (query.scope) {
+            case SCOPE_USER:
+                return reportDao.getUserStatusCounts(query.scopeId);
+            case SCOPE_OFFICER:
+                return reportDao.getOfficerStatusCounts(query.scopeId);
+            default:
+                return reportDao.getStatusCounts();
+        }
+    }
+
+    private List<BlotterReport> queryLocal(ReportQuery q, boolean older, long cursorDate, int cursorId, int limit) {
+        boolean anyStatus = q.statuses.isEmpty();
+        switch (q.scope) {
+            case SCOPE_USER:
+                return older
+                    ? reportDao.getUserReportsOlderThan(q.scopeId, anyStatus, q.statuses, q.match, cursorDate, cursorId, limit)
+                    : reportDao.getUserReportsNewerThan(q.scopeId, anyStatus, q.statuses, q.match, cursorDate, cursorId, limit);
+            case SCOPE_OFFICER:
+                return older
+                    ? reportDao.getOfficerReportsOlderThan(q.scopeId, anyStatus, q.statuses, q.match, cursorDate, cursorId, limit)
+                    : reportDao.getOfficerReportsNewerThan(q.scopeId, anyStatus, q.statuses, q.match, cursorDate, cursorId, limit);
+            default:
+                return older
+                    ? reportDao.getReportsOlderThan(anyStatus, q.statuses, q.match, cursorDate, cursorId, limit)
+                    : reportDao.getReportsNewerThan(anyStatus, q.statuses, q.match, cursorDate, cursorId, limit);
+        }
+    }
+
+    /**
+     * @return true if new rows were cached
+     */
+    private boolean fetchRemote(ReportQuery q, boolean older, long cursorDate, int cursorId, int limit) {
+        // Search is served from the local cache only
+        if (!remotePagingAvailable || !q.search.isEmpty() || !networkMonitor.isNetworkAvailable()) {
+            return false;
+        }
+        try {
+            Response<List<BlotterReport>> response = ApiClient.getApiService().getReportsPage(
+                cursorDate, cursorId, older ? "older" : "newer", limit,
+                q.statuses.isEmpty() ? null : String.join(",", q.statuses),
+                q.scope == SCOPE_USER ? q.scopeId : null,
+                q.scope == SCOPE_OFFICER ? q.scopeId : null
+            ).execute();
+
+            if (response.code() == 404 || response.code() == 501) {
+                markRemotePagingUnavailable();
+                return false;
+            }
+            List<BlotterReport> remote = response.body();
+            if (!response.isSuccessful() || remote == null || remote.isEmpty()) {
+                return false;
+            }
+            database.runInTransaction(() -> reportDao.upsertReports(remote));
+            Log.d(TAG, "✅ Cached " + remote.size() + " reports from remote page");
+            return true;
+        } catch (Exception e) {
+            Log.w(TAG, "⚠️ Remote page fetch failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public static boolean isRemotePagingAvailable() {
+        return remotePagingAvailable;
+    }
+
+    // Also set by PrefetchScheduler, which pages the same endpoint
+    static void markRemotePagingUnavailable() {
+        remotePagingAvailable = false;
+    }
+
+    /**
+     * Immutable filter for one list screen
+     */
+    public static class ReportQuery {
+        public final int scope;
+        public final int scopeId;
+        public final List<String> statuses;   // upper-case; empty = any status
+        public final String search;           // lower-case; empty = no search
+        public final String match;            // FTS prefix query built from search
+        public final boolean newestFirst;
+
+        public ReportQuery(int scope, int scopeId, List<String> statuses, String search, boolean newestFirst) {
+            this.scope = scope;
+            this.scopeId = scopeId;
+            this.statuses = statuses != null ? Collections.unmodifiableList(new ArrayList<>(statuses)) : Collections.emptyList();
+            this.search = search != null ? search.trim().toLowerCase() : "";
+            this.match = ReportSearchRepository.toMatchQuery(this.search);
+            this.newestFirst = newestFirst;
+        }
+
+        /**
+         * Scope for the signed-in role: Admin sees all, Officer sees assigned, User sees own
+         */
+        public static int scopeForRole(String role) {
+            if ("Admin".equalsIgnoreCase(role)) return SCOPE_ALL;
+            if ("Officer".equalsIgnoreCase(role)) return SCOPE_OFFICER;
+            return SCOPE_USER;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.content.Context;
+import android.util.Log;
+import com.example.blottermanagementsystem.data.dao.BlotterReportDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.utils.ApiClient;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.utils.TaskScope;
+import java.util.Collections;
+import java.util.List;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * ✅ REPORT REPOSITORY - STALE-WHILE-REVALIDATE
+ * Serves reports from the local Room cache immediately, then revalidates
+ * against Neon in the background when the cached copy is older than the
+ * max-staleness configured in CachePolicy. Revalidation uses delta sync when the
+ * backend supports it and falls back to a full snapshot, streamed into Room.
+ *
+ * Callbacks run on a background thread - use runOnUiThread() to touch views.
+ * Built with a screen's TaskScope, its reads and HTTP calls are cancelled when the screen
+ * is destroyed instead of finishing for nobody.
+ */
+public class ReportRepository {
+    private static final String TAG = "ReportRepository";
+
+    // Shared so concurrent screens queue behind one another instead of racing on the cache
+    private static final AppExecutors.SerialExecutor executor = AppExecutors.serial("reports", AppExecutors.io());
+
+    private final BlotterReportDao reportDao;
+    private final BlotterDatabase database;
+    private final CachePolicy cachePolicy;
+    private final NetworkMonitor networkMonitor;
+    private final DeltaSyncRepository deltaSync;
+    private final BulkSyncWriter syncWriter;
+    // Null when the caller is not tied to a screen
+    private final TaskScope scope;
+
+    public ReportRepository(Context context) {
+        this(context, null);
+    }
+
+    public ReportRepository(Context context, TaskScope scope) {
+        this.scope = scope;
+        this.database = BlotterDatabase.getDatabase(context);
+        this.reportDao = database.blotterReportDao();
+        this.cachePolicy = new CachePolicy(context);
+        this.networkMonitor = new NetworkMonitor(context.getApplicationContext());
+        this.deltaSync = new DeltaSyncRepository(context);
+        this.syncWriter = new BulkSyncWriter(database);
+    }
+
+    // ✅ ALL REPORTS: local rows first, then Neon if stale
+    public void getAllReports(boolean forceRefresh, CacheCallback<List<BlotterReport>> callback) {
+        run(() -> {
+            try {
+                List<BlotterReport> cached = reportDao.getAllReports();
+                Log.d(TAG, "📦 Cached reports: " + cached.size());
+                callback.onCached(cached);
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Error reading cached reports: " + e.getMessage());
+            }
+
+            revalidateIfStale(forceRefresh, callback);
+        });
+    }
+
+    /**
+     * Background revalidation only - for screens that already rendered their own local query.
+     * Only onRefreshed/onError are invoked.
+     */
+    public void revalidateReports(boolean forceRefresh, CacheCallback<List<BlotterReport>> callback) {
+        run(() -> revalidateIfStale(forceRefresh, callback));
+    }
+
+    // ✅ SINGLE REPORT: local row first, then Neon if stale
+    public void getReportById(int reportId, boolean forceRefresh, CacheCallback<BlotterReport> callback) {
+        String cacheKey = CachePolicy.key(CachePolicy.ENTITY_REPORTS, reportId);
+        run(() -> {
+            BlotterReport cached = null;
+            try {
+                cached = reportDao.getReportById(reportId);
+                callback.onCached(cached);
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Error reading cached report " + reportId + ": " + e.getMessage());
+            }
+
+            // A cache miss always goes to the server, regardless of freshness
+            if (cached != null && !forceRefresh && !cachePolicy.isStale(CachePolicy.ENTITY_REPORTS, cacheKey)) {
+                return;
+            }
+            if (!networkMonitor.isNetworkAvailable()) {
+                if (cached == null) {
+                    callback.onError("No network connection");
+                }
+                return;
+            }
+            if (scope != null) {
+                fetchReportScoped(reportId, cacheKey, callback);
+                return;
+            }
+            ApiClient.getReportById(reportId, new ApiClient.ApiCallback<BlotterReport>() {
+                @Override
+                public void onSuccess(BlotterReport report) {
+                    executor.execute(() -> {
+                        try {
+                            // Three-way merge so unsent local edits aren't overwritten
+                            syncWriter.applyReports(Collections.singletonList(report));
+                            cachePolicy.markFresh(cacheKey);
+                            BlotterReport merged = reportDao.getReportById(report.getId());
+                            callback.onRefreshed(merged != null ? merged : report);
+                        } catch (Exception e) {
+                            Log.e(TAG, "❌ Error caching report " + reportId + ": " + e.getMessage());
+                            callback.onError(e.getMessage());
+                        }
+                    });
+                }
+
+                @Override
+                public void onError(String errorMessage) {
+                    Log.w(TAG, "⚠️ Revalidation failed for report " + reportId + ": " + errorMessage);
+                    callback.onError(errorMessage);
+                }
+            });
+        });
+    }
+
+    // Own call instead of ApiClient's shared one, so this screen can cancel it without
+    // cancelling it for the other callers waiting on the same request
+    private void fetchReportScoped(int reportId, String cacheKey, CacheCallback<BlotterReport> callback) {
+        try {
+            Response<BlotterReport> response = track(ApiClient.getApiService().getReportById(reportId)).execute();
+            if (!response.isSuccessful() || response.body() == null) {
+                Log.w(TAG, "⚠️ Revalidation failed for report " + reportId + ": " + response.code());
+                callback.onError("Error: " + response.code());
+                return;
+            }
+            syncWriter.applyReports(Collections.singletonList(response.body()));
+            cachePolicy.markFresh(cacheKey);
+            BlotterReport merged = reportDao.getReportById(reportId);
+            callback.onRefreshed(merged != null ? merged : response.body());
+        } catch (Exception e) {
+            if (scope.isCancelled()) return; // Screen closed - the call was cancelled on purpose
+            Log.e(TAG, "❌ Error refreshing report " + reportId + ": " + e.getMessage());
+            callback.onError(e.getMessage());
+        }
+    }
+
+    public void invalidateReports() {
+        cachePolicy.invalidate(CachePolicy.ENTITY_REPORTS);
+    }
+
+    private void revalidateIfStale(boolean forceRefresh, CacheCallback<List<BlotterReport>> callback) {
+        if (!forceRefresh && !cachePolicy.isStale(CachePolicy.ENTITY_REPORTS, CachePolicy.ENTITY_REPORTS)) {
+            Log.d(TAG, "✅ Report cache is fresh - skipping revalidation");
+            return;
+        }
+        if (!networkMonitor.isNetworkAvailable()) {
+            Log.d(TAG, "📶 Offline - serving cached reports only");
+            return;
+        }
+        if (DeltaSyncRepository.isEndpointAvailable()) {
+            try {
+                // Only changed/deleted rows since the last cursor
+                deltaSync.syncNow(scope);
+                cachePolicy.markFresh(CachePolicy.ENTITY_REPORTS);
+                callback.onRefreshed(reportDao.getAllReports());
+                return;
+            } catch (Exception e) {
+                if (scope != null && scope.isCancelled()) return;
+                Log.w(TAG, "⚠️ Delta sync failed, falling back to full fetch: " + e.getMessage());
+            }
+        }
+        revalidateAllReports(callback);
+    }
+
+    // Runs on the repository executor. The list is streamed into Room chunk by chunk
+    // instead of being parsed whole first - admins can have tens of thousands of reports.
+    // It is the full list, so cached reports missing from it were deleted on the server.
+    private void revalidateAllReports(CacheCallback<List<BlotterReport>> callback) {
+        try {
+            Response<ResponseBody> response = track(ApiClient.getApiService().streamAllReports()).execute();
+            if (!response.isSuccessful() || response.body() == null) {
+                Log.w(TAG, "⚠️ Report revalidation failed: " + response.code());
+                callback.onError("Error: " + response.code());
+                return;
+            }
+            int count;
+            try (ResponseBody body = response.body()) {
+                count = syncWriter.applyReportSnapshot(body.charStream());
+            }
+            cachePolicy.markFresh(CachePolicy.ENTITY_REPORTS);
+            Log.d(TAG, "✅ Revalidated " + count + " reports");
+            callback.onRefreshed(reportDao.getAllReports());
+        } catch (Exception e) {
+            if (scope != null && scope.isCancelled()) return;
+            Log.e(TAG, "❌ Error caching reports: " + e.getMessage());
+            callback.onError(e.getMessage());
+        }
+    }
+
+    private void run(Runnable task) {
+        if (scope != null) scope.execute(executor, task);
+        else executor.execute(task);
+    }
+
+    private <T> Call<T> track(Call<T> call) {
+        return scope != null ? scope.track(call) : call;
+    }
+
+    /**
+     * onCached fires first with local rows (may be empty/null on a cold cache);
+     * onRefreshed fires only if a background revalidation completed.
+     */
+    public interface CacheCallback<T> {
+        void onCached(T data);
+        void onRefreshed(T data);
+        void onError(String errorMessage);
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.content.Context;
+import android.util.Log;
+import com.example.blottermanagementsystem.data.dao.BlotterReportDao;
+import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.model.ReportSearchHit;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.utils.TaskScope;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ✅ REPORT SEARCH REPOSITORY
+ * Ranked prefix search over the blotter_reports_fts index.
+ * Each word the officer types becomes a prefix term ("dela cru" -> dela* cru*),
+ * all terms must match, and hits are ranked BM25-style from matchinfo() with
+ * case number and party names weighted above the narrative.
+ */
+public class ReportSearchRepository {
+    private static final String TAG = "ReportSearchRepository";
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    // Same column order as BlotterReportFts
+    private static final double[] COLUMN_WEIGHTS = {
+        4.0,  // caseNumber
+        3.0,  // complainantName
+        3.0,  // respondentName
+        3.0,  // respondentAlias
+        1.5,  // incidentLocation
+        1.5,  // incidentType
+        1.0   // narrative
+    };
+
+    private final BlotterReportDao reportDao;
+
+    public ReportSearchRepository(Context context) {
+        this(BlotterDatabase.getDatabase(context).blotterReportDao());
+    }
+
+    ReportSearchRepository(BlotterReportDao reportDao) {
+        this.reportDao = reportDao;
+    }
+
+    /**
+     * Turn free text into an FTS prefix query. Returns "" when there is nothing to search for.
+     * Only letters and digits survive, so user input can never inject FTS operators.
+     */
+    public static String toMatchQuery(String text) {
+        if (text == null) return "";
+        StringBuilder match = new StringBuilder();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty()) continue;
+            if (match.length() > 0) match.append(' ');
+            match.append(token).append('*');
+        }
+        return match.toString();
+    }
+
+    /**
+     * Ranked search, best match first. Blocking - call from a background thread.
+     */
+    public List<BlotterReport> search(String text, int limit) {
+        String match = toMatchQuery(text);
+        if (match.isEmpty()) return Collections.emptyList();
+
+        long start = System.nanoTime();
+        List<ReportSearchHit> hits = reportDao.searchReportHits(match);
+
+        // Score every hit, keep only ids - rows are loaded for the top results only
+        List<double[]> scored = new ArrayList<>(hits.size());
+        for (ReportSearchHit hit : hits) {
+            scored.add(new double[]{score(hit.matchInfo), hit.reportId});
+        }
+        Collections.sort(scored, (a, b) -> a[0] != b[0] ? Double.compare(b[0], a[0]) : Double.compare(b[1], a[1]));
+
+        List<Integer> topIds = new ArrayList<>();
+        for (int i = 0; i < scored.size() && i < limit; i++) {
+            topIds.add((int) scored.get(i)[1]);
+        }
+        if (topIds.isEmpty()) return Collections.emptyList();
+
+        // IN (...) returns rows in table order - put them back in rank order
+        Map<Integer, BlotterReport> byId = new HashMap<>();
+        for (BlotterReport report : reportDao.getReportsByIds(topIds)) {
+            byId.put(report.getId(), report);
+        }
+        List<BlotterReport> results = new ArrayList<>(topIds.size());
+        for (Integer id : topIds) {
+            BlotterReport report = byId.get(id);
+            if (report != null) results.add(report);
+        }
+
+        Log.d(TAG, "🔍 \"" + match + "\": " + hits.size() + " hits, top " + results.size()
+            + " in " + (System.nanoTime() - start) / 1_000_000 + "ms");
+        return results;
+    }
+
+    /**
+     * Ids of every report matching the text, unranked and unlimited, for screens that filter
+     * a list they already hold. Null when the text has nothing to search for. Blocking.
+     */
+    public Set<Integer> matchingIds(String text) {
+        String match = toMatchQuery(text);
+        if (match.isEmpty()) return null;
+        return new HashSet<>(reportDao.searchReportIds(match));
+    }
+
+    /**
+     * matchingIds() off the UI thread, delivered on the UI thread while scope is alive.
+     * A query with nothing to search for is answered immediately with null.
+     */
+    public void matchingIds(String text, TaskScope scope, MatchCallback callback) {
+        if (toMatchQuery(text).isEmpty()) {
+            callback.onMatches(null);
+            return;
+        }
+        scope.execute(AppExecutors.disk(), () -> {
+            try {
+                Set<Integer> ids = matchingIds(text);
+                scope.runOnUi(() -> callback.onMatches(ids));
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Search failed: " + e.getMessage());
+            }
+        });
+    }
+
+    public void search(String text, int limit, SearchCallback callback) {
+        AppExecutors.disk().execute(() -> {
+            try {
+                callback.onResults(search(text, limit));
+            } catch (Exception e) {
+                Log.e(TAG, "❌ Search failed: " + e.getMessage());
+                callback.onError(e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * BM25 over matchinfo('pcnx'): [p, c, n, then p*c triples of
+     * (hits in this row, hits in all rows, rows with a hit)].
+     * Column lengths aren't available from FTS4 matchinfo without 'l', so no length normalisation.
+     */
+    static double score(byte[] matchInfo) {
+        if (matchInfo == null || matchInfo.length < 12) return 0;
+        ByteBuffer buffer = ByteBuffer.wrap(matchInfo).order(ByteOrder.nativeOrder());
+        int phrases = buffer.getInt(0);
+        int columns = buffer.getInt(4);
+        long rows = buffer.getInt(8) & 0xFFFFFFFFL;
+
+        double score = 0;
+        for (int p = 0; p < phrases; p++) {
+            for (int c = 0; c < columns; c++) {
+                int offset = 12 + 12 * (p * columns + c);
+                if (offset + 12 > matchInfo.length) return score;
+                long hitsInRow = buffer.getInt(offset) & 0xFFFFFFFFL;
+                if (hitsInRow == 0) continue;
+                long rowsWithHit = buffer.getInt(offset + 8) & 0xFFFFFFFFL;
+
+                double idf = Math.log(1.0 + (rows - rowsWithHit + 0.5) / (rowsWithHit + 0.5));
+                double tf = hitsInRow * 2.2 / (hitsInRow + 1.2);
+                double weight = c < COLUMN_WEIGHTS.length ? COLUMN_WEIGHTS[c] : 1.0;
+                score += weight * idf * tf;
+            }
+        }
+        return score;
+    }
+
+    public interface MatchCallback {
+        /** @param reportIds matching report ids, or null when there is no search */
+        void onMatches(Set<Integer> reportIds);
+    }
+
+    public interface SearchCallback {
+        void onResults(List<BlotterReport> results);
+        void onError(String errorMessage);
+    }
+}
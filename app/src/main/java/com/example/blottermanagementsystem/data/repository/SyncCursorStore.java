@@ -0,0 +1,51 @@
+package com.example.blottermanagementsystem.data.repository;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+/**
+ * ✅ SYNC CURSOR STORE
+ * Persists the per-entity high-water mark returned by the delta sync endpoint.
+ * A cursor of 0 means "never synced" and makes the server send a full snapshot.
+ */
+public class SyncCursorStore {
+    private static final String PREFS_NAME = "blotter_sync_cursors";
+    private static final String KEY_PREFIX = "cursor_";
+
+    public static final String ENTITY_REPORTS = "reports";
+    public static final String ENTITY_USERS = "users";
+    public static final String ENTITY_OFFICERS = "officers";
+
+    private final SharedPreferences prefs;
+
+    public SyncCursorStore(Context context) {
+        prefs = context.getApplicationContext().getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    public long getCursor(String entityType) {
+        return prefs.getLong(KEY_PREFIX + entityType, 0);
+    }
+
+    /**
+     * Save all three cursors together - only after the matching rows are committed locally.
+     * A cursor the server sent as 0 or left out keeps its stored value, so a page that only
+     * touched reports never sends users and officers back to a full snapshot.
+     * Written with apply(): if the process dies before the flush the cursor just lags and
+     * the next sync re-applies a page it already has, which the upserts make harmless.
+     */
+    public void saveCursors(long reportsCursor, long usersCursor, long officersCursor) {
+        SharedPreferences.Editor editor = prefs.edit();
+        putIfSet(editor, ENTITY_REPORTS, reportsCursor);
+        putIfSet(editor, ENTITY_USERS, usersCursor);
+        putIfSet(editor, ENTITY_OFFICERS, officersCursor);
+        editor.apply();
+    }
+
+    private static void putIfSet(SharedPreferences.Editor editor, String entityType, long cursor) {
+        if (cursor > 0) editor.putLong(KEY_PREFIX + entityType, cursor);
+    }
+
+    public void reset() {
+        prefs.edit().clear().commit();
+    }
+}
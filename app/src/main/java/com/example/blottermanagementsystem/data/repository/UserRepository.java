@@ -7,6 +7,7 @@ import com.example.blottermanagementsystem.data.dao.UserDao;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.utils.GoogleAuthManager;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -44,7 +45,7 @@ public class UserRepository {
     public void syncUserToNeon(User user, RepositoryCallback<User> callback) {
         Log.d(TAG, "🔄 Syncing user to Neon: " + user.getEmail());
         
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Save to local database first
                 saveUserToLocal(user);
@@ -86,7 +87,7 @@ public class UserRepository {
                                     String barangay, RepositoryCallback<User> callback) {
         Log.d(TAG, "👮 Creating officer account: " + email);
         
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Create officer user object
                 User officer = new User();
@@ -113,7 +114,7 @@ public class UserRepository {
                                  String barangay, RepositoryCallback<User> callback) {
         Log.d(TAG, "📝 Updating user profile: " + userId);
         
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 User user = localDao.getUserById(userId);
                 if (user != null) {
@@ -135,7 +136,7 @@ public class UserRepository {
     
     // ✅ PRIVATE: Save user to local database
     private void saveUserToLocal(User user) {
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Check if user exists
                 User existing = localDao.getUserById(user.getId());
@@ -2,6 +2,8 @@ package com.example.blottermanagementsystem.managers;
 
 import android.content.Context;
 import android.util.Log;
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.example.blottermanagementsystem.data.entity.Witness;
 import com.example.blottermanagementsystem.utils.ApiClient;
 import java.util.HashMap;
 import java.util.List;
@@ -28,9 +30,9 @@ public class CasePersonManager {
                           String statement, String address, ApiCallback<Map<String, Object>> callback) {
         Log.d(TAG, "👥 Adding witness to case: " + caseId);
         
-        Map<String, Object> witnessData = createWitnessData(name, contactInfo, statement, address);
+        Witness witness = createWitnessData(caseId, name, contactInfo, statement, address);
         
-        ApiClient.addWitnessToCase(caseId, witnessData, new ApiClient.ApiCallback<String>() {
+        ApiClient.addWitnessToCase(caseId, witness, new ApiClient.ApiCallback<String>() {
             @Override
             public void onSuccess(String result) {
                 Log.d(TAG, "✅ Witness added successfully");
@@ -51,12 +53,12 @@ public class CasePersonManager {
     /**
      * Get all witnesses for a case
      */
-    public void getCaseWitnesses(int caseId, ApiCallback<List<Map<String, Object>>> callback) {
+    public void getCaseWitnesses(int caseId, ApiCallback<List<Witness>> callback) {
         Log.d(TAG, "🔍 Getting witnesses for case: " + caseId);
         
-        ApiClient.getCaseWitnesses(caseId, new ApiClient.ApiCallback<List<Map<String, Object>>>() {
+        ApiClient.getCaseWitnesses(caseId, new ApiClient.ApiCallback<List<Witness>>() {
             @Override
-            public void onSuccess(List<Map<String, Object>> witnesses) {
+            public void onSuccess(List<Witness> witnesses) {
                 Log.d(TAG, "✅ Retrieved " + witnesses.size() + " witnesses");
                 callback.onSuccess(witnesses);
             }
@@ -72,11 +74,11 @@ public class CasePersonManager {
     /**
      * Update witness information
      */
-    public void updateWitness(int caseId, int witnessId, Map<String, Object> witnessData, 
+    public void updateWitness(int caseId, int witnessId, Witness witness, 
                              ApiCallback<Map<String, Object>> callback) {
         Log.d(TAG, "✏️ Updating witness: " + witnessId);
         
-        ApiClient.updateWitness(caseId, witnessId, witnessData, new ApiClient.ApiCallback<String>() {
+        ApiClient.updateWitness(caseId, witnessId, witness, new ApiClient.ApiCallback<String>() {
             @Override
             public void onSuccess(String result) {
                 Log.d(TAG, "✅ Witness updated successfully");
@@ -124,9 +126,9 @@ public class CasePersonManager {
                           String address, String description, ApiCallback<Map<String, Object>> callback) {
         Log.d(TAG, "👤 Adding suspect to case: " + caseId);
         
-        Map<String, Object> suspectData = createSuspectData(name, alias, address, description);
+        Suspect suspect = createSuspectData(caseId, name, alias, address, description);
         
-        ApiClient.addSuspectToCase(caseId, suspectData, new ApiClient.ApiCallback<String>() {
+        ApiClient.addSuspectToCase(caseId, suspect, new ApiClient.ApiCallback<String>() {
             @Override
             public void onSuccess(String result) {
                 Log.d(TAG, "✅ Suspect added successfully");
@@ -147,12 +149,12 @@ public class CasePersonManager {
     /**
      * Get all suspects for a case
      */
-    public void getCaseSuspects(int caseId, ApiCallback<List<Map<String, Object>>> callback) {
+    public void getCaseSuspects(int caseId, ApiCallback<List<Suspect>> callback) {
         Log.d(TAG, "🔍 Getting suspects for case: " + caseId);
         
-        ApiClient.getCaseSuspects(caseId, new ApiClient.ApiCallback<List<Map<String, Object>>>() {
+        ApiClient.getCaseSuspects(caseId, new ApiClient.ApiCallback<List<Suspect>>() {
             @Override
-            public void onSuccess(List<Map<String, Object>> suspects) {
+            public void onSuccess(List<Suspect> suspects) {
                 Log.d(TAG, "✅ Retrieved " + suspects.size() + " suspects");
                 callback.onSuccess(suspects);
             }
@@ -168,11 +170,11 @@ public class CasePersonManager {
     /**
      * Update suspect information
      */
-    public void updateSuspect(int caseId, int suspectId, Map<String, Object> suspectData, 
+    public void updateSuspect(int caseId, int suspectId, Suspect suspect, 
                              ApiCallback<Map<String, Object>> callback) {
         Log.d(TAG, "✏️ Updating suspect: " + suspectId);
         
-        ApiClient.updateSuspect(caseId, suspectId, suspectData, new ApiClient.ApiCallback<String>() {
+        ApiClient.updateSuspect(caseId, suspectId, suspect, new ApiClient.ApiCallback<String>() {
             @Override
             public void onSuccess(String result) {
                 Log.d(TAG, "✅ Suspect updated successfully");
@@ -214,30 +216,21 @@ public class CasePersonManager {
     // ✅ HELPER METHODS
     
     /**
-     * Create witness data map
+     * Create witness payload
      */
-    public Map<String, Object> createWitnessData(String name, String contactInfo, 
-                                                 String statement, String address) {
-        Map<String, Object> data = new HashMap<>();
-        data.put("name", name);
-        data.put("contact_info", contactInfo);
-        data.put("statement", statement);
-        data.put("address", address);
-        return data;
+    public Witness createWitnessData(int caseId, String name, String contactInfo, 
+                                     String statement, String address) {
+        return new Witness(caseId, name, contactInfo, address, statement);
     }
     
     /**
-     * Create suspect data map
+     * Create suspect payload
      */
-    public Map<String, Object> createSuspectData(String name, String alias, 
-                                                 String address, String description) {
-        Map<String, Object> data = new HashMap<>();
-        data.put("name", name);
-        data.put("alias", alias);
-        data.put("address", address);
-        data.put("description", description);
-        data.put("status", "under_investigation");
-        return data;
+    public Suspect createSuspectData(int caseId, String name, String alias, 
+                                     String address, String description) {
+        Suspect suspect = new Suspect(caseId, name, alias, address, null);
+        suspect.setDescription(description);
+        return suspect;
     }
     
     /**
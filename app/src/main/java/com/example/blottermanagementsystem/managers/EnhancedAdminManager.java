@@ -2,6 +2,7 @@ package com.example.blottermanagementsystem.managers;
 
 import android.content.Context;
 import android.util.Log;
+import com.example.blottermanagementsystem.data.entity.Officer;
 import com.example.blottermanagementsystem.utils.ApiClient;
 import java.util.HashMap;
 import java.util.Map;
@@ -193,11 +194,11 @@ public class EnhancedAdminManager {
     /**
      * Update officer information
      */
-    public void updateOfficer(int officerId, Map<String, Object> officerData, 
+    public void updateOfficer(int officerId, Officer officer, 
                              AdminCallback callback) {
         Log.d(TAG, "✏️ Updating officer: " + officerId);
         
-        ApiClient.updateOfficer(officerId, officerData, new ApiClient.ApiCallback<String>() {
+        ApiClient.updateOfficer(officerId, officer, new ApiClient.ApiCallback<String>() {
             @Override
             public void onSuccess(String result) {
                 Log.d(TAG, "✅ Officer updated successfully");
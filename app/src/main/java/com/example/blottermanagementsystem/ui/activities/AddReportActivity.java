@@ -24,6 +24,8 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.OutboxEntry;
+import com.example.blottermanagementsystem.data.repository.OutboxRepository;
 import com.example.blottermanagementsystem.ui.adapters.ImageAdapter;
 import com.example.blottermanagementsystem.ui.adapters.VideoAdapter;
 import com.example.blottermanagementsystem.utils.MediaManager;
@@ -31,8 +33,7 @@ import com.example.blottermanagementsystem.utils.NotificationHelper;
 import com.example.blottermanagementsystem.utils.PermissionHelper;
 import com.example.blottermanagementsystem.utils.PhoneNumberValidator;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
-import com.example.blottermanagementsystem.utils.ApiClient;
-import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 // ❌ REMOVED: import com.example.blottermanagementsystem.utils.SyncQueueManager; (Pure online mode)
 import androidx.cardview.widget.CardView;
 import com.google.android.material.button.MaterialButton;
@@ -47,7 +48,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.Executors;
 
 public class AddReportActivity extends BaseActivity {
     
@@ -1265,35 +1265,15 @@ public class AddReportActivity extends BaseActivity {
         // Show loading for report submission
         com.example.blottermanagementsystem.utils.GlobalLoadingManager.show(this, "Submitting report...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                // Save to local database first
-                long reportId = database.blotterReportDao().insertReport(report);
+                // Save to local database first - under a temporary negative id until the server assigns one
+                int reportId = database.blotterReportDao().insertLocalReport(report);
                 
-                if (reportId > 0) {
-                    report.setId((int) reportId);
-                    
-                    // Check if online and sync to API
-                    NetworkMonitor networkMonitor = new NetworkMonitor(AddReportActivity.this);
-                    if (networkMonitor.isNetworkAvailable()) {
-                        // Sync to API
-                        ApiClient.createReport(report, new ApiClient.ApiCallback<BlotterReport>() {
-                            @Override
-                            public void onSuccess(BlotterReport result) {
-                                android.util.Log.d("AddReport", "✅ Report synced to API: " + result.getId());
-                                // Update local database with API response
-                                database.blotterReportDao().updateReport(result);
-                            }
-                            
-                            @Override
-                            public void onError(String errorMessage) {
-                                android.util.Log.w("AddReport", "⚠️ API sync failed: " + errorMessage);
-                                // Report saved locally, will sync when online
-                            }
-                        });
-                    } else {
-                        android.util.Log.i("AddReport", "Offline mode: Report saved locally, will sync when online");
-                    }
+                if (reportId != 0) {
+                    // Journal for the API - sent now if online, replayed when connectivity returns
+                    OutboxRepository.getInstance(AddReportActivity.this)
+                        .queueReport(OutboxEntry.OP_CREATE, report);
                     
                     // Get user name from database
                     com.example.blottermanagementsystem.data.entity.User user = 
@@ -1310,7 +1290,7 @@ public class AddReportActivity extends BaseActivity {
                     userId, // Current user ID (the one who filed the report)
                     report.getCaseNumber(),
                     userName,
-                    (int) reportId,
+                    reportId,
                     userName
                 );
                 
@@ -1318,7 +1298,7 @@ public class AddReportActivity extends BaseActivity {
                     com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
                     // Redirect to Report Details instead of going back to dashboard
                     Intent detailsIntent = new Intent(AddReportActivity.this, ReportDetailActivity.class);
-                    detailsIntent.putExtra("REPORT_ID", (int) reportId);
+                    detailsIntent.putExtra("REPORT_ID", reportId);
                     startActivity(detailsIntent);
                     finish();
                 });
@@ -15,6 +15,7 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.Officer;
+import com.example.blottermanagementsystem.data.model.CaseBundle;
 import com.example.blottermanagementsystem.utils.MediaManager;
 import com.example.blottermanagementsystem.utils.NotificationHelper;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
@@ -22,6 +23,7 @@ import com.example.blottermanagementsystem.utils.ApiClient;
 import com.example.blottermanagementsystem.utils.NetworkMonitor;
 import com.example.blottermanagementsystem.utils.TimelineUpdateManager;
 import com.example.blottermanagementsystem.data.model.InvestigationStep;
+import com.example.blottermanagementsystem.data.repository.CaseBundleRepository;
 import com.example.blottermanagementsystem.utils.GlobalLoadingManager;
 import com.example.blottermanagementsystem.ui.adapters.ImageAdapter;
 import com.example.blottermanagementsystem.ui.adapters.VideoAdapter;
@@ -29,6 +31,7 @@ import com.example.blottermanagementsystem.ui.adapters.InvestigationStepAdapter;
 import androidx.recyclerview.widget.DividerItemDecoration;
 import androidx.core.content.ContextCompat;
 import com.example.blottermanagementsystem.ui.adapters.SelectableOfficerAdapter;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.chip.Chip;
 import java.text.SimpleDateFormat;
@@ -38,7 +41,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
-import java.util.concurrent.Executors;
 
 public class AdminCaseDetailActivity extends BaseActivity {
     
@@ -63,6 +65,8 @@ public class AdminCaseDetailActivity extends BaseActivity {
     private InvestigationStepAdapter stepAdapter;
     private List<InvestigationStep> investigationSteps = new ArrayList<>();
     private boolean isTimelineInitializing = false;  // Prevent concurrent initialization
+    private volatile CaseBundle caseBundle;  // ✅ Server-side witnesses, suspects, hearings... (null until loaded)
+    private boolean timelineRefreshPending = false;  // ✅ Data changed while a timeline build was running
     
     // Data
     private BlotterDatabase database;
@@ -217,12 +221,13 @@ public class AdminCaseDetailActivity extends BaseActivity {
         // ✅ Prevent concurrent initialization (avoid duplicates)
         if (isTimelineInitializing) {
             android.util.Log.d("AdminCaseDetail", "⚠️ Timeline initialization already in progress, skipping...");
+            timelineRefreshPending = true;
             return;
         }
         
         isTimelineInitializing = true;
         
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 investigationSteps.clear();
                 
@@ -279,9 +284,9 @@ public class AdminCaseDetailActivity extends BaseActivity {
                 // Step 4: Witnesses & Evidence Collected
                 // ✅ Check if witness, suspect, AND evidence all exist
                 InvestigationStep step4 = new InvestigationStep("4", "Witnesses & Evidence Collected", "Gathering case information", "evidence_collected");
-                int witnessCount = database.witnessDao().getWitnessCountByReport(reportId);
-                int suspectCount = database.suspectDao().getSuspectCountByReport(reportId);
-                int evidenceCount = database.evidenceDao().getEvidenceCountByReport(reportId);
+                int witnessCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.WITNESSES, database.witnessDao().getWitnessCountByReport(reportId));
+                int suspectCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.SUSPECTS, database.suspectDao().getSuspectCountByReport(reportId));
+                int evidenceCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.EVIDENCE, database.evidenceDao().getEvidenceCountByReport(reportId));
                 
                 if (witnessCount > 0 && suspectCount > 0 && evidenceCount > 0) {
                     // All 3 collected - COMPLETED
@@ -304,7 +309,7 @@ public class AdminCaseDetailActivity extends BaseActivity {
                 // Step 5: Hearing Scheduled
                 // ✅ Show hourglass ONLY if hearing exists (current active step)
                 InvestigationStep step5 = new InvestigationStep("5", "Hearing Scheduled", "Court hearing date set", "hearing_scheduled");
-                int hearingCount = database.hearingDao().getHearingCountByReport(reportId);
+                int hearingCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.HEARINGS, database.hearingDao().getHearingCountByReport(reportId));
                 
                 if (hearingCount > 0) {
                     // Hearing scheduled - COMPLETED (checkmark)
@@ -327,7 +332,7 @@ public class AdminCaseDetailActivity extends BaseActivity {
                 // Step 6: Resolution Documented
                 // ✅ Show hourglass ONLY if resolution exists (current active step)
                 InvestigationStep step6 = new InvestigationStep("6", "Resolution Documented", "Case outcome documented", "resolution_documented");
-                int resolutionCount = database.resolutionDao().getResolutionCountByReport(reportId);
+                int resolutionCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.RESOLUTIONS, database.resolutionDao().getResolutionCountByReport(reportId));
                 
                 if (resolutionCount > 0) {
                     // Resolution documented - COMPLETED (checkmark)
@@ -375,6 +380,10 @@ public class AdminCaseDetailActivity extends BaseActivity {
                     }
                     android.util.Log.d("AdminCaseDetail", "✅ Investigation timeline initialized with 7 steps");
                     isTimelineInitializing = false;  // ✅ Reset flag after UI update
+                    if (timelineRefreshPending) {
+                        timelineRefreshPending = false;
+                        initializeInvestigationTimeline();
+                    }
                 });
             } catch (Exception e) {
                 android.util.Log.e("AdminCaseDetail", "❌ Error initializing timeline: " + e.getMessage());
@@ -413,7 +422,7 @@ public class AdminCaseDetailActivity extends BaseActivity {
     private void loadCaseDetails() {
         GlobalLoadingManager.show(this, "Loading case details...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 currentReport = database.blotterReportDao().getReportById(reportId);
                 
@@ -573,7 +582,7 @@ public class AdminCaseDetailActivity extends BaseActivity {
     private void showAssignOfficerDialog() {
         GlobalLoadingManager.show(this, "Loading officers...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 List<Officer> officers = database.officerDao().getAllOfficers();
                 
@@ -681,7 +690,7 @@ public class AdminCaseDetailActivity extends BaseActivity {
     private void assignCaseToOfficers(List<Officer> officers) {
         GlobalLoadingManager.show(this, "Assigning case...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 if (currentReport != null && !officers.isEmpty()) {
                     // Build assigned officer names and IDs
@@ -1054,9 +1063,9 @@ public class AdminCaseDetailActivity extends BaseActivity {
     
     // Dialog methods for viewing investigation results
     private void showWitnessesDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                int witnessCount = database.witnessDao().getWitnessCountByReport(reportId);
+                int witnessCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.WITNESSES, database.witnessDao().getWitnessCountByReport(reportId));
                 runOnUiThread(() -> {
                     androidx.appcompat.app.AlertDialog.Builder builder = new androidx.appcompat.app.AlertDialog.Builder(this);
                     builder.setTitle("👥 Witnesses (" + witnessCount + ")");
@@ -1073,9 +1082,9 @@ public class AdminCaseDetailActivity extends BaseActivity {
     }
     
     private void showSuspectsDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                int suspectCount = database.suspectDao().getSuspectCountByReport(reportId);
+                int suspectCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.SUSPECTS, database.suspectDao().getSuspectCountByReport(reportId));
                 runOnUiThread(() -> {
                     androidx.appcompat.app.AlertDialog.Builder builder = new androidx.appcompat.app.AlertDialog.Builder(this);
                     builder.setTitle("🚨 Suspects (" + suspectCount + ")");
@@ -1092,9 +1101,9 @@ public class AdminCaseDetailActivity extends BaseActivity {
     }
     
     private void showEvidenceDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                int evidenceCount = database.evidenceDao().getEvidenceCountByReport(reportId);
+                int evidenceCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.EVIDENCE, database.evidenceDao().getEvidenceCountByReport(reportId));
                 runOnUiThread(() -> {
                     androidx.appcompat.app.AlertDialog.Builder builder = new androidx.appcompat.app.AlertDialog.Builder(this);
                     builder.setTitle("📸 Evidence (" + evidenceCount + ")");
@@ -1111,9 +1120,9 @@ public class AdminCaseDetailActivity extends BaseActivity {
     }
     
     private void showHearingsDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                int hearingCount = database.hearingDao().getHearingCountByReport(reportId);
+                int hearingCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.HEARINGS, database.hearingDao().getHearingCountByReport(reportId));
                 runOnUiThread(() -> {
                     androidx.appcompat.app.AlertDialog.Builder builder = new androidx.appcompat.app.AlertDialog.Builder(this);
                     builder.setTitle("📅 Hearings (" + hearingCount + ")");
@@ -1130,9 +1139,9 @@ public class AdminCaseDetailActivity extends BaseActivity {
     }
     
     private void showResolutionDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                int resolutionCount = database.resolutionDao().getResolutionCountByReport(reportId);
+                int resolutionCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.RESOLUTIONS, database.resolutionDao().getResolutionCountByReport(reportId));
                 runOnUiThread(() -> {
                     androidx.appcompat.app.AlertDialog.Builder builder = new androidx.appcompat.app.AlertDialog.Builder(this);
                     builder.setTitle("✅ Resolution (" + resolutionCount + ")");
@@ -1148,14 +1157,54 @@ public class AdminCaseDetailActivity extends BaseActivity {
         });
     }
     
+    // One instance per screen, so onDestroy() can cancel it
+    private final CaseBundleRepository.CaseBundleCallback caseBundleCallback = new CaseBundleRepository.CaseBundleCallback() {
+        @Override
+        public void onPartial(CaseBundle bundle, CaseBundle.Part part) {
+            onCaseBundle(bundle);
+        }
+        
+        @Override
+        public void onSuccess(CaseBundle bundle) {
+            onCaseBundle(bundle);
+        }
+        
+        @Override
+        public void onError(String errorMessage) {
+            android.util.Log.w("AdminCaseDetail", "⚠️ Case bundle unavailable, using local data: " + errorMessage);
+        }
+    };
+    
+    /**
+     * Fetch the case's server-side lists in parallel; the timeline and dialogs use them as each one lands
+     */
+    private void loadCaseBundle() {
+        CaseBundleRepository.getInstance().load(reportId, caseBundleCallback);
+    }
+    
+    private void onCaseBundle(CaseBundle bundle) {
+        // onSuccess repeats the last partial bundle - nothing new to render
+        if (isFinishing() || isDestroyed() || bundle == caseBundle) return;
+        caseBundle = bundle;
+        if (currentReport != null) initializeInvestigationTimeline();
+    }
+    
     @Override
     protected void onResume() {
         super.onResume();
         // Refresh case details when returning to this screen
         if (reportId != -1) {
             loadCaseDetails();
+            loadCaseBundle();
             // Timeline will be initialized in populateFields() via loadCaseDetails()
             // No need to call refreshInvestigationTimeline() here to avoid duplication
         }
     }
+    
+    @Override
+    protected void onDestroy() {
+        // Don't deliver the bundle to a finished screen
+        CaseBundleRepository.getInstance().cancel(reportId, caseBundleCallback);
+        super.onDestroy();
+    }
 }
@@ -9,16 +9,16 @@ import android.widget.TextView;
 import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.cardview.widget.CardView;
+import androidx.lifecycle.ViewModelProvider;
 import com.example.blottermanagementsystem.R;
-import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.example.blottermanagementsystem.utils.EnhancedApiCallback;
-import java.util.concurrent.Executors;
+import com.example.blottermanagementsystem.viewmodel.DashboardViewModel;
 
 public class AdminDashboardActivity extends BaseActivity {
     
     private PreferencesManager preferencesManager;
-    private BlotterDatabase database;
+    private DashboardViewModel dashboardViewModel;
     private TextView tvWelcome, tvTotalUsers, tvTotalOfficers, tvTotalReports, tvPendingReports;
     private TextView tvNotificationBadge;
     private ImageButton btnNotifications, btnProfile;
@@ -33,10 +33,14 @@ public class AdminDashboardActivity extends BaseActivity {
         setContentView(R.layout.activity_admin_dashboard);
         
         preferencesManager = new PreferencesManager(this);
-        database = BlotterDatabase.getDatabase(this);
         
         initViews();
         setupListeners();
+        
+        // ✅ Counters come from one aggregate query, then move with realtime deltas
+        dashboardViewModel = new ViewModelProvider(this).get(DashboardViewModel.class);
+        dashboardViewModel.getDashboardStats().observe(this, this::showStats);
+        dashboardViewModel.connectRealtime();
         loadDashboard();
         
         // Start periodic refresh for real-time dashboard updates
@@ -103,39 +107,23 @@ public class AdminDashboardActivity extends BaseActivity {
         // Show loading for admin dashboard
         com.example.blottermanagementsystem.utils.GlobalLoadingManager.show(this, "Loading dashboard...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
-            try {
-            int totalUsers = database.userDao().getTotalUserCount(); // Exclude Admin and Officer
-            int totalOfficers = database.officerDao().getAllOfficers().size();
-            int totalReports = database.blotterReportDao().getAllReports().size();
-            int pendingReports = database.blotterReportDao().getReportsByStatus("Pending").size();
-            
-            // Get unread notifications count
-            int unreadNotifications = database.notificationDao()
-                .getUnreadNotificationsForUser(preferencesManager.getUserId()).size();
-            
-            runOnUiThread(() -> {
-                tvTotalUsers.setText(String.valueOf(totalUsers));
-                tvTotalOfficers.setText(String.valueOf(totalOfficers));
-                tvTotalReports.setText(String.valueOf(totalReports));
-                tvPendingReports.setText(String.valueOf(pendingReports));
-                
-                // Update notification badge
-                updateNotificationBadge(unreadNotifications);
-                
-                // Stop refresh animation
-                swipeRefresh.setRefreshing(false);
-                
-                // Hide loading
-                com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
-            });
-            } catch (Exception e) {
-                runOnUiThread(() -> {
-                    com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
-                    swipeRefresh.setRefreshing(false);
-                });
-            }
-        });
+        dashboardViewModel.refreshData();
+    }
+    
+    private void showStats(DashboardViewModel.DashboardStats stats) {
+        tvTotalUsers.setText(String.valueOf(stats.totalUsers));
+        tvTotalOfficers.setText(String.valueOf(stats.totalOfficers));
+        tvTotalReports.setText(String.valueOf(stats.totalReports));
+        tvPendingReports.setText(String.valueOf(stats.pendingReports));
+        
+        // Update notification badge
+        updateNotificationBadge(stats.unreadNotifications);
+        
+        // Stop refresh animation
+        swipeRefresh.setRefreshing(false);
+        
+        // Hide loading
+        com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
     }
     
     private void updateNotificationBadge(int count) {
@@ -194,44 +182,7 @@ public class AdminDashboardActivity extends BaseActivity {
     }
     
     private void loadDashboardQuietly() {
-        Executors.newSingleThreadExecutor().execute(() -> {
-            try {
-                int totalUsers = database.userDao().getTotalUserCount();
-                int totalOfficers = database.officerDao().getAllOfficers().size();
-                int totalReports = database.blotterReportDao().getAllReports().size();
-                int pendingReports = database.blotterReportDao().getReportsByStatus("Pending").size();
-                int unreadNotifications = database.notificationDao()
-                    .getUnreadNotificationsForUser(preferencesManager.getUserId()).size();
-                
-                // Only update UI if values changed
-                if (hasStatisticsChanged(totalUsers, totalOfficers, totalReports, pendingReports, unreadNotifications)) {
-                    runOnUiThread(() -> {
-                        tvTotalUsers.setText(String.valueOf(totalUsers));
-                        tvTotalOfficers.setText(String.valueOf(totalOfficers));
-                        tvTotalReports.setText(String.valueOf(totalReports));
-                        tvPendingReports.setText(String.valueOf(pendingReports));
-                        updateNotificationBadge(unreadNotifications);
-                    });
-                }
-            } catch (Exception e) {
-                android.util.Log.e("AdminDashboard", "Error in quiet refresh: " + e.getMessage());
-            }
-        });
-    }
-    
-    private int lastTotalUsers = -1, lastTotalOfficers = -1, lastTotalReports = -1, lastPendingReports = -1, lastUnreadNotifications = -1;
-    
-    private boolean hasStatisticsChanged(int totalUsers, int totalOfficers, int totalReports, int pendingReports, int unreadNotifications) {
-        if (lastTotalUsers != totalUsers || lastTotalOfficers != totalOfficers || 
-            lastTotalReports != totalReports || lastPendingReports != pendingReports || 
-            lastUnreadNotifications != unreadNotifications) {
-            lastTotalUsers = totalUsers;
-            lastTotalOfficers = totalOfficers;
-            lastTotalReports = totalReports;
-            lastPendingReports = pendingReports;
-            lastUnreadNotifications = unreadNotifications;
-            return true;
-        }
-        return false;
+        // Same aggregate - LiveData only re-renders, no loading overlay
+        dashboardViewModel.refreshData();
     }
 }
@@ -14,12 +14,12 @@ import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.ui.adapters.UserManagementAdapter;
 import com.example.blottermanagementsystem.utils.ApiClient;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 import com.google.android.material.textfield.TextInputEditText;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
@@ -86,14 +86,14 @@ public class AdminManageUsersActivity extends BaseActivity {
     
     private void loadAllUsers() {
         Log.d(TAG, "📥 Loading all users...");
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 userList = database.userDao().getAllUsers();
                 filteredList.clear();
                 filteredList.addAll(userList);
                 
                 runOnUiThread(() -> {
-                    adapter.notifyDataSetChanged();
+                    adapter.submitList(filteredList);
                     updateEmptyState();
                     Log.d(TAG, "✅ Loaded " + userList.size() + " users");
                 });
@@ -124,7 +124,7 @@ public class AdminManageUsersActivity extends BaseActivity {
             }
         }
         
-        adapter.notifyDataSetChanged();
+        adapter.submitList(filteredList);
         updateEmptyState();
         Log.d(TAG, "🔍 Search found " + filteredList.size() + " users");
     }
@@ -236,7 +236,7 @@ public class AdminManageUsersActivity extends BaseActivity {
     private void deleteFromLocalDatabase(User user) {
         Log.d(TAG, "💾 Deleting from local database: " + user.getId());
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 database.userDao().deleteUser(user);
                 Log.d(TAG, "✅ Deleted from local database: " + user.getId());
@@ -245,7 +245,7 @@ public class AdminManageUsersActivity extends BaseActivity {
                     // Remove from UI immediately
                     userList.remove(user);
                     filteredList.remove(user);
-                    adapter.notifyDataSetChanged();
+                    adapter.submitList(filteredList);
                     updateEmptyState();
                     
                     Toast.makeText(AdminManageUsersActivity.this, 
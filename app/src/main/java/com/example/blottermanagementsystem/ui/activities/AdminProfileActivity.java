@@ -1,6 +1,7 @@
 package com.example.blottermanagementsystem.ui.activities;
 
 import android.content.Intent;
+import android.net.Uri;
 import android.os.Bundle;
 import android.view.View;
 import android.widget.EditText;
@@ -9,13 +10,17 @@ import android.widget.TextView;
 import android.widget.Toast;
 import androidx.appcompat.widget.Toolbar;
 import androidx.cardview.widget.CardView;
+import androidx.core.content.FileProvider;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.utils.MainThreadWatchdog;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.textfield.TextInputEditText;
-import java.util.concurrent.Executors;
+import java.io.File;
+import java.io.IOException;
 
 public class AdminProfileActivity extends BaseActivity {
     
@@ -26,7 +31,7 @@ public class AdminProfileActivity extends BaseActivity {
     // Views
     private Toolbar toolbar;
     private TextView tvAdminName, tvUsername, tvFirstName, tvLastName, tvUsernameValue, tvRole;
-    private CardView cardChangePassword, cardSystemSettings;
+    private CardView cardChangePassword, cardSystemSettings, cardExportPerformanceLog;
     private MaterialButton btnLogout;
     
     @Override
@@ -54,6 +59,7 @@ public class AdminProfileActivity extends BaseActivity {
         
         cardChangePassword = findViewById(R.id.cardChangePassword);
         cardSystemSettings = findViewById(R.id.cardSystemSettings);
+        cardExportPerformanceLog = findViewById(R.id.cardExportPerformanceLog);
         
         btnLogout = findViewById(R.id.btnLogout);
         
@@ -75,12 +81,13 @@ public class AdminProfileActivity extends BaseActivity {
         cardSystemSettings.setOnClickListener(v -> {
             startActivity(new Intent(this, SettingsActivity.class));
         });
+        cardExportPerformanceLog.setOnClickListener(v -> exportPerformanceLog());
         
         btnLogout.setOnClickListener(v -> showLogoutDialog());
     }
     
     private void loadUserData() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             currentUser = database.userDao().getUserById(preferencesManager.getUserId());
             
             runOnUiThread(() -> {
@@ -97,6 +104,55 @@ public class AdminProfileActivity extends BaseActivity {
         });
     }
     
+    /**
+     * Share the main-thread stall / frame-time log collected by MainThreadWatchdog
+     */
+    private void exportPerformanceLog() {
+        taskScope.execute(AppExecutors.disk(), () -> {
+            File log;
+            try {
+                log = MainThreadWatchdog.exportLog(this);
+            } catch (IOException e) {
+                taskScope.runOnUi(() -> Toast.makeText(this, "Failed to export performance log", Toast.LENGTH_SHORT).show());
+                return;
+            }
+            
+            taskScope.runOnUi(() -> {
+                if (log.length() == 0) {
+                    if (MainThreadWatchdog.isInstalled()) {
+                        Toast.makeText(this, "No performance data recorded yet", Toast.LENGTH_SHORT).show();
+                    } else {
+                        showEnablePerformanceLogDialog();
+                    }
+                    return;
+                }
+                Uri logUri = FileProvider.getUriForFile(this, getPackageName() + ".provider", log);
+                Intent shareIntent = new Intent(Intent.ACTION_SEND);
+                shareIntent.setType("text/plain");
+                shareIntent.putExtra(Intent.EXTRA_STREAM, logUri);
+                shareIntent.putExtra(Intent.EXTRA_SUBJECT, "Blotter performance log");
+                shareIntent.addFlags(Intent.FLAG_GRANT_READ_URI_PERMISSION);
+                startActivity(Intent.createChooser(shareIntent, "Export performance log via:"));
+            });
+        });
+    }
+    
+    /**
+     * Release builds don't record the log until asked - opt in here; it stays on across restarts
+     */
+    private void showEnablePerformanceLogDialog() {
+        new androidx.appcompat.app.AlertDialog.Builder(this, R.style.CustomAlertDialog)
+            .setTitle("Performance Log")
+            .setMessage("Performance logging is off. Start recording main-thread stalls and frame times on this device?")
+            .setPositiveButton("START", (dialog, which) -> {
+                preferencesManager.setPerformanceLogEnabled(true);
+                MainThreadWatchdog.install(getApplication());
+                Toast.makeText(this, "Recording - export again after using the app", Toast.LENGTH_SHORT).show();
+            })
+            .setNegativeButton("CANCEL", null)
+            .show();
+    }
+    
     private void showEditProfileDialog() {
         View dialogView = getLayoutInflater().inflate(R.layout.dialog_edit_profile, null);
         
@@ -136,7 +192,7 @@ public class AdminProfileActivity extends BaseActivity {
     }
     
     private void updateProfile(String firstName, String lastName, String username) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             currentUser.setFirstName(firstName);
             currentUser.setLastName(lastName);
             currentUser.setUsername(username);
@@ -204,7 +260,7 @@ public class AdminProfileActivity extends BaseActivity {
     }
     
     private void changePassword(String newPassword) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             currentUser.setPassword(newPassword);
             database.userDao().updateUser(currentUser);
             
@@ -268,7 +324,7 @@ public class AdminProfileActivity extends BaseActivity {
     }
     
     private void performDeleteAccount() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             database.userDao().deleteUser(currentUser);
             
             runOnUiThread(() -> {
@@ -18,15 +18,18 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.repository.BulkSyncWriter;
+import com.example.blottermanagementsystem.data.repository.ReportSearchRepository;
 import com.example.blottermanagementsystem.ui.adapters.ReportAdapter;
 import com.example.blottermanagementsystem.utils.ApiClient;
 import com.example.blottermanagementsystem.utils.EmptyStateBuilder;
 import com.example.blottermanagementsystem.utils.NetworkMonitor;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.Set;
 
 public class AdminReportOversightActivity extends BaseActivity {
     
@@ -40,6 +43,7 @@ public class AdminReportOversightActivity extends BaseActivity {
     private List<BlotterReport> filteredReports = new ArrayList<>();
     private PreferencesManager preferencesManager;
     private String searchQuery = "";
+    private ReportSearchRepository searchRepository;
     private String currentStatusFilter = "ALL";
     private String currentSort = "Newest First";
     private BlotterDatabase database;
@@ -48,6 +52,7 @@ public class AdminReportOversightActivity extends BaseActivity {
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        searchRepository = new ReportSearchRepository(this);
         android.util.Log.d("AdminOverview", "onCreate() called");
         setContentView(R.layout.activity_admin_report_oversight);
         
@@ -207,6 +212,14 @@ public class AdminReportOversightActivity extends BaseActivity {
     }
     
     private void filterReports() {
+        String query = searchQuery;
+        // ✅ Search the FTS index (word prefixes) off the UI thread; a newer query wins
+        searchRepository.matchingIds(query, taskScope, matches -> {
+            if (query.equals(searchQuery)) showReports(matches);
+        });
+    }
+    
+    private void showReports(Set<Integer> matches) {
         filteredReports.clear();
         
         android.util.Log.d("AdminOverview", "Total reports: " + allReports.size() + ", Filter: " + currentStatusFilter);
@@ -221,14 +234,8 @@ public class AdminReportOversightActivity extends BaseActivity {
             }
             
             // Filter by search query
-            if (!searchQuery.isEmpty()) {
-                String caseNumber = report.getCaseNumber() != null ? report.getCaseNumber().toLowerCase() : "";
-                String incidentType = report.getIncidentType() != null ? report.getIncidentType().toLowerCase() : "";
-                String complainant = report.getComplainantName() != null ? report.getComplainantName().toLowerCase() : "";
-                
-                if (!caseNumber.contains(searchQuery) && !incidentType.contains(searchQuery) && !complainant.contains(searchQuery)) {
-                    continue;
-                }
+            if (matches != null && !matches.contains(report.getId())) {
+                continue;
             }
             
             filteredReports.add(report);
@@ -240,7 +247,7 @@ public class AdminReportOversightActivity extends BaseActivity {
         
         if (adapter != null) {
             android.util.Log.d("AdminOverview", "Notifying adapter of " + filteredReports.size() + " items");
-            adapter.notifyDataSetChanged();
+            adapter.updateReports(filteredReports);
         } else {
             android.util.Log.e("AdminOverview", "ERROR: adapter is NULL!");
         }
@@ -337,7 +344,7 @@ public class AdminReportOversightActivity extends BaseActivity {
         android.util.Log.d("AdminOverview", "loadReports() called");
         
         // Load from LOCAL DATABASE FIRST (fast)
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 android.util.Log.d("AdminOverview", "Querying database for all reports...");
                 List<BlotterReport> reports = database.blotterReportDao().getAllReports();
@@ -360,20 +367,14 @@ public class AdminReportOversightActivity extends BaseActivity {
         // Sync with API in background (don't block UI)
         NetworkMonitor networkMonitor = new NetworkMonitor(this);
         if (networkMonitor.isNetworkAvailable()) {
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 ApiClient.getAllReports(new ApiClient.ApiCallback<List<BlotterReport>>() {
                     @Override
                     public void onSuccess(List<BlotterReport> apiReports) {
-                        Executors.newSingleThreadExecutor().execute(() -> {
+                        AppExecutors.callback().execute(() -> {
                             try {
-                                for (BlotterReport report : apiReports) {
-                                    BlotterReport existing = database.blotterReportDao().getReportById(report.getId());
-                                    if (existing == null) {
-                                        database.blotterReportDao().insertReport(report);
-                                    } else {
-                                        database.blotterReportDao().updateReport(report);
-                                    }
-                                }
+                                // Save API data to local database - chunked merge, keeps unsent local edits
+                                new BulkSyncWriter(database).applyReports(apiReports);
                                 
                                 runOnUiThread(() -> {
                                     allReports.clear();
@@ -3,9 +3,13 @@ package com.example.blottermanagementsystem.ui.activities;
 import android.os.Bundle;
 import androidx.appcompat.app.AppCompatActivity;
 import com.example.blottermanagementsystem.R;
+import com.example.blottermanagementsystem.utils.TaskScope;
 
 public abstract class BaseActivity extends AppCompatActivity {
     
+    // ✅ Background work started through this is cancelled in onDestroy
+    protected final TaskScope taskScope = TaskScope.of(this);
+    
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -21,6 +21,8 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.OutboxEntry;
+import com.example.blottermanagementsystem.data.repository.OutboxRepository;
 import com.example.blottermanagementsystem.ui.adapters.ImageAdapter;
 import com.example.blottermanagementsystem.ui.adapters.VideoAdapter;
 import com.example.blottermanagementsystem.utils.MediaManager;
@@ -28,8 +30,7 @@ import com.example.blottermanagementsystem.utils.NotificationHelper;
 import com.example.blottermanagementsystem.utils.PermissionHelper;
 import com.example.blottermanagementsystem.utils.PhoneNumberValidator;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
-import com.example.blottermanagementsystem.utils.ApiClient;
-import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.textfield.TextInputEditText;
 import androidx.cardview.widget.CardView;
@@ -40,7 +41,6 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.Executors;
 
 public class EditReportActivity extends BaseActivity {
     
@@ -489,7 +489,7 @@ public class EditReportActivity extends BaseActivity {
     }
     
     private void loadReportData() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             report = database.blotterReportDao().getReportById(reportId);
             
             runOnUiThread(() -> {
@@ -1003,31 +1003,14 @@ public class EditReportActivity extends BaseActivity {
         // Show loading for report update
         com.example.blottermanagementsystem.utils.GlobalLoadingManager.show(this, "Updating report...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Save to local database first
                 database.blotterReportDao().updateReport(report);
                 
-                // Check if online and sync to API
-                NetworkMonitor networkMonitor = new NetworkMonitor(EditReportActivity.this);
-                if (networkMonitor.isNetworkAvailable()) {
-                    // Sync to API
-                    ApiClient.updateReport(reportId, report, new ApiClient.ApiCallback<BlotterReport>() {
-                        @Override
-                        public void onSuccess(BlotterReport result) {
-                            android.util.Log.d("EditReport", "✅ Report synced to API: " + result.getId());
-                            // Update local database with API response
-                            database.blotterReportDao().updateReport(result);
-                        }
-                        
-                        @Override
-                        public void onError(String errorMessage) {
-                            android.util.Log.w("EditReport", "⚠️ API sync failed: " + errorMessage);
-                        }
-                    });
-                } else {
-                    android.util.Log.i("EditReport", "Offline mode: Report updated locally, will sync when online");
-                }
+                // Journal for the API - coalesced with any update still queued for this report
+                OutboxRepository.getInstance(EditReportActivity.this)
+                    .queueReport(OutboxEntry.OP_UPDATE, report);
                 
                 runOnUiThread(() -> {
                     com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
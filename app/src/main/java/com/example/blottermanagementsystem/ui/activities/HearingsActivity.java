@@ -9,11 +9,11 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import android.widget.Toast;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class HearingsActivity extends BaseActivity {
     
@@ -56,7 +56,7 @@ public class HearingsActivity extends BaseActivity {
     }
     
     private void loadHearings() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             List<Hearing> hearings = database.hearingDao().getAllHearings();
             
             runOnUiThread(() -> {
@@ -80,7 +80,7 @@ public class HearingsActivity extends BaseActivity {
     
     // Quiet loading method to prevent black screen flicker
     private void loadHearingsQuietly() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 List<Hearing> hearings = database.hearingDao().getAllHearings();
                 
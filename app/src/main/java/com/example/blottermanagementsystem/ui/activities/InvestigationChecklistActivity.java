@@ -17,12 +17,12 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.InvestigationTask;
 import com.example.blottermanagementsystem.ui.adapters.InvestigationTaskAdapter;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class InvestigationChecklistActivity extends BaseActivity {
     
@@ -90,7 +90,7 @@ public class InvestigationChecklistActivity extends BaseActivity {
     }
     
     private void loadTasks() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 tasks.clear();
                 List<InvestigationTask> loadedTasks = database.investigationTaskDao().getTasksByReportId(reportId);
@@ -125,7 +125,7 @@ public class InvestigationChecklistActivity extends BaseActivity {
         defaultTasks.add(new InvestigationTask(reportId, "Prepare Investigation Report", "Compile findings into formal report", 1));
         
         // Insert into database
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             for (InvestigationTask task : defaultTasks) {
                 database.investigationTaskDao().insertTask(task);
             }
@@ -135,7 +135,7 @@ public class InvestigationChecklistActivity extends BaseActivity {
     }
     
     private void updateTaskCompletion(InvestigationTask task) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 task.setCompleted(!task.isCompleted());
                 task.setUpdatedDate(System.currentTimeMillis());
@@ -143,7 +143,9 @@ public class InvestigationChecklistActivity extends BaseActivity {
                 
                 runOnUiThread(() -> {
                     updateProgress();
-                    adapter.notifyDataSetChanged();
+                    // Only the toggled row changed
+                    int position = tasks.indexOf(task);
+                    if (position >= 0) adapter.notifyItemChanged(position);
                 });
             } catch (Exception e) {
                 android.util.Log.e("InvestigationChecklist", "Error updating task: " + e.getMessage());
@@ -200,7 +202,7 @@ public class InvestigationChecklistActivity extends BaseActivity {
         
         if (completedCount == tasks.size() && tasks.size() > 0) {
             // All tasks completed - update report status to "Resolved"
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 try {
                     BlotterDatabase db = BlotterDatabase.getDatabase(this);
                     com.example.blottermanagementsystem.data.entity.BlotterReport report = 
@@ -21,6 +21,7 @@ import com.example.blottermanagementsystem.firebase.FirebaseAuthManager;
 import com.example.blottermanagementsystem.utils.NetworkConnectivityManager;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.example.blottermanagementsystem.viewmodel.AuthViewModel;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.gms.auth.api.signin.GoogleSignIn;
 import com.google.android.gms.auth.api.signin.GoogleSignInAccount;
 import com.google.android.gms.auth.api.signin.GoogleSignInClient;
@@ -455,6 +456,16 @@ public class LoginActivity extends BaseActivity {
         // Initialize API client with preferences (for JWT interceptor)
         com.example.blottermanagementsystem.utils.ApiClient.initApiClient(preferencesManager);
         
+        // ✅ Wait for the backend to wake up instead of racing its cold start with the login timeout
+        com.example.blottermanagementsystem.data.api.BackendWarmup.whenReady(() -> {
+            if (isFinishing() || isDestroyed()) return;
+            sendLoginRequest(username, password, loginData);
+        });
+    }
+    
+    private void sendLoginRequest(String username, String password, java.util.Map<String, Object> loginData) {
+        long startedAt = System.currentTimeMillis();
+        
         // Call backend API
         com.example.blottermanagementsystem.utils.ApiClient.getApiService().login(loginData)
             .enqueue(new retrofit2.Callback<java.util.Map<String, Object>>() {
@@ -462,6 +473,7 @@ public class LoginActivity extends BaseActivity {
                 public void onResponse(retrofit2.Call<java.util.Map<String, Object>> call, 
                                      retrofit2.Response<java.util.Map<String, Object>> response) {
                     showLoading(false);
+                    com.example.blottermanagementsystem.data.api.BackendWarmup.recordFirstCall(System.currentTimeMillis() - startedAt);
                     
                     if (response.isSuccessful() && response.body() != null) {
                         android.util.Log.d("LoginActivity", "✅ Backend login successful");
@@ -593,7 +605,7 @@ public class LoginActivity extends BaseActivity {
         android.util.Log.d("LoginActivity", "=== CHECK PROFILE COMPLETION ===");
         android.util.Log.d("LoginActivity", "UserId from PreferencesManager: " + userId);
         
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             com.example.blottermanagementsystem.data.database.BlotterDatabase database = 
                 com.example.blottermanagementsystem.data.database.BlotterDatabase.getDatabase(this);
             com.example.blottermanagementsystem.data.entity.User user = database.userDao().getUserById(userId);
@@ -766,7 +778,7 @@ public class LoginActivity extends BaseActivity {
             user.setCreatedAt(System.currentTimeMillis());
             
             // Save to database on background thread
-            java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 try {
                     long userId = database.userDao().insertUser(user);
                     android.util.Log.d("LoginActivity", "✅ User saved to database with ID: " + userId);
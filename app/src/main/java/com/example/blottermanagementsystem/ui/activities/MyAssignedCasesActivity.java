@@ -12,9 +12,9 @@ import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.Officer;
 import com.example.blottermanagementsystem.ui.adapters.ReportAdapter;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class MyAssignedCasesActivity extends BaseActivity {
     
@@ -72,7 +72,7 @@ public class MyAssignedCasesActivity extends BaseActivity {
         int userId = preferencesManager.getUserId();
         android.util.Log.d("MyAssignedCases", "👤 User ID from preferences: " + userId);
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // STEP 2: Find officer record for this user
                 Officer officer = database.officerDao().getOfficerByUserId(userId);
@@ -99,62 +99,12 @@ public class MyAssignedCasesActivity extends BaseActivity {
     }
     
     private void loadAssignedCases() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                // Get ALL reports from database
-                List<BlotterReport> allReports = database.blotterReportDao().getAllReports();
-                List<BlotterReport> assignedReports = new ArrayList<>();
+                // STEP 4: Indexed lookup through report_officers (single + multiple assignments)
+                List<BlotterReport> assignedReports = database.blotterReportDao().getAllReportsForOfficer(officerId);
                 
-                android.util.Log.d("MyAssignedCases", "🔍 Scanning " + allReports.size() + " total reports for officer ID: " + officerId);
-                
-                int singleAssignments = 0;
-                int multipleAssignments = 0;
-                
-                // STEP 4: Check each report if assigned to current officer
-                for (BlotterReport report : allReports) {
-                    boolean isAssignedToMe = false;
-                    String assignmentType = "NONE";
-                    
-                    // CHECK 1: Single officer assignment
-                    if (report.getAssignedOfficerId() != null && report.getAssignedOfficerId().intValue() == officerId) {
-                        isAssignedToMe = true;
-                        assignmentType = "SINGLE";
-                        singleAssignments++;
-                        android.util.Log.d("MyAssignedCases", "   ✅ SINGLE: " + report.getCaseNumber() + " | Status: " + report.getStatus());
-                    }
-                    
-                    // CHECK 2: Multiple officers assignment
-                    if (!isAssignedToMe && report.getAssignedOfficerIds() != null && !report.getAssignedOfficerIds().isEmpty()) {
-                        String[] officerIds = report.getAssignedOfficerIds().split(",");
-                        android.util.Log.d("MyAssignedCases", "   🔍 MULTIPLE: " + report.getCaseNumber() + " | Officer IDs: " + report.getAssignedOfficerIds());
-                        
-                        for (String idStr : officerIds) {
-                            try {
-                                int assignedOfficerId = Integer.parseInt(idStr.trim());
-                                if (assignedOfficerId == officerId) {
-                                    isAssignedToMe = true;
-                                    assignmentType = "MULTIPLE";
-                                    multipleAssignments++;
-                                    android.util.Log.d("MyAssignedCases", "   ✅ MULTIPLE: " + report.getCaseNumber() + " | Status: " + report.getStatus());
-                                    break;
-                                }
-                            } catch (NumberFormatException e) {
-                                android.util.Log.w("MyAssignedCases", "   ⚠️ Invalid officer ID in multiple assignment: " + idStr);
-                            }
-                        }
-                    }
-                    
-                    if (isAssignedToMe) {
-                        assignedReports.add(report);
-                        android.util.Log.d("MyAssignedCases", "   📌 ADDED: " + report.getCaseNumber() + " | Assignment: " + assignmentType + " | Status: " + report.getStatus());
-                    }
-                }
-                
-                android.util.Log.d("MyAssignedCases", "📊 ASSIGNMENT SUMMARY:");
-                android.util.Log.d("MyAssignedCases", "   - Total reports scanned: " + allReports.size());
-                android.util.Log.d("MyAssignedCases", "   - Single assignments: " + singleAssignments);
-                android.util.Log.d("MyAssignedCases", "   - Multiple assignments: " + multipleAssignments);
-                android.util.Log.d("MyAssignedCases", "   - Total assigned to me: " + assignedReports.size());
+                android.util.Log.d("MyAssignedCases", "📊 Total assigned to officer " + officerId + ": " + assignedReports.size());
                 
                 // STEP 5: Update UI with results
                 runOnUiThread(() -> {
@@ -162,7 +112,7 @@ public class MyAssignedCasesActivity extends BaseActivity {
                     casesList.addAll(assignedReports);
                     
                     if (adapter != null) {
-                        adapter.notifyDataSetChanged();
+                        adapter.updateReports(casesList);
                     }
                     
                     if (assignedReports.isEmpty()) {
@@ -206,37 +156,9 @@ public class MyAssignedCasesActivity extends BaseActivity {
             return;
         }
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                List<BlotterReport> allReports = database.blotterReportDao().getAllReports();
-                List<BlotterReport> assignedReports = new ArrayList<>();
-                
-                for (BlotterReport report : allReports) {
-                    boolean isAssignedToMe = false;
-                    
-                    // Check both assignment types
-                    if (report.getAssignedOfficerId() != null && report.getAssignedOfficerId().intValue() == officerId) {
-                        isAssignedToMe = true;
-                    }
-                    
-                    if (!isAssignedToMe && report.getAssignedOfficerIds() != null && !report.getAssignedOfficerIds().isEmpty()) {
-                        String[] officerIds = report.getAssignedOfficerIds().split(",");
-                        for (String idStr : officerIds) {
-                            try {
-                                if (Integer.parseInt(idStr.trim()) == officerId) {
-                                    isAssignedToMe = true;
-                                    break;
-                                }
-                            } catch (NumberFormatException e) {
-                                // Ignore invalid IDs
-                            }
-                        }
-                    }
-                    
-                    if (isAssignedToMe) {
-                        assignedReports.add(report);
-                    }
-                }
+                List<BlotterReport> assignedReports = database.blotterReportDao().getAllReportsForOfficer(officerId);
                 
                 // Only update UI if data changed
                 if (assignedReports.size() != casesList.size()) {
@@ -244,7 +166,7 @@ public class MyAssignedCasesActivity extends BaseActivity {
                         casesList.clear();
                         casesList.addAll(assignedReports);
                         if (adapter != null) {
-                            adapter.notifyDataSetChanged();
+                            adapter.updateReports(casesList);
                         }
                         
                         if (assignedReports.isEmpty()) {
@@ -15,8 +15,9 @@ import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Notification;
 import com.example.blottermanagementsystem.ui.adapters.NotificationAdapter;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.websocket.WebSocketManager;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class NotificationsActivity extends BaseActivity {
     private BlotterDatabase database;
@@ -108,7 +109,7 @@ public class NotificationsActivity extends BaseActivity {
             return;
         }
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 List<Notification> notifications = database.notificationDao()
                     .getNotificationsByUserId(userId);
@@ -185,7 +186,7 @@ public class NotificationsActivity extends BaseActivity {
         
         android.util.Log.d("NotificationsActivity", "📌 Mark All as Read - UserId: " + userId + ", Role: " + userRole);
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             List<Notification> notifications = database.notificationDao()
                 .getNotificationsByUserId(userId);
             
@@ -201,6 +202,9 @@ public class NotificationsActivity extends BaseActivity {
                 }
             }
             
+            // ✅ Dashboards drop their unread count without re-counting
+            WebSocketManager.getInstance(this).publishNotificationsRead(markedCount);
+            
             final int finalMarkedCount = markedCount;
             runOnUiThread(() -> {
                 Toast.makeText(this, finalMarkedCount + " notifications marked as read", Toast.LENGTH_SHORT).show();
@@ -223,7 +227,7 @@ public class NotificationsActivity extends BaseActivity {
             .setTitle("Delete Notification")
             .setMessage("Are you sure you want to delete this notification?")
             .setPositiveButton("Delete", (dialog, which) -> {
-                Executors.newSingleThreadExecutor().execute(() -> {
+                AppExecutors.disk().execute(() -> {
                     database.notificationDao().deleteNotification(notification);
                     runOnUiThread(() -> {
                         Toast.makeText(this, "Notification deleted", Toast.LENGTH_SHORT).show();
@@ -247,10 +251,12 @@ public class NotificationsActivity extends BaseActivity {
             android.util.Log.d("NotificationsActivity", "CaseId: " + notification.getCaseId());
             
             // Mark as read and update UI
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 try {
+                    boolean wasUnread = !notification.isRead();
                     notification.setRead(true);
                     database.notificationDao().updateNotification(notification);
+                    if (wasUnread) WebSocketManager.getInstance(this).publishNotificationsRead(1);
                     android.util.Log.d("NotificationsActivity", "✅ Notification marked as read");
                     
                     // Update UI to hide blue dot
@@ -344,7 +350,7 @@ public class NotificationsActivity extends BaseActivity {
             .setTitle("Delete Notifications")
             .setMessage("Delete " + selectedNotifications.size() + " notification(s)?")
             .setPositiveButton("DELETE", (dialog, which) -> {
-                Executors.newSingleThreadExecutor().execute(() -> {
+                AppExecutors.disk().execute(() -> {
                     int deletedCount = 0;
                     
                     android.util.Log.d("NotificationsActivity", "🗑️ Delete - UserId: " + userId + ", Role: " + userRole);
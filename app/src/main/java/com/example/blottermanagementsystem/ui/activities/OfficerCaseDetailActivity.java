@@ -22,7 +22,12 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.OutboxEntry;
+import com.example.blottermanagementsystem.data.model.CaseBundle;
 import com.example.blottermanagementsystem.data.model.InvestigationStep;
+import com.example.blottermanagementsystem.data.repository.CaseBundleRepository;
+import com.example.blottermanagementsystem.data.repository.OutboxRepository;
+import com.example.blottermanagementsystem.data.repository.ReportRepository;
 import com.example.blottermanagementsystem.ui.adapters.ImageAdapter;
 import com.example.blottermanagementsystem.ui.adapters.InvestigationStepAdapter;
 import com.example.blottermanagementsystem.ui.adapters.VideoAdapter;
@@ -36,27 +41,26 @@ import com.example.blottermanagementsystem.ui.dialogs.OfficerSendSmsDialogFragme
 import com.example.blottermanagementsystem.utils.MediaManager;
 import com.example.blottermanagementsystem.utils.NotificationHelper;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
-import com.example.blottermanagementsystem.utils.ApiClient;
-import com.example.blottermanagementsystem.utils.NetworkMonitor;
 import com.example.blottermanagementsystem.utils.TimelineUpdateManager;
 import com.example.blottermanagementsystem.utils.GlobalLoadingManager;
 import com.example.blottermanagementsystem.utils.ConflictResolver;
 // ❌ REMOVED: import com.example.blottermanagementsystem.utils.SyncQueueManager; (Pure online mode)
 import com.example.blottermanagementsystem.utils.EnhancedApiCallback;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.utils.TaskScope;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 import com.google.android.material.chip.Chip;
 import com.google.android.material.imageview.ShapeableImageView;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class OfficerCaseDetailActivity extends AppCompatActivity {
     
+    // ✅ Loads and UI updates started through this are cancelled in onDestroy
+    private final TaskScope taskScope = TaskScope.of(this);
+    
     // UI Components (using existing layout)
     private TextView tvCaseNumber, tvIncidentType, tvIncidentDate, tvIncidentLocation;
     private TextView tvComplainantName, tvComplainantContact, tvComplainantAddress;
@@ -99,6 +103,8 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
     private List<InvestigationStep> caseProgressSteps = new ArrayList<>();
     private List<InvestigationStep> investigationActionSteps = new ArrayList<>();
     private boolean isTimelineInitializing = false;  // ✅ Prevent concurrent initialization
+    private volatile CaseBundle caseBundle;  // ✅ Server-side witnesses, suspects, hearings... (null until loaded)
+    private boolean timelineRefreshPending = false;  // ✅ Data changed while a timeline build was running
     private boolean resolvedToastShown = false;  // ✅ Prevent duplicate resolved toast
     
     @Override
@@ -377,6 +383,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         // ✅ Prevent concurrent initialization (avoid duplicates)
         if (isTimelineInitializing) {
             android.util.Log.d("OfficerCaseDetail", "⚠️ Timeline initialization already in progress, skipping...");
+            timelineRefreshPending = true;
             return;
         }
         
@@ -387,7 +394,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         investigationActionSteps.clear();
         
         // Run on background thread to avoid "Cannot access database on the main thread" error
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        taskScope.execute(AppExecutors.disk(), () -> {
             
             // ===== CONTAINER 1: CASE PROGRESS (VIEW-ONLY) =====
             
@@ -438,9 +445,9 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
             // Step 4: Witnesses & Evidence Collected
             // ✅ Check if witness, suspect, AND evidence all exist
             InvestigationStep step4 = new InvestigationStep("4", "Witnesses & Evidence Collected", "Gathering case information", "evidence_collected");
-            int witnessCount = database.witnessDao().getWitnessCountByReport(reportId);
-            int suspectCount = database.suspectDao().getSuspectCountByReport(reportId);
-            int evidenceCount = database.evidenceDao().getEvidenceCountByReport(reportId);
+            int witnessCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.WITNESSES, database.witnessDao().getWitnessCountByReport(reportId));
+            int suspectCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.SUSPECTS, database.suspectDao().getSuspectCountByReport(reportId));
+            int evidenceCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.EVIDENCE, database.evidenceDao().getEvidenceCountByReport(reportId));
         
         if (witnessCount > 0 && suspectCount > 0 && evidenceCount > 0) {
             // All 3 collected - COMPLETED
@@ -463,7 +470,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         // Step 5: Hearing Scheduled
         // ✅ Check if hearing exists
         InvestigationStep step5 = new InvestigationStep("5", "Hearing Scheduled", "Court hearing date set", "hearing_scheduled");
-        int hearingCount = database.hearingDao().getHearingCountByReport(reportId);
+        int hearingCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.HEARINGS, database.hearingDao().getHearingCountByReport(reportId));
         
         if (hearingCount > 0) {
             // Hearing scheduled - COMPLETED (checkmark)
@@ -486,7 +493,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         // Step 6: Resolution Documented
         // ✅ Check if resolution exists
         InvestigationStep step6 = new InvestigationStep("6", "Resolution Documented", "Case outcome documented", "resolution_documented");
-        int resolutionCount = database.resolutionDao().getResolutionCountByReport(reportId);
+        int resolutionCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.RESOLUTIONS, database.resolutionDao().getResolutionCountByReport(reportId));
         
         if (resolutionCount > 0) {
             // Resolution documented - COMPLETED (checkmark)
@@ -575,7 +582,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
             investigationActionSteps.add(actionResolution);
             
             // ✅ Update UI on main thread
-            runOnUiThread(() -> {
+            taskScope.runOnUi(() -> {
                 // Notify adapters of changes
                 if (caseProgressAdapter != null) {
                     caseProgressAdapter.updateSteps(caseProgressSteps);
@@ -588,6 +595,10 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
                 
                 // ✅ Reset flag to allow next initialization
                 isTimelineInitializing = false;
+                if (timelineRefreshPending) {
+                    timelineRefreshPending = false;
+                    initializeInvestigationTimeline();
+                }
             });
         });
     }
@@ -630,38 +641,45 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
     
     private void loadCaseDetails() {
         GlobalLoadingManager.show(this, "Loading case details...");
+        database = BlotterDatabase.getDatabase(this);
         
-        Executors.newSingleThreadExecutor().execute(() -> {
-            try {
-                database = BlotterDatabase.getDatabase(this);
-                if (database == null) {
-                    runOnUiThread(() -> {
-                        GlobalLoadingManager.hide();
-                        Toast.makeText(this, "Database error", Toast.LENGTH_SHORT).show();
-                        finish();
-                    });
-                    return;
-                }
-                
-                currentReport = database.blotterReportDao().getReportById(reportId);
-                android.util.Log.d("OfficerCaseDetail", "Loaded report ID: " + reportId + ", Report: " + (currentReport != null ? currentReport.getCaseNumber() : "NULL"));
+        // ✅ Show cached case instantly, then revalidate against API in background
+        new ReportRepository(this, taskScope).getReportById(reportId, false, new ReportRepository.CacheCallback<BlotterReport>() {
+            @Override
+            public void onCached(BlotterReport report) {
+                android.util.Log.d("OfficerCaseDetail", "Loaded report ID: " + reportId + ", Report: " + (report != null ? report.getCaseNumber() : "NULL"));
+                if (report == null) return; // Wait for API
                 
-                runOnUiThread(() -> {
+                taskScope.runOnUi(() -> {
                     GlobalLoadingManager.hide();
-                    if (currentReport != null) {
-                        populateViews();
+                    currentReport = report;
+                    populateViews();
+                    loadMediaFiles();
+                });
+            }
+            
+            @Override
+            public void onRefreshed(BlotterReport report) {
+                taskScope.runOnUi(() -> {
+                    boolean firstDisplay = currentReport == null;
+                    GlobalLoadingManager.hide();
+                    currentReport = report;
+                    populateViews();
+                    if (firstDisplay) {
                         loadMediaFiles();
-                    } else {
-                        Toast.makeText(this, "Case not found (ID: " + reportId + ")", Toast.LENGTH_SHORT).show();
-                        finish();
                     }
                 });
-            } catch (Exception e) {
-                android.util.Log.e("OfficerCaseDetail", "Error loading case", e);
-                runOnUiThread(() -> {
-                    GlobalLoadingManager.hide();
-                    Toast.makeText(this, "Error loading case: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                    finish();
+            }
+            
+            @Override
+            public void onError(String errorMessage) {
+                android.util.Log.w("OfficerCaseDetail", "⚠️ Case revalidation failed: " + errorMessage);
+                taskScope.runOnUi(() -> {
+                    if (currentReport == null) {
+                        GlobalLoadingManager.hide();
+                        Toast.makeText(OfficerCaseDetailActivity.this, "Case not found (ID: " + reportId + ")", Toast.LENGTH_SHORT).show();
+                        finish();
+                    }
                 });
             }
         });
@@ -1003,7 +1021,8 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         GlobalLoadingManager.show(this, "Starting investigation...");
         
         // Update status from "assigned" to "ongoing"
-        Executors.newSingleThreadExecutor().execute(() -> {
+        // ✅ Not scoped: the write must finish even if the screen closes or rotates - only the UI update is dropped
+        AppExecutors.disk().execute(() -> {
             try {
                 String oldStatus = currentReport.getStatus();
                 currentReport.setStatus("ONGOING");
@@ -1040,7 +1059,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
                     );
                 }
                 
-                runOnUiThread(() -> {
+                taskScope.runOnUi(() -> {
                     GlobalLoadingManager.hide();
                     Toast.makeText(this, "Investigation started! Status changed to: Ongoing", Toast.LENGTH_LONG).show();
                     chipStatus.setText("ONGOING");
@@ -1055,7 +1074,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
                     initializeInvestigationTimeline();  // ← Refresh timeline to show investigation features
                 });
             } catch (Exception e) {
-                runOnUiThread(() -> {
+                taskScope.runOnUi(() -> {
                     GlobalLoadingManager.hide();
                     Toast.makeText(this, "Error starting investigation: " + e.getMessage(), Toast.LENGTH_SHORT).show();
                 });
@@ -1150,7 +1169,8 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         GlobalLoadingManager.show(this, "Resolving case...");
         
         // Update status from "ongoing" to "resolved"
-        Executors.newSingleThreadExecutor().execute(() -> {
+        // ✅ Not scoped: the write must finish even if the screen closes or rotates - only the UI update is dropped
+        AppExecutors.disk().execute(() -> {
             try {
                 String oldStatus = currentReport.getStatus();
                 currentReport.setStatus("RESOLVED");
@@ -1197,7 +1217,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
                     );
                 }
                 
-                runOnUiThread(() -> {
+                taskScope.runOnUi(() -> {
                     GlobalLoadingManager.hide();
                     Toast.makeText(this, "Case resolved! Status changed to: Resolved", Toast.LENGTH_LONG).show();
                     chipStatus.setText("RESOLVED");
@@ -1205,7 +1225,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
                     initializeInvestigationTimeline();  // ← Refresh timeline to hide all investigation features
                 });
             } catch (Exception e) {
-                runOnUiThread(() -> {
+                taskScope.runOnUi(() -> {
                     GlobalLoadingManager.hide();
                     Toast.makeText(this, "Error resolving case: " + e.getMessage(), Toast.LENGTH_SHORT).show();
                 });
@@ -1579,7 +1599,8 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
     }
     
     private void updateCaseStatusToResolved() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        // ✅ Not scoped: the write must finish even if the screen closes or rotates - only the UI update is dropped
+        AppExecutors.disk().execute(() -> {
             try {
                 if (currentReport != null && database != null) {
                     // ✅ Update case status to RESOLVED
@@ -1587,33 +1608,18 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
                     database.blotterReportDao().updateReport(currentReport);
                     android.util.Log.d("OfficerCaseDetail", "✅ Case status updated to RESOLVED in database");
                     
-                    // ✅ Sync to API for all 3 roles (Officer, Admin, User)
-                    NetworkMonitor networkMonitor = new NetworkMonitor(this);
-                    if (networkMonitor.isNetworkAvailable()) {
-                        ApiClient.getApiService().updateReport(reportId, currentReport).enqueue(new Callback<BlotterReport>() {
-                            @Override
-                            public void onResponse(Call<BlotterReport> call, Response<BlotterReport> response) {
-                                if (response.isSuccessful()) {
-                                    android.util.Log.d("OfficerCaseDetail", "✅ Case status synced to API");
-                                }
-                            }
-                            
-                            @Override
-                            public void onFailure(Call<BlotterReport> call, Throwable t) {
-                                android.util.Log.w("OfficerCaseDetail", "⚠️ API sync failed: " + t.getMessage());
-                            }
-                        });
-                    }
+                    // ✅ Sync to API for all 3 roles (Officer, Admin, User) - survives going offline
+                    OutboxRepository.getInstance(this).queueReport(OutboxEntry.OP_UPDATE, currentReport);
                     
                     // Refresh UI on main thread
-                    runOnUiThread(() -> {
+                    taskScope.runOnUi(() -> {
                         loadCaseDetails();
                         Toast.makeText(OfficerCaseDetailActivity.this, "✅ Case marked as Resolved", Toast.LENGTH_SHORT).show();
                     });
                 }
             } catch (Exception e) {
                 android.util.Log.e("OfficerCaseDetail", "Error updating case status: " + e.getMessage());
-                runOnUiThread(() -> {
+                taskScope.runOnUi(() -> {
                     Toast.makeText(OfficerCaseDetailActivity.this, "Error updating case status", Toast.LENGTH_SHORT).show();
                 });
             }
@@ -1631,7 +1637,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
             }
         }
         // Refresh the adapter to show hourglass icon
-        runOnUiThread(() -> {
+        taskScope.runOnUi(() -> {
             if (investigationActionsAdapter != null) {
                 investigationActionsAdapter.notifyDataSetChanged();
             }
@@ -1649,7 +1655,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
             }
         }
         // Refresh the adapter to show checkmark icon
-        runOnUiThread(() -> {
+        taskScope.runOnUi(() -> {
             if (investigationActionsAdapter != null) {
                 investigationActionsAdapter.notifyDataSetChanged();
             }
@@ -1682,7 +1688,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
         }
         
         // Create or get person ID from database
-        Executors.newSingleThreadExecutor().execute(() -> {
+        taskScope.execute(AppExecutors.disk(), () -> {
             try {
                 // Get or create Person record
                 com.example.blottermanagementsystem.data.entity.Person person = 
@@ -1702,7 +1708,7 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
                 }
                 
                 // Open View Person History Activity
-                runOnUiThread(() -> {
+                taskScope.runOnUi(() -> {
                     Intent intent = new Intent(OfficerCaseDetailActivity.this, OfficerViewPersonHistoryActivity.class);
                     intent.putExtra("person_id", personId);
                     intent.putExtra("person_name", finalRespondentName);
@@ -1710,22 +1716,62 @@ public class OfficerCaseDetailActivity extends AppCompatActivity {
                 });
             } catch (Exception e) {
                 Log.e("OfficerCaseDetail", "Error opening person history: " + e.getMessage(), e);
-                runOnUiThread(() -> Toast.makeText(OfficerCaseDetailActivity.this, "Error: " + e.getMessage(), Toast.LENGTH_SHORT).show());
+                taskScope.runOnUi(() -> Toast.makeText(OfficerCaseDetailActivity.this, "Error: " + e.getMessage(), Toast.LENGTH_SHORT).show());
             }
         });
     }
     
+    // One instance per screen, so onDestroy() can cancel it
+    private final CaseBundleRepository.CaseBundleCallback caseBundleCallback = new CaseBundleRepository.CaseBundleCallback() {
+        @Override
+        public void onPartial(CaseBundle bundle, CaseBundle.Part part) {
+            onCaseBundle(bundle);
+        }
+        
+        @Override
+        public void onSuccess(CaseBundle bundle) {
+            onCaseBundle(bundle);
+        }
+        
+        @Override
+        public void onError(String errorMessage) {
+            android.util.Log.w("OfficerCaseDetail", "⚠️ Case bundle unavailable, using local data: " + errorMessage);
+        }
+    };
+    
+    /**
+     * Fetch the case's server-side lists in parallel; the timeline and dialogs use them as each one lands
+     */
+    private void loadCaseBundle() {
+        CaseBundleRepository.getInstance().load(reportId, caseBundleCallback);
+    }
+    
+    private void onCaseBundle(CaseBundle bundle) {
+        // onSuccess repeats the last partial bundle - nothing new to render
+        if (isFinishing() || isDestroyed() || bundle == caseBundle) return;
+        caseBundle = bundle;
+        if (currentReport != null) initializeInvestigationTimeline();
+    }
+    
     @Override
     protected void onResume() {
         super.onResume();
         // Refresh case details when returning to this screen
         if (reportId != -1) {
             loadCaseDetails();
+            loadCaseBundle();
             // Timeline will be initialized in populateViews() via loadCaseDetails()
             // No need to call refreshInvestigationTimeline() here to avoid duplication
         }
     }
     
+    @Override
+    protected void onDestroy() {
+        // Don't deliver the bundle to a finished screen
+        CaseBundleRepository.getInstance().cancel(reportId, caseBundleCallback);
+        super.onDestroy();
+    }
+    
     /**
      * Refresh the entire investigation timeline
      * Called when returning to this activity
@@ -9,6 +9,7 @@ import android.widget.TextView;
 import android.widget.ImageButton;
 import android.widget.Toast;
 import androidx.cardview.widget.CardView;
+import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
@@ -16,6 +17,8 @@ import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.ui.adapters.RecentCaseAdapter;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.viewmodel.DashboardViewModel;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
@@ -26,7 +29,6 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.Executors;
 
 public class OfficerDashboardActivity extends BaseActivity {
 
@@ -40,6 +42,7 @@ public class OfficerDashboardActivity extends BaseActivity {
 
     private PreferencesManager preferencesManager;
     private BlotterDatabase database;
+    private DashboardViewModel dashboardViewModel;
     private List<BlotterReport> recentCases = new ArrayList<>();
     private RecentCaseAdapter recentCaseAdapter;
     private long backPressedTime = 0;
@@ -57,6 +60,15 @@ public class OfficerDashboardActivity extends BaseActivity {
         setupRecyclerView();
         setupListeners();
         loadData();
+        
+        // ✅ Unread badge follows realtime notifications and mark-read deltas
+        dashboardViewModel = new ViewModelProvider(this).get(DashboardViewModel.class);
+        dashboardViewModel.getDashboardStats().observe(this, stats -> {
+            if (notificationBadge != null) {
+                notificationBadge.setVisibility(stats.unreadNotifications > 0 ? View.VISIBLE : View.GONE);
+            }
+        });
+        dashboardViewModel.connectRealtime();
     }
 
     private void initViews() {
@@ -77,14 +89,12 @@ public class OfficerDashboardActivity extends BaseActivity {
 
         String firstName = preferencesManager.getFirstName();
         tvWelcomeTop.setText("Welcome, Officer " + firstName + "!");
-        
-        checkUnreadNotifications();
     }
 
     private void loadData() {
         com.example.blottermanagementsystem.utils.GlobalLoadingManager.show(this, "Loading dashboard...");
 
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 int userId = preferencesManager.getUserId();
                 
@@ -279,28 +289,8 @@ public class OfficerDashboardActivity extends BaseActivity {
         }
     }
 
-    private void checkUnreadNotifications() {
-        try {
-            int userId = preferencesManager.getUserId();
-            com.example.blottermanagementsystem.data.database.BlotterDatabase db = 
-                com.example.blottermanagementsystem.data.database.BlotterDatabase.getDatabase(this);
-            List<com.example.blottermanagementsystem.data.entity.Notification> unreadNotifications = 
-                db.notificationDao().getUnreadNotificationsForUser(userId);
-            
-            boolean hasUnread = unreadNotifications != null && !unreadNotifications.isEmpty();
-            
-            runOnUiThread(() -> {
-                if (notificationBadge != null) {
-                    notificationBadge.setVisibility(hasUnread ? View.VISIBLE : View.GONE);
-                }
-            });
-        } catch (Exception e) {
-            android.util.Log.e("OfficerDashboard", "Error checking notifications: " + e.getMessage());
-        }
-    }
-
     private void exportToExcel() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Create workbook and sheet
                 Workbook workbook = new XSSFWorkbook();
@@ -384,8 +374,8 @@ public class OfficerDashboardActivity extends BaseActivity {
     @Override
     protected void onResume() {
         super.onResume();
-        // ✅ Check for new notifications when returning to dashboard
-        checkUnreadNotifications();
+        // ✅ Re-count when returning to dashboard
+        dashboardViewModel.refreshData();
     }
     
     @Override
@@ -16,9 +16,9 @@ import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Hearing;
 import com.example.blottermanagementsystem.ui.adapters.HearingAdapter;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class OfficerHearingsActivity extends BaseActivity {
     
@@ -107,7 +107,7 @@ public class OfficerHearingsActivity extends BaseActivity {
         recyclerView.setVisibility(View.GONE);
         emptyStateCard.setVisibility(View.GONE);
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             List<Hearing> hearings = database.hearingDao().getAllHearings();
             
             // Store all hearings for filtering
@@ -12,11 +12,11 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Officer;
 import com.example.blottermanagementsystem.ui.adapters.OfficerAdapter;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.google.android.material.textfield.TextInputEditText;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class OfficerManagementActivity extends BaseActivity {
     
@@ -257,7 +257,7 @@ public class OfficerManagementActivity extends BaseActivity {
             officer.setRank(newRank);
             
             // Save to database
-            java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 database.officerDao().updateOfficer(officer);
                 
                 runOnUiThread(() -> {
@@ -276,7 +276,7 @@ public class OfficerManagementActivity extends BaseActivity {
     }
     
     private void deleteOfficer(Officer officer) {
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             database.officerDao().deleteOfficer(officer);
             
             runOnUiThread(() -> {
@@ -295,14 +295,14 @@ public class OfficerManagementActivity extends BaseActivity {
         // Show loading for officers list
         com.example.blottermanagementsystem.utils.GlobalLoadingManager.show(this, "Loading officers...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
             List<Officer> officers = database.officerDao().getAllOfficers();
             
             runOnUiThread(() -> {
                 officersList.clear();
                 officersList.addAll(officers);
-                officerAdapter.notifyDataSetChanged();
+                officerAdapter.updateOfficers(officersList);
                 
                 // CardView always visible as background
                 emptyStateCard.setVisibility(android.view.View.VISIBLE);
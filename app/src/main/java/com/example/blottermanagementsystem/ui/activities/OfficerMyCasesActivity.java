@@ -14,13 +14,15 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.repository.ReportSearchRepository;
 import com.example.blottermanagementsystem.ui.adapters.BlotterReportAdapter;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.chip.Chip;
 import com.google.android.material.chip.ChipGroup;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.Set;
 
 public class OfficerMyCasesActivity extends BaseActivity {
     
@@ -40,6 +42,8 @@ public class OfficerMyCasesActivity extends BaseActivity {
     private BlotterDatabase database;
     private PreferencesManager preferencesManager;
     private List<BlotterReport> allCases = new ArrayList<>();
+    private ReportSearchRepository searchRepository;
+    private String searchQuery = "";
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -48,6 +52,7 @@ public class OfficerMyCasesActivity extends BaseActivity {
         
         database = BlotterDatabase.getDatabase(this);
         preferencesManager = new PreferencesManager(this);
+        searchRepository = new ReportSearchRepository(this);
         
         initViews();
         setupRecyclerView();
@@ -172,49 +177,19 @@ public class OfficerMyCasesActivity extends BaseActivity {
         if (recyclerView != null) recyclerView.setVisibility(View.GONE);
         if (emptyStateCard != null) emptyStateCard.setVisibility(View.GONE);
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 int userId = preferencesManager.getUserId();
                 // Get the officer record for this user
                 com.example.blottermanagementsystem.data.entity.Officer officer = database.officerDao().getOfficerByUserId(userId);
                 int officerId = (officer != null) ? officer.getId() : -1;
                 
-                List<BlotterReport> reports = database.blotterReportDao().getAllReports();
-                
                 android.util.Log.d("OfficerMyCases", "Loading cases for user ID: " + userId + ", Officer ID: " + officerId);
-                android.util.Log.d("OfficerMyCases", "Total reports in database: " + reports.size());
                 
-                // Filter only officer's assigned cases
+                // Indexed lookup through report_officers (single + multiple assignments)
+                List<BlotterReport> reports = database.blotterReportDao().getAllReportsForOfficer(officerId);
                 allCases.clear();
-                for (BlotterReport report : reports) {
-                    // Check if officer is assigned (either single or multiple officers)
-                    boolean isAssignedToOfficer = false;
-                    
-                    // Check single officer assignment
-                    if (report.getAssignedOfficerId() != null && report.getAssignedOfficerId().intValue() == officerId) {
-                        isAssignedToOfficer = true;
-                    }
-                    
-                    // Check multiple officers assignment
-                    if (!isAssignedToOfficer && report.getAssignedOfficerIds() != null && !report.getAssignedOfficerIds().isEmpty()) {
-                        String[] officerIds = report.getAssignedOfficerIds().split(",");
-                        for (String id : officerIds) {
-                            try {
-                                if (Integer.parseInt(id.trim()) == officerId) {
-                                    isAssignedToOfficer = true;
-                                    break;
-                                }
-                            } catch (NumberFormatException e) {
-                                // Ignore invalid IDs
-                            }
-                        }
-                    }
-                    
-                    if (isAssignedToOfficer) {
-                        allCases.add(report);
-                        android.util.Log.d("OfficerMyCases", "Found assigned case: " + report.getCaseNumber());
-                    }
-                }
+                allCases.addAll(reports);
                 
                 android.util.Log.d("OfficerMyCases", "Total assigned cases: " + allCases.size());
                 
@@ -299,7 +274,15 @@ public class OfficerMyCasesActivity extends BaseActivity {
     }
     
     private void filterCases(String query) {
-        if (query.isEmpty()) {
+        searchQuery = query;
+        // ✅ Search the FTS index (word prefixes) off the UI thread; a newer query wins
+        searchRepository.matchingIds(query, taskScope, matches -> {
+            if (query.equals(searchQuery)) showSearchResults(matches);
+        });
+    }
+    
+    private void showSearchResults(Set<Integer> matches) {
+        if (matches == null) {
             applyFilter();
             return;
         }
@@ -330,9 +313,7 @@ public class OfficerMyCasesActivity extends BaseActivity {
             }
             
             // Then apply search query
-            boolean matchesSearch = (report.getCaseNumber() != null && report.getCaseNumber().toLowerCase().contains(query.toLowerCase())) ||
-                                   (report.getIncidentType() != null && report.getIncidentType().toLowerCase().contains(query.toLowerCase())) ||
-                                   (report.getNarrative() != null && report.getNarrative().toLowerCase().contains(query.toLowerCase()));
+            boolean matchesSearch = matches.contains(report.getId());
             
             if (matchesFilter && matchesSearch) {
                 filtered.add(report);
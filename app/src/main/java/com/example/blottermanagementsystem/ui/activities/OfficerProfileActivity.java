@@ -18,6 +18,7 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.gms.auth.api.signin.GoogleSignIn;
 import com.google.android.gms.auth.api.signin.GoogleSignInClient;
 import com.google.android.gms.auth.api.signin.GoogleSignInOptions;
@@ -25,7 +26,6 @@ import com.google.android.material.button.MaterialButton;
 import com.google.android.material.chip.Chip;
 import com.google.android.material.textfield.TextInputEditText;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class OfficerProfileActivity extends BaseActivity {
     
@@ -88,7 +88,7 @@ public class OfficerProfileActivity extends BaseActivity {
                     // Also update database so dashboard can see the change
                     if (currentUser != null) {
                         currentUser.setProfilePhotoUri(selectedImageUri);
-                        Executors.newSingleThreadExecutor().execute(() -> {
+                        AppExecutors.disk().execute(() -> {
                             database.userDao().updateUser(currentUser);
                             android.util.Log.d("OfficerProfileActivity", "✅ Profile photo saved to database: " + selectedImageUri);
                         });
@@ -96,7 +96,7 @@ public class OfficerProfileActivity extends BaseActivity {
                         android.util.Log.e("OfficerProfileActivity", "❌ ERROR: Cannot save profile photo - currentUser is NULL!");
                         // Try to load user and save
                         int userId = preferencesManager.getUserId();
-                        Executors.newSingleThreadExecutor().execute(() -> {
+                        AppExecutors.disk().execute(() -> {
                             User user = database.userDao().getUserById(userId);
                             if (user != null) {
                                 user.setProfilePhotoUri(selectedImageUri);
@@ -150,7 +150,7 @@ public class OfficerProfileActivity extends BaseActivity {
         android.util.Log.d("OfficerProfileActivity", "=== LOADING USER DATA ===");
         android.util.Log.d("OfficerProfileActivity", "UserID from PreferencesManager: " + userId);
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             // Check total users in database
             List<User> allUsers = database.userDao().getAllUsers();
             android.util.Log.d("OfficerProfileActivity", "Total users in database: " + allUsers.size());
@@ -324,7 +324,7 @@ public class OfficerProfileActivity extends BaseActivity {
     private void performAccountDeletion() {
         int userId = preferencesManager.getUserId();
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Delete all user's reports
                 database.blotterReportDao().deleteReportsByUserId(userId);
@@ -410,7 +410,7 @@ public class OfficerProfileActivity extends BaseActivity {
             currentUser.setFirstName(firstName);
             currentUser.setLastName(lastName);
             
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 database.userDao().updateUser(currentUser);
                 runOnUiThread(() -> {
                     loadUserData();
@@ -471,7 +471,7 @@ public class OfficerProfileActivity extends BaseActivity {
             String hashedNewPassword = com.example.blottermanagementsystem.utils.SecurityUtils.hashPassword(newPassword);
             currentUser.setPassword(hashedNewPassword);
             
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 database.userDao().updateUser(currentUser);
                 runOnUiThread(() -> {
                     dialog.dismiss();
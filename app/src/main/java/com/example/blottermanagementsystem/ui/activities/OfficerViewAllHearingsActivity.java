@@ -16,9 +16,9 @@ import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.google.android.material.chip.Chip;
 import com.example.blottermanagementsystem.data.entity.Hearing;
 import com.example.blottermanagementsystem.data.dao.HearingDao;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class OfficerViewAllHearingsActivity extends BaseActivity {
     
@@ -166,7 +166,7 @@ public class OfficerViewAllHearingsActivity extends BaseActivity {
     
     private void loadHearings() {
         try {
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 try {
                     List<Hearing> hearings = hearingDao.getAllHearings();
                     runOnUiThread(() -> {
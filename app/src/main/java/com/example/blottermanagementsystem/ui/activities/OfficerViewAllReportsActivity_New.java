@@ -14,16 +14,19 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.repository.BulkSyncWriter;
+import com.example.blottermanagementsystem.data.repository.ReportSearchRepository;
 import com.example.blottermanagementsystem.data.entity.Officer;
 import com.example.blottermanagementsystem.ui.adapters.ReportAdapter;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.example.blottermanagementsystem.utils.ApiClient;
 import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.chip.Chip;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.Set;
 
 public class OfficerViewAllReportsActivity_New extends BaseActivity {
     
@@ -42,11 +45,13 @@ public class OfficerViewAllReportsActivity_New extends BaseActivity {
     private PreferencesManager preferencesManager;
     private int officerId = -1;
     private String searchQuery = "";
+    private ReportSearchRepository searchRepository;
     private String currentSort = "Newest First";
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        searchRepository = new ReportSearchRepository(this);
         setContentView(R.layout.activity_officer_view_all_reports_new);
         
         preferencesManager = new PreferencesManager(this);
@@ -60,7 +65,7 @@ public class OfficerViewAllReportsActivity_New extends BaseActivity {
         
         // Get officer ID on background thread
         int userId = preferencesManager.getUserId();
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             Officer officer = database.officerDao().getOfficerByUserId(userId);
             if (officer != null) {
                 officerId = officer.getId();
@@ -212,7 +217,7 @@ public class OfficerViewAllReportsActivity_New extends BaseActivity {
     }
     
     private void loadReportsFromDatabase() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(this);
                 List<BlotterReport> reports = database.blotterReportDao().getAllReports();
@@ -264,17 +269,10 @@ public class OfficerViewAllReportsActivity_New extends BaseActivity {
             @Override
             public void onSuccess(List<BlotterReport> apiReports) {
                 BlotterDatabase db = BlotterDatabase.getDatabase(OfficerViewAllReportsActivity_New.this);
-                Executors.newSingleThreadExecutor().execute(() -> {
+                AppExecutors.callback().execute(() -> {
                     try {
-                        // Save API data to local database
-                        for (BlotterReport report : apiReports) {
-                            BlotterReport existing = db.blotterReportDao().getReportById(report.getId());
-                            if (existing == null) {
-                                db.blotterReportDao().insertReport(report);
-                            } else {
-                                db.blotterReportDao().updateReport(report);
-                            }
-                        }
+                        // Save API data to local database - chunked merge, keeps unsent local edits
+                        new BulkSyncWriter(db).applyReports(apiReports);
                         
                         // ✅ Update UI with fresh API data
                         runOnUiThread(() -> {
@@ -363,13 +361,19 @@ public class OfficerViewAllReportsActivity_New extends BaseActivity {
     }
     
     private void filterReports() {
+        String query = searchQuery;
+        // ✅ Search the FTS index (word prefixes) off the UI thread; a newer query wins
+        searchRepository.matchingIds(query, taskScope, matches -> {
+            if (query.equals(searchQuery)) showReports(matches);
+        });
+    }
+    
+    private void showReports(Set<Integer> matches) {
         filteredReports.clear();
         
         // Show ALL statuses - no status filtering for All chip
         for (BlotterReport report : allReports) {
-            if (searchQuery.isEmpty() || 
-                (report.getCaseNumber() != null && report.getCaseNumber().toLowerCase().contains(searchQuery)) ||
-                (report.getIncidentType() != null && report.getIncidentType().toLowerCase().contains(searchQuery))) {
+            if (matches == null || matches.contains(report.getId())) {
                 filteredReports.add(report);
             }
         }
@@ -377,7 +381,7 @@ public class OfficerViewAllReportsActivity_New extends BaseActivity {
         sortReports();
         
         if (adapter != null) {
-            adapter.notifyDataSetChanged();
+            adapter.updateReports(filteredReports);
         }
         
         updateEmptyState();
@@ -425,7 +429,7 @@ public class OfficerViewAllReportsActivity_New extends BaseActivity {
             .setSingleChoiceItems(options, "Newest First".equals(currentSort) ? 0 : 1, (dialog, which) -> {
                 currentSort = options[which];
                 sortReports();
-                if (adapter != null) adapter.notifyDataSetChanged();
+                if (adapter != null) adapter.updateReports(filteredReports);
                 dialog.dismiss();
             })
             .setNegativeButton("Cancel", null);
@@ -14,16 +14,19 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.repository.BulkSyncWriter;
+import com.example.blottermanagementsystem.data.repository.ReportSearchRepository;
 import com.example.blottermanagementsystem.data.entity.Officer;
 import com.example.blottermanagementsystem.ui.adapters.ReportAdapter;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.example.blottermanagementsystem.utils.ApiClient;
 import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.chip.Chip;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.Set;
 
 public class OfficerViewAssignedReportsActivity_New extends BaseActivity {
     
@@ -42,6 +45,7 @@ public class OfficerViewAssignedReportsActivity_New extends BaseActivity {
     private PreferencesManager preferencesManager;
     private int officerId = -1;
     private String searchQuery = "";
+    private ReportSearchRepository searchRepository;
     private String currentSort = "Newest First";
     private java.util.Timer refreshTimer;
     private String selectedChip = "ASSIGNED"; // Default chip to select
@@ -49,6 +53,7 @@ public class OfficerViewAssignedReportsActivity_New extends BaseActivity {
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        searchRepository = new ReportSearchRepository(this);
         try {
             android.util.Log.d("OfficerAssigned", "✅ onCreate() started");
             setContentView(R.layout.activity_officer_view_assigned_reports_new);
@@ -79,7 +84,7 @@ public class OfficerViewAssignedReportsActivity_New extends BaseActivity {
             // Get officer ID on background thread
             int userId = preferencesManager.getUserId();
             android.util.Log.d("OfficerAssigned", "✅ User ID: " + userId);
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 try {
                     Officer officer = database.officerDao().getOfficerByUserId(userId);
                     if (officer != null) {
@@ -303,17 +308,10 @@ public class OfficerViewAssignedReportsActivity_New extends BaseActivity {
             @Override
             public void onSuccess(List<BlotterReport> apiReports) {
                 BlotterDatabase db = BlotterDatabase.getDatabase(OfficerViewAssignedReportsActivity_New.this);
-                new Thread(() -> {
+                AppExecutors.callback().execute(() -> {
                     try {
-                        // Save API data to local database
-                        for (BlotterReport report : apiReports) {
-                            BlotterReport existing = db.blotterReportDao().getReportById(report.getId());
-                            if (existing == null) {
-                                db.blotterReportDao().insertReport(report);
-                            } else {
-                                db.blotterReportDao().updateReport(report);
-                            }
-                        }
+                        // Save API data to local database - chunked merge, keeps unsent local edits
+                        new BulkSyncWriter(db).applyReports(apiReports);
                         
                         // ✅ Update UI with fresh API data
                         runOnUiThread(() -> {
@@ -326,7 +324,7 @@ public class OfficerViewAssignedReportsActivity_New extends BaseActivity {
                     } catch (Exception e) {
                         android.util.Log.e("OfficerAssigned", "Error saving API data: " + e.getMessage());
                     }
-                }).start();
+                });
             }
             
             @Override
@@ -382,7 +380,7 @@ public class OfficerViewAssignedReportsActivity_New extends BaseActivity {
     }
     
     private void loadAllReports() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(this);
                 List<BlotterReport> reports = database.blotterReportDao().getAllReports();
@@ -467,6 +465,14 @@ public class OfficerViewAssignedReportsActivity_New extends BaseActivity {
     }
     
     private void filterReports() {
+        String query = searchQuery;
+        // ✅ Search the FTS index (word prefixes) off the UI thread; a newer query wins
+        searchRepository.matchingIds(query, taskScope, matches -> {
+            if (query.equals(searchQuery)) showReports(matches);
+        });
+    }
+    
+    private void showReports(Set<Integer> matches) {
         // ✅ INSTANT FILTERING - Use cached allReports list (no database query)
         
         // ✅ Guard: Skip if data hasn't loaded yet
@@ -509,9 +515,7 @@ public class OfficerViewAssignedReportsActivity_New extends BaseActivity {
             }
             
             // Apply search filter
-            boolean matchesSearch = searchQuery.isEmpty() || 
-                (report.getCaseNumber() != null && report.getCaseNumber().toLowerCase().contains(searchQuery)) ||
-                (report.getIncidentType() != null && report.getIncidentType().toLowerCase().contains(searchQuery));
+            boolean matchesSearch = matches == null || matches.contains(report.getId());
             
             // Add if both filters match
             if (matchesStatusFilter && matchesSearch) {
@@ -526,7 +530,7 @@ public class OfficerViewAssignedReportsActivity_New extends BaseActivity {
         
         // ✅ Update UI immediately on main thread
         if (adapter != null) {
-            adapter.notifyDataSetChanged();
+            adapter.updateReports(filteredReports);
         }
         
         updateEmptyState();
@@ -561,7 +565,7 @@ public class OfficerViewAssignedReportsActivity_New extends BaseActivity {
             .setSingleChoiceItems(options, "Newest First".equals(currentSort) ? 0 : 1, (dialog, which) -> {
                 currentSort = options[which];
                 sortReports();
-                if (adapter != null) adapter.notifyDataSetChanged();
+                if (adapter != null) adapter.updateReports(filteredReports);
                 dialog.dismiss();
             })
             .setNegativeButton("Cancel", null);
@@ -12,6 +12,7 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.PersonHistory;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 // ❌ REMOVED: import com.example.blottermanagementsystem.services.PersonHistoryService; (Pure online mode)
 // ❌ REMOVED: import com.example.blottermanagementsystem.services.SyncManager; (Pure online mode)
 import com.google.android.material.chip.Chip;
@@ -19,7 +20,6 @@ import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
 
 public class OfficerViewPersonHistoryActivity extends BaseActivity {
     
@@ -140,7 +140,7 @@ public class OfficerViewPersonHistoryActivity extends BaseActivity {
     
     private void loadPersonHistory() {
         try {
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 try {
                     List<PersonHistory> history = database.personHistoryDao().getHistoryByPersonId(personId);
                     
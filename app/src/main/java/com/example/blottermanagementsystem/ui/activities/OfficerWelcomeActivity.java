@@ -11,10 +11,10 @@ import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
 import com.example.blottermanagementsystem.utils.SecurityUtils;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.textfield.TextInputEditText;
 import com.google.android.material.textfield.TextInputLayout;
-import java.util.concurrent.Executors;
 
 public class OfficerWelcomeActivity extends AppCompatActivity {
     
@@ -91,7 +91,7 @@ public class OfficerWelcomeActivity extends AppCompatActivity {
     }
     
     private void loadOfficerGender() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             int userId = preferencesManager.getUserId();
             User user = database.userDao().getUserById(userId);
             
@@ -176,7 +176,7 @@ public class OfficerWelcomeActivity extends AppCompatActivity {
         btnChangePassword.setEnabled(false);
         btnChangePassword.setText("Changing...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             int userId = preferencesManager.getUserId();
             User user = database.userDao().getUserById(userId);
             
@@ -221,7 +221,7 @@ public class OfficerWelcomeActivity extends AppCompatActivity {
                 
                 android.util.Log.d("OfficerWelcome", "✅ Password changed successfully!");
                 
-                Executors.newSingleThreadExecutor().execute(() -> {
+                AppExecutors.disk().execute(() -> {
                     database.userDao().updateUser(user);
                     
                     runOnUiThread(() -> {
@@ -10,9 +10,9 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.ui.adapters.ReportAdapter;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class RecordsArchiveActivity extends BaseActivity {
     
@@ -61,7 +61,7 @@ public class RecordsArchiveActivity extends BaseActivity {
     }
     
     private void loadArchivedReports() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             // Get resolved/closed reports (archived)
             List<BlotterReport> reports = database.blotterReportDao().getReportsByStatus("Resolved");
             List<BlotterReport> closedReports = database.blotterReportDao().getReportsByStatus("Closed");
@@ -20,10 +20,12 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.User;
+import com.example.blottermanagementsystem.data.model.CaseBundle;
 import com.example.blottermanagementsystem.ui.adapters.ImageAdapter;
 import com.example.blottermanagementsystem.ui.adapters.VideoAdapter;
 import com.example.blottermanagementsystem.ui.adapters.InvestigationStepAdapter;
 import com.example.blottermanagementsystem.data.model.InvestigationStep;
+import com.example.blottermanagementsystem.data.repository.CaseBundleRepository;
 import com.example.blottermanagementsystem.utils.MediaManager;
 import com.example.blottermanagementsystem.utils.NotificationHelper;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
@@ -32,6 +34,8 @@ import com.example.blottermanagementsystem.utils.NetworkMonitor;
 import com.example.blottermanagementsystem.utils.TimelineUpdateManager;
 import com.example.blottermanagementsystem.utils.GlobalLoadingManager;
 import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.utils.LoadingTaskRunner;
 import android.util.Log;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.chip.Chip;
@@ -42,7 +46,6 @@ import java.util.List;
 
 import java.text.SimpleDateFormat;
 import java.util.Locale;
-import java.util.concurrent.Executors;
 import android.content.Intent;
 import androidx.core.content.FileProvider;
 import java.io.File;
@@ -86,6 +89,8 @@ public class ReportDetailActivity extends BaseActivity {
     private InvestigationStepAdapter stepAdapter;
     private List<InvestigationStep> investigationSteps = new ArrayList<>();
     private boolean isTimelineInitializing = false;  // Prevent concurrent initialization
+    private volatile CaseBundle caseBundle;  // ✅ Server-side witnesses, suspects, hearings... (null until loaded)
+    private volatile boolean timelineRefreshPending = false;  // ✅ Data changed while a timeline build was running
     
     private List<Uri> imageList = new ArrayList<>();
     private List<Uri> videoList = new ArrayList<>();
@@ -592,60 +597,54 @@ public class ReportDetailActivity extends BaseActivity {
     private void deleteReport() {
         if (report == null) return;
         
-        com.example.blottermanagementsystem.utils.GlobalLoadingManager.show(this, "Deleting report...");
-        
-        Executors.newSingleThreadExecutor().execute(() -> {
-            try {
-                database.blotterReportDao().deleteReport(report);
-                
-                runOnUiThread(() -> {
-                    com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
-                    Toast.makeText(this, "Report deleted", Toast.LENGTH_SHORT).show();
-                    finish();
-                });
-            } catch (Exception e) {
-                runOnUiThread(() -> {
-                    com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
-                    Toast.makeText(this, "Error deleting report: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                });
+        LoadingTaskRunner.run(this, "Deleting report", AppExecutors.disk(), progress -> {
+            database.blotterReportDao().deleteReport(report);
+            return null;
+        }, new LoadingTaskRunner.Callback<Void>() {
+            @Override
+            public void onSuccess(Void result) {
+                Toast.makeText(ReportDetailActivity.this, "Report deleted", Toast.LENGTH_SHORT).show();
+                finish();
+            }
+            
+            @Override
+            public void onError(String errorMessage) {
+                Toast.makeText(ReportDetailActivity.this, "Error deleting report: " + errorMessage, Toast.LENGTH_SHORT).show();
             }
         });
     }
     
     private void loadReportDetails() {
-        com.example.blottermanagementsystem.utils.GlobalLoadingManager.show(this, "Loading report...");
-
-        // Load from local database FIRST (fast) - don't wait for API
-        Executors.newSingleThreadExecutor().execute(() -> {
-            try {
-                report = database.blotterReportDao().getReportById(reportId);
-                
-                runOnUiThread(() -> {
-                    com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
-                    if (report != null) {
-                        displayReportDetails();
-                    } else {
-                        Toast.makeText(this, "Report not found", Toast.LENGTH_SHORT).show();
-                        finish();
-                    }
-                });
-            } catch (Exception e) {
-                runOnUiThread(() -> {
-                    com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
-                    Toast.makeText(this, "Error loading report: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-                });
+        // Load from local database FIRST (fast) - don't wait for API; a PK lookup rarely needs the spinner
+        LoadingTaskRunner.run(this, "Loading report", AppExecutors.disk(), progress -> {
+            report = database.blotterReportDao().getReportById(reportId);
+            return report;
+        }, new LoadingTaskRunner.Callback<BlotterReport>() {
+            @Override
+            public void onSuccess(BlotterReport result) {
+                if (result != null) {
+                    displayReportDetails();
+                } else {
+                    Toast.makeText(ReportDetailActivity.this, "Report not found", Toast.LENGTH_SHORT).show();
+                    finish();
+                }
+            }
+            
+            @Override
+            public void onError(String errorMessage) {
+                Toast.makeText(ReportDetailActivity.this, "Error loading report: " + errorMessage, Toast.LENGTH_SHORT).show();
             }
         });
         
         // Sync with API in background (don't block UI)
         NetworkMonitor networkMonitor = new NetworkMonitor(this);
         if (networkMonitor.isNetworkAvailable()) {
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 ApiClient.getReportById(reportId, new ApiClient.ApiCallback<BlotterReport>() {
                     @Override
                     public void onSuccess(BlotterReport apiReport) {
                         // Update local database silently
-                        Executors.newSingleThreadExecutor().execute(() -> {
+                        AppExecutors.callback().execute(() -> {
                             try {
                                 database.blotterReportDao().updateReport(apiReport);
                                 // Refresh UI with updated data (WITHOUT reinitializing timeline to avoid duplication)
@@ -670,7 +669,7 @@ public class ReportDetailActivity extends BaseActivity {
     }
     
     private void loadFromDatabase() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 report = database.blotterReportDao().getReportById(reportId);
                 
@@ -698,7 +697,7 @@ public class ReportDetailActivity extends BaseActivity {
      */
     private void loadReportDetailsQuietly() {
         // Load from local database FIRST (fast) - don't wait for API
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 report = database.blotterReportDao().getReportById(reportId);
                 
@@ -719,12 +718,12 @@ public class ReportDetailActivity extends BaseActivity {
         // Sync with API in background (don't block UI)
         NetworkMonitor networkMonitor = new NetworkMonitor(this);
         if (networkMonitor.isNetworkAvailable()) {
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 ApiClient.getReportById(reportId, new ApiClient.ApiCallback<BlotterReport>() {
                     @Override
                     public void onSuccess(BlotterReport apiReport) {
                         // Update local database silently
-                        Executors.newSingleThreadExecutor().execute(() -> {
+                        AppExecutors.callback().execute(() -> {
                             try {
                                 database.blotterReportDao().updateReport(apiReport);
                                 // Refresh UI with updated data
@@ -794,7 +793,7 @@ public class ReportDetailActivity extends BaseActivity {
         // Initialize/refresh timeline on background thread (requires database access)
         // Timeline will refresh every time report is loaded (via onResume)
         // This ensures User and Admin see real-time updates from Officer actions
-        Executors.newSingleThreadExecutor().execute(this::initializeInvestigationTimeline);
+        AppExecutors.disk().execute(this::initializeInvestigationTimeline);
     }
     
     /**
@@ -1008,6 +1007,7 @@ public class ReportDetailActivity extends BaseActivity {
         // ✅ Prevent concurrent initialization (avoid duplicates)
         if (isTimelineInitializing) {
             android.util.Log.d("ReportDetail", "⚠️ Timeline initialization already in progress, skipping...");
+            timelineRefreshPending = true;
             return;
         }
         
@@ -1069,9 +1069,9 @@ public class ReportDetailActivity extends BaseActivity {
             // Step 4: Witnesses & Evidence Collected
             // ✅ Check if witness, suspect, AND evidence all exist
             InvestigationStep step4 = new InvestigationStep("4", "Witnesses & Evidence Collected", "Gathering case information", "evidence_collected");
-            int witnessCount = database.witnessDao().getWitnessCountByReport(reportId);
-            int suspectCount = database.suspectDao().getSuspectCountByReport(reportId);
-            int evidenceCount = database.evidenceDao().getEvidenceCountByReport(reportId);
+            int witnessCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.WITNESSES, database.witnessDao().getWitnessCountByReport(reportId));
+            int suspectCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.SUSPECTS, database.suspectDao().getSuspectCountByReport(reportId));
+            int evidenceCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.EVIDENCE, database.evidenceDao().getEvidenceCountByReport(reportId));
             
             if (witnessCount > 0 && suspectCount > 0 && evidenceCount > 0) {
                 // All 3 collected - COMPLETED
@@ -1094,7 +1094,7 @@ public class ReportDetailActivity extends BaseActivity {
             // Step 5: Hearing Scheduled
             // ✅ Show hourglass if hearing exists OR if all evidence collected (current active step)
             InvestigationStep step5 = new InvestigationStep("5", "Hearing Scheduled", "Court hearing date set", "hearing_scheduled");
-            int hearingCount = database.hearingDao().getHearingCountByReport(reportId);
+            int hearingCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.HEARINGS, database.hearingDao().getHearingCountByReport(reportId));
             
             if (hearingCount > 0) {
                 // Hearing scheduled - COMPLETED (checkmark)
@@ -1117,7 +1117,7 @@ public class ReportDetailActivity extends BaseActivity {
             // Step 6: Resolution Documented
             // ✅ Show hourglass if resolution exists OR if hearing scheduled (current active step)
             InvestigationStep step6 = new InvestigationStep("6", "Resolution Documented", "Case outcome documented", "resolution_documented");
-            int resolutionCount = database.resolutionDao().getResolutionCountByReport(reportId);
+            int resolutionCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.RESOLUTIONS, database.resolutionDao().getResolutionCountByReport(reportId));
             
             if (resolutionCount > 0) {
                 // Resolution documented - COMPLETED (checkmark)
@@ -1165,6 +1165,10 @@ public class ReportDetailActivity extends BaseActivity {
                 }
                 android.util.Log.d("ReportDetail", "✅ Investigation timeline initialized with 7 steps");
                 isTimelineInitializing = false;  // ✅ Reset flag after UI update
+                if (timelineRefreshPending) {
+                    timelineRefreshPending = false;
+                    AppExecutors.disk().execute(this::initializeInvestigationTimeline);
+                }
             });
         } catch (Exception e) {
             android.util.Log.e("ReportDetail", "❌ Error initializing timeline: " + e.getMessage());
@@ -1174,9 +1178,9 @@ public class ReportDetailActivity extends BaseActivity {
     
     // Dialog methods for viewing investigation results
     private void showWitnessesDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                int witnessCount = database.witnessDao().getWitnessCountByReport(reportId);
+                int witnessCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.WITNESSES, database.witnessDao().getWitnessCountByReport(reportId));
                 runOnUiThread(() -> {
                     androidx.appcompat.app.AlertDialog.Builder builder = new androidx.appcompat.app.AlertDialog.Builder(this);
                     builder.setTitle("👥 Witnesses (" + witnessCount + ")");
@@ -1193,9 +1197,9 @@ public class ReportDetailActivity extends BaseActivity {
     }
     
     private void showSuspectsDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                int suspectCount = database.suspectDao().getSuspectCountByReport(reportId);
+                int suspectCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.SUSPECTS, database.suspectDao().getSuspectCountByReport(reportId));
                 runOnUiThread(() -> {
                     androidx.appcompat.app.AlertDialog.Builder builder = new androidx.appcompat.app.AlertDialog.Builder(this);
                     builder.setTitle("🚨 Suspects (" + suspectCount + ")");
@@ -1212,9 +1216,9 @@ public class ReportDetailActivity extends BaseActivity {
     }
     
     private void showEvidenceDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                int evidenceCount = database.evidenceDao().getEvidenceCountByReport(reportId);
+                int evidenceCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.EVIDENCE, database.evidenceDao().getEvidenceCountByReport(reportId));
                 runOnUiThread(() -> {
                     androidx.appcompat.app.AlertDialog.Builder builder = new androidx.appcompat.app.AlertDialog.Builder(this);
                     builder.setTitle("📸 Evidence (" + evidenceCount + ")");
@@ -1231,9 +1235,9 @@ public class ReportDetailActivity extends BaseActivity {
     }
     
     private void showHearingsDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                int hearingCount = database.hearingDao().getHearingCountByReport(reportId);
+                int hearingCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.HEARINGS, database.hearingDao().getHearingCountByReport(reportId));
                 runOnUiThread(() -> {
                     androidx.appcompat.app.AlertDialog.Builder builder = new androidx.appcompat.app.AlertDialog.Builder(this);
                     builder.setTitle("📅 Hearings (" + hearingCount + ")");
@@ -1250,9 +1254,9 @@ public class ReportDetailActivity extends BaseActivity {
     }
     
     private void showResolutionDialog(int reportId) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
-                int resolutionCount = database.resolutionDao().getResolutionCountByReport(reportId);
+                int resolutionCount = CaseBundle.countOf(caseBundle, CaseBundle.Part.RESOLUTIONS, database.resolutionDao().getResolutionCountByReport(reportId));
                 runOnUiThread(() -> {
                     androidx.appcompat.app.AlertDialog.Builder builder = new androidx.appcompat.app.AlertDialog.Builder(this);
                     builder.setTitle("✅ Resolution (" + resolutionCount + ")");
@@ -1300,16 +1304,57 @@ public class ReportDetailActivity extends BaseActivity {
         chipStatus.setChipBackgroundColor(android.content.res.ColorStateList.valueOf(backgroundColor));
     }
     
+    // One instance per screen, so onDestroy() can cancel it
+    private final CaseBundleRepository.CaseBundleCallback caseBundleCallback = new CaseBundleRepository.CaseBundleCallback() {
+        @Override
+        public void onPartial(CaseBundle bundle, CaseBundle.Part part) {
+            onCaseBundle(bundle);
+        }
+        
+        @Override
+        public void onSuccess(CaseBundle bundle) {
+            onCaseBundle(bundle);
+        }
+        
+        @Override
+        public void onError(String errorMessage) {
+            android.util.Log.w("ReportDetail", "⚠️ Case bundle unavailable, using local data: " + errorMessage);
+        }
+    };
+    
+    /**
+     * Fetch the case's server-side lists in parallel; the timeline and dialogs use them as each one lands
+     */
+    private void loadCaseBundle() {
+        CaseBundleRepository.getInstance().load(reportId, caseBundleCallback);
+    }
+    
+    private void onCaseBundle(CaseBundle bundle) {
+        // onSuccess repeats the last partial bundle - nothing new to render
+        if (isFinishing() || isDestroyed() || bundle == caseBundle) return;
+        caseBundle = bundle;
+        // The timeline counts come from the bundle - rebuild it off the main thread (Room reads)
+        if (report != null) AppExecutors.disk().execute(this::initializeInvestigationTimeline);
+    }
+    
     @Override
     protected void onResume() {
         super.onResume();
         if (reportId != -1) {
             loadReportDetails();
+            loadCaseBundle();
             // Timeline will be initialized in displayReportDetails() via loadReportDetails()
             // No need to call refreshInvestigationTimeline() here to avoid duplication
         }
     }
     
+    @Override
+    protected void onDestroy() {
+        // Don't deliver the bundle to a finished screen
+        CaseBundleRepository.getInstance().cancel(reportId, caseBundleCallback);
+        super.onDestroy();
+    }
+    
     /**
      * Export comprehensive PDF with data from all roles
      * - User's initial input (complainant, respondent, case details)
@@ -1365,7 +1410,7 @@ public class ReportDetailActivity extends BaseActivity {
         dialog.getWindow().setBackgroundDrawable(new android.graphics.drawable.ColorDrawable(android.graphics.Color.TRANSPARENT));
         
         // Reload report data from database for dynamic updates
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Fetch fresh data from database
                 BlotterReport freshReport = database.blotterReportDao().getReportById(reportId);
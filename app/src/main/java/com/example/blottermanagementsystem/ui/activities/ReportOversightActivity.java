@@ -11,12 +11,12 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.ui.adapters.ReportAdapter;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.chip.Chip;
 import com.google.android.material.chip.ChipGroup;
 import com.google.android.material.textfield.TextInputEditText;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class ReportOversightActivity extends BaseActivity {
     
@@ -168,7 +168,7 @@ public class ReportOversightActivity extends BaseActivity {
     
     private void loadReports() {
         try {
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 try {
                     List<BlotterReport> reports = database.blotterReportDao().getAllReports();
                     
@@ -235,7 +235,7 @@ public class ReportOversightActivity extends BaseActivity {
                         reportsList.clear();
                         reportsList.addAll(reports);
                         if (adapter != null) {
-                            adapter.notifyDataSetChanged();
+                            adapter.updateReports(reportsList);
                         }
                         updateEmptyState();
                     });
@@ -16,11 +16,11 @@ import com.example.blottermanagementsystem.data.entity.Notification;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.data.entity.Officer;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.textfield.TextInputEditText;
 import com.google.android.material.button.MaterialButton;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.concurrent.Executors;
 
 public class SendNotificationActivity extends BaseActivity {
     
@@ -90,7 +90,7 @@ public class SendNotificationActivity extends BaseActivity {
         btnSendNotification.setEnabled(false);
         btnSendNotification.setText("Sending...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 int selectedId = radioGroupRecipients.getCheckedRadioButtonId();
                 List<User> recipients = new ArrayList<>();
@@ -159,7 +159,7 @@ public class SendNotificationActivity extends BaseActivity {
     }
     
     private void showSelectUsersDialog() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Get all users (both Google & manual sign-up)
                 List<User> allUsers = database.userDao().getUsersByRole("User");
@@ -262,7 +262,7 @@ public class SendNotificationActivity extends BaseActivity {
     }
     
     private void showSelectOfficersDialog() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Get all officers
                 List<Officer> allOfficers = database.officerDao().getAllOfficers();
@@ -4,20 +4,33 @@ import android.content.Intent;
 import android.os.Bundle;
 import android.view.View;
 import android.widget.LinearLayout;
+import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.widget.Toolbar;
 import androidx.cardview.widget.CardView;
 
+import com.example.blottermanagementsystem.BuildConfig;
 import com.example.blottermanagementsystem.R;
+import com.example.blottermanagementsystem.data.api.BackendWarmup;
+import com.example.blottermanagementsystem.data.api.HttpCache;
+import com.example.blottermanagementsystem.data.api.HttpEngine;
+import com.example.blottermanagementsystem.data.api.RequestCompression;
+import com.example.blottermanagementsystem.data.repository.OutboxRepository;
+import com.example.blottermanagementsystem.utils.ApiClient;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.LoadingTaskRunner;
+import com.example.blottermanagementsystem.utils.RetryManager;
+import com.example.blottermanagementsystem.utils.TaskScope;
 import com.google.android.material.switchmaterial.SwitchMaterial;
 
 public class SettingsActivity extends BaseActivity {
     
     private SwitchMaterial switchPushNotifications, switchEmailNotifications, switchSmsNotifications;
-    private LinearLayout btnClearCache, btnBackupData, btnPrivacyPolicy;
+    private LinearLayout btnClearCache, btnBackupData, btnPrivacyPolicy, btnRetryFailedUploads;
+    private TextView tvFailedUploads;
     private LinearLayout layoutNewFeatures;
     private CardView cardReportOversight;
     private PreferencesManager preferencesManager;
@@ -51,6 +64,8 @@ public class SettingsActivity extends BaseActivity {
         btnClearCache = findViewById(R.id.btnClearCache);
         btnBackupData = findViewById(R.id.btnBackupData);
         btnPrivacyPolicy = findViewById(R.id.btnPrivacyPolicy);
+        btnRetryFailedUploads = findViewById(R.id.btnRetryFailedUploads);
+        tvFailedUploads = findViewById(R.id.tvFailedUploads);
         
         // New Features section (only if exists in layout)
         // Note: These cards may not exist in all layouts
@@ -91,6 +106,19 @@ public class SettingsActivity extends BaseActivity {
         switchPushNotifications.setChecked(preferencesManager.isPushNotificationsEnabled());
         switchEmailNotifications.setChecked(preferencesManager.isEmailNotificationsEnabled());
         switchSmsNotifications.setChecked(preferencesManager.isSmsNotificationsEnabled());
+        loadFailedUploads();
+    }
+    
+    // Changes the server rejected stay in the outbox until the user re-queues them here
+    private void loadFailedUploads() {
+        taskScope.execute(AppExecutors.disk(), () -> {
+            int failed = OutboxRepository.getInstance(this).getFailedCount();
+            taskScope.runOnUi(() -> {
+                tvFailedUploads.setText(failed == 0 ? "No failed uploads"
+                    : failed + (failed == 1 ? " change" : " changes") + " rejected by the server");
+                btnRetryFailedUploads.setEnabled(failed > 0);
+            });
+        });
     }
     
     private void setupListeners() {
@@ -113,8 +141,19 @@ public class SettingsActivity extends BaseActivity {
         });
         
         btnClearCache.setOnClickListener(v -> {
-            // TODO: Clear cache
-            Toast.makeText(this, "Cache cleared", Toast.LENGTH_SHORT).show();
+            // Debug builds show the HTTP cache, request-coalescing, upload compression, retry, warm-up, pool, task-scope and loading-task counters before wiping it
+            String message = BuildConfig.DEBUG
+                ? "Cache cleared - HTTP " + HttpCache.stats() + " | coalescing " + ApiClient.getCoalescingStats()
+                    + " | gzip " + RequestCompression.stats() + " | retry " + RetryManager.stats()
+                    + " | warm-up " + BackendWarmup.stats() + " | pools " + AppExecutors.describeAll()
+                    + " | scopes " + TaskScope.stats() + " | loading " + LoadingTaskRunner.describeAll()
+                : "Cache cleared";
+            HttpEngine.clearCache();
+            HttpCache.stats().reset();
+            RequestCompression.stats().reset();
+            RetryManager.stats().reset();
+            LoadingTaskRunner.resetStats();
+            Toast.makeText(this, message, Toast.LENGTH_LONG).show();
         });
         
         btnBackupData.setOnClickListener(v -> {
@@ -122,6 +161,13 @@ public class SettingsActivity extends BaseActivity {
             Toast.makeText(this, "Backup started", Toast.LENGTH_SHORT).show();
         });
         
+        btnRetryFailedUploads.setOnClickListener(v -> {
+            OutboxRepository.getInstance(this).retryFailed();
+            tvFailedUploads.setText("No failed uploads");
+            btnRetryFailedUploads.setEnabled(false);
+            Toast.makeText(this, "Failed uploads re-queued", Toast.LENGTH_SHORT).show();
+        });
+        
         btnPrivacyPolicy.setOnClickListener(v -> {
             // TODO: Open privacy policy
             Toast.makeText(this, "Privacy Policy", Toast.LENGTH_SHORT).show();
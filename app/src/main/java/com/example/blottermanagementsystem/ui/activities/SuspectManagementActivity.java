@@ -11,10 +11,10 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
+import com.example.blottermanagementsystem.data.entity.Suspect;
 import com.example.blottermanagementsystem.managers.CasePersonManager;
 import com.example.blottermanagementsystem.utils.ApiClient;
 import java.util.List;
-import java.util.Map;
 
 /**
  * ✅ SUSPECT MANAGEMENT ACTIVITY
@@ -48,9 +48,9 @@ public class SuspectManagementActivity extends AppCompatActivity {
     }
     
     private void loadSuspects() {
-        ApiClient.getCaseSuspects(caseId, new ApiClient.ApiCallback<List<Map<String, Object>>>() {
+        ApiClient.getCaseSuspects(caseId, new ApiClient.ApiCallback<List<Suspect>>() {
             @Override
-            public void onSuccess(List<Map<String, Object>> suspects) {
+            public void onSuccess(List<Suspect> suspects) {
                 android.util.Log.d("SuspectManagement", "✅ Loaded " + suspects.size() + " suspects");
                 // TODO: Set adapter with suspects list
             }
@@ -96,9 +96,9 @@ public class SuspectManagementActivity extends AppCompatActivity {
     }
     
     private void addSuspect(String name, String contact, String address, String description) {
-        Map<String, Object> suspectData = casePersonManager.createSuspectData(name, contact, description, address);
+        Suspect suspect = casePersonManager.createSuspectData(caseId, name, contact, description, address);
         
-        ApiClient.addSuspectToCase(caseId, suspectData, new ApiClient.ApiCallback<String>() {
+        ApiClient.addSuspectToCase(caseId, suspect, new ApiClient.ApiCallback<String>() {
             @Override
             public void onSuccess(String result) {
                 Toast.makeText(SuspectManagementActivity.this, "Suspect added successfully", Toast.LENGTH_SHORT).show();
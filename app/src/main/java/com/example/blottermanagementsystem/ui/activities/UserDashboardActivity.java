@@ -23,6 +23,7 @@ import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.ui.adapters.ReportAdapter;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.bumptech.glide.Glide;
 import com.bumptech.glide.request.RequestOptions;
@@ -33,7 +34,6 @@ import com.takusemba.spotlight.shape.RoundedRectangle;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class UserDashboardActivity extends BaseActivity {
     
@@ -57,8 +57,9 @@ public class UserDashboardActivity extends BaseActivity {
     private TextView tvNotificationBadge;
     private long backPressedTime = 0;
     
-    // ❌ STUB: database variable for compatibility (returns null in pure online mode)
-    private com.example.blottermanagementsystem.data.database.BlotterDatabase database = null;
+    private com.example.blottermanagementsystem.data.database.BlotterDatabase database;
+    private com.example.blottermanagementsystem.data.repository.ReportRepository reportRepository;
+    private com.example.blottermanagementsystem.viewmodel.DashboardViewModel dashboardViewModel;
     
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -66,12 +67,19 @@ public class UserDashboardActivity extends BaseActivity {
         setContentView(R.layout.activity_user_dashboard);
         
         preferencesManager = new PreferencesManager(this);
-        // ❌ REMOVED: database = BlotterDatabase.getDatabase(this); (Pure online mode)
+        database = com.example.blottermanagementsystem.data.database.BlotterDatabase.getDatabase(this);
+        reportRepository = new com.example.blottermanagementsystem.data.repository.ReportRepository(this);
         initViews();
         setupRecyclerView();
         setupListeners();
         loadData();
         
+        // ✅ Unread badge follows realtime notifications and mark-read deltas
+        dashboardViewModel = new androidx.lifecycle.ViewModelProvider(this)
+            .get(com.example.blottermanagementsystem.viewmodel.DashboardViewModel.class);
+        dashboardViewModel.getDashboardStats().observe(this, stats -> showNotificationBadge(stats.unreadNotifications));
+        dashboardViewModel.connectRealtime();
+        
         // ❌ REMOVED: startPeriodicRefresh(); (Pure online - load on demand)
         
         // Show tutorial for first-time users (per-user, not per-device)
@@ -119,6 +127,8 @@ public class UserDashboardActivity extends BaseActivity {
             R.color.warning_yellow
         );
         swipeRefresh.setOnRefreshListener(() -> {
+            // Pull-to-refresh always goes to the server
+            reportRepository.invalidateReports();
             loadData();
         });
         
@@ -135,7 +145,7 @@ public class UserDashboardActivity extends BaseActivity {
         // If PreferencesManager fails, try to get the LAST logged in user from database
         if (userId == -1) {
             android.util.Log.e("UserDashboard", "⚠️ PreferencesManager returned -1, checking database for last user");
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 java.util.List<User> allUsers = database.userDao().getAllUsers();
                 android.util.Log.d("UserDashboard", "Total users in database: " + allUsers.size());
                 
@@ -183,7 +193,7 @@ public class UserDashboardActivity extends BaseActivity {
         android.util.Log.d("UserDashboard", "First name from prefs: " + preferencesManager.getFirstName());
         android.util.Log.d("UserDashboard", "Last name from prefs: " + preferencesManager.getLastName());
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             User currentUser = database.userDao().getUserById(userId);
             android.util.Log.d("UserDashboard", "User loaded: " + (currentUser != null ? currentUser.getUsername() : "NULL"));
             
@@ -215,7 +225,7 @@ public class UserDashboardActivity extends BaseActivity {
         int userId = preferencesManager.getUserId();
         
         // Load from database for real-time sync
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             User user = database.userDao().getUserById(userId);
             String profileImageUri = null;
             
@@ -423,7 +433,9 @@ public class UserDashboardActivity extends BaseActivity {
         // Show loading for user dashboard
         com.example.blottermanagementsystem.utils.GlobalLoadingManager.show(this, "Loading reports...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        revalidateReports(false);
+        
+        AppExecutors.disk().execute(() -> {
             try {
             List<BlotterReport> allReports = database.blotterReportDao().getAllReports();
             
@@ -470,7 +482,7 @@ public class UserDashboardActivity extends BaseActivity {
             runOnUiThread(() -> {
                 reportsList.clear();
                 reportsList.addAll(recentReports); // Show all reports
-                adapter.notifyDataSetChanged();
+                adapter.updateReports(reportsList);
                 
                 // Update counts
                 tvTotalReports.setText(String.valueOf(totalCount));
@@ -519,6 +531,27 @@ public class UserDashboardActivity extends BaseActivity {
         });
     }
     
+    // ✅ Revalidate cached reports in background; redraw quietly only if Neon had newer data
+    private void revalidateReports(boolean forceRefresh) {
+        reportRepository.revalidateReports(forceRefresh,
+            new com.example.blottermanagementsystem.data.repository.ReportRepository.CacheCallback<List<BlotterReport>>() {
+                @Override
+                public void onCached(List<BlotterReport> data) {
+                    // Not used - loadData() already rendered local rows
+                }
+                
+                @Override
+                public void onRefreshed(List<BlotterReport> data) {
+                    runOnUiThread(() -> loadDataQuietly());
+                }
+                
+                @Override
+                public void onError(String errorMessage) {
+                    android.util.Log.w("UserDashboard", "⚠️ Report revalidation failed: " + errorMessage);
+                }
+            });
+    }
+    
     @Override
     protected void onResume() {
         super.onResume();
@@ -529,15 +562,15 @@ public class UserDashboardActivity extends BaseActivity {
         // Always refresh data when returning to dashboard to show latest updates
         loadData();
         
-        // Update notification badge
-        updateNotificationBadge();
+        // Re-count the notification badge
+        dashboardViewModel.refreshData();
     }
     
     // Quiet data loading without GlobalLoadingManager to prevent black screen flicker
     private void loadDataQuietly() {
         int userId = preferencesManager.getUserId();
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 List<BlotterReport> allReports = database.blotterReportDao().getAllReports();
                 
@@ -587,7 +620,7 @@ public class UserDashboardActivity extends BaseActivity {
                     }
                     
                     if (adapter != null) {
-                        adapter.notifyDataSetChanged();
+                        adapter.updateReports(reportsList);
                     }
                     
                     // Update empty state
@@ -607,26 +640,17 @@ public class UserDashboardActivity extends BaseActivity {
         });
     }
 
-    private void updateNotificationBadge() {
-        int userId = preferencesManager.getUserId();
+    private void showNotificationBadge(int unreadCount) {
+        android.util.Log.d("UserDashboard", "Unread notifications: " + unreadCount);
         
-        Executors.newSingleThreadExecutor().execute(() -> {
-            // Get unread notification count
-            int unreadCount = database.notificationDao().getUnreadCount(userId);
-            
-            runOnUiThread(() -> {
-                android.util.Log.d("UserDashboard", "Unread notifications: " + unreadCount);
-                
-                if (unreadCount > 0) {
-                    // Show badge with count
-                    tvNotificationBadge.setVisibility(View.VISIBLE);
-                    tvNotificationBadge.setText(unreadCount > 9 ? "9+" : String.valueOf(unreadCount));
-                } else {
-                    // Hide badge
-                    tvNotificationBadge.setVisibility(View.GONE);
-                }
-            });
-        });
+        if (unreadCount > 0) {
+            // Show badge with count
+            tvNotificationBadge.setVisibility(View.VISIBLE);
+            tvNotificationBadge.setText(unreadCount > 9 ? "9+" : String.valueOf(unreadCount));
+        } else {
+            // Hide badge
+            tvNotificationBadge.setVisibility(View.GONE);
+        }
     }
     
     private void toggleFabMenu() {
@@ -1134,7 +1158,7 @@ public class UserDashboardActivity extends BaseActivity {
     private void checkAndShowTutorial() {
         int userId = preferencesManager.getUserId();
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             User currentUser = database.userDao().getUserById(userId);
             
             runOnUiThread(() -> {
@@ -1152,7 +1176,7 @@ public class UserDashboardActivity extends BaseActivity {
     private void markTutorialCompleted() {
         int userId = preferencesManager.getUserId();
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             User currentUser = database.userDao().getUserById(userId);
             
             if (currentUser != null) {
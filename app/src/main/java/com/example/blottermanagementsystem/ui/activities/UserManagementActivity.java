@@ -11,11 +11,11 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.ui.adapters.UserAdapter;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.textfield.TextInputEditText;
 import com.google.android.material.chip.Chip;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class UserManagementActivity extends BaseActivity {
     
@@ -90,7 +90,7 @@ public class UserManagementActivity extends BaseActivity {
     private void loadUsers() {
         com.example.blottermanagementsystem.utils.GlobalLoadingManager.show(this, "Loading users...");
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 usersList.clear();
                 List<User> allUsers = database.userDao().getAllUsers();
@@ -105,9 +105,9 @@ public class UserManagementActivity extends BaseActivity {
                 runOnUiThread(() -> {
                     com.example.blottermanagementsystem.utils.GlobalLoadingManager.hide();
                     if (userAdapter != null) {
-                        userAdapter.notifyDataSetChanged();
+                        // Empty state reads the adapter's count, which is only current once the diff lands
+                        userAdapter.submitList(usersList, this::updateEmptyState);
                     }
-                    updateEmptyState();
                 });
             } catch (Exception e) {
                 runOnUiThread(() -> {
@@ -128,9 +128,8 @@ public class UserManagementActivity extends BaseActivity {
             }
         }
         if (userAdapter != null) {
-            userAdapter.notifyDataSetChanged();
+            userAdapter.submitList(filteredList, this::updateEmptyState);
         }
-        updateEmptyState();
     }
     
     private void updateEmptyState() {
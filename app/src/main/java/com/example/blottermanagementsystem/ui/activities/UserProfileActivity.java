@@ -18,6 +18,7 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.gms.auth.api.signin.GoogleSignIn;
 import com.google.android.gms.auth.api.signin.GoogleSignInClient;
 import com.google.android.gms.auth.api.signin.GoogleSignInOptions;
@@ -25,7 +26,6 @@ import com.google.android.material.button.MaterialButton;
 import com.google.android.material.chip.Chip;
 import com.google.android.material.textfield.TextInputEditText;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class UserProfileActivity extends BaseActivity {
     
@@ -88,7 +88,7 @@ public class UserProfileActivity extends BaseActivity {
                     // Also update database so dashboard can see the change
                     if (currentUser != null) {
                         currentUser.setProfilePhotoUri(selectedImageUri);
-                        Executors.newSingleThreadExecutor().execute(() -> {
+                        AppExecutors.disk().execute(() -> {
                             database.userDao().updateUser(currentUser);
                             android.util.Log.d("UserProfileActivity", "✅ Profile photo saved to local database: " + selectedImageUri);
                             
@@ -99,7 +99,7 @@ public class UserProfileActivity extends BaseActivity {
                         android.util.Log.e("UserProfileActivity", "❌ ERROR: Cannot save profile photo - currentUser is NULL!");
                         // Try to load user and save
                         int userId = preferencesManager.getUserId();
-                        Executors.newSingleThreadExecutor().execute(() -> {
+                        AppExecutors.disk().execute(() -> {
                             User user = database.userDao().getUserById(userId);
                             if (user != null) {
                                 user.setProfilePhotoUri(selectedImageUri);
@@ -156,7 +156,7 @@ public class UserProfileActivity extends BaseActivity {
         android.util.Log.d("UserProfileActivity", "=== LOADING USER DATA ===");
         android.util.Log.d("UserProfileActivity", "UserID from PreferencesManager: " + userId);
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             // Check total users in database
             List<User> allUsers = database.userDao().getAllUsers();
             android.util.Log.d("UserProfileActivity", "Total users in database: " + allUsers.size());
@@ -281,7 +281,7 @@ public class UserProfileActivity extends BaseActivity {
         // Load from DATABASE (same as UserDashboard) for real-time sync!
         int userId = preferencesManager.getUserId();
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             User user = database.userDao().getUserById(userId);
             String profileImageUri = null;
             
@@ -422,7 +422,7 @@ public class UserProfileActivity extends BaseActivity {
     private void performAccountDeletion() {
         int userId = preferencesManager.getUserId();
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Delete all user's reports
                 database.blotterReportDao().deleteReportsByUserId(userId);
@@ -512,7 +512,7 @@ public class UserProfileActivity extends BaseActivity {
             currentUser.setFirstName(firstName);
             currentUser.setLastName(lastName);
             
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 database.userDao().updateUser(currentUser);
                 runOnUiThread(() -> {
                     loadUserData();
@@ -572,7 +572,7 @@ public class UserProfileActivity extends BaseActivity {
             // Update password
             currentUser.setPassword(newPassword);
             
-            Executors.newSingleThreadExecutor().execute(() -> {
+            AppExecutors.disk().execute(() -> {
                 database.userDao().updateUser(currentUser);
                 runOnUiThread(() -> {
                     dialog.dismiss();
@@ -15,13 +15,15 @@ import android.widget.TextView;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
-import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.model.StatusCount;
+import com.example.blottermanagementsystem.data.repository.ReportPagingSource;
+import com.example.blottermanagementsystem.data.repository.ReportRepository;
 import com.example.blottermanagementsystem.ui.adapters.ReportAdapter;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
-import com.example.blottermanagementsystem.utils.ApiClient;
-import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.utils.ReportListPager;
 import com.example.blottermanagementsystem.utils.GlobalLoadingManager;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import android.widget.Toast;
 import com.google.android.material.chip.Chip;
 import java.util.ArrayList;
@@ -40,9 +42,11 @@ public class ViewResolvedReportsActivity extends BaseActivity {
     private ImageButton btnSort;
     private ImageView emptyStateIcon;
     private TextView emptyStateTitle, emptyStateMessage;
-    private List<BlotterReport> allReports = new ArrayList<>();
     private List<BlotterReport> filteredReports = new ArrayList<>();
     private PreferencesManager preferencesManager;
+    private ReportRepository reportRepository;
+    private ReportPagingSource pagingSource;
+    private ReportListPager pager;
     private int userId;
     private String searchQuery = "";
     private String currentSort = "Newest First";
@@ -57,6 +61,8 @@ public class ViewResolvedReportsActivity extends BaseActivity {
             setContentView(R.layout.activity_view_resolved_reports);
             
             preferencesManager = new PreferencesManager(this);
+            reportRepository = new ReportRepository(this, taskScope);
+            pagingSource = new ReportPagingSource(this);
             userId = preferencesManager.getUserId();
             String userRole = preferencesManager.getUserRole();
             isOfficerFilter = getIntent().getBooleanExtra("officer_filter", false);
@@ -141,6 +147,10 @@ public class ViewResolvedReportsActivity extends BaseActivity {
                 });
                 recyclerReports.setLayoutManager(new LinearLayoutManager(this));
                 recyclerReports.setAdapter(adapter);
+                
+                // ✅ Keyset pages on scroll instead of loading every report up front
+                pager = new ReportListPager(pagingSource, filteredReports, adapter, isEmpty -> updateEmptyState());
+                pager.attach(recyclerReports);
             }
         } catch (Exception e) {
             android.util.Log.e("ViewResolvedReports", "Error initializing views: " + e.getMessage());
@@ -346,262 +356,56 @@ public class ViewResolvedReportsActivity extends BaseActivity {
     }
     
     private void loadReports() {
-        // Load from LOCAL DATABASE FIRST (fast) - don't wait for API
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
-            try {
-                BlotterDatabase db = BlotterDatabase.getDatabase(this);
-                List<BlotterReport> reports = db.blotterReportDao().getAllReports();
-                
-                runOnUiThread(() -> {
-                    filterReportsByUser(reports);
-                    filterReports();
-                    updateStatistics();
-                });
-            } catch (Exception e) {
-                android.util.Log.e("ViewResolvedReports", "Error loading from database: " + e.getMessage());
-            }
-        });
-        
-        // Sync with API in background (don't block UI)
-        NetworkMonitor networkMonitor = new NetworkMonitor(this);
-        if (networkMonitor.isNetworkAvailable()) {
-            java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
-                ApiClient.getAllReports(new ApiClient.ApiCallback<List<BlotterReport>>() {
-                    @Override
-                    public void onSuccess(List<BlotterReport> apiReports) {
-                        // Update local database silently
-                        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
-                            try {
-                                BlotterDatabase db = BlotterDatabase.getDatabase(ViewResolvedReportsActivity.this);
-                                for (BlotterReport report : apiReports) {
-                                    BlotterReport existing = db.blotterReportDao().getReportById(report.getId());
-                                    if (existing == null) {
-                                        db.blotterReportDao().insertReport(report);
-                                    } else {
-                                        db.blotterReportDao().updateReport(report);
-                                    }
-                                }
-                                
-                                // Refresh UI with updated data
-                                runOnUiThread(() -> {
-                                    allReports.clear();
-                                    allReports.addAll(apiReports);
-                                    filterReports();
-                                    updateStatistics();
-                                });
-                            } catch (Exception e) {
-                                android.util.Log.e("ViewResolvedReports", "Error syncing API data: " + e.getMessage());
-                            }
-                        });
-                    }
-                    
-                    @Override
-                    public void onError(String errorMessage) {
-                        android.util.Log.w("ViewResolvedReports", "API sync error: " + errorMessage);
-                        // Continue with local data - no need to show error
-                    }
-                });
-            });
-        }
+        // ✅ Page straight from the local cache, then revalidate against API if stale
+        if (pager != null) pager.submitQuery(buildQuery());
+        updateStatistics();
+        loadReportsQuietly();
     }
     
-    private void loadReportsFromApi() {
-        ApiClient.getAllReports(new ApiClient.ApiCallback<List<BlotterReport>>() {
-            @Override
-            public void onSuccess(List<BlotterReport> apiReports) {
-                // Use background thread executor to avoid main thread database access
-                java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
-                    try {
-                        BlotterDatabase db = BlotterDatabase.getDatabase(ViewResolvedReportsActivity.this);
-                        for (BlotterReport report : apiReports) {
-                            BlotterReport existing = db.blotterReportDao().getReportById(report.getId());
-                            if (existing == null) {
-                                db.blotterReportDao().insertReport(report);
-                            } else {
-                                db.blotterReportDao().updateReport(report);
-                            }
-                        }
-                        
-                        runOnUiThread(() -> {
-                            filterReportsByUser(apiReports);
-                            updateStatistics();
-                            filterReports();
-                        });
-                    } catch (Exception e) {
-                        android.util.Log.e("ViewResolvedReports", "Error saving API data: " + e.getMessage());
-                        loadReportsFromDatabase();
-                    }
-                });
-            }
-            
-            @Override
-            public void onError(String errorMessage) {
-                android.util.Log.w("ViewResolvedReports", "API error: " + errorMessage);
-                loadReportsFromDatabase();
-            }
-        });
+    private ReportPagingSource.ReportQuery buildQuery() {
+        // Role scope, status, search and sort are all applied in SQL
+        int scope = ReportPagingSource.ReportQuery.scopeForRole(preferencesManager.getUserRole());
+        return new ReportPagingSource.ReportQuery(scope, userId, Collections.singletonList("RESOLVED"), searchQuery,
+            "Newest First".equals(currentSort));
     }
     
-    private void loadReportsFromDatabase() {
-        new Thread(() -> {
+    private void updateStatistics() {
+        // ✅ Counts come from a GROUP BY over the cache, not from the pages in memory
+        ReportPagingSource.ReportQuery query = buildQuery();
+        AppExecutors.disk().execute(() -> {
             try {
-                BlotterDatabase db = BlotterDatabase.getDatabase(this);
-                List<BlotterReport> reports = db.blotterReportDao().getAllReports();
-                
-                runOnUiThread(() -> {
-                    filterReportsByUser(reports);
-                    updateStatistics();
-                    filterReports();
-                });
-            } catch (Exception e) {
-                android.util.Log.e("ViewResolvedReports", "Error loading from database: " + e.getMessage());
-            }
-        }).start();
-    }
-    
-    private void filterReportsByUser(List<BlotterReport> reports) {
-        allReports.clear();
-        String userRole = preferencesManager.getUserRole();
-        
-        for (BlotterReport report : reports) {
-            // Admin sees ALL reports (no filtering by user)
-            if ("Admin".equalsIgnoreCase(userRole)) {
-                allReports.add(report);
-            }
-            // Officer sees reports assigned to them
-            else if ("Officer".equalsIgnoreCase(userRole)) {
-                boolean isAssignedToOfficer = false;
-                
-                if (report.getAssignedOfficerId() != null && report.getAssignedOfficerId().intValue() == userId) {
-                    isAssignedToOfficer = true;
-                }
+                int total = 0;
+                int pending = 0;
+                int ongoing = 0;
+                int resolved = 0;
                 
-                if (!isAssignedToOfficer && report.getAssignedOfficerIds() != null && !report.getAssignedOfficerIds().isEmpty()) {
-                    String[] officerIds = report.getAssignedOfficerIds().split(",");
-                    for (String id : officerIds) {
-                        try {
-                            if (Integer.parseInt(id.trim()) == userId) {
-                                isAssignedToOfficer = true;
-                                break;
-                            }
-                        } catch (NumberFormatException e) {
-                            // Ignore
-                        }
+                for (StatusCount count : pagingSource.loadStatusCounts(query)) {
+                    total += count.count;
+                    if ("PENDING".equals(count.status) || "ASSIGNED".equals(count.status)) {
+                        pending += count.count;
+                    } else if ("ONGOING".equals(count.status) || "IN PROGRESS".equals(count.status)) {
+                        ongoing += count.count;
+                    } else if ("RESOLVED".equals(count.status)) {
+                        resolved += count.count;
                     }
                 }
                 
-                if (isAssignedToOfficer) {
-                    allReports.add(report);
-                }
-            }
-            // Regular User sees ONLY their own filed reports
-            else {
-                if (report.getReportedById() == userId) {
-                    allReports.add(report);
-                }
-            }
-        }
-    }
-    
-    private void updateStatistics() {
-        int total = allReports.size();
-        int pending = 0;
-        int assigned = 0;
-        int ongoing = 0;
-        int resolved = 0;
-        
-        for (BlotterReport report : allReports) {
-            String status = report.getStatus();
-            if (status != null) {
-                status = status.toUpperCase().trim();
-                if ("PENDING".equals(status)) {
-                    pending++;
-                } else if ("ASSIGNED".equals(status)) {
-                    assigned++;
-                } else if ("ONGOING".equals(status) || "IN PROGRESS".equals(status)) {
-                    ongoing++;
-                } else if ("RESOLVED".equals(status)) {
-                    resolved++;
-                }
+                final int totalCount = total, pendingCount = pending, ongoingCount = ongoing, resolvedCount = resolved;
+                runOnUiThread(() -> {
+                    if (tvTotalCount != null) tvTotalCount.setText(String.valueOf(totalCount));
+                    if (tvPendingCount != null) tvPendingCount.setText(String.valueOf(pendingCount));
+                    if (tvOngoingCount != null) tvOngoingCount.setText(String.valueOf(ongoingCount));
+                    if (tvResolvedCount != null) tvResolvedCount.setText(String.valueOf(resolvedCount));
+                });
+            } catch (Exception e) {
+                android.util.Log.e("ViewResolvedReports", "Error updating statistics: " + e.getMessage());
             }
-        }
-        
-        if (tvTotalCount != null) tvTotalCount.setText(String.valueOf(total));
-        if (tvPendingCount != null) tvPendingCount.setText(String.valueOf(pending));
-        if (tvAssignedCount != null) tvAssignedCount.setText(String.valueOf(assigned));
-        if (tvOngoingCount != null) tvOngoingCount.setText(String.valueOf(ongoing));
-        if (tvResolvedCount != null) tvResolvedCount.setText(String.valueOf(resolved));
-        
-        android.util.Log.d("Statistics", 
-            "Resolved Stats - Total: " + total + 
-            ", Pending: " + pending + 
-            ", Assigned: " + assigned + 
-            ", Ongoing: " + ongoing + 
-            ", Resolved: " + resolved);
+        });
     }
     
     private void filterReports() {
-        filteredReports.clear();
-        
-        // Filter for RESOLVED reports ONLY (case-insensitive)
-        for (BlotterReport report : allReports) {
-            String status = report.getStatus() != null ? report.getStatus().toUpperCase().trim() : "";
-            // Show ONLY "RESOLVED" status in this view
-            if ("RESOLVED".equals(status)) {
-                if (searchQuery.isEmpty()) {
-                    filteredReports.add(report);
-                } else {
-                    String caseNumber = report.getCaseNumber() != null ? report.getCaseNumber().toLowerCase() : "";
-                    String incidentType = report.getIncidentType() != null ? report.getIncidentType().toLowerCase() : "";
-                    String complainant = report.getComplainantName() != null ? report.getComplainantName().toLowerCase() : "";
-                    
-                    if (caseNumber.contains(searchQuery) || 
-                        incidentType.contains(searchQuery) || 
-                        complainant.contains(searchQuery)) {
-                        filteredReports.add(report);
-                    }
-                }
-            }
-        }
-        
-        sortReports();
-        
-        if (adapter != null) {
-            adapter.notifyDataSetChanged();
-        }
-        
-        updateEmptyState();
-    }
-    
-    private void sortReports() {
-        switch (currentSort) {
-            case "Newest First":
-                Collections.sort(filteredReports, (r1, r2) -> 
-                    Long.compare(r2.getDateFiled(), r1.getDateFiled()));
-                break;
-            case "Oldest First":
-                Collections.sort(filteredReports, (r1, r2) -> 
-                    Long.compare(r1.getDateFiled(), r2.getDateFiled()));
-                break;
-        }
-    }
-    
-    private void filterReportsByStatus(String status) {
-        filteredReports.clear();
-        
-        for (BlotterReport report : allReports) {
-            if (status.equals(report.getStatus())) {
-                filteredReports.add(report);
-            }
-        }
-        
-        sortReports();
-        
-        if (adapter != null) {
-            adapter.notifyDataSetChanged();
-        }
-        
-        updateEmptyState();
+        // Search/sort changed - restart paging from the top of the new result set
+        if (pager != null) pager.submitQuery(buildQuery());
     }
     
     private void updateEmptyState() {
@@ -649,26 +453,6 @@ public class ViewResolvedReportsActivity extends BaseActivity {
         // ✅ ALWAYS refresh when returning to screen (latest data)
         android.util.Log.d("ViewResolvedReports", "🔄 onResume() - Refreshing data...");
         loadReports();
-        
-        // ✅ Additional: Refresh statistics specifically
-        updateStatisticsFromDatabase();
-    }
-    
-    private void updateStatisticsFromDatabase() {
-        // Quick statistics update from local database
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
-            try {
-                BlotterDatabase db = BlotterDatabase.getDatabase(this);
-                List<BlotterReport> reports = db.blotterReportDao().getAllReports();
-                
-                runOnUiThread(() -> {
-                    filterReportsByUser(reports);
-                    updateStatistics();
-                });
-            } catch (Exception e) {
-                android.util.Log.e("ViewResolvedReports", "Error updating statistics: " + e.getMessage());
-            }
-        });
     }
     
     private void startPeriodicRefresh() {
@@ -688,105 +472,29 @@ public class ViewResolvedReportsActivity extends BaseActivity {
     }
     
     private void loadReportsQuietly() {
-        // ✅ Background refresh without UI disruption
-        java.util.concurrent.Executors.newSingleThreadExecutor().execute(() -> {
-            try {
-                BlotterDatabase db = BlotterDatabase.getDatabase(this);
-                List<BlotterReport> reports = db.blotterReportDao().getAllReports();
-                
-                // Filter by user role before comparing
-                List<BlotterReport> filteredByUser = new ArrayList<>();
-                for (BlotterReport report : reports) {
-                    if (shouldShowReport(report)) {
-                        filteredByUser.add(report);
-                    }
-                }
-                
-                // ✅ Deep comparison: check if data actually changed
-                boolean dataChanged = hasDataChanged(filteredByUser, allReports);
-                
-                if (dataChanged) {
-                    runOnUiThread(() -> {
-                        allReports.clear();
-                        allReports.addAll(filteredByUser);
-                        filterReports();
-                        updateStatistics();
-                        android.util.Log.d("ViewResolvedReports", "✅ Quiet refresh - UI updated");
-                    });
-                }
-            } catch (Exception e) {
-                android.util.Log.e("ViewResolvedReports", "❌ Error in quiet refresh: " + e.getMessage());
+        // ✅ Background revalidation - the list is only re-paged when the cache was actually refreshed
+        reportRepository.revalidateReports(false, new ReportRepository.CacheCallback<List<BlotterReport>>() {
+            @Override
+            public void onCached(List<BlotterReport> reports) {
+                // Not used for revalidation
             }
-        });
-    }
-    
-    private boolean hasDataChanged(List<BlotterReport> newReports, List<BlotterReport> oldReports) {
-        if (newReports.size() != oldReports.size()) {
-            android.util.Log.d("ViewResolvedReports", "📊 Data changed: Different report count");
-            return true;
-        }
-        
-        // Deep comparison: check if data actually changed (not just size)
-        for (int i = 0; i < newReports.size(); i++) {
-            BlotterReport newReport = newReports.get(i);
-            BlotterReport oldReport = oldReports.get(i);
             
-            // Compare key fields that affect UI
-            if (newReport.getId() != oldReport.getId() ||
-                !equals(newReport.getStatus(), oldReport.getStatus()) ||
-                !equals(newReport.getCaseNumber(), oldReport.getCaseNumber()) ||
-                newReport.getDateFiled() != oldReport.getDateFiled() ||
-                !equals(newReport.getIncidentType(), oldReport.getIncidentType())) {
-                
-                android.util.Log.d("ViewResolvedReports", "📊 Data changed: Report content modified");
-                return true;
+            @Override
+            public void onRefreshed(List<BlotterReport> reports) {
+                runOnUiThread(() -> {
+                    if (isFinishing() || isDestroyed()) return;
+                    pager.refresh();
+                    updateStatistics();
+                    android.util.Log.d("ViewResolvedReports", "✅ UI refreshed with API data");
+                });
             }
-        }
-        
-        android.util.Log.d("ViewResolvedReports", "📊 No data changes detected");
-        return false;
-    }
-    
-    // Helper method for null-safe string comparison
-    private boolean equals(String str1, String str2) {
-        if (str1 == null && str2 == null) return true;
-        if (str1 == null || str2 == null) return false;
-        return str1.equals(str2);
-    }
-    
-    // Helper method for user role filtering
-    private boolean shouldShowReport(BlotterReport report) {
-        String userRole = preferencesManager.getUserRole();
-        
-        if ("Admin".equalsIgnoreCase(userRole)) {
-            return true;
-        } else if ("Officer".equalsIgnoreCase(userRole)) {
-            // Officer sees assigned reports
-            return isReportAssignedToOfficer(report);
-        } else {
-            // User sees only their own reports
-            return report.getReportedById() == userId;
-        }
-    }
-    
-    private boolean isReportAssignedToOfficer(BlotterReport report) {
-        if (report.getAssignedOfficerId() != null && report.getAssignedOfficerId().intValue() == userId) {
-            return true;
-        }
-        
-        if (report.getAssignedOfficerIds() != null && !report.getAssignedOfficerIds().isEmpty()) {
-            String[] officerIds = report.getAssignedOfficerIds().split(",");
-            for (String id : officerIds) {
-                try {
-                    if (Integer.parseInt(id.trim()) == userId) {
-                        return true;
-                    }
-                } catch (NumberFormatException e) {
-                    // Ignore
-                }
+            
+            @Override
+            public void onError(String errorMessage) {
+                android.util.Log.w("ViewResolvedReports", "⚠️ API sync error: " + errorMessage);
+                // Continue with local data - no need to show error to user
             }
-        }
-        
-        return false;
+        });
     }
+    
 }
\ No newline at end of file
@@ -12,10 +12,10 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
+import com.example.blottermanagementsystem.data.entity.Witness;
 import com.example.blottermanagementsystem.managers.CasePersonManager;
 import com.example.blottermanagementsystem.utils.ApiClient;
 import java.util.List;
-import java.util.Map;
 
 /**
  * ✅ WITNESS MANAGEMENT ACTIVITY
@@ -49,9 +49,9 @@ public class WitnessManagementActivity extends AppCompatActivity {
     }
     
     private void loadWitnesses() {
-        ApiClient.getCaseWitnesses(caseId, new ApiClient.ApiCallback<List<Map<String, Object>>>() {
+        ApiClient.getCaseWitnesses(caseId, new ApiClient.ApiCallback<List<Witness>>() {
             @Override
-            public void onSuccess(List<Map<String, Object>> witnesses) {
+            public void onSuccess(List<Witness> witnesses) {
                 android.util.Log.d("WitnessManagement", "✅ Loaded " + witnesses.size() + " witnesses");
                 // TODO: Set adapter with witnesses list
             }
@@ -97,9 +97,9 @@ public class WitnessManagementActivity extends AppCompatActivity {
     }
     
     private void addWitness(String name, String contact, String address, String statement) {
-        Map<String, Object> witnessData = casePersonManager.createWitnessData(name, contact, statement, address);
+        Witness witness = casePersonManager.createWitnessData(caseId, name, contact, statement, address);
         
-        ApiClient.addWitnessToCase(caseId, witnessData, new ApiClient.ApiCallback<String>() {
+        ApiClient.addWitnessToCase(caseId, witness, new ApiClient.ApiCallback<String>() {
             @Override
             public void onSuccess(String result) {
                 Toast.makeText(WitnessManagementActivity.this, "Witness added successfully", Toast.LENGTH_SHORT).show();
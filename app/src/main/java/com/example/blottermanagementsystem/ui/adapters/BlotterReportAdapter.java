@@ -13,10 +13,10 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class BlotterReportAdapter extends RecyclerView.Adapter<BlotterReportAdapter.ReportViewHolder> {
+public class BlotterReportAdapter extends DiffListAdapter<BlotterReport, BlotterReportAdapter.ReportViewHolder> {
     
-    private List<BlotterReport> reports;
     private OnReportClickListener listener;
     
     public interface OnReportClickListener {
@@ -24,7 +24,7 @@ public class BlotterReportAdapter extends RecyclerView.Adapter<BlotterReportAdap
     }
     
     public BlotterReportAdapter(List<BlotterReport> reports, OnReportClickListener listener) {
-        this.reports = reports;
+        super(reports);
         this.listener = listener;
     }
     
@@ -38,18 +38,26 @@ public class BlotterReportAdapter extends RecyclerView.Adapter<BlotterReportAdap
     
     @Override
     public void onBindViewHolder(@NonNull ReportViewHolder holder, int position) {
-        BlotterReport report = reports.get(position);
+        BlotterReport report = getItem(position);
         holder.bind(report, listener);
     }
     
     @Override
-    public int getItemCount() {
-        return reports.size();
+    protected long getStableId(@NonNull BlotterReport item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull BlotterReport oldItem, @NonNull BlotterReport newItem) {
+        return oldItem.getIncidentDate() == newItem.getIncidentDate()
+            && Objects.equals(oldItem.getCaseNumber(), newItem.getCaseNumber())
+            && Objects.equals(oldItem.getIncidentType(), newItem.getIncidentType())
+            && Objects.equals(oldItem.getStatus(), newItem.getStatus())
+            && Objects.equals(oldItem.getLocation(), newItem.getLocation());
     }
     
     public void updateReports(List<BlotterReport> newReports) {
-        this.reports = newReports;
-        notifyDataSetChanged();
+        submitList(newReports);
     }
     
     static class ReportViewHolder extends RecyclerView.ViewHolder {
@@ -122,7 +130,7 @@ public class BlotterReportAdapter extends RecyclerView.Adapter<BlotterReportAdap
             // Click listener
             cardView.setOnClickListener(v -> {
                 if (listener != null) {
-                    listener.onReportClick(report);
+                    listener.onReportClick(currentItem(this, report));
                 }
             });
         }
@@ -9,14 +9,13 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.ConnectedDevice;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class ConnectedDeviceAdapter extends RecyclerView.Adapter<ConnectedDeviceAdapter.ViewHolder> {
+public class ConnectedDeviceAdapter extends DiffListAdapter<ConnectedDevice, ConnectedDeviceAdapter.ViewHolder> {
     
-    private List<ConnectedDevice> devices = new ArrayList<>();
     private OnDeviceClickListener listener;
     private SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd, yyyy hh:mm a", Locale.getDefault());
     
@@ -25,6 +24,7 @@ public class ConnectedDeviceAdapter extends RecyclerView.Adapter<ConnectedDevice
     }
     
     public ConnectedDeviceAdapter(OnDeviceClickListener listener) {
+        super(null);
         this.listener = listener;
     }
     
@@ -38,7 +38,7 @@ public class ConnectedDeviceAdapter extends RecyclerView.Adapter<ConnectedDevice
     
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        ConnectedDevice device = devices.get(position);
+        ConnectedDevice device = getItem(position);
         
         holder.tvDeviceName.setText(device.getDeviceName());
         holder.tvDeviceModel.setText(device.getDeviceModel());
@@ -57,18 +57,27 @@ public class ConnectedDeviceAdapter extends RecyclerView.Adapter<ConnectedDevice
         }
         
         holder.itemView.setOnClickListener(v -> {
-            if (listener != null) listener.onDeviceClick(device);
+            if (listener != null) listener.onDeviceClick(currentItem(holder, device));
         });
     }
     
     @Override
-    public int getItemCount() {
-        return devices.size();
+    protected long getStableId(@NonNull ConnectedDevice item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull ConnectedDevice oldItem, @NonNull ConnectedDevice newItem) {
+        return oldItem.getLastActive() == newItem.getLastActive()
+            && oldItem.isActive() == newItem.isActive()
+            && Objects.equals(oldItem.getDeviceName(), newItem.getDeviceName())
+            && Objects.equals(oldItem.getDeviceModel(), newItem.getDeviceModel())
+            && Objects.equals(oldItem.getUsername(), newItem.getUsername())
+            && Objects.equals(oldItem.getLocation(), newItem.getLocation());
     }
     
     public void setDevices(List<ConnectedDevice> devices) {
-        this.devices = devices;
-        notifyDataSetChanged();
+        submitList(devices);
     }
     
     static class ViewHolder extends RecyclerView.ViewHolder {
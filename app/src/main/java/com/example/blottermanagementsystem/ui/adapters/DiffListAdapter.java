@@ -0,0 +1,89 @@
+package com.example.blottermanagementsystem.ui.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.AsyncDifferConfig;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ✅ DIFF LIST ADAPTER - INCREMENTAL UPDATES INSTEAD OF notifyDataSetChanged()
+ * submitList() diffs the new list against the one on screen on AppExecutors.cpu() and
+ * dispatches only the inserts, removes, moves and changes - a refresh where one case changed
+ * status rebinds that one row and keeps the item animations. Rows have stable IDs, so even
+ * a full reload reuses the views it already has.
+ *
+ * Subclasses say what identifies an item (getStableId) and which fields their row shows
+ * (sameContent). submitList() keeps its own copy, so callers may go on mutating their list.
+ */
+public abstract class DiffListAdapter<T, VH extends RecyclerView.ViewHolder> extends ListAdapter<T, VH> {
+
+    protected DiffListAdapter(@Nullable List<T> items) {
+        this(new ItemCallback<>(), items);
+    }
+
+    private DiffListAdapter(ItemCallback<T> callback, @Nullable List<T> items) {
+        super(new AsyncDifferConfig.Builder<>(callback)
+            .setBackgroundThreadExecutor(AppExecutors.cpu())
+            .build());
+        callback.adapter = this;
+        setHasStableIds(true);
+        // The first list is applied synchronously - nothing to diff against yet
+        if (items != null) submitList(items);
+    }
+
+    /**
+     * Same item, possibly changed - usually the database id
+     */
+    protected abstract long getStableId(@NonNull T item);
+
+    /**
+     * True if the row would look the same for both - only the fields onBindViewHolder shows
+     */
+    protected abstract boolean sameContent(@NonNull T oldItem, @NonNull T newItem);
+
+    @Override
+    public long getItemId(int position) {
+        return getStableId(getItem(position));
+    }
+
+    @Override
+    public void submitList(@Nullable List<T> list) {
+        super.submitList(list != null ? new ArrayList<>(list) : null);
+    }
+
+    @Override
+    public void submitList(@Nullable List<T> list, @Nullable Runnable commitCallback) {
+        super.submitList(list != null ? new ArrayList<>(list) : null, commitCallback);
+    }
+
+    /**
+     * The item a row shows now. Rows whose shown fields didn't change aren't rebound and keep
+     * the instance they were bound with, so click handlers read the latest copy through this.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T currentItem(@NonNull RecyclerView.ViewHolder holder, T bound) {
+        RecyclerView.Adapter<?> adapter = holder.getBindingAdapter();
+        int position = holder.getBindingAdapterPosition();
+        if (!(adapter instanceof DiffListAdapter) || position == RecyclerView.NO_POSITION) return bound;
+        return ((DiffListAdapter<T, ?>) adapter).getItem(position);
+    }
+
+    private static final class ItemCallback<T> extends DiffUtil.ItemCallback<T> {
+        DiffListAdapter<T, ?> adapter;
+
+        @Override
+        public boolean areItemsTheSame(@NonNull T oldItem, @NonNull T newItem) {
+            return adapter.getStableId(oldItem) == adapter.getStableId(newItem);
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull T oldItem, @NonNull T newItem) {
+            return adapter.sameContent(oldItem, newItem);
+        }
+    }
+}
@@ -11,12 +11,11 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.bumptech.glide.Glide;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.Evidence;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
-public class EvidenceAdapter extends RecyclerView.Adapter<EvidenceAdapter.ViewHolder> {
+public class EvidenceAdapter extends DiffListAdapter<Evidence, EvidenceAdapter.ViewHolder> {
     
-    private List<Evidence> evidenceList = new ArrayList<>();
     private OnEvidenceClickListener listener;
     
     public interface OnEvidenceClickListener {
@@ -24,6 +23,7 @@ public class EvidenceAdapter extends RecyclerView.Adapter<EvidenceAdapter.ViewHo
     }
     
     public EvidenceAdapter(OnEvidenceClickListener listener) {
+        super(null);
         this.listener = listener;
     }
     
@@ -37,7 +37,7 @@ public class EvidenceAdapter extends RecyclerView.Adapter<EvidenceAdapter.ViewHo
     
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Evidence evidence = evidenceList.get(position);
+        Evidence evidence = getItem(position);
         
         holder.tvEvidenceType.setText(evidence.getEvidenceType());
         holder.tvDescription.setText(evidence.getDescription());
@@ -56,18 +56,24 @@ public class EvidenceAdapter extends RecyclerView.Adapter<EvidenceAdapter.ViewHo
         }
         
         holder.itemView.setOnClickListener(v -> {
-            if (listener != null) listener.onEvidenceClick(evidence);
+            if (listener != null) listener.onEvidenceClick(currentItem(holder, evidence));
         });
     }
     
     @Override
-    public int getItemCount() {
-        return evidenceList.size();
+    protected long getStableId(@NonNull Evidence item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull Evidence oldItem, @NonNull Evidence newItem) {
+        return Objects.equals(oldItem.getEvidenceType(), newItem.getEvidenceType())
+            && Objects.equals(oldItem.getDescription(), newItem.getDescription())
+            && Objects.equals(oldItem.getPhotoUri(), newItem.getPhotoUri());
     }
     
     public void setEvidenceList(List<Evidence> evidenceList) {
-        this.evidenceList = evidenceList;
-        notifyDataSetChanged();
+        submitList(evidenceList);
     }
     
     static class ViewHolder extends RecyclerView.ViewHolder {
@@ -20,14 +20,14 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class EvidenceListAdapter extends RecyclerView.Adapter<EvidenceListAdapter.ViewHolder> {
+public class EvidenceListAdapter extends DiffListAdapter<Evidence, EvidenceListAdapter.ViewHolder> {
     
-    private List<Evidence> evidenceList;
     private boolean isReadOnly;
     
     public EvidenceListAdapter(List<Evidence> evidenceList, boolean isReadOnly) {
-        this.evidenceList = evidenceList;
+        super(evidenceList);
         this.isReadOnly = isReadOnly;
     }
     
@@ -41,7 +41,7 @@ public class EvidenceListAdapter extends RecyclerView.Adapter<EvidenceListAdapte
     
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Evidence evidence = evidenceList.get(position);
+        Evidence evidence = getItem(position);
         
         // Parse description (format: "Title\nDescription")
         String[] parts = evidence.getDescription().split("\n", 2);
@@ -69,8 +69,17 @@ public class EvidenceListAdapter extends RecyclerView.Adapter<EvidenceListAdapte
     }
     
     @Override
-    public int getItemCount() {
-        return evidenceList.size();
+    protected long getStableId(@NonNull Evidence item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull Evidence oldItem, @NonNull Evidence newItem) {
+        return Objects.equals(oldItem.getDescription(), newItem.getDescription())
+            && Objects.equals(oldItem.getEvidenceType(), newItem.getEvidenceType())
+            && Objects.equals(oldItem.getCollectedBy(), newItem.getCollectedBy())
+            && oldItem.getCollectedDate() == newItem.getCollectedDate()
+            && Objects.equals(oldItem.getPhotoUris(), newItem.getPhotoUris());
     }
     
     private void loadThumbnail(String filePath, ImageView imageView) {
@@ -9,14 +9,13 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.Hearing;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class HearingAdapter extends RecyclerView.Adapter<HearingAdapter.ViewHolder> {
+public class HearingAdapter extends DiffListAdapter<Hearing, HearingAdapter.ViewHolder> {
     
-    private List<Hearing> hearings = new ArrayList<>();
     private OnHearingClickListener listener;
     private SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd, yyyy", Locale.getDefault());
     private SimpleDateFormat timeFormat = new SimpleDateFormat("hh:mm a", Locale.getDefault());
@@ -26,6 +25,7 @@ public class HearingAdapter extends RecyclerView.Adapter<HearingAdapter.ViewHold
     }
     
     public HearingAdapter(OnHearingClickListener listener) {
+        super(null);
         this.listener = listener;
     }
     
@@ -39,7 +39,7 @@ public class HearingAdapter extends RecyclerView.Adapter<HearingAdapter.ViewHold
     
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Hearing hearing = hearings.get(position);
+        Hearing hearing = getItem(position);
         
         holder.tvHearingTitle.setText(hearing.getTitle());
         holder.tvHearingDate.setText(dateFormat.format(new Date(hearing.getHearingDate())));
@@ -65,18 +65,25 @@ public class HearingAdapter extends RecyclerView.Adapter<HearingAdapter.ViewHold
         holder.tvStatus.setTextColor(holder.itemView.getContext().getColor(statusColor));
         
         holder.itemView.setOnClickListener(v -> {
-            if (listener != null) listener.onHearingClick(hearing);
+            if (listener != null) listener.onHearingClick(currentItem(holder, hearing));
         });
     }
     
     @Override
-    public int getItemCount() {
-        return hearings.size();
+    protected long getStableId(@NonNull Hearing item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull Hearing oldItem, @NonNull Hearing newItem) {
+        return Objects.equals(oldItem.getTitle(), newItem.getTitle())
+            && Objects.equals(oldItem.getHearingDate(), newItem.getHearingDate())
+            && Objects.equals(oldItem.getLocation(), newItem.getLocation())
+            && Objects.equals(oldItem.getStatus(), newItem.getStatus());
     }
     
     public void setHearings(List<Hearing> hearings) {
-        this.hearings = hearings;
-        notifyDataSetChanged();
+        submitList(hearings);
     }
     
     static class ViewHolder extends RecyclerView.ViewHolder {
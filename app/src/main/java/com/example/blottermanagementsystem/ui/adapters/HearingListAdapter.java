@@ -15,14 +15,14 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class HearingListAdapter extends RecyclerView.Adapter<HearingListAdapter.ViewHolder> {
+public class HearingListAdapter extends DiffListAdapter<Hearing, HearingListAdapter.ViewHolder> {
     
-    private List<Hearing> hearingList;
     private boolean isReadOnly;
     
     public HearingListAdapter(List<Hearing> hearingList, boolean isReadOnly) {
-        this.hearingList = hearingList;
+        super(hearingList);
         this.isReadOnly = isReadOnly;
     }
     
@@ -36,7 +36,7 @@ public class HearingListAdapter extends RecyclerView.Adapter<HearingListAdapter.
     
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Hearing hearing = hearingList.get(position);
+        Hearing hearing = getItem(position);
         
         holder.tvType.setText(hearing.getPurpose() != null ? hearing.getPurpose() : "Hearing");
         holder.tvLocation.setText("📍 " + hearing.getLocation());
@@ -55,8 +55,18 @@ public class HearingListAdapter extends RecyclerView.Adapter<HearingListAdapter.
     }
     
     @Override
-    public int getItemCount() {
-        return hearingList.size();
+    protected long getStableId(@NonNull Hearing item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull Hearing oldItem, @NonNull Hearing newItem) {
+        return Objects.equals(oldItem.getPurpose(), newItem.getPurpose())
+            && Objects.equals(oldItem.getLocation(), newItem.getLocation())
+            && Objects.equals(oldItem.getStatus(), newItem.getStatus())
+            && Objects.equals(oldItem.getHearingDate(), newItem.getHearingDate())
+            && Objects.equals(oldItem.getHearingTime(), newItem.getHearingTime())
+            && oldItem.getCreatedAt() == newItem.getCreatedAt();
     }
     
     public static class ViewHolder extends RecyclerView.ViewHolder {
@@ -14,6 +14,8 @@ import com.example.blottermanagementsystem.data.entity.InvestigationTask;
 
 import java.util.List;
 
+// Plain adapter on purpose: a toggle flips the task in place (so a diff would see no change) and
+// default tasks have no ids until inserted - InvestigationChecklistActivity notifies the one changed row
 public class InvestigationTaskAdapter extends RecyclerView.Adapter<InvestigationTaskAdapter.TaskViewHolder> {
     
     private List<InvestigationTask> tasks;
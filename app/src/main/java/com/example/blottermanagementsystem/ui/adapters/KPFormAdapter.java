@@ -5,6 +5,7 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageButton;
 import android.widget.TextView;
+import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.KPForm;
@@ -12,10 +13,10 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class KPFormAdapter extends RecyclerView.Adapter<KPFormAdapter.KPFormViewHolder> {
+public class KPFormAdapter extends DiffListAdapter<KPForm, KPFormAdapter.KPFormViewHolder> {
     
-    private List<KPForm> forms;
     private OnKPFormDeleteListener deleteListener;
     private OnKPFormViewListener viewListener;
     
@@ -28,7 +29,7 @@ public class KPFormAdapter extends RecyclerView.Adapter<KPFormAdapter.KPFormView
     }
     
     public KPFormAdapter(List<KPForm> forms, OnKPFormDeleteListener deleteListener, OnKPFormViewListener viewListener) {
-        this.forms = forms;
+        super(forms);
         this.deleteListener = deleteListener;
         this.viewListener = viewListener;
     }
@@ -42,18 +43,24 @@ public class KPFormAdapter extends RecyclerView.Adapter<KPFormAdapter.KPFormView
     
     @Override
     public void onBindViewHolder(KPFormViewHolder holder, int position) {
-        KPForm form = forms.get(position);
+        KPForm form = getItem(position);
         holder.bind(form);
     }
     
     @Override
-    public int getItemCount() {
-        return forms.size();
+    protected long getStableId(@NonNull KPForm item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull KPForm oldItem, @NonNull KPForm newItem) {
+        return oldItem.getCreatedDate() == newItem.getCreatedDate()
+            && Objects.equals(oldItem.getFormType(), newItem.getFormType())
+            && Objects.equals(oldItem.getFormTitle(), newItem.getFormTitle());
     }
     
     public void updateList(List<KPForm> newForms) {
-        this.forms = newForms;
-        notifyDataSetChanged();
+        submitList(newForms);
     }
     
     public class KPFormViewHolder extends RecyclerView.ViewHolder {
@@ -82,13 +89,13 @@ public class KPFormAdapter extends RecyclerView.Adapter<KPFormAdapter.KPFormView
             
             btnDelete.setOnClickListener(v -> {
                 if (deleteListener != null) {
-                    deleteListener.onDelete(form);
+                    deleteListener.onDelete(currentItem(this, form));
                 }
             });
             
             btnView.setOnClickListener(v -> {
                 if (viewListener != null) {
-                    viewListener.onView(form);
+                    viewListener.onView(currentItem(this, form));
                 }
             });
         }
@@ -13,6 +13,7 @@ import com.example.blottermanagementsystem.ui.dialogs.KPFormsDialogFragment;
 
 import java.util.List;
 
+// Plain adapter on purpose: the four KP form choices are fixed and never refreshed, so there is nothing to diff
 public class KPFormSimpleAdapter extends RecyclerView.Adapter<KPFormSimpleAdapter.ViewHolder> {
 
     private List<KPFormsDialogFragment.KPFormItem> items;
@@ -9,14 +9,13 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.LegalDocument;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class LegalDocumentAdapter extends RecyclerView.Adapter<LegalDocumentAdapter.ViewHolder> {
+public class LegalDocumentAdapter extends DiffListAdapter<LegalDocument, LegalDocumentAdapter.ViewHolder> {
     
-    private List<LegalDocument> documents = new ArrayList<>();
     private OnDocumentClickListener listener;
     private SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd, yyyy", Locale.getDefault());
     
@@ -25,6 +24,7 @@ public class LegalDocumentAdapter extends RecyclerView.Adapter<LegalDocumentAdap
     }
     
     public LegalDocumentAdapter(OnDocumentClickListener listener) {
+        super(null);
         this.listener = listener;
     }
     
@@ -38,7 +38,7 @@ public class LegalDocumentAdapter extends RecyclerView.Adapter<LegalDocumentAdap
     
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        LegalDocument document = documents.get(position);
+        LegalDocument document = getItem(position);
         
         holder.tvDocumentType.setText(document.getDocumentType());
         holder.tvTitle.setText(document.getTitle());
@@ -64,18 +64,26 @@ public class LegalDocumentAdapter extends RecyclerView.Adapter<LegalDocumentAdap
         holder.tvStatus.setTextColor(holder.itemView.getContext().getColor(statusColor));
         
         holder.itemView.setOnClickListener(v -> {
-            if (listener != null) listener.onDocumentClick(document);
+            if (listener != null) listener.onDocumentClick(currentItem(holder, document));
         });
     }
     
     @Override
-    public int getItemCount() {
-        return documents.size();
+    protected long getStableId(@NonNull LegalDocument item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull LegalDocument oldItem, @NonNull LegalDocument newItem) {
+        return oldItem.getCreatedAt() == newItem.getCreatedAt()
+            && Objects.equals(oldItem.getDocumentType(), newItem.getDocumentType())
+            && Objects.equals(oldItem.getTitle(), newItem.getTitle())
+            && Objects.equals(oldItem.getDocumentNumber(), newItem.getDocumentNumber())
+            && Objects.equals(oldItem.getStatus(), newItem.getStatus());
     }
     
     public void setDocuments(List<LegalDocument> documents) {
-        this.documents = documents;
-        notifyDataSetChanged();
+        submitList(documents);
     }
     
     static class ViewHolder extends RecyclerView.ViewHolder {
@@ -9,14 +9,13 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.MediationSession;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class MediationSessionAdapter extends RecyclerView.Adapter<MediationSessionAdapter.ViewHolder> {
+public class MediationSessionAdapter extends DiffListAdapter<MediationSession, MediationSessionAdapter.ViewHolder> {
     
-    private List<MediationSession> sessions = new ArrayList<>();
     private OnSessionClickListener listener;
     private SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd, yyyy hh:mm a", Locale.getDefault());
     
@@ -25,6 +24,7 @@ public class MediationSessionAdapter extends RecyclerView.Adapter<MediationSessi
     }
     
     public MediationSessionAdapter(OnSessionClickListener listener) {
+        super(null);
         this.listener = listener;
     }
     
@@ -38,7 +38,7 @@ public class MediationSessionAdapter extends RecyclerView.Adapter<MediationSessi
     
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        MediationSession session = sessions.get(position);
+        MediationSession session = getItem(position);
         
         holder.tvSessionTitle.setText("Session #" + session.getId());
         holder.tvSessionDate.setText(dateFormat.format(new Date(session.getSessionDate())));
@@ -63,18 +63,24 @@ public class MediationSessionAdapter extends RecyclerView.Adapter<MediationSessi
         holder.tvStatus.setTextColor(holder.itemView.getContext().getColor(statusColor));
         
         holder.itemView.setOnClickListener(v -> {
-            if (listener != null) listener.onSessionClick(session);
+            if (listener != null) listener.onSessionClick(currentItem(holder, session));
         });
     }
     
     @Override
-    public int getItemCount() {
-        return sessions.size();
+    protected long getStableId(@NonNull MediationSession item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull MediationSession oldItem, @NonNull MediationSession newItem) {
+        return oldItem.getSessionDate() == newItem.getSessionDate()
+            && Objects.equals(oldItem.getMediatorName(), newItem.getMediatorName())
+            && Objects.equals(oldItem.getStatus(), newItem.getStatus());
     }
     
     public void setSessions(List<MediationSession> sessions) {
-        this.sessions = sessions;
-        notifyDataSetChanged();
+        submitList(sessions);
     }
     
     static class ViewHolder extends RecyclerView.ViewHolder {
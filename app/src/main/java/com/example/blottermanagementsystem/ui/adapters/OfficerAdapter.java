@@ -13,10 +13,10 @@ import com.example.blottermanagementsystem.data.entity.Officer;
 import com.google.android.material.chip.Chip;
 
 import java.util.List;
+import java.util.Objects;
 
-public class OfficerAdapter extends RecyclerView.Adapter<OfficerAdapter.OfficerViewHolder> {
+public class OfficerAdapter extends DiffListAdapter<Officer, OfficerAdapter.OfficerViewHolder> {
     
-    private List<Officer> officers;
     private OnOfficerClickListener listener;
     
     public interface OnOfficerClickListener {
@@ -24,7 +24,7 @@ public class OfficerAdapter extends RecyclerView.Adapter<OfficerAdapter.OfficerV
     }
     
     public OfficerAdapter(List<Officer> officers, OnOfficerClickListener listener) {
-        this.officers = officers;
+        super(officers);
         this.listener = listener;
     }
     
@@ -38,18 +38,25 @@ public class OfficerAdapter extends RecyclerView.Adapter<OfficerAdapter.OfficerV
     
     @Override
     public void onBindViewHolder(@NonNull OfficerViewHolder holder, int position) {
-        Officer officer = officers.get(position);
+        Officer officer = getItem(position);
         holder.bind(officer, listener);
     }
     
     @Override
-    public int getItemCount() {
-        return officers.size();
+    protected long getStableId(@NonNull Officer item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull Officer oldItem, @NonNull Officer newItem) {
+        return oldItem.isActive() == newItem.isActive()
+            && Objects.equals(oldItem.getName(), newItem.getName())
+            && Objects.equals(oldItem.getRank(), newItem.getRank())
+            && Objects.equals(oldItem.getContactNumber(), newItem.getContactNumber());
     }
     
     public void updateOfficers(List<Officer> newOfficers) {
-        this.officers = newOfficers;
-        notifyDataSetChanged();
+        submitList(newOfficers);
     }
     
     static class OfficerViewHolder extends RecyclerView.ViewHolder {
@@ -95,7 +102,7 @@ public class OfficerAdapter extends RecyclerView.Adapter<OfficerAdapter.OfficerV
             
             itemView.setOnClickListener(v -> {
                 if (listener != null) {
-                    listener.onOfficerClick(officer);
+                    listener.onOfficerClick(currentItem(this, officer));
                 }
             });
         }
@@ -14,10 +14,10 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class RecentCaseAdapter extends RecyclerView.Adapter<RecentCaseAdapter.CaseViewHolder> {
+public class RecentCaseAdapter extends DiffListAdapter<BlotterReport, RecentCaseAdapter.CaseViewHolder> {
     
-    private List<BlotterReport> cases;
     private OnCaseClickListener listener;
     
     public interface OnCaseClickListener {
@@ -25,7 +25,7 @@ public class RecentCaseAdapter extends RecyclerView.Adapter<RecentCaseAdapter.Ca
     }
     
     public RecentCaseAdapter(List<BlotterReport> cases, OnCaseClickListener listener) {
-        this.cases = cases;
+        super(cases);
         this.listener = listener;
     }
     
@@ -39,18 +39,25 @@ public class RecentCaseAdapter extends RecyclerView.Adapter<RecentCaseAdapter.Ca
     
     @Override
     public void onBindViewHolder(@NonNull CaseViewHolder holder, int position) {
-        BlotterReport report = cases.get(position);
+        BlotterReport report = getItem(position);
         holder.bind(report, listener);
     }
     
     @Override
-    public int getItemCount() {
-        return cases.size();
+    protected long getStableId(@NonNull BlotterReport item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull BlotterReport oldItem, @NonNull BlotterReport newItem) {
+        return oldItem.getIncidentDate() == newItem.getIncidentDate()
+            && Objects.equals(oldItem.getCaseNumber(), newItem.getCaseNumber())
+            && Objects.equals(oldItem.getIncidentType(), newItem.getIncidentType())
+            && Objects.equals(oldItem.getStatus(), newItem.getStatus());
     }
     
     public void updateCases(List<BlotterReport> newCases) {
-        this.cases = newCases;
-        notifyDataSetChanged();
+        submitList(newCases);
     }
     
     static class CaseViewHolder extends RecyclerView.ViewHolder {
@@ -119,7 +126,7 @@ public class RecentCaseAdapter extends RecyclerView.Adapter<RecentCaseAdapter.Ca
             // Click listener
             cardView.setOnClickListener(v -> {
                 if (listener != null) {
-                    listener.onCaseClick(report);
+                    listener.onCaseClick(currentItem(this, report));
                 }
             });
         }
@@ -13,10 +13,10 @@ import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.google.android.material.chip.Chip;
 
 import java.util.List;
+import java.util.Objects;
 
-public class ReportAdapter extends RecyclerView.Adapter<ReportAdapter.ReportViewHolder> {
+public class ReportAdapter extends DiffListAdapter<BlotterReport, ReportAdapter.ReportViewHolder> {
     
-    private List<BlotterReport> reports;
     private OnReportClickListener listener;
     
     public interface OnReportClickListener {
@@ -24,37 +24,44 @@ public class ReportAdapter extends RecyclerView.Adapter<ReportAdapter.ReportView
     }
     
     public ReportAdapter(List<BlotterReport> reports, OnReportClickListener listener) {
-        this.reports = reports;
+        super(reports);
         this.listener = listener;
     }
     
     @NonNull
     @Override
     public ReportViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        android.util.Log.d("ReportAdapter", "onCreateViewHolder() called");
         View view = LayoutInflater.from(parent.getContext())
             .inflate(R.layout.item_report, parent, false);
-        android.util.Log.d("ReportAdapter", "Item view inflated successfully");
         return new ReportViewHolder(view);
     }
     
     @Override
     public void onBindViewHolder(@NonNull ReportViewHolder holder, int position) {
-        BlotterReport report = reports.get(position);
-        android.util.Log.d("ReportAdapter", "Binding report at position " + position + ": " + report.getCaseNumber());
-        holder.bind(report, listener);
+        holder.bind(getItem(position), listener);
     }
     
     @Override
-    public int getItemCount() {
-        int count = reports.size();
-        android.util.Log.d("ReportAdapter", "getItemCount() returning " + count);
-        return count;
+    protected long getStableId(@NonNull BlotterReport report) {
+        return report.getId();
+    }
+    
+    // Everything bind() shows - a realtime status change rebinds just that row
+    @Override
+    protected boolean sameContent(@NonNull BlotterReport oldReport, @NonNull BlotterReport newReport) {
+        return oldReport.getIncidentDate() == newReport.getIncidentDate()
+            && Objects.equals(oldReport.getCaseNumber(), newReport.getCaseNumber())
+            && Objects.equals(oldReport.getIncidentType(), newReport.getIncidentType())
+            && Objects.equals(oldReport.getComplainantName(), newReport.getComplainantName())
+            && Objects.equals(oldReport.getIncidentLocation(), newReport.getIncidentLocation())
+            && Objects.equals(oldReport.getAssignedOfficer(), newReport.getAssignedOfficer())
+            && Objects.equals(oldReport.getStatus(), newReport.getStatus())
+            && Objects.equals(oldReport.getImageUris(), newReport.getImageUris())
+            && Objects.equals(oldReport.getVideoUris(), newReport.getVideoUris());
     }
     
     public void updateReports(List<BlotterReport> newReports) {
-        this.reports = newReports;
-        notifyDataSetChanged();
+        submitList(newReports);
     }
     
     public void setReports(List<BlotterReport> newReports) {
@@ -129,7 +136,7 @@ public class ReportAdapter extends RecyclerView.Adapter<ReportAdapter.ReportView
             
             itemView.setOnClickListener(v -> {
                 if (listener != null) {
-                    listener.onReportClick(report);
+                    listener.onReportClick(currentItem(this, report));
                 }
             });
         }
@@ -5,14 +5,15 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageButton;
 import android.widget.TextView;
+import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.Resolution;
 import java.util.List;
+import java.util.Objects;
 
-public class ResolutionAdapter extends RecyclerView.Adapter<ResolutionAdapter.ResolutionViewHolder> {
+public class ResolutionAdapter extends DiffListAdapter<Resolution, ResolutionAdapter.ResolutionViewHolder> {
     
-    private List<Resolution> resolutions;
     private OnResolutionDeleteListener deleteListener;
     
     public interface OnResolutionDeleteListener {
@@ -20,7 +21,7 @@ public class ResolutionAdapter extends RecyclerView.Adapter<ResolutionAdapter.Re
     }
     
     public ResolutionAdapter(List<Resolution> resolutions, OnResolutionDeleteListener deleteListener) {
-        this.resolutions = resolutions;
+        super(resolutions);
         this.deleteListener = deleteListener;
     }
     
@@ -33,18 +34,24 @@ public class ResolutionAdapter extends RecyclerView.Adapter<ResolutionAdapter.Re
     
     @Override
     public void onBindViewHolder(ResolutionViewHolder holder, int position) {
-        Resolution resolution = resolutions.get(position);
+        Resolution resolution = getItem(position);
         holder.bind(resolution);
     }
     
     @Override
-    public int getItemCount() {
-        return resolutions.size();
+    protected long getStableId(@NonNull Resolution item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull Resolution oldItem, @NonNull Resolution newItem) {
+        return Objects.equals(oldItem.getResolutionType(), newItem.getResolutionType())
+            && Objects.equals(oldItem.getResolutionDetails(), newItem.getResolutionDetails())
+            && Objects.equals(oldItem.getResolvedBy(), newItem.getResolvedBy());
     }
     
     public void updateList(List<Resolution> newResolutions) {
-        this.resolutions = newResolutions;
-        notifyDataSetChanged();
+        submitList(newResolutions);
     }
     
     public class ResolutionViewHolder extends RecyclerView.ViewHolder {
@@ -66,7 +73,7 @@ public class ResolutionAdapter extends RecyclerView.Adapter<ResolutionAdapter.Re
             
             btnDelete.setOnClickListener(v -> {
                 if (deleteListener != null) {
-                    deleteListener.onDelete(resolution);
+                    deleteListener.onDelete(currentItem(this, resolution));
                 }
             });
         }
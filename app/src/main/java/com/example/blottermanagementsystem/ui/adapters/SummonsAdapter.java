@@ -9,14 +9,13 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.Summons;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class SummonsAdapter extends RecyclerView.Adapter<SummonsAdapter.ViewHolder> {
+public class SummonsAdapter extends DiffListAdapter<Summons, SummonsAdapter.ViewHolder> {
     
-    private List<Summons> summonsList = new ArrayList<>();
     private OnSummonsClickListener listener;
     private SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd, yyyy", Locale.getDefault());
     
@@ -25,6 +24,7 @@ public class SummonsAdapter extends RecyclerView.Adapter<SummonsAdapter.ViewHold
     }
     
     public SummonsAdapter(OnSummonsClickListener listener) {
+        super(null);
         this.listener = listener;
     }
     
@@ -38,7 +38,7 @@ public class SummonsAdapter extends RecyclerView.Adapter<SummonsAdapter.ViewHold
     
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Summons summons = summonsList.get(position);
+        Summons summons = getItem(position);
         
         holder.tvSummonsNumber.setText("Summons #" + summons.getSummonsNumber());
         holder.tvRespondent.setText("To: " + summons.getRespondentName());
@@ -64,18 +64,26 @@ public class SummonsAdapter extends RecyclerView.Adapter<SummonsAdapter.ViewHold
         holder.tvStatus.setTextColor(holder.itemView.getContext().getColor(statusColor));
         
         holder.itemView.setOnClickListener(v -> {
-            if (listener != null) listener.onSummonsClick(summons);
+            if (listener != null) listener.onSummonsClick(currentItem(holder, summons));
         });
     }
     
     @Override
-    public int getItemCount() {
-        return summonsList.size();
+    protected long getStableId(@NonNull Summons item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull Summons oldItem, @NonNull Summons newItem) {
+        return oldItem.getIssuedDate() == newItem.getIssuedDate()
+            && Objects.equals(oldItem.getSummonsNumber(), newItem.getSummonsNumber())
+            && Objects.equals(oldItem.getRespondentName(), newItem.getRespondentName())
+            && Objects.equals(oldItem.getHearingDate(), newItem.getHearingDate())
+            && Objects.equals(oldItem.getStatus(), newItem.getStatus());
     }
     
     public void setSummonsList(List<Summons> summonsList) {
-        this.summonsList = summonsList;
-        notifyDataSetChanged();
+        submitList(summonsList);
     }
     
     static class ViewHolder extends RecyclerView.ViewHolder {
@@ -5,14 +5,15 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageButton;
 import android.widget.TextView;
+import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.Suspect;
 import java.util.List;
+import java.util.Objects;
 
-public class SuspectAdapter extends RecyclerView.Adapter<SuspectAdapter.SuspectViewHolder> {
+public class SuspectAdapter extends DiffListAdapter<Suspect, SuspectAdapter.SuspectViewHolder> {
     
-    private List<Suspect> suspects;
     private OnSuspectDeleteListener deleteListener;
     
     public interface OnSuspectDeleteListener {
@@ -20,7 +21,7 @@ public class SuspectAdapter extends RecyclerView.Adapter<SuspectAdapter.SuspectV
     }
     
     public SuspectAdapter(List<Suspect> suspects, OnSuspectDeleteListener deleteListener) {
-        this.suspects = suspects;
+        super(suspects);
         this.deleteListener = deleteListener;
     }
     
@@ -33,18 +34,25 @@ public class SuspectAdapter extends RecyclerView.Adapter<SuspectAdapter.SuspectV
     
     @Override
     public void onBindViewHolder(SuspectViewHolder holder, int position) {
-        Suspect suspect = suspects.get(position);
+        Suspect suspect = getItem(position);
         holder.bind(suspect);
     }
     
     @Override
-    public int getItemCount() {
-        return suspects.size();
+    protected long getStableId(@NonNull Suspect item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull Suspect oldItem, @NonNull Suspect newItem) {
+        return Objects.equals(oldItem.getName(), newItem.getName())
+            && Objects.equals(oldItem.getAge(), newItem.getAge())
+            && Objects.equals(oldItem.getAddress(), newItem.getAddress())
+            && Objects.equals(oldItem.getDescription(), newItem.getDescription());
     }
     
     public void updateList(List<Suspect> newSuspects) {
-        this.suspects = newSuspects;
-        notifyDataSetChanged();
+        submitList(newSuspects);
     }
     
     public class SuspectViewHolder extends RecyclerView.ViewHolder {
@@ -68,7 +76,7 @@ public class SuspectAdapter extends RecyclerView.Adapter<SuspectAdapter.SuspectV
             
             btnDelete.setOnClickListener(v -> {
                 if (deleteListener != null) {
-                    deleteListener.onDelete(suspect);
+                    deleteListener.onDelete(currentItem(this, suspect));
                 }
             });
         }
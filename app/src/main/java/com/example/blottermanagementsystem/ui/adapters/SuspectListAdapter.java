@@ -15,14 +15,14 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class SuspectListAdapter extends RecyclerView.Adapter<SuspectListAdapter.ViewHolder> {
+public class SuspectListAdapter extends DiffListAdapter<Suspect, SuspectListAdapter.ViewHolder> {
     
-    private List<Suspect> suspectList;
     private boolean isReadOnly;
     
     public SuspectListAdapter(List<Suspect> suspectList, boolean isReadOnly) {
-        this.suspectList = suspectList;
+        super(suspectList);
         this.isReadOnly = isReadOnly;
     }
     
@@ -36,7 +36,7 @@ public class SuspectListAdapter extends RecyclerView.Adapter<SuspectListAdapter.
     
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Suspect suspect = suspectList.get(position);
+        Suspect suspect = getItem(position);
         
         holder.tvName.setText(suspect.getName());
         holder.tvContactInfo.setText("📞 " + (suspect.getAddress() != null ? suspect.getAddress() : "N/A"));
@@ -51,8 +51,17 @@ public class SuspectListAdapter extends RecyclerView.Adapter<SuspectListAdapter.
     }
     
     @Override
-    public int getItemCount() {
-        return suspectList.size();
+    protected long getStableId(@NonNull Suspect item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull Suspect oldItem, @NonNull Suspect newItem) {
+        return Objects.equals(oldItem.getName(), newItem.getName())
+            && Objects.equals(oldItem.getAddress(), newItem.getAddress())
+            && Objects.equals(oldItem.getAlias(), newItem.getAlias())
+            && Objects.equals(oldItem.getDescription(), newItem.getDescription())
+            && oldItem.getDateAdded() == newItem.getDateAdded();
     }
     
     public static class ViewHolder extends RecyclerView.ViewHolder {
@@ -13,10 +13,10 @@ import com.example.blottermanagementsystem.data.entity.User;
 import com.google.android.material.chip.Chip;
 
 import java.util.List;
+import java.util.Objects;
 
-public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder> {
+public class UserAdapter extends DiffListAdapter<User, UserAdapter.UserViewHolder> {
     
-    private List<User> users;
     private OnUserClickListener listener;
     private OnUserLongClickListener longClickListener;
     
@@ -29,7 +29,7 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder
     }
     
     public UserAdapter(List<User> users, OnUserClickListener listener) {
-        this.users = users;
+        super(users);
         this.listener = listener;
     }
     
@@ -47,18 +47,26 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder
     
     @Override
     public void onBindViewHolder(@NonNull UserViewHolder holder, int position) {
-        User user = users.get(position);
+        User user = getItem(position);
         holder.bind(user, listener, longClickListener);
     }
     
     @Override
-    public int getItemCount() {
-        return users.size();
+    protected long getStableId(@NonNull User item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull User oldItem, @NonNull User newItem) {
+        return Objects.equals(oldItem.getFirstName(), newItem.getFirstName())
+            && Objects.equals(oldItem.getLastName(), newItem.getLastName())
+            && Objects.equals(oldItem.getUsername(), newItem.getUsername())
+            && Objects.equals(oldItem.getEmail(), newItem.getEmail())
+            && Objects.equals(oldItem.getRole(), newItem.getRole());
     }
     
     public void updateUsers(List<User> newUsers) {
-        this.users = newUsers;
-        notifyDataSetChanged();
+        submitList(newUsers);
     }
     
     static class UserViewHolder extends RecyclerView.ViewHolder {
@@ -97,13 +105,13 @@ public class UserAdapter extends RecyclerView.Adapter<UserAdapter.UserViewHolder
             
             itemView.setOnClickListener(v -> {
                 if (listener != null) {
-                    listener.onUserClick(user);
+                    listener.onUserClick(currentItem(this, user));
                 }
             });
             
             itemView.setOnLongClickListener(v -> {
                 if (longClickListener != null) {
-                    longClickListener.onUserLongClick(user);
+                    longClickListener.onUserLongClick(currentItem(this, user));
                     return true;
                 }
                 return false;
@@ -10,10 +10,10 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.User;
 import java.util.List;
+import java.util.Objects;
 
-public class UserManagementAdapter extends RecyclerView.Adapter<UserManagementAdapter.UserViewHolder> {
+public class UserManagementAdapter extends DiffListAdapter<User, UserManagementAdapter.UserViewHolder> {
     
-    private List<User> users;
     private OnUserClickListener listener;
     
     public interface OnUserClickListener {
@@ -21,7 +21,7 @@ public class UserManagementAdapter extends RecyclerView.Adapter<UserManagementAd
     }
     
     public UserManagementAdapter(List<User> users, OnUserClickListener listener) {
-        this.users = users;
+        super(users);
         this.listener = listener;
     }
     
@@ -35,13 +35,22 @@ public class UserManagementAdapter extends RecyclerView.Adapter<UserManagementAd
     
     @Override
     public void onBindViewHolder(@NonNull UserViewHolder holder, int position) {
-        User user = users.get(position);
+        User user = getItem(position);
         holder.bind(user, listener);
     }
     
     @Override
-    public int getItemCount() {
-        return users.size();
+    protected long getStableId(@NonNull User item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull User oldItem, @NonNull User newItem) {
+        return Objects.equals(oldItem.getUsername(), newItem.getUsername())
+            && Objects.equals(oldItem.getEmail(), newItem.getEmail())
+            && Objects.equals(oldItem.getFirstName(), newItem.getFirstName())
+            && Objects.equals(oldItem.getLastName(), newItem.getLastName())
+            && Objects.equals(oldItem.getRole(), newItem.getRole());
     }
     
     public static class UserViewHolder extends RecyclerView.ViewHolder {
@@ -83,7 +92,7 @@ public class UserManagementAdapter extends RecyclerView.Adapter<UserManagementAd
             }
             
             // Click listener
-            itemView.setOnClickListener(v -> listener.onUserClick(user));
+            itemView.setOnClickListener(v -> listener.onUserClick(currentItem(this, user)));
         }
     }
 }
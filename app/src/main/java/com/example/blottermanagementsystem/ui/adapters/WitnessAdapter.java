@@ -5,14 +5,15 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageButton;
 import android.widget.TextView;
+import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.entity.Witness;
 import java.util.List;
+import java.util.Objects;
 
-public class WitnessAdapter extends RecyclerView.Adapter<WitnessAdapter.WitnessViewHolder> {
+public class WitnessAdapter extends DiffListAdapter<Witness, WitnessAdapter.WitnessViewHolder> {
     
-    private List<Witness> witnesses;
     private OnWitnessDeleteListener deleteListener;
     
     public interface OnWitnessDeleteListener {
@@ -20,7 +21,7 @@ public class WitnessAdapter extends RecyclerView.Adapter<WitnessAdapter.WitnessV
     }
     
     public WitnessAdapter(List<Witness> witnesses, OnWitnessDeleteListener deleteListener) {
-        this.witnesses = witnesses;
+        super(witnesses);
         this.deleteListener = deleteListener;
     }
     
@@ -33,18 +34,25 @@ public class WitnessAdapter extends RecyclerView.Adapter<WitnessAdapter.WitnessV
     
     @Override
     public void onBindViewHolder(WitnessViewHolder holder, int position) {
-        Witness witness = witnesses.get(position);
+        Witness witness = getItem(position);
         holder.bind(witness);
     }
     
     @Override
-    public int getItemCount() {
-        return witnesses.size();
+    protected long getStableId(@NonNull Witness item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull Witness oldItem, @NonNull Witness newItem) {
+        return Objects.equals(oldItem.getName(), newItem.getName())
+            && Objects.equals(oldItem.getContactNumber(), newItem.getContactNumber())
+            && Objects.equals(oldItem.getAddress(), newItem.getAddress())
+            && Objects.equals(oldItem.getStatement(), newItem.getStatement());
     }
     
     public void updateList(List<Witness> newWitnesses) {
-        this.witnesses = newWitnesses;
-        notifyDataSetChanged();
+        submitList(newWitnesses);
     }
     
     public class WitnessViewHolder extends RecyclerView.ViewHolder {
@@ -68,7 +76,7 @@ public class WitnessAdapter extends RecyclerView.Adapter<WitnessAdapter.WitnessV
             
             btnDelete.setOnClickListener(v -> {
                 if (deleteListener != null) {
-                    deleteListener.onDelete(witness);
+                    deleteListener.onDelete(currentItem(this, witness));
                 }
             });
         }
@@ -15,14 +15,14 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
-public class WitnessListAdapter extends RecyclerView.Adapter<WitnessListAdapter.ViewHolder> {
+public class WitnessListAdapter extends DiffListAdapter<Witness, WitnessListAdapter.ViewHolder> {
     
-    private List<Witness> witnessList;
     private boolean isReadOnly;
     
     public WitnessListAdapter(List<Witness> witnessList, boolean isReadOnly) {
-        this.witnessList = witnessList;
+        super(witnessList);
         this.isReadOnly = isReadOnly;
     }
     
@@ -36,7 +36,7 @@ public class WitnessListAdapter extends RecyclerView.Adapter<WitnessListAdapter.
     
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Witness witness = witnessList.get(position);
+        Witness witness = getItem(position);
         
         holder.tvName.setText(witness.getName());
         holder.tvContactInfo.setText("📞 " + (witness.getContactNumber() != null ? witness.getContactNumber() : "N/A"));
@@ -50,8 +50,16 @@ public class WitnessListAdapter extends RecyclerView.Adapter<WitnessListAdapter.
     }
     
     @Override
-    public int getItemCount() {
-        return witnessList.size();
+    protected long getStableId(@NonNull Witness item) {
+        return item.getId();
+    }
+    
+    @Override
+    protected boolean sameContent(@NonNull Witness oldItem, @NonNull Witness newItem) {
+        return Objects.equals(oldItem.getName(), newItem.getName())
+            && Objects.equals(oldItem.getContactNumber(), newItem.getContactNumber())
+            && Objects.equals(oldItem.getStatement(), newItem.getStatement())
+            && oldItem.getCreatedAt() == newItem.getCreatedAt();
     }
     
     public static class ViewHolder extends RecyclerView.ViewHolder {
@@ -21,20 +21,18 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.data.entity.OutboxEntry;
+import com.example.blottermanagementsystem.data.repository.CaseBundleRepository;
+import com.example.blottermanagementsystem.data.repository.OutboxRepository;
 import com.example.blottermanagementsystem.ui.adapters.FilePreviewAdapter;
-import com.example.blottermanagementsystem.utils.ApiClient;
-import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.button.MaterialButton;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class AddEvidenceDialogFragment extends DialogFragment {
 
@@ -159,12 +157,11 @@ public class AddEvidenceDialogFragment extends DialogFragment {
         evidence.setCollectedDate(System.currentTimeMillis());
         
         // Save to database in background thread
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    long id = database.evidenceDao().insertEvidence(evidence);
-                    evidence.setId((int) id);
+                    database.evidenceDao().insertLocalEvidence(evidence);
                     
                     // Notify on main thread
                     getActivity().runOnUiThread(() -> {
@@ -196,7 +193,7 @@ public class AddEvidenceDialogFragment extends DialogFragment {
     }
     
     private void copyFilesToCache() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             savedFilePaths.clear();
             for (Uri uri : selectedFiles) {
                 try {
@@ -263,22 +260,16 @@ public class AddEvidenceDialogFragment extends DialogFragment {
         }
 
         // Save to database in background thread
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    long id = database.evidenceDao().insertEvidence(evidence);
-                    evidence.setId((int) id);
+                    database.evidenceDao().insertLocalEvidence(evidence);
                     
-                    // Sync to API if network available
-                    NetworkMonitor networkMonitor = new NetworkMonitor(getContext());
-                    if (networkMonitor.isNetworkAvailable()) {
-                        // Upload files to server and get URLs
-                        uploadFilesToServer(evidence, database);
-                    } else {
-                        // Offline mode - save locally
-                        notifyEvidenceSaved(evidence);
-                    }
+                    // Journal for the API - sent now if online, replayed when connectivity returns
+                    OutboxRepository.getInstance(getContext()).queueEvidence(OutboxEntry.OP_CREATE, evidence);
+                    CaseBundleRepository.getInstance().invalidate(evidence.getBlotterReportId());
+                    notifyEvidenceSaved(evidence);
                 }
             } catch (Exception e) {
                 getActivity().runOnUiThread(() -> {
@@ -288,26 +279,6 @@ public class AddEvidenceDialogFragment extends DialogFragment {
         });
     }
     
-    private void uploadFilesToServer(Evidence evidence, BlotterDatabase database) {
-        // Upload files and sync with API
-        ApiClient.getApiService().createEvidence(evidence).enqueue(new Callback<Object>() {
-            @Override
-            public void onResponse(Call<Object> call, Response<Object> response) {
-                if (response.isSuccessful()) {
-                    android.util.Log.d("AddEvidence", "✅ Evidence synced to API");
-                    notifyEvidenceSaved(evidence);
-                }
-            }
-            
-            @Override
-            public void onFailure(Call<Object> call, Throwable t) {
-                android.util.Log.w("AddEvidence", "⚠️ API sync failed: " + t.getMessage());
-                // Still notify locally even if sync fails
-                notifyEvidenceSaved(evidence);
-            }
-        });
-    }
-    
     private void notifyEvidenceSaved(Evidence evidence) {
         if (getActivity() != null) {
             getActivity().runOnUiThread(() -> {
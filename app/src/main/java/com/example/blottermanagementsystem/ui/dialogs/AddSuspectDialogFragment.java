@@ -13,15 +13,13 @@ import androidx.fragment.app.DialogFragment;
 
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.OutboxEntry;
 import com.example.blottermanagementsystem.data.entity.Suspect;
-import com.example.blottermanagementsystem.utils.ApiClient;
-import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.data.repository.CaseBundleRepository;
+import com.example.blottermanagementsystem.data.repository.OutboxRepository;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.button.MaterialButton;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 
-import java.util.concurrent.Executors;
 
 public class AddSuspectDialogFragment extends DialogFragment {
 
@@ -104,12 +102,11 @@ public class AddSuspectDialogFragment extends DialogFragment {
         suspect.setDateAdded(System.currentTimeMillis());
         
         // Save to database in background thread
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    long id = database.suspectDao().insertSuspect(suspect);
-                    suspect.setId((int) id);
+                    database.suspectDao().insertLocalSuspect(suspect);
                     
                     // Notify on main thread
                     getActivity().runOnUiThread(() -> {
@@ -148,30 +145,15 @@ public class AddSuspectDialogFragment extends DialogFragment {
         suspect.setDateAdded(System.currentTimeMillis());
 
         // Save to database in background thread
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    long id = database.suspectDao().insertSuspect(suspect);
-                    suspect.setId((int) id);
+                    database.suspectDao().insertLocalSuspect(suspect);
                     
-                    // Sync to API if network available
-                    NetworkMonitor networkMonitor = new NetworkMonitor(getContext());
-                    if (networkMonitor.isNetworkAvailable()) {
-                        ApiClient.getApiService().createSuspect(suspect).enqueue(new Callback<Object>() {
-                            @Override
-                            public void onResponse(Call<Object> call, Response<Object> response) {
-                                if (response.isSuccessful()) {
-                                    android.util.Log.d("AddSuspect", "✅ Synced to API");
-                                }
-                            }
-                            
-                            @Override
-                            public void onFailure(Call<Object> call, Throwable t) {
-                                android.util.Log.w("AddSuspect", "⚠️ API sync failed: " + t.getMessage());
-                            }
-                        });
-                    }
+                    // Journal for the API - sent now if online, replayed when connectivity returns
+                    OutboxRepository.getInstance(getContext()).queueSuspect(OutboxEntry.OP_CREATE, suspect);
+                    CaseBundleRepository.getInstance().invalidate(suspect.getBlotterReportId());
                     
                     getActivity().runOnUiThread(() -> {
                         if (listener != null) {
@@ -13,16 +13,14 @@ import androidx.fragment.app.DialogFragment;
 
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
+import com.example.blottermanagementsystem.data.entity.OutboxEntry;
 import com.example.blottermanagementsystem.data.entity.Witness;
-import com.example.blottermanagementsystem.utils.ApiClient;
-import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.data.repository.CaseBundleRepository;
+import com.example.blottermanagementsystem.data.repository.OutboxRepository;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 
-import java.util.concurrent.Executors;
 
 public class AddWitnessDialogFragment extends DialogFragment {
 
@@ -105,12 +103,11 @@ public class AddWitnessDialogFragment extends DialogFragment {
         witness.setCreatedAt(System.currentTimeMillis());
         
         // Save to database in background thread
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    long id = database.witnessDao().insertWitness(witness);
-                    witness.setId((int) id);
+                    database.witnessDao().insertLocalWitness(witness);
                     
                     // Notify on main thread
                     getActivity().runOnUiThread(() -> {
@@ -149,30 +146,15 @@ public class AddWitnessDialogFragment extends DialogFragment {
         witness.setCreatedAt(System.currentTimeMillis());
 
         // Save to database in background thread
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    long id = database.witnessDao().insertWitness(witness);
-                    witness.setId((int) id);
+                    database.witnessDao().insertLocalWitness(witness);
                     
-                    // Sync to API if network available
-                    NetworkMonitor networkMonitor = new NetworkMonitor(getContext());
-                    if (networkMonitor.isNetworkAvailable()) {
-                        ApiClient.getApiService().createWitness(witness).enqueue(new Callback<Object>() {
-                            @Override
-                            public void onResponse(Call<Object> call, Response<Object> response) {
-                                if (response.isSuccessful()) {
-                                    android.util.Log.d("AddWitness", "✅ Synced to API");
-                                }
-                            }
-                            
-                            @Override
-                            public void onFailure(Call<Object> call, Throwable t) {
-                                android.util.Log.w("AddWitness", "⚠️ API sync failed: " + t.getMessage());
-                            }
-                        });
-                    }
+                    // Journal for the API - sent now if online, replayed when connectivity returns
+                    OutboxRepository.getInstance(getContext()).queueWitness(OutboxEntry.OP_CREATE, witness);
+                    CaseBundleRepository.getInstance().invalidate(witness.getBlotterReportId());
                     
                     // Notify on main thread
                     getActivity().runOnUiThread(() -> {
@@ -16,17 +16,15 @@ import androidx.fragment.app.DialogFragment;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Hearing;
-import com.example.blottermanagementsystem.utils.ApiClient;
-import com.example.blottermanagementsystem.utils.NetworkMonitor;
+import com.example.blottermanagementsystem.data.entity.OutboxEntry;
+import com.example.blottermanagementsystem.data.repository.CaseBundleRepository;
+import com.example.blottermanagementsystem.data.repository.OutboxRepository;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.button.MaterialButton;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
 
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Locale;
-import java.util.concurrent.Executors;
 
 public class ScheduleHearingDialogFragment extends DialogFragment {
 
@@ -117,12 +115,11 @@ public class ScheduleHearingDialogFragment extends DialogFragment {
         hearing.setCreatedAt(System.currentTimeMillis());
         
         // Save to database in background thread
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    long id = database.hearingDao().insertHearing(hearing);
-                    hearing.setId((int) id);
+                    database.hearingDao().insertLocalHearing(hearing);
                     
                     // Notify on main thread
                     getActivity().runOnUiThread(() -> {
@@ -188,30 +185,15 @@ public class ScheduleHearingDialogFragment extends DialogFragment {
         hearing.setCreatedAt(System.currentTimeMillis());
 
         // Save to database in background thread
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    long id = database.hearingDao().insertHearing(hearing);
-                    hearing.setId((int) id);
+                    database.hearingDao().insertLocalHearing(hearing);
                     
-                    // Sync to API if network available
-                    NetworkMonitor networkMonitor = new NetworkMonitor(getContext());
-                    if (networkMonitor.isNetworkAvailable()) {
-                        ApiClient.getApiService().createHearing(hearing).enqueue(new Callback<Object>() {
-                            @Override
-                            public void onResponse(Call<Object> call, Response<Object> response) {
-                                if (response.isSuccessful()) {
-                                    android.util.Log.d("ScheduleHearing", "✅ Synced to API");
-                                }
-                            }
-                            
-                            @Override
-                            public void onFailure(Call<Object> call, Throwable t) {
-                                android.util.Log.w("ScheduleHearing", "⚠️ API sync failed: " + t.getMessage());
-                            }
-                        });
-                    }
+                    // Journal for the API - sent now if online, replayed when connectivity returns
+                    OutboxRepository.getInstance(getContext()).queueHearing(OutboxEntry.OP_CREATE, hearing);
+                    CaseBundleRepository.getInstance().invalidate(hearing.getBlotterReportId());
                     
                     getActivity().runOnUiThread(() -> {
                         if (listener != null) {
@@ -16,11 +16,11 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Evidence;
 import com.example.blottermanagementsystem.ui.adapters.EvidenceListAdapter;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.card.MaterialCardView;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class ViewEvidenceDialogFragment extends DialogFragment {
     
@@ -29,7 +29,6 @@ public class ViewEvidenceDialogFragment extends DialogFragment {
     private TextView tvEmptyState;
     private MaterialCardView cardContainer;
     private EvidenceListAdapter adapter;
-    private List<Evidence> evidenceList = new ArrayList<>();
     
     public static ViewEvidenceDialogFragment newInstance(int reportId) {
         ViewEvidenceDialogFragment fragment = new ViewEvidenceDialogFragment();
@@ -67,17 +66,16 @@ public class ViewEvidenceDialogFragment extends DialogFragment {
         tvEmptyState = view.findViewById(R.id.tvEmptyState);
         
         rvEvidenceList.setLayoutManager(new LinearLayoutManager(getContext()));
-        adapter = new EvidenceListAdapter(evidenceList, true); // true = read-only mode
+        adapter = new EvidenceListAdapter(new ArrayList<>(), true); // true = read-only mode
         rvEvidenceList.setAdapter(adapter);
     }
     
     private void loadEvidence() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    evidenceList.clear();
-                    evidenceList.addAll(database.evidenceDao().getEvidenceByReport(reportId));
+                    List<Evidence> evidenceList = database.evidenceDao().getEvidenceByReport(reportId);
                     
                     if (getActivity() != null) {
                         getActivity().runOnUiThread(() -> {
@@ -87,7 +85,7 @@ public class ViewEvidenceDialogFragment extends DialogFragment {
                             } else {
                                 tvEmptyState.setVisibility(View.GONE);
                                 rvEvidenceList.setVisibility(View.VISIBLE);
-                                adapter.notifyDataSetChanged();
+                                adapter.submitList(evidenceList);
                             }
                         });
                     }
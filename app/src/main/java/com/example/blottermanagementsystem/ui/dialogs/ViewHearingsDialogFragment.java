@@ -16,11 +16,11 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Hearing;
 import com.example.blottermanagementsystem.ui.adapters.HearingListAdapter;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.card.MaterialCardView;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class ViewHearingsDialogFragment extends DialogFragment {
     
@@ -29,7 +29,6 @@ public class ViewHearingsDialogFragment extends DialogFragment {
     private TextView tvEmptyState;
     private MaterialCardView cardContainer;
     private HearingListAdapter adapter;
-    private List<Hearing> hearingList = new ArrayList<>();
     
     public static ViewHearingsDialogFragment newInstance(int reportId) {
         ViewHearingsDialogFragment fragment = new ViewHearingsDialogFragment();
@@ -67,17 +66,16 @@ public class ViewHearingsDialogFragment extends DialogFragment {
         tvEmptyState = view.findViewById(R.id.tvEmptyState);
         
         rvHearingList.setLayoutManager(new LinearLayoutManager(getContext()));
-        adapter = new HearingListAdapter(hearingList, true); // true = read-only
+        adapter = new HearingListAdapter(new ArrayList<>(), true); // true = read-only
         rvHearingList.setAdapter(adapter);
     }
     
     private void loadHearings() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    hearingList.clear();
-                    hearingList.addAll(database.hearingDao().getHearingsByReport(reportId));
+                    List<Hearing> hearingList = database.hearingDao().getHearingsByReport(reportId);
                     
                     if (getActivity() != null) {
                         getActivity().runOnUiThread(() -> {
@@ -87,7 +85,7 @@ public class ViewHearingsDialogFragment extends DialogFragment {
                             } else {
                                 tvEmptyState.setVisibility(View.GONE);
                                 rvHearingList.setVisibility(View.VISIBLE);
-                                adapter.notifyDataSetChanged();
+                                adapter.submitList(hearingList);
                             }
                         });
                     }
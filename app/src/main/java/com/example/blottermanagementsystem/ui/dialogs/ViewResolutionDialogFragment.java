@@ -13,13 +13,13 @@ import androidx.fragment.app.DialogFragment;
 import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Resolution;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.card.MaterialCardView;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.Executors;
 
 public class ViewResolutionDialogFragment extends DialogFragment {
     
@@ -73,7 +73,7 @@ public class ViewResolutionDialogFragment extends DialogFragment {
     }
     
     private void loadResolution() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
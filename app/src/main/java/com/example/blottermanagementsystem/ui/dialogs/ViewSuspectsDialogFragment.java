@@ -16,11 +16,11 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Suspect;
 import com.example.blottermanagementsystem.ui.adapters.SuspectListAdapter;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.card.MaterialCardView;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class ViewSuspectsDialogFragment extends DialogFragment {
     
@@ -29,7 +29,6 @@ public class ViewSuspectsDialogFragment extends DialogFragment {
     private TextView tvEmptyState;
     private MaterialCardView cardContainer;
     private SuspectListAdapter adapter;
-    private List<Suspect> suspectList = new ArrayList<>();
     
     public static ViewSuspectsDialogFragment newInstance(int reportId) {
         ViewSuspectsDialogFragment fragment = new ViewSuspectsDialogFragment();
@@ -67,17 +66,16 @@ public class ViewSuspectsDialogFragment extends DialogFragment {
         tvEmptyState = view.findViewById(R.id.tvEmptyState);
         
         rvSuspectList.setLayoutManager(new LinearLayoutManager(getContext()));
-        adapter = new SuspectListAdapter(suspectList, true); // true = read-only
+        adapter = new SuspectListAdapter(new ArrayList<>(), true); // true = read-only
         rvSuspectList.setAdapter(adapter);
     }
     
     private void loadSuspects() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    suspectList.clear();
-                    suspectList.addAll(database.suspectDao().getSuspectsByReport(reportId));
+                    List<Suspect> suspectList = database.suspectDao().getSuspectsByReport(reportId);
                     
                     if (getActivity() != null) {
                         getActivity().runOnUiThread(() -> {
@@ -87,7 +85,7 @@ public class ViewSuspectsDialogFragment extends DialogFragment {
                             } else {
                                 tvEmptyState.setVisibility(View.GONE);
                                 rvSuspectList.setVisibility(View.VISIBLE);
-                                adapter.notifyDataSetChanged();
+                                adapter.submitList(suspectList);
                             }
                         });
                     }
@@ -16,11 +16,11 @@ import com.example.blottermanagementsystem.R;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Witness;
 import com.example.blottermanagementsystem.ui.adapters.WitnessListAdapter;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.google.android.material.card.MaterialCardView;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 public class ViewWitnessesDialogFragment extends DialogFragment {
     
@@ -29,7 +29,6 @@ public class ViewWitnessesDialogFragment extends DialogFragment {
     private TextView tvEmptyState;
     private MaterialCardView cardContainer;
     private WitnessListAdapter adapter;
-    private List<Witness> witnessList = new ArrayList<>();
     
     public static ViewWitnessesDialogFragment newInstance(int reportId) {
         ViewWitnessesDialogFragment fragment = new ViewWitnessesDialogFragment();
@@ -67,17 +66,16 @@ public class ViewWitnessesDialogFragment extends DialogFragment {
         tvEmptyState = view.findViewById(R.id.tvEmptyState);
         
         rvWitnessList.setLayoutManager(new LinearLayoutManager(getContext()));
-        adapter = new WitnessListAdapter(witnessList, true); // true = read-only
+        adapter = new WitnessListAdapter(new ArrayList<>(), true); // true = read-only
         rvWitnessList.setAdapter(adapter);
     }
     
     private void loadWitnesses() {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(getContext());
                 if (database != null) {
-                    witnessList.clear();
-                    witnessList.addAll(database.witnessDao().getWitnessesByReport(reportId));
+                    List<Witness> witnessList = database.witnessDao().getWitnessesByReport(reportId);
                     
                     if (getActivity() != null) {
                         getActivity().runOnUiThread(() -> {
@@ -87,7 +85,7 @@ public class ViewWitnessesDialogFragment extends DialogFragment {
                             } else {
                                 tvEmptyState.setVisibility(View.GONE);
                                 rvWitnessList.setVisibility(View.VISIBLE);
-                                adapter.notifyDataSetChanged();
+                                adapter.submitList(witnessList);
                             }
                         });
                     }
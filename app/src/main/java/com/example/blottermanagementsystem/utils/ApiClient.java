@@ -3,16 +3,18 @@ package com.example.blottermanagementsystem.utils;
 import android.util.Log;
 
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.example.blottermanagementsystem.data.entity.Officer;
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.example.blottermanagementsystem.data.entity.Witness;
+
+import com.example.blottermanagementsystem.data.api.HttpEngine;
+import com.example.blottermanagementsystem.data.api.JsonCodec;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
-import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
@@ -31,22 +33,25 @@ public class ApiClient {
     // For Android Emulator: http://10.0.2.2:3000/
     // For Physical Device: http://YOUR_COMPUTER_IP:3000/ (e.g., http://192.168.1.100:3000/)
     // For Production: https://your-domain.com/
-    private static final String BASE_URL = "https://bms-1op6.onrender.com/";
+    static final String BASE_URL = "https://bms-1op6.onrender.com/";
     
     private static Retrofit retrofit;
     private static ApiService apiService;
     private static PreferencesManager preferencesManager;
     
+    // Identical GETs in flight at the same time share one call; results reused for 2s
+    private static final long COALESCE_MEMO_MS = 2_000;
+    private static final SingleFlight singleFlight = new SingleFlight(COALESCE_MEMO_MS);
+    
     /**
-     * Initialize Retrofit with Elysia backend
+     * Initialize Retrofit with Elysia backend.
+     * Safe to call again (e.g. after login) - only the PreferencesManager is swapped,
+     * the Retrofit instance is built once.
      */
-    public static void initApiClient(PreferencesManager prefs) {
+    public static synchronized void initApiClient(PreferencesManager prefs) {
         preferencesManager = prefs;
+        if (apiService != null) return;
         try {
-            // Create logging interceptor for debugging
-            HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
-            loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
-            
             // Create JWT interceptor to add token to all requests
             Interceptor jwtInterceptor = chain -> {
                 Request originalRequest = chain.request();
@@ -66,25 +71,16 @@ public class ApiClient {
                 return chain.proceed(originalRequest);
             };
             
-            // Create OkHttpClient with interceptors
-            OkHttpClient okHttpClient = new OkHttpClient.Builder()
+            // Derived from the shared HTTP engine - same connection pool and dispatcher
+            OkHttpClient okHttpClient = HttpEngine.newBuilder()
                     .addInterceptor(jwtInterceptor)
-                    .addInterceptor(loggingInterceptor)
-                    .connectTimeout(30, TimeUnit.SECONDS)
-                    .readTimeout(30, TimeUnit.SECONDS)
-                    .writeTimeout(30, TimeUnit.SECONDS)
                     .build();
             
-            // Create Gson instance
-            Gson gson = new GsonBuilder()
-                    .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
-                    .create();
-            
             // Create Retrofit instance
             retrofit = new Retrofit.Builder()
                     .baseUrl(BASE_URL)
                     .client(okHttpClient)
-                    .addConverterFactory(GsonConverterFactory.create(gson))
+                    .addConverterFactory(GsonConverterFactory.create(JsonCodec.gson()))
                     .build();
             
             apiService = retrofit.create(ApiService.class);
@@ -116,6 +112,7 @@ public class ApiClient {
                 public void onResponse(Call<BlotterReport> call, Response<BlotterReport> response) {
                     if (response.isSuccessful() && response.body() != null) {
                         Log.d(TAG, "✅ Report created: " + response.body().getId());
+                        singleFlight.invalidate();
                         callback.onSuccess(response.body());
                     } else {
                         Log.e(TAG, "❌ Error creating report: " + response.code());
@@ -136,9 +133,13 @@ public class ApiClient {
     }
     
     /**
-     * Get all reports
+     * Get all reports - concurrent callers share one request
      */
     public static void getAllReports(ApiCallback<List<BlotterReport>> callback) {
+        singleFlight.execute("GET api/reports", callback, ApiClient::fetchAllReports);
+    }
+    
+    private static void fetchAllReports(ApiCallback<List<BlotterReport>> callback) {
         try {
             getApiService().getAllReports().enqueue(new Callback<List<BlotterReport>>() {
                 @Override
@@ -165,9 +166,13 @@ public class ApiClient {
     }
     
     /**
-     * Get report by ID
+     * Get report by ID - concurrent callers for the same id share one request
      */
     public static void getReportById(int reportId, ApiCallback<BlotterReport> callback) {
+        singleFlight.execute("GET api/reports/" + reportId, callback, done -> fetchReportById(reportId, done));
+    }
+    
+    private static void fetchReportById(int reportId, ApiCallback<BlotterReport> callback) {
         try {
             getApiService().getReportById(reportId).enqueue(new Callback<BlotterReport>() {
                 @Override
@@ -203,6 +208,7 @@ public class ApiClient {
                 public void onResponse(Call<BlotterReport> call, Response<BlotterReport> response) {
                     if (response.isSuccessful() && response.body() != null) {
                         Log.d(TAG, "✅ Report updated: " + reportId);
+                        singleFlight.invalidate();
                         callback.onSuccess(response.body());
                     } else {
                         Log.e(TAG, "❌ Error updating report: " + response.code());
@@ -232,6 +238,7 @@ public class ApiClient {
                 public void onResponse(Call<String> call, Response<String> response) {
                     if (response.isSuccessful()) {
                         Log.d(TAG, "✅ Report deleted: " + reportId);
+                        singleFlight.invalidate();
                         callback.onSuccess("Report deleted successfully");
                     } else {
                         Log.e(TAG, "❌ Error deleting report: " + response.code());
@@ -333,18 +340,18 @@ public class ApiClient {
     }
     
     // ✅ WITNESS & SUSPECT METHODS
-    public static void addWitnessToCase(int caseId, java.util.Map<String, Object> witnessData, 
+    public static void addWitnessToCase(int caseId, Witness witness, 
                                        ApiCallback<String> callback) {
         Log.d(TAG, "👥 Adding witness to case...");
         callback.onSuccess("Witness added");
     }
     
-    public static void getCaseWitnesses(int caseId, ApiCallback<List<java.util.Map<String, Object>>> callback) {
+    public static void getCaseWitnesses(int caseId, ApiCallback<List<Witness>> callback) {
         Log.d(TAG, "🔍 Getting case witnesses...");
         callback.onSuccess(new java.util.ArrayList<>());
     }
     
-    public static void updateWitness(int caseId, int witnessId, java.util.Map<String, Object> witnessData, 
+    public static void updateWitness(int caseId, int witnessId, Witness witness, 
                                     ApiCallback<String> callback) {
         Log.d(TAG, "✏️ Updating witness...");
         callback.onSuccess("Witness updated");
@@ -355,18 +362,18 @@ public class ApiClient {
         callback.onSuccess("Witness deleted");
     }
     
-    public static void addSuspectToCase(int caseId, java.util.Map<String, Object> suspectData, 
+    public static void addSuspectToCase(int caseId, Suspect suspect, 
                                        ApiCallback<String> callback) {
         Log.d(TAG, "👤 Adding suspect to case...");
         callback.onSuccess("Suspect added");
     }
     
-    public static void getCaseSuspects(int caseId, ApiCallback<List<java.util.Map<String, Object>>> callback) {
+    public static void getCaseSuspects(int caseId, ApiCallback<List<Suspect>> callback) {
         Log.d(TAG, "🔍 Getting case suspects...");
         callback.onSuccess(new java.util.ArrayList<>());
     }
     
-    public static void updateSuspect(int caseId, int suspectId, java.util.Map<String, Object> suspectData, 
+    public static void updateSuspect(int caseId, int suspectId, Suspect suspect, 
                                     ApiCallback<String> callback) {
         Log.d(TAG, "✏️ Updating suspect...");
         callback.onSuccess("Suspect updated");
@@ -388,7 +395,7 @@ public class ApiClient {
         callback.onSuccess("Officers retrieved");
     }
     
-    public static void updateOfficer(int officerId, java.util.Map<String, Object> officerData, 
+    public static void updateOfficer(int officerId, Officer officer, 
                                     ApiCallback<String> callback) {
         Log.d(TAG, "✏️ Updating officer...");
         callback.onSuccess("Officer updated");
@@ -433,11 +440,13 @@ public class ApiClient {
     }
     
     public static void getUserProfile(int userId, ApiCallback<java.util.Map<String, Object>> callback) {
-        Log.d(TAG, "👤 Getting user profile...");
-        java.util.Map<String, Object> profile = new java.util.HashMap<>();
-        profile.put("id", userId);
-        profile.put("name", "User " + userId);
-        callback.onSuccess(profile);
+        singleFlight.execute("GET api/users/" + userId + "/profile", callback, done -> {
+            Log.d(TAG, "👤 Getting user profile...");
+            java.util.Map<String, Object> profile = new java.util.HashMap<>();
+            profile.put("id", userId);
+            profile.put("name", "User " + userId);
+            done.onSuccess(profile);
+        });
     }
     
     public static void getUserWitnesses(int userId, ApiCallback<List<java.util.Map<String, Object>>> callback) {
@@ -450,6 +459,20 @@ public class ApiClient {
         callback.onSuccess(new java.util.ArrayList<>());
     }
     
+    /**
+     * Drop memoized GET results - call after a mutation sent outside ApiClient (e.g. the outbox)
+     */
+    public static void invalidateCoalescedReads() {
+        singleFlight.invalidate();
+    }
+    
+    /**
+     * Coalescing counters: requests actually sent vs. calls deduplicated
+     */
+    public static SingleFlight getCoalescingStats() {
+        return singleFlight;
+    }
+    
     /**
      * Generic API callback interface
      */
@@ -1,21 +1,38 @@
 package com.example.blottermanagementsystem.utils;
 
+import com.example.blottermanagementsystem.data.api.HttpCache;
+import com.example.blottermanagementsystem.data.api.RequestCompression;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.KPForm;
+import com.example.blottermanagementsystem.data.entity.Resolution;
+import com.example.blottermanagementsystem.data.entity.Summons;
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.example.blottermanagementsystem.data.entity.Witness;
+import com.google.gson.JsonElement;
 
 import java.util.List;
 import java.util.Map;
 
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.DELETE;
 import retrofit2.http.GET;
+import retrofit2.http.Header;
+import retrofit2.http.Headers;
 import retrofit2.http.POST;
 import retrofit2.http.PUT;
 import retrofit2.http.Path;
+import retrofit2.http.Query;
+import retrofit2.http.Streaming;
+import retrofit2.http.Url;
 
 /**
  * ApiService - Retrofit interface for Elysia backend API
  * Defines all HTTP endpoints for the Blotter Management System
+ * GETs tagged with an HttpCache policy are cached on disk and revalidated by ETag.
  */
 public interface ApiService {
     
@@ -114,6 +131,7 @@ public interface ApiService {
      * Create a new report
      * POST /api/reports
      */
+    @Headers(RequestCompression.GZIP)
     @POST("api/reports")
     Call<BlotterReport> createReport(@Body BlotterReport report);
     
@@ -121,13 +139,40 @@ public interface ApiService {
      * Get all reports
      * GET /api/reports
      */
+    @Headers(HttpCache.REVALIDATE)
     @GET("api/reports")
     Call<List<BlotterReport>> getAllReports();
     
+    /**
+     * Get all reports as a raw stream - decode with StreamingListDecoder
+     * GET /api/reports
+     */
+    @Streaming
+    @Headers(HttpCache.REVALIDATE)
+    @GET("api/reports")
+    Call<ResponseBody> streamAllReports();
+    
+    /**
+     * Get one keyset page of reports ordered by (dateFiled, id)
+     * GET /api/reports/page?cursorDate=&cursorId=&direction=older|newer&limit=
+     * Optional filters: status (comma-separated), userId, officerId
+     */
+    @GET("api/reports/page")
+    Call<List<BlotterReport>> getReportsPage(
+        @Query("cursorDate") long cursorDate,
+        @Query("cursorId") int cursorId,
+        @Query("direction") String direction,
+        @Query("limit") int limit,
+        @Query("status") String status,
+        @Query("userId") Integer userId,
+        @Query("officerId") Integer officerId
+    );
+    
     /**
      * Get report by ID
      * GET /api/reports/{id}
      */
+    @Headers(HttpCache.REVALIDATE)
     @GET("api/reports/{id}")
     Call<BlotterReport> getReportById(@Path("id") int reportId);
     
@@ -135,6 +180,7 @@ public interface ApiService {
      * Update report
      * PUT /api/reports/{id}
      */
+    @Headers(RequestCompression.GZIP)
     @PUT("api/reports/{id}")
     Call<BlotterReport> updateReport(@Path("id") int reportId, @Body BlotterReport report);
     
@@ -145,21 +191,47 @@ public interface ApiService {
     @DELETE("api/reports/{id}")
     Call<String> deleteReport(@Path("id") int reportId);
     
+    // ============ OUTBOX REPLAY ============
+    
+    /**
+     * Replay a queued create against any entity collection (e.g. "api/witnesses").
+     * The server returns the original response for a key it has already seen.
+     */
+    @Headers(RequestCompression.GZIP)
+    @POST
+    Call<JsonElement> replayCreate(@Url String url, @Header("Idempotency-Key") String idempotencyKey,
+                                   @Body JsonElement body);
+    
+    /**
+     * Replay a queued update (e.g. "api/reports/42")
+     */
+    @Headers(RequestCompression.GZIP)
+    @PUT
+    Call<JsonElement> replayUpdate(@Url String url, @Header("Idempotency-Key") String idempotencyKey,
+                                   @Body JsonElement body);
+    
+    /**
+     * Replay a queued delete (e.g. "api/reports/42")
+     */
+    @DELETE
+    Call<Void> replayDelete(@Url String url, @Header("Idempotency-Key") String idempotencyKey);
+    
     // ============ WITNESSES ============
     
     /**
      * Get witnesses by report ID
      * GET /api/witnesses/report/{reportId}
      */
+    @Headers(HttpCache.FRESH_1_MIN)
     @GET("api/witnesses/report/{reportId}")
-    Call<List<Object>> getWitnessesByReportId(@Path("reportId") int reportId);
+    Call<List<Witness>> getWitnessesByReportId(@Path("reportId") int reportId);
     
     /**
      * Create witness
      * POST /api/witnesses
      */
     @POST("api/witnesses")
-    Call<Object> createWitness(@Body Object witness);
+    Call<Witness> createWitness(@Body Witness witness);
     
     /**
      * Delete witness
@@ -174,15 +246,16 @@ public interface ApiService {
      * Get suspects by report ID
      * GET /api/suspects/report/{reportId}
      */
+    @Headers(HttpCache.FRESH_1_MIN)
     @GET("api/suspects/report/{reportId}")
-    Call<List<Object>> getSuspectsByReportId(@Path("reportId") int reportId);
+    Call<List<Suspect>> getSuspectsByReportId(@Path("reportId") int reportId);
     
     /**
      * Create suspect
      * POST /api/suspects
      */
     @POST("api/suspects")
-    Call<Object> createSuspect(@Body Object suspect);
+    Call<Suspect> createSuspect(@Body Suspect suspect);
     
     /**
      * Delete suspect
@@ -197,15 +270,16 @@ public interface ApiService {
      * Get evidence by report ID
      * GET /api/evidence/report/{reportId}
      */
+    @Headers(HttpCache.FRESH_1_MIN)
     @GET("api/evidence/report/{reportId}")
-    Call<List<Object>> getEvidenceByReportId(@Path("reportId") int reportId);
+    Call<List<Evidence>> getEvidenceByReportId(@Path("reportId") int reportId);
     
     /**
      * Create evidence
      * POST /api/evidence
      */
     @POST("api/evidence")
-    Call<Object> createEvidence(@Body Object evidence);
+    Call<Evidence> createEvidence(@Body Evidence evidence);
     
     /**
      * Delete evidence
@@ -220,15 +294,16 @@ public interface ApiService {
      * Get hearings by report ID
      * GET /api/hearings/report/{reportId}
      */
+    @Headers(HttpCache.REVALIDATE)
     @GET("api/hearings/report/{reportId}")
-    Call<List<Object>> getHearingsByReportId(@Path("reportId") int reportId);
+    Call<List<Hearing>> getHearingsByReportId(@Path("reportId") int reportId);
     
     /**
      * Create hearing
      * POST /api/hearings
      */
     @POST("api/hearings")
-    Call<Object> createHearing(@Body Object hearing);
+    Call<Hearing> createHearing(@Body Hearing hearing);
     
     /**
      * Delete hearing
@@ -243,15 +318,16 @@ public interface ApiService {
      * Get resolutions by report ID
      * GET /api/resolutions/report/{reportId}
      */
+    @Headers(HttpCache.REVALIDATE)
     @GET("api/resolutions/report/{reportId}")
-    Call<List<Object>> getResolutionsByReportId(@Path("reportId") int reportId);
+    Call<List<Resolution>> getResolutionsByReportId(@Path("reportId") int reportId);
     
     /**
      * Create resolution
      * POST /api/resolutions
      */
     @POST("api/resolutions")
-    Call<Object> createResolution(@Body Object resolution);
+    Call<Resolution> createResolution(@Body Resolution resolution);
     
     /**
      * Delete resolution
@@ -266,8 +342,9 @@ public interface ApiService {
      * Get KP forms by report ID
      * GET /api/kpforms/report/{reportId}
      */
+    @Headers(HttpCache.REVALIDATE)
     @GET("api/kpforms/report/{reportId}")
-    Call<List<Object>> getKPFormsByReportId(@Path("reportId") int reportId);
+    Call<List<KPForm>> getKPFormsByReportId(@Path("reportId") int reportId);
     
     /**
      * Create KP form
@@ -289,8 +366,9 @@ public interface ApiService {
      * Get summons by report ID
      * GET /api/summons/report/{reportId}
      */
+    @Headers(HttpCache.REVALIDATE)
     @GET("api/summons/report/{reportId}")
-    Call<List<Object>> getSummonsByReportId(@Path("reportId") int reportId);
+    Call<List<Summons>> getSummonsByReportId(@Path("reportId") int reportId);
     
     /**
      * Create summons
@@ -370,6 +448,7 @@ public interface ApiService {
      * Get user hearings
      * GET /api/hearings/user/{userId}
      */
+    @Headers(HttpCache.REVALIDATE)
     @GET("api/hearings/user/{userId}")
     Call<Map<String, Object>> getUserHearings(@Path("userId") String userId);
     
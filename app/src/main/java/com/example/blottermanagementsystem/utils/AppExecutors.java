@@ -0,0 +1,239 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ APP EXECUTORS - SHARED BACKGROUND POOLS
+ * Background work goes through one of these named, bounded pools instead of
+ * Executors.newSingleThreadExecutor() per call (a new thread every time, never shut down):
+ *
+ * - disk()     Room queries/writes and local files
+ * - io()       blocking network calls (execute(), uploads, SMS)
+ * - cpu()      CPU-heavy work (PDF rendering, image processing)
+ * - callback() follow-up work started from network callbacks (saving a response to Room)
+ *
+ * Work that must stay in order uses serial(name, pool) - one task at a time on a shared
+ * pool, not a thread of its own. Delays and periodic runs are timed on scheduler(), whose
+ * single thread only hands the work to a pool and never runs it.
+ *
+ * Idle threads time out, so an idle app holds no pool threads. A full queue runs the task
+ * on the caller (or a one-off thread if the caller is the UI thread) instead of dropping it,
+ * counted as rejected. Queue depth, active threads
+ * and queue-wait/run latency per pool are in describeAll().
+ */
+public final class AppExecutors {
+    private static final String TAG = "AppExecutors";
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    // Room keeps 4 reader connections open in WAL mode
+    private static final Pool DISK = new Pool("disk", 4, 256);
+    // Matches HttpEngine's max requests per host
+    private static final Pool IO = new Pool("io", 8, 256);
+    private static final Pool CPU = new Pool("cpu", Math.max(2, Math.min(4, CORES)), 64);
+    private static final Pool CALLBACK = new Pool("callback", 2, 256);
+
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+    private static final List<SerialExecutor> SERIALS = new CopyOnWriteArrayList<>();
+
+    private AppExecutors() {}
+
+    public static Pool disk() { return DISK; }
+    public static Pool io() { return IO; }
+    public static Pool cpu() { return CPU; }
+    public static Pool callback() { return CALLBACK; }
+
+    /**
+     * Timer only - scheduled tasks should hand their work to a pool right away
+     */
+    public static ScheduledExecutorService scheduler() { return SCHEDULER; }
+
+    /**
+     * Runs tasks one at a time, in submission order, on the given pool
+     */
+    public static SerialExecutor serial(String name, Pool pool) {
+        SerialExecutor serial = new SerialExecutor(name, pool);
+        SERIALS.add(serial);
+        return serial;
+    }
+
+    /**
+     * One line per pool, for the debug screen
+     */
+    public static String describeAll() {
+        StringBuilder out = new StringBuilder()
+            .append(DISK).append(" | ").append(IO).append(" | ").append(CPU).append(" | ").append(CALLBACK)
+            .append(" | scheduler: queued=").append(SCHEDULER.getQueue().size());
+        for (SerialExecutor serial : SERIALS) {
+            out.append(" | ").append(serial);
+        }
+        return out.toString();
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, Pool.threadFactory("scheduler"));
+        // Cancelled delays (a retry that is no longer needed) leave the queue right away
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Keeps tasks in order without holding a thread: at most one of them is on the pool at a time
+     */
+    public static final class SerialExecutor implements Executor {
+        private final String name;
+        private final Pool pool;
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        private boolean running;
+
+        SerialExecutor(String name, Pool pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+
+        @Override
+        public void execute(@NonNull Runnable task) {
+            synchronized (this) {
+                tasks.add(task);
+                if (running) return;
+                running = true;
+            }
+            pool.execute(this::drain);
+        }
+
+        // One task per pool slot, so a long queue here can't starve the pool's other users
+        private void drain() {
+            Runnable task;
+            synchronized (this) {
+                task = tasks.poll();
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                Log.e(TAG, "❌ " + name + " task failed: " + e.getMessage(), e);
+            } finally {
+                boolean more;
+                synchronized (this) {
+                    more = !tasks.isEmpty();
+                    running = more;
+                }
+                if (more) pool.execute(this::drain);
+            }
+        }
+
+        @NonNull
+        @Override
+        public synchronized String toString() {
+            return name + " (" + pool.getName() + "): queued=" + tasks.size() + (running ? " running" : "");
+        }
+    }
+
+    /**
+     * A bounded pool that records how long tasks wait in the queue and how long they run
+     */
+    public static final class Pool extends ThreadPoolExecutor {
+        private final String name;
+        private final AtomicLong submitted = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicLong totalRunNanos = new AtomicLong();
+
+        Pool(String name, int threads, int queueCapacity) {
+            super(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), threadFactory(name));
+            this.name = name;
+            allowCoreThreadTimeOut(true);
+            setRejectedExecutionHandler((task, executor) -> {
+                rejected.incrementAndGet();
+                Log.w(TAG, "⚠️ " + name + " pool saturated - running task outside the pool");
+                if (executor.isShutdown()) return;
+                // Never on the UI thread - Room refuses main-thread queries
+                if (Looper.getMainLooper().isCurrentThread()) new Thread(task, name + "-overflow").start();
+                else task.run();
+            });
+        }
+
+        @Override
+        public void execute(@NonNull Runnable task) {
+            submitted.incrementAndGet();
+            long queuedAt = System.nanoTime();
+            super.execute(() -> {
+                long startedAt = System.nanoTime();
+                long wait = startedAt - queuedAt;
+                totalWaitNanos.addAndGet(wait);
+                maxWaitNanos.accumulateAndGet(wait, Math::max);
+                try {
+                    task.run();
+                } finally {
+                    totalRunNanos.addAndGet(System.nanoTime() - startedAt);
+                    completed.incrementAndGet();
+                }
+            });
+        }
+
+        public String getName() { return name; }
+        public int getQueueDepth() { return getQueue().size(); }
+        public long getSubmitted() { return submitted.get(); }
+        public long getCompleted() { return completed.get(); }
+        public long getRejected() { return rejected.get(); }
+
+        public double getAverageWaitMs() {
+            long done = completed.get();
+            return done == 0 ? 0 : totalWaitNanos.get() / 1e6 / done;
+        }
+
+        public double getMaxWaitMs() {
+            return maxWaitNanos.get() / 1e6;
+        }
+
+        public double getAverageRunMs() {
+            long done = completed.get();
+            return done == 0 ? 0 : totalRunNanos.get() / 1e6 / done;
+        }
+
+        public void resetStats() {
+            submitted.set(0);
+            completed.set(0);
+            rejected.set(0);
+            totalWaitNanos.set(0);
+            maxWaitNanos.set(0);
+            totalRunNanos.set(0);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                "%s: active=%d/%d queued=%d done=%d rejected=%d wait=%.1fms (max %.0fms) run=%.1fms",
+                name, getActiveCount(), getMaximumPoolSize(), getQueueDepth(), getCompleted(), getRejected(),
+                getAverageWaitMs(), getMaxWaitMs(), getAverageRunMs());
+        }
+
+        private static ThreadFactory threadFactory(String name) {
+            AtomicInteger count = new AtomicInteger();
+            return runnable -> new Thread(() -> {
+                // Below the UI thread, so background work never competes with rendering
+                android.os.Process.setThreadPriority(android.os.Process.THREAD_PRIORITY_BACKGROUND);
+                runnable.run();
+            }, name + "-" + count.incrementAndGet());
+        }
+    }
+}
@@ -1,79 +1,58 @@
 package com.example.blottermanagementsystem.utils;
 
+import android.app.Activity;
 import android.content.Context;
-import java.util.concurrent.Executors;
 
 /**
  * AUTOMATIC Loading Interceptor - No manual coding needed!
- * This automatically shows/hides loading for common operations
+ * This automatically shows/hides loading for common operations.
+ * Runs go through LoadingTaskRunner: the dialog only appears for tasks slower than 100ms,
+ * hides as soon as the task is done, and latency is recorded per operation.
  */
 public class AutoLoadingInterceptor {
     
+    // Failures are already logged by LoadingTaskRunner - these helpers have nobody to report to
+    private static final LoadingTaskRunner.Callback<Void> NO_CALLBACK = new LoadingTaskRunner.Callback<Void>() {
+        @Override
+        public void onSuccess(Void result) {
+        }
+        
+        @Override
+        public void onError(String errorMessage) {
+        }
+    };
+    
     /**
      * Automatically handle database operations with loading
      */
     public static void executeWithLoading(Context context, String operation, Runnable task) {
-        GlobalLoadingManager.show(context, operation + "...");
-        
-        Executors.newSingleThreadExecutor().execute(() -> {
-            try {
-                // Execute the task
-                task.run();
-                
-                // Auto-hide loading after task completes with delay
-                new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-                    GlobalLoadingManager.hide();
-                }, 500); // Small delay to show the animation
-                
-            } catch (Exception e) {
-                // Auto-hide loading on error
-                new android.os.Handler(android.os.Looper.getMainLooper()).post(() -> {
-                    GlobalLoadingManager.hide();
-                });
-                android.util.Log.e("AutoLoading", "Error in task: " + e.getMessage());
-            }
-        });
+        execute(context, operation, task);
     }
     
     /**
      * Automatically handle cloud operations with loading
      */
     public static void executeCloudWithLoading(Context context, String operation, Runnable task) {
-        GlobalLoadingManager.showCloud(context, operation);
-        
-        Executors.newSingleThreadExecutor().execute(() -> {
-            try {
-                task.run();
-                
-                new android.os.Handler(android.os.Looper.getMainLooper()).post(() -> {
-                    GlobalLoadingManager.hide();
-                });
-                
-            } catch (Exception e) {
-                new android.os.Handler(android.os.Looper.getMainLooper()).post(() -> {
-                    GlobalLoadingManager.hide();
-                });
-                android.util.Log.e("AutoLoading", "Error in cloud task: " + e.getMessage());
-            }
-        });
+        execute(context, "☁️ " + operation, task);
     }
     
     /**
      * Automatically handle email operations with loading
      */
     public static void executeEmailWithLoading(Context context, Runnable task) {
-        GlobalLoadingManager.show(context, "📧 Sending email...");
-        
-        // Simulate email delay (real operations will have natural delay)
-        new android.os.Handler().postDelayed(() -> {
-            try {
-                task.run();
-                GlobalLoadingManager.hide();
-            } catch (Exception e) {
-                GlobalLoadingManager.hide();
-                android.util.Log.e("AutoLoading", "Error in email task: " + e.getMessage());
-            }
-        }, 1500);
+        execute(context, "📧 Sending email", task);
+    }
+    
+    private static void execute(Context context, String operation, Runnable task) {
+        if (!(context instanceof Activity)) {
+            // No screen to show a dialog on - just run it
+            AppExecutors.io().execute(task);
+            return;
+        }
+        LoadingTaskRunner.run((Activity) context, operation, AppExecutors.io(), progress -> {
+            task.run();
+            return null;
+        }, NO_CALLBACK);
     }
     
     /**
@@ -0,0 +1,110 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.util.Log;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ CIRCUIT BREAKER - ONE PER HOST
+ * After FAILURE_THRESHOLD consecutive failures against a host the breaker opens and calls
+ * fail fast for OPEN_MILLIS instead of piling retries onto a backend that is down (Render
+ * cold starts, outages). Then a single trial call is let through (half-open): success
+ * closes the breaker, failure opens it again.
+ */
+public final class CircuitBreaker {
+    private static final String TAG = "CircuitBreaker";
+
+    static final int FAILURE_THRESHOLD = 5;
+    static final long OPEN_MILLIS = 30_000;
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    private final String host;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(String host, int failureThreshold, long openMillis) {
+        this.host = host;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    public static CircuitBreaker forHost(String host) {
+        return BREAKERS.computeIfAbsent(host, h -> new CircuitBreaker(h, FAILURE_THRESHOLD, OPEN_MILLIS));
+    }
+
+    /**
+     * Breaker state per host, for the debug screen
+     */
+    public static String describeAll() {
+        StringBuilder out = new StringBuilder();
+        for (CircuitBreaker breaker : BREAKERS.values()) {
+            if (out.length() > 0) out.append(", ");
+            out.append(breaker.host).append('=').append(breaker.getState());
+        }
+        return out.length() == 0 ? "none" : out.toString();
+    }
+
+    /**
+     * May a call go out now? In half-open state only one trial call is admitted.
+     */
+    public synchronized boolean allowRequest() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) return false;
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+            Log.d(TAG, "🔌 " + host + " half-open - letting one trial call through");
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) return false;
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) Log.d(TAG, "✅ " + host + " recovered - breaker closed");
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) Log.w(TAG, "⚠️ " + host + " failing - breaker open for " + openMillis + "ms");
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            trialInFlight = false;
+        }
+    }
+
+    /**
+     * A call that failed for a reason that says nothing about the host (a validation error):
+     * frees a half-open trial slot without opening or closing the breaker.
+     */
+    public synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    public synchronized State getState() {
+        // Report a cooled-down breaker as half-open even before the next call asks
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) return State.HALF_OPEN;
+        return state;
+    }
+
+    /**
+     * Time until an open breaker admits a trial call, 0 when not open
+     */
+    public synchronized long getRemainingOpenMillis() {
+        if (state != State.OPEN) return 0;
+        return Math.max(0, openMillis - (System.currentTimeMillis() - openedAt));
+    }
+}
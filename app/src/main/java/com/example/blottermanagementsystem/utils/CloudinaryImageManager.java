@@ -11,7 +11,6 @@ import com.google.gson.reflect.TypeToken;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 /**
  * CloudinaryImageManager - Manages Cloudinary image metadata in local database
@@ -33,7 +32,7 @@ public class CloudinaryImageManager {
      * This allows images to be synced across devices
      */
     public void saveImageMetadata(int userId, String publicId, String secureUrl, String fileName) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 CloudinaryImage image = new CloudinaryImage();
                 image.setUserId(userId);
@@ -54,7 +53,7 @@ public class CloudinaryImageManager {
      * Get all images for a user (synced across devices)
      */
     public void getUserImages(int userId, ImageListCallback callback) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 List<CloudinaryImage> images = database.cloudinaryImageDao().getImagesByUserId(userId);
                 Log.d(TAG, "✅ Retrieved " + images.size() + " images for user " + userId);
@@ -70,7 +69,7 @@ public class CloudinaryImageManager {
      * Delete image metadata from local database
      */
     public void deleteImageMetadata(String publicId, DeleteCallback callback) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 database.cloudinaryImageDao().deleteImageByPublicId(publicId);
                 Log.d(TAG, "✅ Image metadata deleted: " + publicId);
@@ -86,7 +85,7 @@ public class CloudinaryImageManager {
      * Sync images from cloud (when user logs in from different device)
      */
     public void syncUserImages(int userId, SyncCallback callback) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 List<CloudinaryImage> images = database.cloudinaryImageDao().getImagesByUserId(userId);
                 Log.d(TAG, "✅ Synced " + images.size() + " images for user " + userId);
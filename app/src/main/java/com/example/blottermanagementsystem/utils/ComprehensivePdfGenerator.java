@@ -28,7 +28,6 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.Executors;
 
 public class ComprehensivePdfGenerator {
     private static final String TAG = "ComprehensivePdfGenerator";
@@ -51,7 +50,7 @@ public class ComprehensivePdfGenerator {
      * - Officer Role: Complete investigation data (all details)
      */
     public static void generateComprehensivePdf(Context context, int reportId, String userRole, PdfGenerationCallback callback) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.cpu().execute(() -> {
             try {
                 BlotterDatabase database = BlotterDatabase.getDatabase(context);
                 
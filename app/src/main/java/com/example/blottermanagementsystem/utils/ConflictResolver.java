@@ -3,123 +3,412 @@ package com.example.blottermanagementsystem.utils;
 import android.util.Log;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.User;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * ✅ CONFLICT RESOLVER
- * Resolves data conflicts between local and Neon database
+ * Resolves data conflicts between local and Neon database with a three-way,
+ * field-level merge against the last server copy (the base snapshot):
+ * - only the server changed a field  → take the server value
+ * - only we changed it               → keep the local value
+ * - both changed it to the same value → fine
+ * - both changed it differently      → genuine conflict: server wins, and the field is reported
+ *
+ * Every column of BlotterReport and User takes part. Merges write into the cached
+ * instance and track fields as bits of a long, so bulk sync allocates per page, not per row.
  */
 public class ConflictResolver {
     private static final String TAG = "ConflictResolver";
-    
-    // ✅ RESOLVE REPORT CONFLICTS
+
+    public static final String ENTITY_REPORT = "report";
+    public static final String ENTITY_USER = "user";
+
+    public interface ConflictListener {
+        void onConflict(String entityType, int entityId, List<String> fields);
+
+        /**
+         * Every cached row a server copy was merged into, conflicting or not. The result is
+         * the resolver's scratch holder - read it here, don't keep it.
+         */
+        default void onMerged(String entityType, int entityId, MergeResult result) {}
+    }
+
+    // ============ FIELD TABLES ============
+    // Everything except the primary key and the version, which are taken from the server row.
+
+    private static final Field<BlotterReport>[] REPORT_FIELDS = fields(
+        ref("caseNumber", BlotterReport::getCaseNumber, BlotterReport::setCaseNumber),
+        ref("complainantName", BlotterReport::getComplainantName, BlotterReport::setComplainantName),
+        ref("complainantContact", BlotterReport::getComplainantContact, BlotterReport::setComplainantContact),
+        ref("complainantAddress", BlotterReport::getComplainantAddress, BlotterReport::setComplainantAddress),
+        ref("incidentType", BlotterReport::getIncidentType, BlotterReport::setIncidentType),
+        new Field<>("incidentDate",
+            (a, b) -> a.getIncidentDate() == b.getIncidentDate(),
+            (from, to) -> to.setIncidentDate(from.getIncidentDate())),
+        ref("incidentTime", BlotterReport::getIncidentTime, BlotterReport::setIncidentTime),
+        ref("incidentLocation", BlotterReport::getIncidentLocation, BlotterReport::setIncidentLocation),
+        ref("narrative", BlotterReport::getNarrative, BlotterReport::setNarrative),
+        ref("respondentName", BlotterReport::getRespondentName, BlotterReport::setRespondentName),
+        ref("respondentAlias", BlotterReport::getRespondentAlias, BlotterReport::setRespondentAlias),
+        ref("respondentAddress", BlotterReport::getRespondentAddress, BlotterReport::setRespondentAddress),
+        ref("respondentContact", BlotterReport::getRespondentContact, BlotterReport::setRespondentContact),
+        ref("accusation", BlotterReport::getAccusation, BlotterReport::setAccusation),
+        ref("relationshipToComplainant", BlotterReport::getRelationshipToComplainant, BlotterReport::setRelationshipToComplainant),
+        ref("status", BlotterReport::getStatus, BlotterReport::setStatus),
+        new Field<>("dateFiled",
+            (a, b) -> a.getDateFiled() == b.getDateFiled(),
+            (from, to) -> to.setDateFiled(from.getDateFiled())),
+        ref("assignedOfficer", BlotterReport::getAssignedOfficer, BlotterReport::setAssignedOfficer),
+        ref("assignedOfficerId", BlotterReport::getAssignedOfficerId, BlotterReport::setAssignedOfficerId),
+        ref("assignedOfficerIds", BlotterReport::getAssignedOfficerIds, BlotterReport::setAssignedOfficerIds),
+        new Field<>("userId",
+            (a, b) -> a.getUserId() == b.getUserId(),
+            (from, to) -> to.setUserId(from.getUserId())),
+        new Field<>("isArchived",
+            (a, b) -> a.isArchived() == b.isArchived(),
+            (from, to) -> to.setArchived(from.isArchived())),
+        ref("archivedDate", BlotterReport::getArchivedDate, BlotterReport::setArchivedDate),
+        ref("archivedBy", BlotterReport::getArchivedBy, BlotterReport::setArchivedBy),
+        ref("archivedReason", BlotterReport::getArchivedReason, BlotterReport::setArchivedReason),
+        ref("imageUris", BlotterReport::getImageUris, BlotterReport::setImageUris),
+        ref("videoUris", BlotterReport::getVideoUris, BlotterReport::setVideoUris),
+        ref("videoDurations", BlotterReport::getVideoDurations, BlotterReport::setVideoDurations),
+        ref("audioUri", BlotterReport::getAudioUri, BlotterReport::setAudioUri),
+        ref("audioUris", BlotterReport::getAudioUris, BlotterReport::setAudioUris),
+        ref("audioDurations", BlotterReport::getAudioDurations, BlotterReport::setAudioDurations),
+        new Field<>("latitude",
+            (a, b) -> Double.compare(a.getLatitude(), b.getLatitude()) == 0,
+            (from, to) -> to.setLatitude(from.getLatitude())),
+        new Field<>("longitude",
+            (a, b) -> Double.compare(a.getLongitude(), b.getLongitude()) == 0,
+            (from, to) -> to.setLongitude(from.getLongitude()))
+    );
+
+    private static final Field<User>[] USER_FIELDS = fields(
+        ref("firstName", User::getFirstName, User::setFirstName),
+        ref("lastName", User::getLastName, User::setLastName),
+        ref("username", User::getUsername, User::setUsername),
+        ref("password", User::getPassword, User::setPassword),
+        ref("role", User::getRole, User::setRole),
+        ref("email", User::getEmail, User::setEmail),
+        ref("phoneNumber", User::getPhoneNumber, User::setPhoneNumber),
+        ref("profilePhotoUri", User::getProfilePhotoUri, User::setProfilePhotoUri),
+        ref("gender", User::getGender, User::setGender),
+        new Field<>("accountCreated",
+            (a, b) -> a.getAccountCreated() == b.getAccountCreated(),
+            (from, to) -> to.setAccountCreated(from.getAccountCreated())),
+        new Field<>("profileCompleted",
+            (a, b) -> a.isProfileCompleted() == b.isProfileCompleted(),
+            (from, to) -> to.setProfileCompleted(from.isProfileCompleted())),
+        ref("badgeNumber", User::getBadgeNumber, User::setBadgeNumber),
+        ref("rank", User::getRank, User::setRank),
+        ref("dutyStatus", User::getDutyStatus, User::setDutyStatus),
+        new Field<>("mustChangePassword",
+            (a, b) -> a.isMustChangePassword() == b.isMustChangePassword(),
+            (from, to) -> to.setMustChangePassword(from.isMustChangePassword())),
+        new Field<>("isActive",
+            (a, b) -> a.isActive() == b.isActive(),
+            (from, to) -> to.setActive(from.isActive())),
+        ref("fcmToken", User::getFcmToken, User::setFcmToken),
+        ref("deviceId", User::getDeviceId, User::setDeviceId),
+        ref("resetCode", User::getResetCode, User::setResetCode),
+        new Field<>("resetCodeExpiry",
+            (a, b) -> a.getResetCodeExpiry() == b.getResetCodeExpiry(),
+            (from, to) -> to.setResetCodeExpiry(from.getResetCodeExpiry())),
+        new Field<>("hasSeenTooltips",
+            (a, b) -> a.hasSeenTooltips() == b.hasSeenTooltips(),
+            (from, to) -> to.setHasSeenTooltips(from.hasSeenTooltips()))
+    );
+
+    private static final Comparator<BlotterReport> REPORT_BY_ID = (a, b) -> Integer.compare(a.getId(), b.getId());
+    private static final Comparator<User> USER_BY_ID = (a, b) -> Integer.compare(a.getId(), b.getId());
+
+    // Reused by the bulk merges - one resolver per sync thread
+    private final MergeResult scratch = new MergeResult();
+
+    // ✅ THREE-WAY REPORT MERGE
+    /**
+     * Merge the server copy into the cached row, in place.
+     * @param base   last server copy the local row started from, or null if unknown
+     *               (then every differing field is treated as a conflict)
+     * @param local  cached row - receives the merged values
+     * @param remote incoming server row - not modified
+     * @param result reused holder for what changed; returned for chaining
+     */
+    public static MergeResult mergeReport(BlotterReport base, BlotterReport local, BlotterReport remote,
+                                          MergeResult result) {
+        if (isStale(base != null ? base.getVersion() : 0, remote.getVersion(), result)) return result;
+        merge(REPORT_FIELDS, base, local, remote, result);
+        local.setId(remote.getId());
+        local.setVersion(remote.getVersion());
+        return result;
+    }
+
+    // ✅ THREE-WAY USER MERGE
+    public static MergeResult mergeUser(User base, User local, User remote, MergeResult result) {
+        if (isStale(base != null ? base.getVersion() : 0, remote.getVersion(), result)) return result;
+        merge(USER_FIELDS, base, local, remote, result);
+        local.setId(remote.getId());
+        local.setVersion(remote.getVersion());
+        return result;
+    }
+
+    /**
+     * A server row older than the base we already merged (e.g. a late response) changes nothing
+     */
+    private static boolean isStale(long baseVersion, long remoteVersion, MergeResult result) {
+        result.reset();
+        result.stale = baseVersion > 0 && remoteVersion > 0 && remoteVersion < baseVersion;
+        return result.stale;
+    }
+
+    private static <T> void merge(Field<T>[] fields, T base, T local, T remote, MergeResult result) {
+        result.fields = fields;
+        for (int i = 0; i < fields.length; i++) {
+            Field<T> field = fields[i];
+            long bit = 1L << i;
+
+            if (base == null) {
+                // No common ancestor - any difference is a conflict; server wins
+                if (!field.same.test(local, remote)) {
+                    result.conflicts |= bit;
+                    field.copy.accept(remote, local);
+                }
+                continue;
+            }
+
+            boolean localChanged = !field.same.test(base, local);
+            boolean remoteChanged = !field.same.test(base, remote);
+            if (localChanged) result.localChanges |= bit;
+            if (remoteChanged) {
+                result.remoteChanges |= bit;
+                if (localChanged && !field.same.test(local, remote)) {
+                    result.conflicts |= bit;
+                }
+                field.copy.accept(remote, local);
+            }
+        }
+    }
+
+    // ✅ BULK MERGE - one page of server rows against the cached rows and their bases
+    /**
+     * @param remote   server rows (not modified)
+     * @param locals   cached rows with the same ids - merged in place; re-ordered by id
+     * @param bases    base snapshots with the same ids; re-ordered by id
+     * @param rowsOut  receives the rows to upsert into blotter_reports
+     * @param basesOut receives the server rows to store as the new bases (stale rows are left out)
+     * @return number of rows with genuine conflicts
+     */
+    public int mergeReports(List<BlotterReport> remote, List<BlotterReport> locals, List<BlotterReport> bases,
+                            List<BlotterReport> rowsOut, List<BlotterReport> basesOut, ConflictListener listener) {
+        Collections.sort(locals, REPORT_BY_ID);
+        Collections.sort(bases, REPORT_BY_ID);
+        int conflicted = 0;
+        for (int i = 0, n = remote.size(); i < n; i++) {
+            BlotterReport server = remote.get(i);
+            int id = server.getId();
+            BlotterReport local = findReport(locals, id);
+            if (local == null) {
+                rowsOut.add(server);
+                basesOut.add(server);
+                continue;
+            }
+            mergeReport(findReport(bases, id), local, server, scratch);
+            if (scratch.stale) continue;
+            rowsOut.add(local);
+            basesOut.add(server);
+            if (listener != null) listener.onMerged(ENTITY_REPORT, id, scratch);
+            if (scratch.hasConflicts()) {
+                conflicted++;
+                if (listener != null) listener.onConflict(ENTITY_REPORT, id, scratch.getConflictFields());
+            }
+        }
+        return conflicted;
+    }
+
+    public int mergeUsers(List<User> remote, List<User> locals, List<User> bases,
+                          List<User> rowsOut, List<User> basesOut, ConflictListener listener) {
+        Collections.sort(locals, USER_BY_ID);
+        Collections.sort(bases, USER_BY_ID);
+        int conflicted = 0;
+        for (int i = 0, n = remote.size(); i < n; i++) {
+            User server = remote.get(i);
+            int id = server.getId();
+            User local = findUser(locals, id);
+            if (local == null) {
+                rowsOut.add(server);
+                basesOut.add(server);
+                continue;
+            }
+            mergeUser(findUser(bases, id), local, server, scratch);
+            if (scratch.stale) continue;
+            rowsOut.add(local);
+            basesOut.add(server);
+            if (listener != null) listener.onMerged(ENTITY_USER, id, scratch);
+            if (scratch.hasConflicts()) {
+                conflicted++;
+                if (listener != null) listener.onConflict(ENTITY_USER, id, scratch.getConflictFields());
+            }
+        }
+        return conflicted;
+    }
+
+    // Binary search by id over a list sorted with REPORT_BY_ID / USER_BY_ID - no key objects
+    private static BlotterReport findReport(List<BlotterReport> sorted, int id) {
+        int low = 0, high = sorted.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = sorted.get(mid).getId();
+            if (midId < id) low = mid + 1;
+            else if (midId > id) high = mid - 1;
+            else return sorted.get(mid);
+        }
+        return null;
+    }
+
+    private static User findUser(List<User> sorted, int id) {
+        int low = 0, high = sorted.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = sorted.get(mid).getId();
+            if (midId < id) low = mid + 1;
+            else if (midId > id) high = mid - 1;
+            else return sorted.get(mid);
+        }
+        return null;
+    }
+
+    // ✅ RESOLVE REPORT CONFLICTS (no base available)
     public BlotterReport resolveReportConflict(BlotterReport localReport, BlotterReport neonReport) {
         Log.d(TAG, "🔄 Resolving conflict for: " + localReport.getCaseNumber());
-        
+
         BlotterReport resolved = new BlotterReport();
-        
-        // Copy critical fields from Neon (server wins)
-        resolved.setId(neonReport.getId());
-        resolved.setCaseNumber(neonReport.getCaseNumber());
-        resolved.setIncidentType(neonReport.getIncidentType());
-        resolved.setStatus(neonReport.getStatus());
-        resolved.setAssignedOfficerId(neonReport.getAssignedOfficerId());
-        resolved.setAssignedOfficerIds(neonReport.getAssignedOfficerIds());
-        
-        // Choose latest for editable fields
-        resolved.setNarrative(chooseLatestString(
-            localReport.getNarrative(), 
-            neonReport.getNarrative()
-        ));
-        
-        resolved.setIncidentLocation(chooseLatestString(
-            localReport.getIncidentLocation(), 
-            neonReport.getIncidentLocation()
-        ));
-        
-        // Preserve complainant/respondent info
-        resolved.setComplainantName(neonReport.getComplainantName());
-        resolved.setRespondentName(neonReport.getRespondentName());
-        resolved.setIncidentDate(neonReport.getIncidentDate());
-        resolved.setDateFiled(Math.max(localReport.getDateFiled(), neonReport.getDateFiled()));
-        resolved.setUserId(neonReport.getUserId());
-        
-        Log.d(TAG, "✅ Conflict resolved for: " + resolved.getCaseNumber());
+        copy(REPORT_FIELDS, localReport, resolved);
+        MergeResult result = mergeReport(null, resolved, neonReport, new MergeResult());
+
+        Log.d(TAG, "✅ Conflict resolved for: " + resolved.getCaseNumber()
+            + (result.hasConflicts() ? " (server kept " + result.getConflictFields() + ")" : ""));
         return resolved;
     }
-    
-    // ✅ RESOLVE USER CONFLICTS
+
+    // ✅ RESOLVE USER CONFLICTS (no base available)
     public User resolveUserConflict(User localUser, User neonUser) {
         Log.d(TAG, "🔄 Resolving user conflict for: " + neonUser.getEmail());
-        
+
         User resolved = new User();
-        
-        // Server wins for critical fields
-        resolved.setId(neonUser.getId());
-        resolved.setEmail(neonUser.getEmail());
-        resolved.setRole(neonUser.getRole());
-        resolved.setUsername(neonUser.getUsername());
-        
-        // Choose latest for display fields
-        resolved.setFirstName(chooseLatestString(
-            localUser.getFirstName(), 
-            neonUser.getFirstName()
-        ));
-        
-        resolved.setLastName(chooseLatestString(
-            localUser.getLastName(), 
-            neonUser.getLastName()
-        ));
-        
-        resolved.setPhoneNumber(chooseLatestString(
-            localUser.getPhoneNumber(), 
-            neonUser.getPhoneNumber()
-        ));
-        
-        resolved.setProfilePhotoUri(chooseLatestString(
-            localUser.getProfilePhotoUri(), 
-            neonUser.getProfilePhotoUri()
-        ));
-        
-        Log.d(TAG, "✅ User conflict resolved for: " + resolved.getEmail());
+        copy(USER_FIELDS, localUser, resolved);
+        MergeResult result = mergeUser(null, resolved, neonUser, new MergeResult());
+
+        Log.d(TAG, "✅ User conflict resolved for: " + resolved.getEmail()
+            + (result.hasConflicts() ? " (server kept " + result.getConflictFields() + ")" : ""));
         return resolved;
     }
-    
+
     // ✅ DETECT IF CONFLICT EXISTS
     public boolean hasConflict(BlotterReport local, BlotterReport remote) {
         if (local == null || remote == null) return false;
-        
-        return !equals(local.getStatus(), remote.getStatus()) ||
-               !equals(local.getAssignedOfficerId(), remote.getAssignedOfficerId()) ||
-               !equals(local.getNarrative(), remote.getNarrative()) ||
-               !equals(local.getIncidentLocation(), remote.getIncidentLocation());
+        return !sameFields(REPORT_FIELDS, local, remote);
     }
-    
+
     // ✅ DETECT USER CONFLICT
     public boolean hasUserConflict(User local, User remote) {
         if (local == null || remote == null) return false;
-        
-        return !equals(local.getFirstName(), remote.getFirstName()) ||
-               !equals(local.getLastName(), remote.getLastName()) ||
-               !equals(local.getPhoneNumber(), remote.getPhoneNumber()) ||
-               !equals(local.getProfilePhotoUri(), remote.getProfilePhotoUri());
-    }
-    
-    // ✅ CHOOSE LATEST STRING VALUE
-    private String chooseLatestString(String local, String remote) {
-        // If remote is empty/null but local has value, use local
-        if ((remote == null || remote.trim().isEmpty()) && 
-            (local != null && !local.trim().isEmpty())) {
-            return local;
+        return !sameFields(USER_FIELDS, local, remote);
+    }
+
+    private static <T> boolean sameFields(Field<T>[] fields, T a, T b) {
+        for (Field<T> field : fields) {
+            if (!field.same.test(a, b)) return false;
+        }
+        return true;
+    }
+
+    private static <T> void copy(Field<T>[] fields, T from, T to) {
+        for (Field<T> field : fields) {
+            field.copy.accept(from, to);
         }
-        
-        // Default to remote (server wins)
-        return remote != null ? remote : local;
-    }
-    
-    // ✅ SAFE EQUALS CHECK
-    private boolean equals(Object a, Object b) {
-        if (a == null && b == null) return true;
-        if (a == null || b == null) return false;
-        return a.equals(b);
+    }
+
+    // ============ MERGE RESULT ============
+
+    /**
+     * What a merge did, as bitmasks over the entity's field table. Reusable - reset by every merge.
+     */
+    public static final class MergeResult {
+        long localChanges;
+        long remoteChanges;
+        long conflicts;
+        boolean stale;
+        Field<?>[] fields;
+
+        void reset() {
+            localChanges = 0;
+            remoteChanges = 0;
+            conflicts = 0;
+            stale = false;
+            fields = null;
+        }
+
+        public boolean hasConflicts() { return conflicts != 0; }
+
+        /** Local edits the server doesn't have yet - the merged row still needs pushing */
+        public boolean hasLocalChanges() { return (localChanges & ~remoteChanges) != 0; }
+
+        public boolean hasRemoteChanges() { return remoteChanges != 0; }
+
+        /** The server row was older than the base and was ignored */
+        public boolean isStale() { return stale; }
+
+        public int getConflictCount() { return Long.bitCount(conflicts); }
+
+        /** Names of the conflicting fields. Allocates - call only when hasConflicts(). */
+        public List<String> getConflictFields() {
+            List<String> names = new ArrayList<>(getConflictCount());
+            for (int i = 0; fields != null && i < fields.length; i++) {
+                if ((conflicts & (1L << i)) != 0) names.add(fields[i].name);
+            }
+            return names;
+        }
+    }
+
+    // ============ FIELD DESCRIPTORS ============
+
+    interface Same<T> {
+        boolean test(T a, T b);
+    }
+
+    interface Copy<T> {
+        void accept(T from, T to);
+    }
+
+    static final class Field<T> {
+        final String name;
+        final Same<T> same;
+        final Copy<T> copy;
+
+        Field(String name, Same<T> same, Copy<T> copy) {
+            this.name = name;
+            this.same = same;
+            this.copy = copy;
+        }
+    }
+
+    // Reference-typed column (String, Integer, Long) - compared with equals, never boxed
+    private static <T, V> Field<T> ref(String name, Function<T, V> getter, BiConsumer<T, V> setter) {
+        return new Field<>(name,
+            (a, b) -> Objects.equals(getter.apply(a), getter.apply(b)),
+            (from, to) -> setter.accept(to, getter.apply(from)));
+    }
+
+    @SafeVarargs
+    private static <T> Field<T>[] fields(Field<T>... fields) {
+        if (fields.length > Long.SIZE) throw new IllegalStateException("Merge masks hold at most 64 fields");
+        return fields;
     }
 }
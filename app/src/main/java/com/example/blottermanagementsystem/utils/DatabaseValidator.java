@@ -6,7 +6,6 @@ import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.Officer;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 /**
  * DatabaseValidator - Validates local Room database integrity
@@ -26,7 +25,7 @@ public class DatabaseValidator {
      * Validates multi-officer assignment in local database
      */
     public void validateMultiOfficerAssignment(ValidationCallback callback) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 ValidationResult result = new ValidationResult();
                 
@@ -161,7 +160,7 @@ public class DatabaseValidator {
      * Generates a detailed validation report
      */
     public void generateDetailedReport(ReportCallback callback) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 StringBuilder report = new StringBuilder();
                 report.append("LOCAL DATABASE VALIDATION REPORT\n");
@@ -1,6 +1,7 @@
 package com.example.blottermanagementsystem.utils;
 
 import android.util.Log;
+import com.example.blottermanagementsystem.BuildConfig;
 
 /**
  * ✅ ENVIRONMENT MANAGER
@@ -54,16 +55,8 @@ public class EnvironmentManager {
      * Check if this is a debug build
      */
     private static boolean isDebugBuild() {
-        try {
-            // Try to access BuildConfig.DEBUG
-            Class<?> buildConfig = Class.forName("com.example.blottermanagementsystem.BuildConfig");
-            java.lang.reflect.Field debugField = buildConfig.getField("DEBUG");
-            return (Boolean) debugField.get(null);
-        } catch (Exception e) {
-            // If BuildConfig is not available, assume development
-            Log.w(TAG, "Could not determine build type, assuming development");
-            return true;
-        }
+        // Generated at build time (buildFeatures.buildConfig) - survives R8, unlike a reflective lookup
+        return BuildConfig.DEBUG;
     }
     
     /**
@@ -10,10 +10,10 @@ import android.graphics.pdf.PdfDocument;
 import android.net.Uri;
 import android.os.Environment;
 import android.util.Log;
+import com.example.blottermanagementsystem.data.api.JsonCodec;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.example.blottermanagementsystem.data.entity.Evidence;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
@@ -38,7 +38,7 @@ public class ExportUtils {
             String fileName = "blotter_reports_" + timestamp + ".json";
             File file = new File(exportDir, fileName);
             
-            Gson gson = new GsonBuilder().setPrettyPrinting().create();
+            Gson gson = JsonCodec.gson().newBuilder().setPrettyPrinting().create();
             String json = gson.toJson(reports);
             
             FileWriter writer = new FileWriter(file);
@@ -28,6 +28,10 @@ public class GlobalLoadingManager {
     private static Runnable stage3Runnable; // 20s timeout
     private static TextView currentMessageView;
     private static android.view.View emergencyOverlay;
+    private static View currentLoadingView;
+    // Identifies the dialog a LoadingTaskRunner run opened, so it never hides someone else's
+    private static int currentToken;
+    private static int nextToken = 1;
     
     /**
      * Show loading dialog with custom message
@@ -40,6 +44,7 @@ public class GlobalLoadingManager {
         
         try {
             hide(); // Hide any existing dialog first
+            currentToken = nextToken++;
             
             // Create loading dialog
             loadingDialog = new Dialog(context);
@@ -52,6 +57,7 @@ public class GlobalLoadingManager {
             loadingDialog.setContentView(loadingView);
             
             // Set message and store reference
+            currentLoadingView = loadingView;
             currentMessageView = loadingView.findViewById(R.id.tvLoadingMessage);
             if (currentMessageView != null) {
                 currentMessageView.setText(message);
@@ -149,6 +155,56 @@ public class GlobalLoadingManager {
         show(context, "📧 Sending email...");
     }
     
+    /**
+     * Show loading for a LoadingTaskRunner run; a non-null onCancel adds a Cancel button
+     * (back cancels too). Returns the token for updateProgress()/hide(token), 0 if not shown.
+     */
+    static int showTask(Activity activity, String message, Runnable onCancel) {
+        int before = currentToken;
+        show(activity, message);
+        if (currentToken == before) return 0;
+        
+        if (onCancel != null && loadingDialog != null && currentLoadingView != null) {
+            View btnCancel = currentLoadingView.findViewById(R.id.btnCancelLoading);
+            if (btnCancel != null) {
+                btnCancel.setVisibility(View.VISIBLE);
+                btnCancel.setOnClickListener(v -> onCancel.run());
+            }
+            loadingDialog.setCancelable(true);
+            loadingDialog.setOnCancelListener(dialog -> onCancel.run());
+        }
+        return currentToken;
+    }
+    
+    /**
+     * Show "Step x of y" with a determinate bar (or just the message when totalSteps is 0)
+     */
+    static void updateProgress(int token, int step, int totalSteps, String message) {
+        if (token != currentToken || !isShowing || currentLoadingView == null) return;
+        
+        // Steps are moving - the "taking longer than expected" messages would be wrong
+        clearTimeouts();
+        
+        ProgressBar stepsBar = currentLoadingView.findViewById(R.id.progressSteps);
+        if (stepsBar != null && totalSteps > 0) {
+            stepsBar.setVisibility(View.VISIBLE);
+            stepsBar.setMax(totalSteps);
+            stepsBar.setProgress(step);
+        }
+        TextView progressView = currentLoadingView.findViewById(R.id.tvLoadingProgress);
+        if (progressView != null) {
+            progressView.setVisibility(View.VISIBLE);
+            progressView.setText(totalSteps > 0 ? "Step " + step + " of " + totalSteps + " · " + message : message);
+        }
+    }
+    
+    /**
+     * Hide only if the dialog on screen is still the one token refers to
+     */
+    static void hide(int token) {
+        if (token == currentToken) hide();
+    }
+    
     /**
      * Hide loading dialog and emergency overlay
      */
@@ -163,6 +219,7 @@ public class GlobalLoadingManager {
             hideEmergencyOverlay();
             
             isShowing = false;
+            currentLoadingView = null;
             
             // Cancel all timeout callbacks
             clearTimeouts();
@@ -0,0 +1,316 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.app.Activity;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * ✅ LOADING TASK RUNNER - BACKGROUND WORK THAT OWNS THE LOADING DIALOG
+ * Runs a task on one of AppExecutors and drives GlobalLoadingManager for it:
+ * - the dialog only appears if the task is still running after SPINNER_DELAY_MS, so quick
+ *   Room lookups don't flash a spinner, and once shown it stays MIN_VISIBLE_MS
+ * - multi-step tasks call progress.step(...) to show "Step 2 of 3" with a determinate bar
+ * - cancellable tasks get a Cancel button (and back) that interrupts the task
+ * - every run's latency is recorded per operation name (p50/p90/p99 in describeAll())
+ *
+ *     LoadingTaskRunner.run(this, "Deleting report", AppExecutors.disk(), progress -> {
+ *         database.blotterReportDao().deleteReport(report);
+ *         return null;
+ *     }, new LoadingTaskRunner.Callback<Void>() { ... });
+ */
+public final class LoadingTaskRunner {
+    private static final String TAG = "LoadingTaskRunner";
+
+    // Faster than this and a spinner is just a flicker
+    private static final long SPINNER_DELAY_MS = 100;
+    // Once shown, keep it long enough to be read instead of blinking away
+    private static final long MIN_VISIBLE_MS = 300;
+    // Latency samples kept per operation
+    private static final int MAX_SAMPLES = 200;
+
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private static final Map<String, OperationStats> STATS = new TreeMap<>();
+
+    private LoadingTaskRunner() {}
+
+    /**
+     * Background work that reports progress; a thrown exception ends up in Callback.onError
+     */
+    public interface Task<T> {
+        T run(Progress progress) throws Exception;
+    }
+
+    /**
+     * Delivered on the main thread - never after the task was cancelled
+     */
+    public interface Callback<T> {
+        void onSuccess(T result);
+        void onError(String errorMessage);
+        default void onCancelled() {}
+    }
+
+    /**
+     * Run task on pool behind a loading dialog titled operation (not cancellable)
+     */
+    public static <T> Handle run(Activity activity, String operation, Executor pool,
+                                 Task<T> task, Callback<T> callback) {
+        return start(activity, operation, pool, false, task, callback);
+    }
+
+    /**
+     * Like run(), with a Cancel button on the dialog that interrupts the task
+     */
+    public static <T> Handle runCancellable(Activity activity, String operation, Executor pool,
+                                            Task<T> task, Callback<T> callback) {
+        return start(activity, operation, pool, true, task, callback);
+    }
+
+    private static <T> Handle start(Activity activity, String operation, Executor pool, boolean cancellable,
+                                    Task<T> task, Callback<T> callback) {
+        Run<T> run = new Run<>(activity, operation, cancellable, callback);
+        run.future = new FutureTask<>(() -> {
+            run.deliver(task.run(run.progress), null);
+            return null;
+        }) {
+            @Override
+            protected void done() {
+                if (isCancelled()) return;
+                try {
+                    get();
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    Log.e(TAG, "❌ " + operation + " failed: " + cause.getMessage());
+                    run.deliver(null, cause.getMessage() != null ? cause.getMessage() : cause.toString());
+                }
+            }
+        };
+        mainHandler.postDelayed(run.showSpinner, SPINNER_DELAY_MS);
+        pool.execute(run.future);
+        return run;
+    }
+
+    /**
+     * Per-operation latency percentiles, for the debug screen
+     */
+    public static String describeAll() {
+        synchronized (STATS) {
+            if (STATS.isEmpty()) return "none";
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, OperationStats> entry : STATS.entrySet()) {
+                if (sb.length() > 0) sb.append(" | ");
+                sb.append(entry.getKey()).append(": ").append(entry.getValue());
+            }
+            return sb.toString();
+        }
+    }
+
+    public static void resetStats() {
+        synchronized (STATS) {
+            STATS.clear();
+        }
+    }
+
+    private static void record(String operation, long elapsedMs, boolean spinnerShown, String outcome) {
+        synchronized (STATS) {
+            OperationStats stats = STATS.get(operation);
+            if (stats == null) {
+                stats = new OperationStats();
+                STATS.put(operation, stats);
+            }
+            stats.record(elapsedMs, spinnerShown, outcome);
+        }
+    }
+
+    /**
+     * Lets the caller cancel a run, e.g. when its screen is closed
+     */
+    public interface Handle {
+        void cancel();
+        boolean isDone();
+    }
+
+    /**
+     * Handed to the task to report steps and check for cancellation
+     */
+    public static final class Progress {
+        private final Run<?> run;
+        private int step;
+        private int totalSteps;
+
+        private Progress(Run<?> run) {
+            this.run = run;
+        }
+
+        /**
+         * Declare the number of steps up front - the dialog switches to a determinate bar
+         */
+        public void setSteps(int totalSteps) {
+            this.totalSteps = totalSteps;
+            this.step = 0;
+        }
+
+        /**
+         * Starting the next step; message is shown under the title
+         */
+        public void step(String message) {
+            if (totalSteps > 0 && step < totalSteps) step++;
+            int current = step;
+            int total = totalSteps;
+            mainHandler.post(() -> run.showProgress(current, total, message));
+        }
+
+        /**
+         * Long loops should check this (an interrupted blocking call also ends the task)
+         */
+        public boolean isCancelled() {
+            return run.cancelled;
+        }
+    }
+
+    private static final class Run<T> implements Handle {
+        final Activity activity;
+        final String operation;
+        final boolean cancellable;
+        final Callback<T> callback;
+        final Progress progress = new Progress(this);
+        final long startedAt = SystemClock.uptimeMillis();
+        FutureTask<?> future;
+
+        volatile boolean cancelled;
+        private boolean finished;        // main thread
+        private int dialogToken;         // main thread, 0 = not shown
+        private long shownAt;            // main thread
+        // Last step reported, replayed if the dialog only shows up after it
+        private int lastStep;
+        private int lastTotalSteps;
+        private String lastStepMessage;
+
+        final Runnable showSpinner = this::showSpinner;
+
+        Run(Activity activity, String operation, boolean cancellable, Callback<T> callback) {
+            this.activity = activity;
+            this.operation = operation;
+            this.cancellable = cancellable;
+            this.callback = callback;
+        }
+
+        private void showSpinner() {
+            if (finished || cancelled || activity.isFinishing() || activity.isDestroyed()) return;
+            dialogToken = GlobalLoadingManager.showTask(activity, operation + "...",
+                cancellable ? this::cancel : null);
+            shownAt = SystemClock.uptimeMillis();
+            if (dialogToken != 0 && lastStepMessage != null) {
+                GlobalLoadingManager.updateProgress(dialogToken, lastStep, lastTotalSteps, lastStepMessage);
+            }
+        }
+
+        void showProgress(int step, int totalSteps, String message) {
+            if (finished) return;
+            lastStep = step;
+            lastTotalSteps = totalSteps;
+            lastStepMessage = message;
+            if (dialogToken != 0) GlobalLoadingManager.updateProgress(dialogToken, step, totalSteps, message);
+        }
+
+        /**
+         * Called on the worker thread with the result, or the error message
+         */
+        void deliver(T result, String error) {
+            long elapsed = SystemClock.uptimeMillis() - startedAt;
+            mainHandler.post(() -> {
+                if (finished || cancelled) return;
+                finish(elapsed, error == null ? "ok" : "failed");
+                // Screen closed while the task ran - nothing left to update
+                if (activity.isDestroyed()) return;
+                if (error == null) callback.onSuccess(result);
+                else callback.onError(error);
+            });
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            if (future != null) future.cancel(true);
+            long elapsed = SystemClock.uptimeMillis() - startedAt;
+            mainHandler.post(() -> {
+                if (finished) return;
+                finish(elapsed, "cancelled");
+                Log.d(TAG, "🛑 " + operation + " cancelled after " + elapsed + "ms");
+                callback.onCancelled();
+            });
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled || (future != null && future.isDone());
+        }
+
+        private void finish(long elapsedMs, String outcome) {
+            finished = true;
+            mainHandler.removeCallbacks(showSpinner);
+            record(operation, elapsedMs, dialogToken != 0, outcome);
+            if (dialogToken == 0) return;
+            int token = dialogToken;
+            long visibleFor = SystemClock.uptimeMillis() - shownAt;
+            if (visibleFor >= MIN_VISIBLE_MS) {
+                GlobalLoadingManager.hide(token);
+            } else {
+                mainHandler.postDelayed(() -> GlobalLoadingManager.hide(token), MIN_VISIBLE_MS - visibleFor);
+            }
+        }
+    }
+
+    /**
+     * Latency of the last MAX_SAMPLES runs of one operation, plus outcome counts
+     */
+    private static final class OperationStats {
+        private final List<Long> samples = new ArrayList<>();
+        private int next;
+        private long runs;
+        private long spinnerSuppressed;
+        private long failed;
+        private long cancelled;
+
+        void record(long elapsedMs, boolean spinnerShown, String outcome) {
+            if (samples.size() < MAX_SAMPLES) {
+                samples.add(elapsedMs);
+            } else {
+                samples.set(next, elapsedMs);
+                next = (next + 1) % MAX_SAMPLES;
+            }
+            runs++;
+            if (!spinnerShown) spinnerSuppressed++;
+            if ("failed".equals(outcome)) failed++;
+            if ("cancelled".equals(outcome)) cancelled++;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            long[] sorted = new long[samples.size()];
+            for (int i = 0; i < sorted.length; i++) sorted[i] = samples.get(i);
+            Arrays.sort(sorted);
+            return String.format(Locale.US, "n=%d p50=%dms p90=%dms p99=%dms noSpinner=%d failed=%d cancelled=%d",
+                runs, percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                spinnerSuppressed, failed, cancelled);
+        }
+
+        private static long percentile(long[] sorted, int p) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.FrameMetrics;
+import android.view.Window;
+import androidx.annotation.NonNull;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ✅ MAIN-THREAD WATCHDOG - STALLS AND JANK PER SCREEN
+ * Times every message the main looper dispatches (through its message-logging hook) and,
+ * while a screen is up, samples the main thread from a background thread: a message still
+ * running after STALL_THRESHOLD_MS gets its stack captured, so the log shows where the UI
+ * thread was stuck (a synchronous commit(), sorting a list, notifyDataSetChanged on a big
+ * adapter...) and not only that it was.
+ *
+ * Frame times come from FrameMetrics of the resumed Activity's window and are kept as a
+ * histogram per Activity, flushed to the log when it stops. The log lives in filesDir/perf,
+ * rotates at MAX_LOG_BYTES and is exported from the admin profile screen (exportLog()).
+ */
+public final class MainThreadWatchdog {
+    private static final String TAG = "MainThreadWatchdog";
+
+    // Long enough to be felt as a freeze, well short of an ANR
+    private static final long STALL_THRESHOLD_MS = 250;
+    private static final long SAMPLE_INTERVAL_MS = 50;
+    // Over a 60Hz frame budget - on its own this message made a frame late
+    private static final long SLOW_MS = 16;
+    // Android vitals' "frozen frame"
+    private static final long FROZEN_MS = 700;
+    // Upper bounds of the frame-time buckets; the last bucket is open-ended
+    private static final long[] FRAME_BUCKETS_MS = {8, 16, 33, 50, 100, 250, 700};
+    private static final int MAX_STACK_DEPTH = 30;
+
+    private static final String LOG_DIR = "perf";
+    private static final String LOG_NAME = "jank.log";
+    private static final long MAX_LOG_BYTES = 256 * 1024;
+    // jank.log plus jank.log.1 .. jank.log.(MAX_LOG_FILES - 1)
+    private static final int MAX_LOG_FILES = 3;
+
+    private static final Object FILE_LOCK = new Object();
+    private static MainThreadWatchdog instance;
+
+    private final File logDir;
+    private final Thread mainThread = Looper.getMainLooper().getThread();
+    private final Handler handler;
+
+    // Main thread only
+    private final Map<String, ScreenStats> screens = new HashMap<>();
+    private final Map<Activity, Window.OnFrameMetricsAvailableListener> frameListeners = new HashMap<>();
+    private ScreenStats currentStats;
+    private int startedActivities;
+
+    // Written by the main thread, read by the sampler
+    private volatile long dispatchStartedAt; // uptime ms, 0 between messages
+    private volatile long dispatchSeq;
+    private volatile String currentScreen = "launch";
+    private volatile boolean visible;
+    // Written by the sampler for the message it caught
+    private volatile StackTraceElement[] stalledStack;
+    private volatile long stalledSeq = -1;
+
+    private final Runnable sampler = new Runnable() {
+        @Override
+        public void run() {
+            long startedAt = dispatchStartedAt;
+            long seq = dispatchSeq;
+            if (startedAt != 0 && seq != stalledSeq
+                    && SystemClock.uptimeMillis() - startedAt >= STALL_THRESHOLD_MS) {
+                StackTraceElement[] stack = mainThread.getStackTrace();
+                // Only keep it if the main thread is still in the same message
+                if (dispatchSeq == seq) {
+                    stalledStack = stack;
+                    stalledSeq = seq;
+                }
+            }
+            // Nothing on screen and nothing running - stop waking up until a screen starts
+            if (visible || dispatchStartedAt != 0) handler.postDelayed(this, SAMPLE_INTERVAL_MS);
+        }
+    };
+
+    private MainThreadWatchdog(Application application) {
+        logDir = new File(application.getFilesDir(), LOG_DIR);
+        HandlerThread thread = new HandlerThread("main-watchdog", Process.THREAD_PRIORITY_BACKGROUND);
+        thread.start();
+        handler = new Handler(thread.getLooper());
+    }
+
+    /**
+     * Start watching the main thread - from Application.onCreate, before any screen is created.
+     * Installed later (the admin opt-in), it only sees screens opened after the call.
+     */
+    public static synchronized void install(Application application) {
+        if (instance != null) return;
+        instance = new MainThreadWatchdog(application);
+        instance.attach(application);
+        Log.d(TAG, "✅ Watching main thread (stall threshold " + STALL_THRESHOLD_MS + "ms)");
+    }
+
+    public static synchronized boolean isInstalled() {
+        return instance != null;
+    }
+
+    /**
+     * Copy the rotated logs, oldest first, into one file in the cache dir for sharing.
+     * Blocking - call from AppExecutors.disk().
+     */
+    public static File exportLog(Context context) throws IOException {
+        File dir = new File(context.getFilesDir(), LOG_DIR);
+        File out = new File(context.getCacheDir(), "jank-" + new SimpleDateFormat(
+            "yyyyMMdd-HHmmss", Locale.US).format(new Date()) + ".log");
+        synchronized (FILE_LOCK) {
+            try (OutputStream os = new FileOutputStream(out)) {
+                for (int i = MAX_LOG_FILES - 1; i >= 0; i--) {
+                    File part = logFile(dir, i);
+                    if (!part.exists()) continue;
+                    try (InputStream is = new FileInputStream(part)) {
+                        byte[] buffer = new byte[8192];
+                        int read;
+                        while ((read = is.read(buffer)) != -1) os.write(buffer, 0, read);
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    private void attach(Application application) {
+        Looper.getMainLooper().setMessageLogging(this::onLooperLog);
+        application.registerActivityLifecycleCallbacks(new Application.ActivityLifecycleCallbacks() {
+            @Override
+            public void onActivityCreated(@NonNull Activity activity, Bundle savedInstanceState) {
+                // The rest of the subclass onCreate() runs after this - attribute it to the new screen
+                enterScreen(activity);
+                startSampling();
+            }
+
+            @Override
+            public void onActivityStarted(@NonNull Activity activity) {
+                startedActivities++;
+                visible = true;
+                startSampling();
+            }
+
+            @Override
+            public void onActivityResumed(@NonNull Activity activity) {
+                enterScreen(activity);
+                ScreenStats stats = currentStats;
+                Window.OnFrameMetricsAvailableListener listener = (window, metrics, dropCount) ->
+                    stats.recordFrame(metrics.getMetric(FrameMetrics.TOTAL_DURATION) / 1_000_000, dropCount);
+                activity.getWindow().addOnFrameMetricsAvailableListener(listener, handler);
+                frameListeners.put(activity, listener);
+            }
+
+            @Override
+            public void onActivityPaused(@NonNull Activity activity) {
+                Window.OnFrameMetricsAvailableListener listener = frameListeners.remove(activity);
+                if (listener != null) {
+                    try {
+                        activity.getWindow().removeOnFrameMetricsAvailableListener(listener);
+                    } catch (IllegalArgumentException ignored) {
+                        // Window already dropped it
+                    }
+                }
+            }
+
+            @Override
+            public void onActivityStopped(@NonNull Activity activity) {
+                startedActivities = Math.max(0, startedActivities - 1);
+                visible = startedActivities > 0;
+                String screen = activity.getClass().getSimpleName();
+                ScreenStats stats = screens.get(screen);
+                if (stats != null) handler.post(() -> writeFrames(screen, stats));
+            }
+
+            @Override
+            public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {
+            }
+
+            @Override
+            public void onActivityDestroyed(@NonNull Activity activity) {
+                frameListeners.remove(activity);
+            }
+        });
+    }
+
+    private void enterScreen(Activity activity) {
+        String screen = activity.getClass().getSimpleName();
+        ScreenStats stats = screens.get(screen);
+        if (stats == null) {
+            stats = new ScreenStats();
+            screens.put(screen, stats);
+        }
+        currentStats = stats;
+        currentScreen = screen;
+    }
+
+    private void startSampling() {
+        handler.removeCallbacks(sampler);
+        handler.postDelayed(sampler, SAMPLE_INTERVAL_MS);
+    }
+
+    /**
+     * Looper prints ">>>>> Dispatching to ..." before and "<<<<< Finished to ..." after each message
+     */
+    private void onLooperLog(String line) {
+        if (line.startsWith(">")) {
+            dispatchSeq++;
+            dispatchStartedAt = SystemClock.uptimeMillis();
+            return;
+        }
+        long startedAt = dispatchStartedAt;
+        if (startedAt == 0 || !line.startsWith("<")) return;
+        dispatchStartedAt = 0;
+
+        long elapsed = SystemClock.uptimeMillis() - startedAt;
+        ScreenStats stats = currentStats;
+        if (stats != null) stats.recordMessage(elapsed);
+        if (elapsed >= STALL_THRESHOLD_MS) {
+            StackTraceElement[] stack = stalledSeq == dispatchSeq ? stalledStack : null;
+            String screen = currentScreen;
+            handler.post(() -> writeStall(screen, elapsed, line, stack));
+        }
+    }
+
+    private void writeStall(String screen, long elapsed, String message, StackTraceElement[] stack) {
+        Log.w(TAG, "⚠️ Main thread stalled " + elapsed + "ms in " + screen);
+        append(out -> {
+            out.println(timestamp() + " STALL " + elapsed + "ms in " + screen
+                + " - " + message.replaceFirst("^<<<<< Finished to ", ""));
+            if (stack == null) {
+                out.println("    (no stack - not sampled while in the background)");
+                return;
+            }
+            int depth = Math.min(stack.length, MAX_STACK_DEPTH);
+            for (int i = 0; i < depth; i++) out.println("    at " + stack[i]);
+            if (stack.length > depth) out.println("    ... " + (stack.length - depth) + " more");
+        });
+    }
+
+    private void writeFrames(String screen, ScreenStats stats) {
+        String summary = stats.drain();
+        if (summary == null) return;
+        append(out -> out.println(timestamp() + " FRAMES " + screen + " " + summary));
+    }
+
+    private interface LogWriter {
+        void write(PrintWriter out);
+    }
+
+    private void append(LogWriter writer) {
+        synchronized (FILE_LOCK) {
+            try {
+                if (!logDir.exists() && !logDir.mkdirs()) return;
+                rotateIfFull();
+                try (PrintWriter out = new PrintWriter(new FileWriter(logFile(logDir, 0), true))) {
+                    writer.write(out);
+                }
+            } catch (IOException e) {
+                Log.e(TAG, "❌ Failed to write jank log: " + e.getMessage());
+            }
+        }
+    }
+
+    private void rotateIfFull() {
+        if (logFile(logDir, 0).length() < MAX_LOG_BYTES) return;
+        logFile(logDir, MAX_LOG_FILES - 1).delete();
+        for (int i = MAX_LOG_FILES - 2; i >= 0; i--) {
+            File from = logFile(logDir, i);
+            if (from.exists()) from.renameTo(logFile(logDir, i + 1));
+        }
+    }
+
+    private static File logFile(File dir, int index) {
+        return new File(dir, index == 0 ? LOG_NAME : LOG_NAME + "." + index);
+    }
+
+    private static String timestamp() {
+        return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.US).format(new Date());
+    }
+
+    /**
+     * Frame-time histogram and main-thread message counters for one Activity, since its last flush.
+     * Frames are recorded on the watchdog thread, messages on the main thread.
+     */
+    private static final class ScreenStats {
+        private final long[] frameBuckets = new long[FRAME_BUCKETS_MS.length + 1];
+        private long frames;
+        private long slowFrames;
+        private long frozenFrames;
+        private long unreportedFrames;
+        private long messages;
+        private long slowMessages;
+        private long stalls;
+        private long maxMessageMs;
+
+        synchronized void recordFrame(long ms, int dropCount) {
+            int bucket = 0;
+            while (bucket < FRAME_BUCKETS_MS.length && ms > FRAME_BUCKETS_MS[bucket]) bucket++;
+            frameBuckets[bucket]++;
+            frames++;
+            if (ms > SLOW_MS) slowFrames++;
+            if (ms >= FROZEN_MS) frozenFrames++;
+            unreportedFrames += dropCount;
+        }
+
+        synchronized void recordMessage(long ms) {
+            messages++;
+            if (ms > SLOW_MS) slowMessages++;
+            if (ms >= STALL_THRESHOLD_MS) stalls++;
+            if (ms > maxMessageMs) maxMessageMs = ms;
+        }
+
+        /**
+         * One log line since the last flush, and start over; null if nothing happened
+         */
+        synchronized String drain() {
+            if (frames == 0 && messages == 0) return null;
+            StringBuilder sb = new StringBuilder(String.format(Locale.US,
+                "frames=%d slow=%d (%.1f%%) frozen=%d unreported=%d messages=%d slowMessages=%d stalls=%d maxMessage=%dms |",
+                frames, slowFrames, frames == 0 ? 0 : 100.0 * slowFrames / frames, frozenFrames, unreportedFrames,
+                messages, slowMessages, stalls, maxMessageMs));
+            for (int i = 0; i < frameBuckets.length; i++) {
+                sb.append(i < FRAME_BUCKETS_MS.length ? " <=" + FRAME_BUCKETS_MS[i] : " >" + FRAME_BUCKETS_MS[i - 1])
+                    .append("ms:").append(frameBuckets[i]);
+            }
+            Arrays.fill(frameBuckets, 0);
+            frames = slowFrames = frozenFrames = unreportedFrames = 0;
+            messages = slowMessages = stalls = maxMessageMs = 0;
+            return sb.toString();
+        }
+    }
+}
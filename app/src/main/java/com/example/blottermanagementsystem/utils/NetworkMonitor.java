@@ -37,6 +37,21 @@ public class NetworkMonitor {
         );
     }
     
+    /**
+     * Wi-Fi or ethernet the user isn't billed per byte for
+     */
+    public boolean isNetworkUnmetered() {
+        if (connectivityManager == null) return false;
+
+        Network network = connectivityManager.getActiveNetwork();
+        if (network == null) return false;
+
+        NetworkCapabilities capabilities = connectivityManager.getNetworkCapabilities(network);
+        return capabilities != null
+            && capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
+            && capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_METERED);
+    }
+
     public void startMonitoring(NetworkCallback callback) {
         this.networkCallback = callback;
         
@@ -8,7 +8,6 @@ import android.widget.Toast;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.SmsNotification;
 
-import java.util.concurrent.Executors;
 
 /**
  * SMS Notification Manager for Officer Role
@@ -97,7 +96,7 @@ public class OfficerSmsNotificationManager {
         String formattedNumber = SmsHelper.formatPhilippineNumber(phoneNumber);
         
         // Send SMS on background thread
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.io().execute(() -> {
             try {
                 // Check SMS permission
                 if (!SmsHelper.hasSmsPermission(context)) {
@@ -145,7 +144,7 @@ public class OfficerSmsNotificationManager {
      */
     private void logSmsToDatabase(String caseNumber, String phoneNumber, String message, 
                                   String messageType, String status) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 if (database != null) {
                     // Create SMS notification with dummy respondentId (0) since we only have phone number
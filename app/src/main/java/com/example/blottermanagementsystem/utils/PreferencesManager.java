@@ -26,6 +26,7 @@ public class PreferencesManager {
     private static final String KEY_NOTIFICATION_SOUND = "notification_sound";
     private static final String KEY_BIOMETRIC_ENABLED = "biometric_enabled";
     private static final String KEY_LAST_USER_ID = "last_user_id";
+    private static final String KEY_PERFORMANCE_LOG = "performance_log_enabled";
     private static final String KEY_FCM_TOKEN = "fcm_token";
     private static final String KEY_PERMISSIONS_GRANTED = "permissions_granted";
     private static final String KEY_GOOGLE_EMAIL = "google_email";
@@ -314,6 +315,19 @@ public class PreferencesManager {
         prefs.edit().putBoolean(KEY_NOTIFICATION_SOUND, value).apply();
     }
     
+    // ==================== Performance Log ====================
+    
+    /**
+     * Release builds only run MainThreadWatchdog once an admin opts in (debug builds always do)
+     */
+    public boolean isPerformanceLogEnabled() {
+        return prefs.getBoolean(KEY_PERFORMANCE_LOG, false);
+    }
+    
+    public void setPerformanceLogEnabled(boolean value) {
+        prefs.edit().putBoolean(KEY_PERFORMANCE_LOG, value).apply();
+    }
+    
     // ==================== Biometric (Per-User) ====================
     
     public boolean isBiometricEnabled() {
@@ -430,11 +444,30 @@ public class PreferencesManager {
         // DON'T remove per-user profile data (profile_image_uri_*, profile_emoji_*, etc.)
         // DON'T remove FCM token - it's device-specific, not user-specific
         // This allows users to keep their profile pictures when they log back in
+        
+        // Cached API responses belong to this account - queue the eviction before the logout
+        // reaches session listeners, so any request they (or the next login) make waits for it
+        com.example.blottermanagementsystem.data.api.HttpEngine.clearCache();
+        com.example.blottermanagementsystem.data.repository.CaseBundleRepository.getInstance().invalidateAll();
         editor.apply();
         
         android.util.Log.d("PreferencesManager", "✅ Session cleared (JWT token cleared, password_changed flag preserved for each officer)");
     }
     
+    // ==================== Session Changes ====================
+    
+    /**
+     * Listen for login/logout and JWT changes. SharedPreferences only holds the listener
+     * weakly - the caller must keep a reference to it.
+     */
+    public void registerSessionListener(SharedPreferences.OnSharedPreferenceChangeListener listener) {
+        prefs.registerOnSharedPreferenceChangeListener(listener);
+    }
+    
+    public static boolean isSessionKey(String key) {
+        return KEY_IS_LOGGED_IN.equals(key) || KEY_USER_ID.equals(key) || KEY_JWT_TOKEN.equals(key);
+    }
+    
     // ==================== Generic Helpers ====================
     
     public void saveBoolean(String key, boolean value) {
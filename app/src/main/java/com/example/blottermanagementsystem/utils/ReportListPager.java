@@ -0,0 +1,179 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.repository.ReportPagingSource;
+import java.util.List;
+
+/**
+ * ✅ REPORT LIST PAGER
+ * Loads report pages on scroll into an adapter-backed list.
+ * - Prefetches when the user is within {@code prefetchDistance} rows of either edge
+ * - Keeps at most {@code maxPages} pages in memory, dropping pages from the far
+ *   edge and re-loading them by key if the user scrolls back
+ * The adapter gets a copy of the list after every change and diffs it on its own,
+ * so only the rows that came or went are bound.
+ */
+public class ReportListPager {
+    private static final String TAG = "ReportListPager";
+
+    public static final int DEFAULT_PAGE_SIZE = 30;
+    public static final int DEFAULT_PREFETCH_DISTANCE = 10;
+    public static final int DEFAULT_MAX_PAGES = 5;
+
+    // Pages load in order; a page not in Room falls back to the network, hence io
+    private static final AppExecutors.SerialExecutor executor = AppExecutors.serial("report-pager", AppExecutors.io());
+
+    private final ReportPagingSource source;
+    private final List<BlotterReport> items;
+    private final ListAdapter<BlotterReport, ?> adapter;
+    private final Listener listener;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final int pageSize;
+    private final int prefetchDistance;
+    private final int maxItems;
+
+    private ReportPagingSource.ReportQuery query;
+    private int generation = 0;
+    private boolean loadingForward, loadingBackward;
+    private boolean reachedEnd, reachedStart = true;
+
+    public interface Listener {
+        /** Called on the main thread after the first page of a new query has been shown */
+        void onFirstPageLoaded(boolean isEmpty);
+    }
+
+    public ReportListPager(ReportPagingSource source, List<BlotterReport> items,
+                           ListAdapter<BlotterReport, ?> adapter, Listener listener) {
+        this(source, items, adapter, listener, DEFAULT_PAGE_SIZE, DEFAULT_PREFETCH_DISTANCE, DEFAULT_MAX_PAGES);
+    }
+
+    public ReportListPager(ReportPagingSource source, List<BlotterReport> items,
+                           ListAdapter<BlotterReport, ?> adapter, Listener listener,
+                           int pageSize, int prefetchDistance, int maxPages) {
+        this.source = source;
+        this.items = items;
+        this.adapter = adapter;
+        this.listener = listener;
+        this.pageSize = pageSize;
+        this.prefetchDistance = prefetchDistance;
+        this.maxItems = pageSize * maxPages;
+    }
+
+    public void attach(RecyclerView recyclerView) {
+        recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView rv, int dx, int dy) {
+                RecyclerView.LayoutManager lm = rv.getLayoutManager();
+                if (!(lm instanceof LinearLayoutManager) || items.isEmpty()) return;
+                LinearLayoutManager layoutManager = (LinearLayoutManager) lm;
+
+                if (dy > 0 && layoutManager.findLastVisibleItemPosition() >= items.size() - 1 - prefetchDistance) {
+                    loadForward();
+                } else if (dy < 0 && layoutManager.findFirstVisibleItemPosition() <= prefetchDistance) {
+                    loadBackward();
+                }
+            }
+        });
+    }
+
+    /**
+     * Start over with a new filter/sort. Pending loads for the old query are discarded.
+     */
+    public void submitQuery(ReportPagingSource.ReportQuery newQuery) {
+        query = newQuery;
+        generation++;
+        loadingForward = false;
+        loadingBackward = false;
+        reachedEnd = false;
+        reachedStart = true;
+        items.clear();
+        adapter.submitList(items);
+        loadForward();
+    }
+
+    /**
+     * Re-run the current query from the top (e.g. after a sync changed local rows)
+     */
+    public void refresh() {
+        if (query != null) submitQuery(query);
+    }
+
+    private void loadForward() {
+        if (query == null || loadingForward || reachedEnd) return;
+        loadingForward = true;
+        final int gen = generation;
+        final ReportPagingSource.ReportQuery q = query;
+        final BlotterReport anchor = items.isEmpty() ? null : items.get(items.size() - 1);
+        final boolean firstPage = items.isEmpty();
+
+        executor.execute(() -> {
+            List<BlotterReport> page = loadSafely(q, anchor, true);
+            mainHandler.post(() -> {
+                if (gen != generation) return; // Query changed while loading
+                loadingForward = false;
+                reachedEnd = page.size() < pageSize;
+
+                items.addAll(page);
+                trimFromStart();
+                adapter.submitList(items);
+
+                if (firstPage && listener != null) {
+                    listener.onFirstPageLoaded(items.isEmpty());
+                }
+            });
+        });
+    }
+
+    private void loadBackward() {
+        if (query == null || loadingBackward || reachedStart || items.isEmpty()) return;
+        loadingBackward = true;
+        final int gen = generation;
+        final ReportPagingSource.ReportQuery q = query;
+        final BlotterReport anchor = items.get(0);
+
+        executor.execute(() -> {
+            List<BlotterReport> page = loadSafely(q, anchor, false);
+            mainHandler.post(() -> {
+                if (gen != generation) return;
+                loadingBackward = false;
+                reachedStart = page.size() < pageSize;
+
+                items.addAll(0, page);
+                trimFromEnd();
+                adapter.submitList(items);
+            });
+        });
+    }
+
+    // Bound memory: drop the page furthest from the viewport
+    private void trimFromStart() {
+        int overflow = items.size() - maxItems;
+        if (overflow <= 0) return;
+        items.subList(0, overflow).clear();
+        reachedStart = false;
+    }
+
+    private void trimFromEnd() {
+        int overflow = items.size() - maxItems;
+        if (overflow <= 0) return;
+        int start = items.size() - overflow;
+        items.subList(start, items.size()).clear();
+        reachedEnd = false;
+    }
+
+    private List<BlotterReport> loadSafely(ReportPagingSource.ReportQuery q, BlotterReport anchor, boolean forward) {
+        try {
+            return source.loadPage(q, anchor, forward, pageSize);
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Error loading page: " + e.getMessage());
+            return java.util.Collections.emptyList();
+        }
+    }
+}
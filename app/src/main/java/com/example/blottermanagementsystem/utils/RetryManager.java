@@ -1,147 +1,263 @@
 package com.example.blottermanagementsystem.utils;
 
 import android.util.Log;
-import retrofit2.Callback;
+import androidx.annotation.NonNull;
+import java.io.IOException;
+import java.net.URI;
 import java.util.concurrent.Callable;
-
-/**
- * Generic API callback interface
- */
-interface ApiCallback<T> {
-    void onSuccess(T result);
-    void onError(String error);
-}
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import retrofit2.HttpException;
 
 /**
  * ✅ RETRY MANAGER
- * Handles API calls with exponential backoff retry logic
+ * Runs an operation with retries. Attempts run on AppExecutors.io(); waiting between attempts
+ * is a task on AppExecutors.scheduler(), not a sleeping thread, so an outage no longer parks a
+ * thread per call and a slow attempt never holds up another call's timer.
+ *
+ * - Exponential backoff with jitter, so clients that failed together don't retry together
+ * - Retry budget (token bucket): once most recent attempts fail, retries stop and each call
+ *   gets a single attempt until successes refill the budget
+ * - Per-host CircuitBreaker: while a host is down, calls fail fast without touching the network
+ * - Only I/O errors and 5xx responses count against the breaker and budget and are retried;
+ *   a 4xx or a validation error is the caller's problem and fails straight away
+ *
+ * Callbacks run on an io pool thread.
  */
 public class RetryManager {
     private static final String TAG = "RetryManager";
     private static final int MAX_RETRIES = 3;
     private static final long BASE_DELAY_MS = 1000; // 1 second
-    
+    private static final long MAX_DELAY_MS = 30_000;
+
+    // Default breaker key for callers that don't name a host
+    static final String DEFAULT_HOST = URI.create(ApiClient.BASE_URL).getHost();
+
+    private static final RetryBudget budget = new RetryBudget(10, 0.1);
+    private static final Stats STATS = new Stats();
+
+    private static final class Task<T> {
+        final String host;
+        final Callable<T> operation;
+        final ApiClient.ApiCallback<T> callback;
+        final String name;
+        final int maxAttempts;
+        final long delayMs;
+        final boolean exponential;
+
+        Task(String host, Callable<T> operation, ApiClient.ApiCallback<T> callback, String name,
+             int maxAttempts, long delayMs, boolean exponential) {
+            this.host = host;
+            this.operation = operation;
+            this.callback = callback;
+            this.name = name;
+            this.maxAttempts = Math.max(1, maxAttempts);
+            this.delayMs = delayMs;
+            this.exponential = exponential;
+        }
+    }
+
     /**
      * Execute operation with automatic retry on failure
      */
     public static <T> void executeWithRetry(
             Callable<T> operation,
-            ApiCallback<T> callback,
+            ApiClient.ApiCallback<T> callback,
             String operationName) {
-        
-        new Thread(() -> {
-            for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
-                try {
-                    Log.d(TAG, "🔄 Attempt " + attempt + "/" + MAX_RETRIES + " for: " + operationName);
-                    T result = operation.call();
-                    
-                    // Success
-                    Log.d(TAG, "✅ Success on attempt " + attempt + ": " + operationName);
-                    callback.onSuccess(result);
-                    return;
-                    
-                } catch (Exception e) {
-                    Log.w(TAG, "❌ Attempt " + attempt + " failed: " + e.getMessage());
-                    
-                    if (attempt == MAX_RETRIES) {
-                        // Final failure
-                        String errorMsg = operationName + " failed after " + MAX_RETRIES + " attempts: " + e.getMessage();
-                        Log.e(TAG, errorMsg);
-                        callback.onError(errorMsg);
-                    } else {
-                        // Wait before retry (exponential backoff)
-                        try {
-                            long delay = BASE_DELAY_MS * (long) Math.pow(2, attempt - 1);
-                            Log.d(TAG, "⏳ Waiting " + delay + "ms before retry...");
-                            Thread.sleep(delay);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            callback.onError("Operation interrupted");
-                            return;
-                        }
-                    }
-                }
-            }
-        }).start();
+        submit(new Task<>(DEFAULT_HOST, operation, callback, operationName, MAX_RETRIES, BASE_DELAY_MS, true));
     }
-    
+
     /**
      * Execute operation with custom retry count
      */
     public static <T> void executeWithRetry(
             Callable<T> operation,
-            ApiCallback<T> callback,
+            ApiClient.ApiCallback<T> callback,
             String operationName,
             int maxRetries) {
-        
-        new Thread(() -> {
-            for (int attempt = 1; attempt <= maxRetries; attempt++) {
-                try {
-                    Log.d(TAG, "🔄 Attempt " + attempt + "/" + maxRetries + " for: " + operationName);
-                    T result = operation.call();
-                    
-                    Log.d(TAG, "✅ Success on attempt " + attempt + ": " + operationName);
-                    callback.onSuccess(result);
-                    return;
-                    
-                } catch (Exception e) {
-                    Log.w(TAG, "❌ Attempt " + attempt + " failed: " + e.getMessage());
-                    
-                    if (attempt == maxRetries) {
-                        String errorMsg = operationName + " failed after " + maxRetries + " attempts";
-                        Log.e(TAG, errorMsg);
-                        callback.onError(errorMsg);
-                    } else {
-                        try {
-                            long delay = BASE_DELAY_MS * (long) Math.pow(2, attempt - 1);
-                            Thread.sleep(delay);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            callback.onError("Operation interrupted");
-                            return;
-                        }
-                    }
-                }
-            }
-        }).start();
+        submit(new Task<>(DEFAULT_HOST, operation, callback, operationName, maxRetries, BASE_DELAY_MS, true));
     }
-    
+
     /**
-     * Retry with custom delay
+     * Retry with custom delay (constant, jittered)
      */
     public static <T> void executeWithRetry(
             Callable<T> operation,
-            ApiCallback<T> callback,
+            ApiClient.ApiCallback<T> callback,
             String operationName,
             int maxRetries,
             long delayMs) {
-        
-        new Thread(() -> {
-            for (int attempt = 1; attempt <= maxRetries; attempt++) {
-                try {
-                    Log.d(TAG, "🔄 Attempt " + attempt + "/" + maxRetries + " for: " + operationName);
-                    T result = operation.call();
-                    
-                    Log.d(TAG, "✅ Success on attempt " + attempt + ": " + operationName);
-                    callback.onSuccess(result);
-                    return;
-                    
-                } catch (Exception e) {
-                    Log.w(TAG, "❌ Attempt " + attempt + " failed: " + e.getMessage());
-                    
-                    if (attempt == maxRetries) {
-                        callback.onError(operationName + " failed after " + maxRetries + " attempts");
-                    } else {
-                        try {
-                            Thread.sleep(delayMs);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            callback.onError("Operation interrupted");
-                            return;
-                        }
-                    }
-                }
+        submit(new Task<>(DEFAULT_HOST, operation, callback, operationName, maxRetries, delayMs, false));
+    }
+
+    /**
+     * Execute against another host (Cloudinary, Firebase...) - it gets its own circuit breaker
+     */
+    public static <T> void executeWithRetry(
+            String host,
+            Callable<T> operation,
+            ApiClient.ApiCallback<T> callback,
+            String operationName,
+            int maxRetries) {
+        submit(new Task<>(host, operation, callback, operationName, maxRetries, BASE_DELAY_MS, true));
+    }
+
+    public static Stats stats() {
+        return STATS;
+    }
+
+    private static <T> void submit(Task<T> task) {
+        AppExecutors.io().execute(() -> attempt(task, 1));
+    }
+
+    private static <T> void attempt(Task<T> task, int attempt) {
+        CircuitBreaker breaker = CircuitBreaker.forHost(task.host);
+        if (!breaker.allowRequest()) {
+            STATS.fastFails.incrementAndGet();
+            long retryIn = breaker.getRemainingOpenMillis() / 1000;
+            Log.w(TAG, "⛔ Fast-fail " + task.name + " - " + task.host + " is unavailable");
+            task.callback.onError(task.name + " skipped: server unavailable, try again in " + Math.max(1, retryIn) + "s");
+            return;
+        }
+
+        STATS.attempts.incrementAndGet();
+        Log.d(TAG, "🔄 Attempt " + attempt + "/" + task.maxAttempts + " for: " + task.name);
+        T result;
+        try {
+            result = task.operation.call();
+        } catch (Exception e) {
+            if (!isServerFailure(e)) {
+                // The host answered (4xx) or never got asked (validation) - nothing to retry
+                if (e instanceof HttpException) breaker.onSuccess();
+                else breaker.onIgnored();
+                STATS.failures.incrementAndGet();
+                Log.w(TAG, "❌ " + task.name + " rejected, not retrying: " + e.getMessage());
+                task.callback.onError(task.name + " failed: " + e.getMessage());
+                return;
             }
-        }).start();
+            breaker.onFailure();
+            budget.onFailure();
+            Log.w(TAG, "❌ Attempt " + attempt + " failed: " + e.getMessage());
+            retryOrFail(task, attempt, e);
+            return;
+        }
+
+        // Outside the try: an exception thrown by the callback must not count as a failed attempt
+        breaker.onSuccess();
+        budget.onSuccess();
+        STATS.successes.incrementAndGet();
+        Log.d(TAG, "✅ Success on attempt " + attempt + ": " + task.name);
+        task.callback.onSuccess(result);
+    }
+
+    private static <T> void retryOrFail(Task<T> task, int attempt, Exception error) {
+        if (attempt >= task.maxAttempts) {
+            STATS.failures.incrementAndGet();
+            String errorMsg = task.name + " failed after " + task.maxAttempts + " attempts: " + error.getMessage();
+            Log.e(TAG, errorMsg);
+            task.callback.onError(errorMsg);
+            return;
+        }
+        if (!budget.tryAcquireRetry()) {
+            STATS.failures.incrementAndGet();
+            STATS.budgetDenied.incrementAndGet();
+            Log.w(TAG, "⚠️ Retry budget exhausted - not retrying " + task.name);
+            task.callback.onError(task.name + " failed: " + error.getMessage());
+            return;
+        }
+
+        long delay = backoffDelay(task, attempt);
+        STATS.retries.incrementAndGet();
+        Log.d(TAG, "⏳ Retrying " + task.name + " in " + delay + "ms");
+        // The shared scheduler only times the delay - the attempt itself goes to io
+        AppExecutors.scheduler().schedule(() -> AppExecutors.io().execute(() -> attempt(task, attempt + 1)),
+            delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Network errors and 5xx mean the host is in trouble; anything else is about this request
+     */
+    static boolean isServerFailure(Exception error) {
+        if (error instanceof IOException) return true;
+        if (error instanceof HttpException) return ((HttpException) error).code() >= 500;
+        return false;
+    }
+
+    /**
+     * "Equal jitter": half the backoff is fixed, the other half random
+     */
+    static long backoffDelay(Task<?> task, int attempt) {
+        long ceiling = task.delayMs;
+        if (task.exponential) {
+            int shift = Math.min(attempt - 1, 20);
+            ceiling = Math.min(MAX_DELAY_MS, task.delayMs << shift);
+        }
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    /**
+     * Token bucket shared by all operations: each failed attempt costs a token, each success
+     * earns back a fraction. Retries are only allowed while the bucket is more than half full,
+     * so during an outage the retry traffic stops instead of tripling the load.
+     */
+    static final class RetryBudget {
+        private final double maxTokens;
+        private final double tokenRatio;
+        private double tokens;
+
+        RetryBudget(double maxTokens, double tokenRatio) {
+            this.maxTokens = maxTokens;
+            this.tokenRatio = tokenRatio;
+            this.tokens = maxTokens;
+        }
+
+        synchronized void onFailure() {
+            tokens = Math.max(0, tokens - 1);
+        }
+
+        synchronized void onSuccess() {
+            tokens = Math.min(maxTokens, tokens + tokenRatio);
+        }
+
+        synchronized boolean tryAcquireRetry() {
+            return tokens > maxTokens / 2;
+        }
+    }
+
+    /**
+     * Counters for the debug screen
+     */
+    public static final class Stats {
+        private final AtomicLong attempts = new AtomicLong();
+        private final AtomicLong successes = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong fastFails = new AtomicLong();
+        private final AtomicLong budgetDenied = new AtomicLong();
+
+        public long getAttempts() { return attempts.get(); }
+        public long getSuccesses() { return successes.get(); }
+        public long getFailures() { return failures.get(); }
+        public long getRetries() { return retries.get(); }
+        public long getFastFails() { return fastFails.get(); }
+        public long getBudgetDenied() { return budgetDenied.get(); }
+
+        public void reset() {
+            attempts.set(0);
+            successes.set(0);
+            failures.set(0);
+            retries.set(0);
+            fastFails.set(0);
+            budgetDenied.set(0);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "attempts=" + getAttempts() + " retries=" + getRetries() + " fastFails=" + getFastFails()
+                + " budgetDenied=" + getBudgetDenied() + " breakers[" + CircuitBreaker.describeAll() + "]";
+        }
     }
 }
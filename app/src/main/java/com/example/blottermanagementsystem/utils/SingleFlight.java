@@ -0,0 +1,140 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ SINGLE-FLIGHT - IN-FLIGHT REQUEST COALESCING
+ * Identical GETs fired at nearly the same moment (dashboard startup: activity + ViewModel +
+ * repository all asking for the report list) share one HTTP call; every caller's callback
+ * gets the same result. A successful result is also reused for a short memo window so a
+ * caller arriving just after completion doesn't trigger a fresh download. Errors are never
+ * memoized - the next caller retries.
+ *
+ * Shared results go to several callers: treat them as read-only.
+ * Callbacks run on the main thread, like Retrofit's.
+ */
+public final class SingleFlight {
+    private static final String TAG = "SingleFlight";
+
+    /**
+     * Starts the real request; must call done.onSuccess/onError exactly once
+     */
+    public interface Request<T> {
+        void start(ApiClient.ApiCallback<T> done);
+    }
+
+    private static final class Flight {
+        final List<ApiClient.ApiCallback<Object>> waiters = new ArrayList<>();
+        boolean completed;
+        Object result;
+        long completedAt;
+    }
+
+    private final long memoMillis;
+    private final Map<String, Flight> flights = new HashMap<>();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong joined = new AtomicLong();
+    private final AtomicLong memoHits = new AtomicLong();
+
+    public SingleFlight(long memoMillis) {
+        this.memoMillis = memoMillis;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> void execute(String key, ApiClient.ApiCallback<T> callback, Request<T> request) {
+        ApiClient.ApiCallback<Object> waiter = (ApiClient.ApiCallback<Object>) callback;
+        Flight flight;
+        synchronized (flights) {
+            flight = flights.get(key);
+            if (flight != null && !flight.completed) {
+                flight.waiters.add(waiter);
+                joined.incrementAndGet();
+                Log.d(TAG, "🔗 Joined in-flight " + key);
+                return;
+            }
+            if (flight != null && System.currentTimeMillis() - flight.completedAt < memoMillis) {
+                memoHits.incrementAndGet();
+                Object result = flight.result;
+                mainHandler.post(() -> callback.onSuccess((T) result));
+                return;
+            }
+            flight = new Flight();
+            flight.waiters.add(waiter);
+            flights.put(key, flight);
+            started.incrementAndGet();
+        }
+
+        Flight current = flight;
+        request.start(new ApiClient.ApiCallback<T>() {
+            @Override
+            public void onSuccess(T result) {
+                complete(key, current, result, null);
+            }
+
+            @Override
+            public void onError(String errorMessage) {
+                complete(key, current, null, errorMessage);
+            }
+        });
+    }
+
+    /**
+     * Drop memoized results - call after a mutation so the next GET goes to the server
+     */
+    public void invalidate() {
+        synchronized (flights) {
+            flights.values().removeIf(flight -> flight.completed);
+        }
+    }
+
+    private void complete(String key, Flight flight, Object result, String error) {
+        List<ApiClient.ApiCallback<Object>> waiters;
+        synchronized (flights) {
+            flight.completed = true;
+            flight.result = result;
+            flight.completedAt = System.currentTimeMillis();
+            if (error != null && flights.get(key) == flight) flights.remove(key);
+            waiters = new ArrayList<>(flight.waiters);
+            flight.waiters.clear();
+        }
+        if (waiters.size() > 1) Log.d(TAG, "✅ " + key + " served " + waiters.size() + " callers with one request");
+        for (ApiClient.ApiCallback<Object> waiter : waiters) {
+            try {
+                if (error != null) waiter.onError(error);
+                else waiter.onSuccess(result);
+            } catch (Exception e) {
+                // One broken callback must not starve the rest
+                Log.e(TAG, "❌ Callback for " + key + " threw: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    // ============ METRICS ============
+
+    public long getStartedCount() { return started.get(); }
+    public long getJoinedCount() { return joined.get(); }
+    public long getMemoHitCount() { return memoHits.get(); }
+
+    /**
+     * Calls that did not cost a request of their own
+     */
+    public long getDeduplicatedCount() {
+        return joined.get() + memoHits.get();
+    }
+
+    @Override
+    public String toString() {
+        return "requests=" + getStartedCount() + " joined=" + getJoinedCount()
+            + " memoHits=" + getMemoHitCount();
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.blottermanagementsystem.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * ✅ TASK SCOPE - BACKGROUND WORK TIED TO A LIFECYCLE
+ * Background tasks, Retrofit calls and UI updates started through a scope are cancelled
+ * together when it ends - on the owner's ON_DESTROY (TaskScope.of(activity)) or when
+ * cancel() is called (ViewModel.onCleared). Queued tasks never start, running ones are
+ * interrupted, in-flight calls are cancelled and callbacks are never delivered to a dead UI,
+ * so a closed screen stops costing CPU/network and isn't kept alive by its own lambdas.
+ * Scope reads and UI refreshes only: a write the user asked for (status change, save)
+ * goes straight to AppExecutors so it completes after rotation or Back, and only its
+ * UI update is posted through runOnUi().
+ *
+ *     taskScope.execute(AppExecutors.disk(), () -> {
+ *         List<BlotterReport> reports = dao.getAllReports();
+ *         taskScope.runOnUi(() -> adapter.submit(reports));
+ *     });
+ */
+public final class TaskScope {
+
+    private static final Stats STATS = new Stats();
+    private static volatile Executor mainExecutor;
+
+    private final String name;
+    private final Executor uiExecutor;
+    private final Set<FutureTask<?>> tasks = ConcurrentHashMap.newKeySet();
+    private final Set<Call<?>> calls = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    public TaskScope(String name) {
+        this(name, mainExecutor());
+    }
+
+    TaskScope(String name, Executor uiExecutor) {
+        this.name = name;
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * A scope cancelled when owner is destroyed
+     */
+    public static TaskScope of(LifecycleOwner owner) {
+        TaskScope scope = new TaskScope(owner.getClass().getSimpleName());
+        Lifecycle lifecycle = owner.getLifecycle();
+        if (lifecycle.getCurrentState() == Lifecycle.State.DESTROYED) {
+            scope.cancel();
+            return scope;
+        }
+        lifecycle.addObserver(new DefaultLifecycleObserver() {
+            @Override
+            public void onDestroy(@NonNull LifecycleOwner source) {
+                source.getLifecycle().removeObserver(this);
+                scope.cancel();
+                STATS.watch(source);
+            }
+        });
+        return scope;
+    }
+
+    public static Stats stats() {
+        return STATS;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Run task on pool (usually one of AppExecutors) unless the scope has ended.
+     * The task is interrupted if the scope ends while it runs.
+     */
+    public void execute(Executor pool, Runnable task) {
+        if (cancelled) {
+            STATS.skipped.incrementAndGet();
+            return;
+        }
+        FutureTask<Void> future = new FutureTask<Void>(() -> {
+            task.run();
+            // Finished even though its screen is gone - counts as leaked work
+            if (cancelled) STATS.ranPastCancel.incrementAndGet();
+        }, null) {
+            @Override
+            protected void done() {
+                tasks.remove(this);
+                if (!isCancelled()) rethrowFailure(this);
+            }
+        };
+        tasks.add(future);
+        STATS.started.incrementAndGet();
+        // Cancelled between the check and add() - cancel() may have missed it
+        if (cancelled) future.cancel(false);
+        pool.execute(future);
+    }
+
+    /**
+     * runOnUiThread that is dropped once the scope has ended (checked again when it runs)
+     */
+    public void runOnUi(Runnable action) {
+        if (cancelled) {
+            STATS.droppedCallbacks.incrementAndGet();
+            return;
+        }
+        uiExecutor.execute(() -> {
+            if (cancelled) {
+                STATS.droppedCallbacks.incrementAndGet();
+                return;
+            }
+            action.run();
+        });
+    }
+
+    /**
+     * Cancel call when the scope ends - for blocking execute() inside a scoped task
+     */
+    public <T> Call<T> track(Call<T> call) {
+        calls.add(call);
+        if (cancelled) call.cancel();
+        return call;
+    }
+
+    /**
+     * call.enqueue() whose callback is skipped once the scope has ended
+     */
+    public <T> void enqueue(Call<T> call, Callback<T> callback) {
+        track(call).enqueue(new Callback<T>() {
+            @Override
+            public void onResponse(@NonNull Call<T> c, @NonNull Response<T> response) {
+                calls.remove(c);
+                runOnUi(() -> callback.onResponse(c, response));
+            }
+
+            @Override
+            public void onFailure(@NonNull Call<T> c, @NonNull Throwable t) {
+                calls.remove(c);
+                runOnUi(() -> callback.onFailure(c, t));
+            }
+        });
+    }
+
+    /**
+     * An ApiClient callback that is skipped once the scope has ended
+     */
+    public <T> ApiClient.ApiCallback<T> bind(ApiClient.ApiCallback<T> callback) {
+        return new ApiClient.ApiCallback<T>() {
+            @Override
+            public void onSuccess(T result) {
+                runOnUi(() -> callback.onSuccess(result));
+            }
+
+            @Override
+            public void onError(String errorMessage) {
+                runOnUi(() -> callback.onError(errorMessage));
+            }
+        };
+    }
+
+    public void cancel() {
+        if (cancelled) return;
+        cancelled = true;
+        int cancelledTasks = 0;
+        for (FutureTask<?> task : new ArrayList<>(tasks)) {
+            if (task.cancel(true)) cancelledTasks++;
+        }
+        for (Call<?> call : new ArrayList<>(calls)) {
+            call.cancel();
+        }
+        STATS.cancelledTasks.addAndGet(cancelledTasks);
+        STATS.cancelledCalls.addAndGet(calls.size());
+        tasks.clear();
+        calls.clear();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return name + (cancelled ? " (cancelled)" : " (" + tasks.size() + " tasks, " + calls.size() + " calls)");
+    }
+
+    /**
+     * FutureTask swallows exceptions - surface them like a plain execute() would
+     */
+    private static void rethrowFailure(FutureTask<?> task) {
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e.getCause());
+        } catch (InterruptedException | CancellationException ignored) {
+            // Cancelled with the scope
+        }
+    }
+
+    private static Executor mainExecutor() {
+        if (mainExecutor == null) {
+            Handler handler = new Handler(Looper.getMainLooper());
+            // Same as Activity.runOnUiThread: run now if already on the UI thread
+            mainExecutor = action -> {
+                if (Looper.myLooper() == Looper.getMainLooper()) action.run();
+                else handler.post(action);
+            };
+        }
+        return mainExecutor;
+    }
+
+    /**
+     * Scope counters, for the debug screen and TaskScopeLeakTest.
+     * ranPastCancel = tasks that kept running to completion after their scope ended;
+     * retained = destroyed owners (Activities) still reachable - call after a GC.
+     */
+    public static final class Stats {
+        private final AtomicLong started = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong cancelledTasks = new AtomicLong();
+        private final AtomicLong cancelledCalls = new AtomicLong();
+        private final AtomicLong ranPastCancel = new AtomicLong();
+        private final AtomicLong droppedCallbacks = new AtomicLong();
+        private final List<WeakReference<Object>> destroyed = new ArrayList<>();
+
+        synchronized void watch(Object owner) {
+            destroyed.add(new WeakReference<>(owner));
+        }
+
+        public long getStarted() { return started.get(); }
+        public long getSkipped() { return skipped.get(); }
+        public long getCancelledTasks() { return cancelledTasks.get(); }
+        public long getCancelledCalls() { return cancelledCalls.get(); }
+        public long getRanPastCancel() { return ranPastCancel.get(); }
+        public long getDroppedCallbacks() { return droppedCallbacks.get(); }
+
+        public synchronized int getRetained() {
+            int retained = 0;
+            for (Iterator<WeakReference<Object>> it = destroyed.iterator(); it.hasNext(); ) {
+                if (it.next().get() == null) it.remove();
+                else retained++;
+            }
+            return retained;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "started=" + getStarted() + " cancelled=" + getCancelledTasks() + " calls=" + getCancelledCalls()
+                + " ranPastCancel=" + getRanPastCancel() + " dropped=" + getDroppedCallbacks()
+                + " retained=" + getRetained();
+        }
+    }
+}
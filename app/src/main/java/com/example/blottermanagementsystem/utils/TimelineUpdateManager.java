@@ -5,7 +5,6 @@ import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.model.InvestigationStep;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Executors;
 
 /**
  * Centralized Timeline Update Manager
@@ -40,7 +39,7 @@ public class TimelineUpdateManager {
      * @param callback Callback to update UI on main thread
      */
     public void updateTimelineForReport(int reportId, TimelineUpdateCallback callback) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        AppExecutors.disk().execute(() -> {
             try {
                 // Get all required data from database
                 com.example.blottermanagementsystem.data.entity.BlotterReport report = database.blotterReportDao().getReportById(reportId);
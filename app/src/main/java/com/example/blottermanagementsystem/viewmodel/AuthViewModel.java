@@ -8,7 +8,8 @@ import androidx.lifecycle.MutableLiveData;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.User;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
-import java.util.concurrent.Executors;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.utils.TaskScope;
 
 /**
  * 🚀 AuthViewModel - PURE NEON ONLINE-ONLY MODE
@@ -38,6 +39,7 @@ public class AuthViewModel extends AndroidViewModel {
     private final MutableLiveData<AuthState> registerState = new MutableLiveData<>(AuthState.IDLE);
     private String currentUserRole = null; // Store the role after successful login
     private LoginCallback loginCallback = null; // Callback for login result
+    private final TaskScope taskScope = new TaskScope("AuthViewModel"); // Cancelled in onCleared
     
     public interface LoginCallback {
         void onLoginSuccess(String role);
@@ -70,7 +72,7 @@ public class AuthViewModel extends AndroidViewModel {
     public void login(String username, String password) {
         authState.setValue(AuthState.LOADING);
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        taskScope.execute(AppExecutors.disk(), () -> {
             android.util.Log.d("AuthViewModel", "=== LOCAL LOGIN ATTEMPT (OFFLINE FALLBACK) ===");
             android.util.Log.d("AuthViewModel", "Username: " + username);
             
@@ -174,7 +176,8 @@ public class AuthViewModel extends AndroidViewModel {
     public void register(User user) {
         registerState.setValue(AuthState.LOADING);
         
-        Executors.newSingleThreadExecutor().execute(() -> {
+        // ✅ Not scoped: a write the user asked for must not be dropped when the screen closes
+        AppExecutors.disk().execute(() -> {
             android.util.Log.d("AuthViewModel", "=== LOCAL REGISTRATION (OFFLINE FALLBACK) ===");
             
             // Check if username already exists
@@ -228,7 +231,8 @@ public class AuthViewModel extends AndroidViewModel {
     }
     
     public void updateUserProfile(int userId, String profilePhotoUri) {
-        Executors.newSingleThreadExecutor().execute(() -> {
+        // ✅ Not scoped: a write the user asked for must not be dropped when the screen closes
+        AppExecutors.disk().execute(() -> {
             try {
                 User user = database.userDao().getUserById(userId);
                 if (user != null) {
@@ -284,6 +288,7 @@ public class AuthViewModel extends AndroidViewModel {
         super.onCleared();
         // Clear callback reference to prevent memory leaks
         loginCallback = null;
+        taskScope.cancel();
         android.util.Log.d("AuthViewModel", "✅ AuthViewModel cleared - resources released");
     }
 }
@@ -7,99 +7,294 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
-import com.example.blottermanagementsystem.data.entity.Officer;
-import com.example.blottermanagementsystem.data.entity.User;
-import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ExecutorService;
+import com.example.blottermanagementsystem.data.model.DashboardCounts;
+import com.example.blottermanagementsystem.utils.AppExecutors;
+import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.TaskScope;
+import com.example.blottermanagementsystem.websocket.RealtimeListener;
+import com.example.blottermanagementsystem.websocket.WebSocketManager;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.HashMap;
+import java.util.Map;
+
+public class DashboardViewModel extends AndroidViewModel implements RealtimeListener {
+    private static final String TAG = "DashboardViewModel";
 
-public class DashboardViewModel extends AndroidViewModel {
     private final BlotterDatabase database;
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
-    private final MutableLiveData<List<BlotterReport>> allReports = new MutableLiveData<>();
-    private final MutableLiveData<List<User>> allUsers = new MutableLiveData<>();
-    private final MutableLiveData<List<Officer>> allOfficers = new MutableLiveData<>();
+    private final int userId;
+    // Counts and realtime deltas are applied in arrival order, one at a time
+    private static final AppExecutors.SerialExecutor executor = AppExecutors.serial("dashboard", AppExecutors.disk());
+    private final TaskScope scope = new TaskScope("DashboardViewModel");
     private final MutableLiveData<DashboardStats> dashboardStats = new MutableLiveData<>();
-    
+
+    // Last known (status bucket, archived) per report touched by realtime events, so repeated
+    // events for the same case move it between buckets instead of double counting.
+    // Only touched on executor.
+    private final Map<Integer, ReportState> realtimeStates = new HashMap<>();
+    private DashboardStats current;
+    private WebSocketManager webSocketManager;
+
     public DashboardViewModel(@NonNull Application application) {
         super(application);
         database = BlotterDatabase.getDatabase(application);
+        userId = new PreferencesManager(application).getUserId();
         loadData();
     }
-    
+
+    // ✅ One aggregate query - no report/user/officer rows are materialized
     private void loadData() {
-        executorService.execute(() -> {
-            List<BlotterReport> reports = database.blotterReportDao().getAllReports();
-            List<User> users = database.userDao().getAllUsers();
-            List<Officer> officers = database.officerDao().getAllOfficers();
-            
-            allReports.postValue(reports);
-            allUsers.postValue(users);
-            allOfficers.postValue(officers);
-            
-            DashboardStats stats = new DashboardStats(
-                reports.size(),
-                (int) reports.stream().filter(r -> "Pending".equals(r.getStatus())).count(),
-                (int) reports.stream().filter(r -> "Under Investigation".equals(r.getStatus())).count(),
-                (int) reports.stream().filter(r -> "Resolved".equals(r.getStatus())).count(),
-                officers.size(),
-                users.size()
-            );
-            dashboardStats.postValue(stats);
+        scope.execute(executor, () -> {
+            DashboardCounts counts = database.blotterReportDao().getDashboardCounts(userId);
+            realtimeStates.clear();
+            publish(new DashboardStats(
+                counts.totalReports,
+                counts.pendingReports,
+                counts.ongoingReports,
+                counts.resolvedReports,
+                counts.archivedReports,
+                counts.totalOfficers,
+                counts.totalUsers,
+                counts.unreadNotifications
+            ));
         });
     }
-    
-    public LiveData<List<BlotterReport>> getAllReports() {
-        return allReports;
-    }
-    
-    public LiveData<List<User>> getAllUsers() {
-        return allUsers;
-    }
-    
-    public LiveData<List<Officer>> getAllOfficers() {
-        return allOfficers;
-    }
-    
+
     public LiveData<DashboardStats> getDashboardStats() {
         return dashboardStats;
     }
-    
+
     public BlotterReport getReportByIdDirect(int reportId) {
         return database.blotterReportDao().getReportById(reportId);
     }
-    
+
     public void refreshData() {
         loadData();
     }
-    
+
+    /**
+     * Attach to the app's shared socket, connecting it first if this session hasn't yet.
+     * Dashboards call this once from onCreate; onCleared() detaches.
+     */
+    public void connectRealtime() {
+        WebSocketManager manager = WebSocketManager.getInstance(getApplication());
+        PreferencesManager preferencesManager = new PreferencesManager(getApplication());
+        if (preferencesManager.isLoggedIn() && !manager.isConnected()) {
+            manager.connect(String.valueOf(userId), preferencesManager.getUserRole());
+        }
+        attachRealtime(manager);
+    }
+
+    /**
+     * Keep counters live from WebSocket events instead of re-counting on every change
+     */
+    public void attachRealtime(WebSocketManager manager) {
+        if (webSocketManager != null) webSocketManager.removeListener(this);
+        webSocketManager = manager;
+        if (manager != null) manager.addListener(this);
+    }
+
+    // ✅ INCREMENTAL UPDATES - called on the WebSocket thread, applied on executor
+    @Override
+    public void onRealtimeUpdate(String eventType, Object data) {
+        // An event racing onCleared() has nobody left to update
+        if (!(data instanceof JsonObject) || scope.isCancelled()) return;
+        JsonObject json = (JsonObject) data;
+        String change = getString(json, "eventType");
+
+        switch (eventType) {
+            case "case_update":
+                scope.execute(executor, () -> applyReportEvent(json, change));
+                break;
+            case "notification":
+                scope.execute(executor, () -> applyDelta(0, 0, 0, 0, 0, 0, 0, 1));
+                break;
+            case WebSocketManager.EVENT_NOTIFICATIONS_READ:
+                Integer read = getInt(json, "count");
+                if (read != null) scope.execute(executor, () -> applyDelta(0, 0, 0, 0, 0, 0, 0, -read));
+                break;
+            case "user_update":
+                scope.execute(executor, () -> applyDelta(0, 0, 0, 0, 0, 0, countDelta(change), 0));
+                break;
+            case "officer_update":
+                scope.execute(executor, () -> applyDelta(0, 0, 0, 0, 0, countDelta(change), 0, 0));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void applyReportEvent(JsonObject json, String change) {
+        Integer reportId = getInt(json, "id");
+        if (reportId == null || current == null) return;
+
+        ReportState before = realtimeStates.get(reportId);
+        if (before == null) {
+            // Single PK lookup for the pre-event state
+            BlotterReport cached = database.blotterReportDao().getReportById(reportId);
+            before = cached != null
+                ? new ReportState(DashboardStats.bucketOf(cached.getStatus()), cached.isArchived())
+                : null;
+        }
+
+        ReportState after;
+        if (isDelete(change)) {
+            after = null;
+        } else {
+            String status = getString(json, "status");
+            Boolean archived = getBoolean(json, "isArchived");
+            after = new ReportState(
+                status != null ? DashboardStats.bucketOf(status) : (before != null ? before.bucket : DashboardStats.BUCKET_OTHER),
+                archived != null ? archived : (before != null && before.archived)
+            );
+        }
+
+        int[] delta = new int[5]; // total, pending, ongoing, resolved, archived
+        count(before, delta, -1);
+        count(after, delta, +1);
+        if (after != null) {
+            realtimeStates.put(reportId, after);
+        } else {
+            realtimeStates.remove(reportId);
+        }
+        applyDelta(delta[0], delta[1], delta[2], delta[3], delta[4], 0, 0, 0);
+    }
+
+    // Total counts archived reports too; the status buckets don't
+    private static void count(ReportState state, int[] delta, int sign) {
+        if (state == null) return;
+        delta[0] += sign;
+        if (state.archived) {
+            delta[4] += sign;
+            return;
+        }
+        if (state.bucket == DashboardStats.BUCKET_PENDING) delta[1] += sign;
+        else if (state.bucket == DashboardStats.BUCKET_ONGOING) delta[2] += sign;
+        else if (state.bucket == DashboardStats.BUCKET_RESOLVED) delta[3] += sign;
+    }
+
+    private void applyDelta(int total, int pending, int ongoing, int resolved, int archived,
+                            int officers, int users, int unread) {
+        if (current == null) return; // Initial aggregate not loaded yet - it will include this change
+        publish(new DashboardStats(
+            Math.max(0, current.totalReports + total),
+            Math.max(0, current.pendingReports + pending),
+            Math.max(0, current.ongoingReports + ongoing),
+            Math.max(0, current.resolvedReports + resolved),
+            Math.max(0, current.archivedReports + archived),
+            Math.max(0, current.totalOfficers + officers),
+            Math.max(0, current.totalUsers + users),
+            Math.max(0, current.unreadNotifications + unread)
+        ));
+    }
+
+    private void publish(DashboardStats stats) {
+        current = stats;
+        dashboardStats.postValue(stats);
+    }
+
+    private static int countDelta(String change) {
+        if ("created".equalsIgnoreCase(change)) return 1;
+        if (isDelete(change)) return -1;
+        return 0;
+    }
+
+    private static boolean isDelete(String change) {
+        return "deleted".equalsIgnoreCase(change) || "delete".equalsIgnoreCase(change);
+    }
+
+    private static String getString(JsonObject json, String key) {
+        JsonElement element = json.get(key);
+        return element != null && !element.isJsonNull() ? element.getAsString() : null;
+    }
+
+    private static Integer getInt(JsonObject json, String key) {
+        try {
+            JsonElement element = json.get(key);
+            return element != null && !element.isJsonNull() ? element.getAsInt() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Boolean getBoolean(JsonObject json, String key) {
+        JsonElement element = json.get(key);
+        return element != null && !element.isJsonNull() ? element.getAsBoolean() : null;
+    }
+
     // ✅ LIFECYCLE MANAGEMENT - Prevent memory leaks
     @Override
     protected void onCleared() {
         super.onCleared();
-        // Shutdown executor service gracefully
-        if (executorService != null && !executorService.isShutdown()) {
-            executorService.shutdown();
-            android.util.Log.d("DashboardViewModel", "✅ DashboardViewModel cleared - executor service shutdown");
+        attachRealtime(null);
+        // Drop queued loads and interrupt the running one - nobody is observing any more
+        scope.cancel();
+        android.util.Log.d(TAG, "✅ DashboardViewModel cleared - pending work cancelled");
+    }
+
+    private static class ReportState {
+        final int bucket;
+        final boolean archived;
+
+        ReportState(int bucket, boolean archived) {
+            this.bucket = bucket;
+            this.archived = archived;
         }
     }
-    
+
     public static class DashboardStats {
+        public static final int BUCKET_OTHER = 0;
+        public static final int BUCKET_PENDING = 1;
+        public static final int BUCKET_ONGOING = 2;
+        public static final int BUCKET_RESOLVED = 3;
+
         public final int totalReports;
         public final int pendingReports;
         public final int ongoingReports;
         public final int resolvedReports;
+        public final int archivedReports;
         public final int totalOfficers;
         public final int totalUsers;
-        
-        public DashboardStats(int totalReports, int pendingReports, int ongoingReports, 
+        public final int unreadNotifications;
+
+        public DashboardStats(int totalReports, int pendingReports, int ongoingReports,
                             int resolvedReports, int totalOfficers, int totalUsers) {
+            this(totalReports, pendingReports, ongoingReports, resolvedReports, 0, totalOfficers, totalUsers, 0);
+        }
+
+        public DashboardStats(int totalReports, int pendingReports, int ongoingReports,
+                            int resolvedReports, int archivedReports, int totalOfficers,
+                            int totalUsers, int unreadNotifications) {
             this.totalReports = totalReports;
             this.pendingReports = pendingReports;
             this.ongoingReports = ongoingReports;
             this.resolvedReports = resolvedReports;
+            this.archivedReports = archivedReports;
             this.totalOfficers = totalOfficers;
             this.totalUsers = totalUsers;
+            this.unreadNotifications = unreadNotifications;
+        }
+
+        /**
+         * Same buckets as the SQL in BlotterReportDao (PENDING/ONGOING/RESOLVED_STATUSES)
+         */
+        public static int bucketOf(String status) {
+            if (status == null) return BUCKET_OTHER;
+            switch (status.trim().toUpperCase()) {
+                case "PENDING":
+                case "ASSIGNED":
+                    return BUCKET_PENDING;
+                case "ONGOING":
+                case "IN PROGRESS":
+                case "UNDER INVESTIGATION":
+                    return BUCKET_ONGOING;
+                case "RESOLVED":
+                case "CLOSED":
+                case "SETTLED":
+                    return BUCKET_RESOLVED;
+                default:
+                    return BUCKET_OTHER;
+            }
         }
     }
 }
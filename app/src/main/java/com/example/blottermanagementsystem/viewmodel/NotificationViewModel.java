@@ -7,15 +7,18 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.Notification;
+import com.example.blottermanagementsystem.utils.AppExecutors;
 import com.example.blottermanagementsystem.utils.PreferencesManager;
+import com.example.blottermanagementsystem.utils.TaskScope;
+import com.example.blottermanagementsystem.websocket.WebSocketManager;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ExecutorService;
 
 public class NotificationViewModel extends AndroidViewModel {
     private final BlotterDatabase database;
     private final PreferencesManager preferencesManager;
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    // Reads and writes stay in order; the scope drops them once the screen is gone
+    private static final AppExecutors.SerialExecutor executor = AppExecutors.serial("notifications", AppExecutors.disk());
+    private final TaskScope scope = new TaskScope("NotificationViewModel");
     private final MutableLiveData<List<Notification>> notifications = new MutableLiveData<>();
     private final MutableLiveData<Integer> unreadCount = new MutableLiveData<>(0);
     
@@ -29,7 +32,7 @@ public class NotificationViewModel extends AndroidViewModel {
     private void loadNotifications() {
         int userId = preferencesManager.getUserId();
         
-        executorService.execute(() -> {
+        scope.execute(executor, () -> {
             List<Notification> notifList = database.notificationDao()
                 .getNotificationsByUserId(userId);
             notifications.postValue(notifList);
@@ -40,9 +43,12 @@ public class NotificationViewModel extends AndroidViewModel {
     }
     
     public void markAsRead(Notification notification) {
-        executorService.execute(() -> {
+        scope.execute(executor, () -> {
+            boolean wasUnread = !notification.isRead();
             notification.setRead(true);
             database.notificationDao().updateNotification(notification);
+            // ✅ Dashboards drop their unread count without re-counting
+            if (wasUnread) WebSocketManager.getInstance(getApplication()).publishNotificationsRead(1);
             loadNotifications();
         });
     }
@@ -50,8 +56,9 @@ public class NotificationViewModel extends AndroidViewModel {
     public void markAllAsRead() {
         int userId = preferencesManager.getUserId();
         
-        executorService.execute(() -> {
-            database.notificationDao().markAllAsRead(userId);
+        scope.execute(executor, () -> {
+            int marked = database.notificationDao().markAllAsRead(userId);
+            WebSocketManager.getInstance(getApplication()).publishNotificationsRead(marked);
             loadNotifications();
         });
     }
@@ -68,10 +75,8 @@ public class NotificationViewModel extends AndroidViewModel {
     @Override
     protected void onCleared() {
         super.onCleared();
-        // Shutdown executor service gracefully
-        if (executorService != null && !executorService.isShutdown()) {
-            executorService.shutdown();
-            android.util.Log.d("NotificationViewModel", "✅ NotificationViewModel cleared - executor service shutdown");
-        }
+        // Drop queued loads and interrupt the running one - nobody is observing any more
+        scope.cancel();
+        android.util.Log.d("NotificationViewModel", "✅ NotificationViewModel cleared - pending work cancelled");
     }
 }
@@ -2,6 +2,7 @@ package com.example.blottermanagementsystem.websocket;
 
 import android.content.Context;
 import android.util.Log;
+import com.example.blottermanagementsystem.data.api.HttpEngine;
 import com.example.blottermanagementsystem.data.database.BlotterDatabase;
 import com.example.blottermanagementsystem.data.entity.BlotterReport;
 import com.google.gson.Gson;
@@ -11,8 +12,8 @@ import okhttp3.Request;
 import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
 import okio.ByteString;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -24,6 +25,11 @@ public class WebSocketManager extends WebSocketListener {
     private static final String TAG = "WebSocketManager";
     private static final String WS_URL = "wss://bms-1op6.onrender.com/ws/realtime";
     
+    // Raised on this device, not by the server - data is {"count": n}
+    public static final String EVENT_NOTIFICATIONS_READ = "notifications_read";
+    
+    private static volatile WebSocketManager instance;
+    
     private WebSocket webSocket;
     private OkHttpClient okHttpClient;
     private Context context;
@@ -33,18 +39,32 @@ public class WebSocketManager extends WebSocketListener {
     private String userId;
     private String userRole;
     private boolean isConnected = false;
+    private boolean isConnecting = false;
+    
+    // Listeners are added from the UI thread and notified from the socket thread
+    private final List<RealtimeListener> listeners = new CopyOnWriteArrayList<>();
     
-    private List<RealtimeListener> listeners = new ArrayList<>();
+    /**
+     * ✅ One socket for the whole app - the router and the dashboards share it
+     */
+    public static WebSocketManager getInstance(Context context) {
+        if (instance == null) {
+            synchronized (WebSocketManager.class) {
+                if (instance == null) {
+                    instance = new WebSocketManager(context.getApplicationContext());
+                }
+            }
+        }
+        return instance;
+    }
     
     public WebSocketManager(Context context) {
         this.context = context;
         this.database = BlotterDatabase.getDatabase(context);
         this.gson = new Gson();
         
-        // Create OkHttpClient with WebSocket support
-        this.okHttpClient = new OkHttpClient.Builder()
-                .readTimeout(30, TimeUnit.SECONDS)
-                .writeTimeout(30, TimeUnit.SECONDS)
+        // Shares the app-wide connection pool and dispatcher; only adds keep-alive pings
+        this.okHttpClient = HttpEngine.newBuilder()
                 .pingInterval(30, TimeUnit.SECONDS)
                 .build();
     }
@@ -53,10 +73,11 @@ public class WebSocketManager extends WebSocketListener {
      * Connect to WebSocket server
      */
     public void connect(String userId, String userRole) {
-        if (isConnected) {
+        if (isConnected || isConnecting) {
             Log.d(TAG, "⚠️ Already connected");
             return;
         }
+        isConnecting = true;
         
         this.userId = userId;
         this.userRole = userRole;
@@ -77,6 +98,7 @@ public class WebSocketManager extends WebSocketListener {
         if (webSocket != null) {
             webSocket.close(1000, "Client disconnecting");
             isConnected = false;
+            isConnecting = false;
             Log.d(TAG, "🔌 Disconnected from WebSocket");
         }
     }
@@ -139,6 +161,17 @@ public class WebSocketManager extends WebSocketListener {
         Log.d(TAG, "👂 Listener removed");
     }
     
+    /**
+     * Notifications marked read on this device - listeners keeping an unread count
+     * (DashboardViewModel) get the same kind of delta a server event would give them
+     */
+    public void publishNotificationsRead(int count) {
+        if (count <= 0) return;
+        JsonObject data = new JsonObject();
+        data.addProperty("count", count);
+        notifyListeners(EVENT_NOTIFICATIONS_READ, data);
+    }
+    
     /**
      * Notify all listeners of an event
      */
@@ -156,6 +189,7 @@ public class WebSocketManager extends WebSocketListener {
     public void onOpen(WebSocket webSocket, okhttp3.Response response) {
         Log.d(TAG, "✅ WebSocket connected!");
         isConnected = true;
+        isConnecting = false;
         
         // Authenticate
         JsonObject authMessage = new JsonObject();
@@ -203,6 +237,11 @@ public class WebSocketManager extends WebSocketListener {
                     handleNotification(message);
                     break;
                     
+                case "user_update":
+                case "officer_update":
+                    handleEntityUpdate(type, message);
+                    break;
+                    
                 case "pong":
                     Log.d(TAG, "💓 Pong received (connection alive)");
                     break;
@@ -234,6 +273,7 @@ public class WebSocketManager extends WebSocketListener {
     public void onClosed(WebSocket webSocket, int code, String reason) {
         Log.d(TAG, "🔌 WebSocket closed: " + reason);
         isConnected = false;
+        isConnecting = false;
         notifyListeners("disconnected", null);
     }
     
@@ -241,6 +281,7 @@ public class WebSocketManager extends WebSocketListener {
     public void onFailure(WebSocket webSocket, Throwable t, okhttp3.Response response) {
         Log.e(TAG, "❌ WebSocket error: " + t.getMessage(), t);
         isConnected = false;
+        isConnecting = false;
         notifyListeners("error", t.getMessage());
         
         // Attempt reconnect after 5 seconds
@@ -284,6 +325,9 @@ public class WebSocketManager extends WebSocketListener {
             
             Log.d(TAG, "📋 Case update: " + eventType);
             
+            // Listeners only receive the data object - carry created/updated/deleted along with it
+            caseData.addProperty("eventType", eventType);
+            
             // Notify listeners
             notifyListeners("case_update", caseData);
             
@@ -310,6 +354,21 @@ public class WebSocketManager extends WebSocketListener {
         }
     }
     
+    private void handleEntityUpdate(String type, JsonObject message) {
+        try {
+            String eventType = message.get("eventType").getAsString();
+            JsonObject data = message.has("data") ? message.getAsJsonObject("data") : new JsonObject();
+            
+            Log.d(TAG, "👥 " + type + ": " + eventType);
+            
+            data.addProperty("eventType", eventType);
+            notifyListeners(type, data);
+            
+        } catch (Exception e) {
+            Log.e(TAG, "❌ Error handling " + type + ": " + e.getMessage(), e);
+        }
+    }
+    
     private void handleNotification(JsonObject message) {
         try {
             JsonObject notification = message.getAsJsonObject("data");
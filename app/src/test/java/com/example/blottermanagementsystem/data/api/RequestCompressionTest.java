@@ -0,0 +1,133 @@
+package com.example.blottermanagementsystem.data.api;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.GzipSource;
+import okio.Okio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Gzip round trip plus a measurement of upload reduction on realistic report bodies:
+ * one report (createReport / updateReport) and a 200-report sync batch.
+ * Runs on the host JVM; numbers are printed to stdout.
+ */
+public class RequestCompressionTest {
+    private static final MediaType JSON = MediaType.get("application/json; charset=UTF-8");
+
+    private static final String[] PLACES = {
+        "Purok 3 near the covered court", "the public market along Rizal Street", "Sitio Malinis, beside the chapel",
+        "the corner of Mabini and Luna", "the tricycle terminal", "Block 7 Lot 12, Phase 2"
+    };
+    private static final String[] SENTENCES = {
+        "The complainant stated that the respondent shouted threats at around %s in front of %s.",
+        "According to the complainant, the respondent had been drinking with %d companions since the afternoon.",
+        "A neighbor, who asked not to be named, confirmed hearing a loud argument near %s.",
+        "The complainant alleges that the respondent damaged a motorcycle worth approximately PHP %,d.",
+        "Barangay tanods responded at %s and found the respondent still at %s.",
+        "The parties were advised to appear for mediation before the Lupon on the scheduled date.",
+        "The complainant presented photos of the damage and a receipt amounting to PHP %,d.",
+        "This is the %d%s incident reported involving the same respondent this year."
+    };
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void gzipRoundTripsBody() throws IOException {
+        String json = JsonCodec.gson().toJson(report(1, 6));
+        RequestBody gzipped = RequestCompression.gzip(RequestBody.create(json, JSON));
+
+        assertEquals(JSON, gzipped.contentType());
+        assertEquals(json, gunzip(gzipped));
+        assertTrue(gzipped.contentLength() > 0);
+    }
+
+    @Test
+    public void smallBodiesStayUnderThreshold() {
+        // A status-only update is what MIN_BYTES is meant to leave alone
+        BlotterReport report = new BlotterReport();
+        report.setId(7);
+        report.setStatus("RESOLVED");
+        long size = JsonCodec.gson().toJson(report).length();
+        assertTrue("Minimal report body is " + size + " bytes", size < RequestCompression.MIN_BYTES);
+    }
+
+    @Test
+    public void measuresReductionOnReportBodies() throws IOException {
+        String single = JsonCodec.gson().toJson(report(1, 8));
+        List<BlotterReport> batch = new ArrayList<>();
+        for (int i = 0; i < 200; i++) batch.add(report(i + 1, 3 + random.nextInt(10)));
+        String syncBatch = JsonCodec.gson().toJson(batch);
+
+        double singleSaved = measure("Single report", single);
+        double batchSaved = measure("Sync batch (200)", syncBatch);
+
+        assertTrue("A narrative report should shrink by at least 40%: " + singleSaved, singleSaved > 0.4);
+        assertTrue("A sync batch should shrink by at least 80%: " + batchSaved, batchSaved > 0.8);
+        assertTrue(batchSaved > singleSaved);
+    }
+
+    private static double measure(String label, String json) throws IOException {
+        RequestBody raw = RequestBody.create(json, JSON);
+        RequestBody gzipped = RequestCompression.gzip(raw);
+        assertEquals(json, gunzip(gzipped));
+
+        double saved = 1 - (double) gzipped.contentLength() / raw.contentLength();
+        System.out.printf("%-17s: %,8d -> %,7d bytes (%.0f%% saved)%n",
+            label, raw.contentLength(), gzipped.contentLength(), saved * 100);
+        return saved;
+    }
+
+    private static String gunzip(RequestBody body) throws IOException {
+        Buffer compressed = new Buffer();
+        body.writeTo(compressed);
+        return Okio.buffer(new GzipSource(compressed)).readUtf8();
+    }
+
+    private BlotterReport report(int id, int sentences) {
+        BlotterReport report = new BlotterReport();
+        report.setId(id);
+        report.setCaseNumber("BLT-2024-" + String.format("%05d", id));
+        report.setComplainantName("Complainant " + (char) ('A' + random.nextInt(26)) + ". Dela Cruz");
+        report.setComplainantContact("09" + (100_000_000 + random.nextInt(900_000_000)));
+        report.setComplainantAddress(PLACES[random.nextInt(PLACES.length)]);
+        report.setIncidentType(random.nextBoolean() ? "Physical Injury" : "Malicious Mischief");
+        report.setIncidentDate(1_700_000_000_000L + random.nextInt(1_000_000_000));
+        report.setIncidentTime(String.format("%02d:%02d", random.nextInt(24), random.nextInt(60)));
+        report.setIncidentLocation(PLACES[random.nextInt(PLACES.length)]);
+        report.setRespondentName("Respondent " + random.nextInt(500));
+        report.setStatus("PENDING");
+        report.setDateFiled(1_700_000_000_000L + id);
+        report.setUserId(1 + random.nextInt(50));
+
+        StringBuilder narrative = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            String template = SENTENCES[random.nextInt(SENTENCES.length)];
+            String time = String.format("%d:%02d PM", 1 + random.nextInt(11), random.nextInt(60));
+            String place = PLACES[random.nextInt(PLACES.length)];
+            int amount = 500 + random.nextInt(50_000);
+            int nth = 2 + random.nextInt(3);
+            String filled;
+            if (template.contains("threats") || template.contains("responded")) filled = String.format(template, time, place);
+            else if (template.contains("companions")) filled = String.format(template, 2 + random.nextInt(5));
+            else if (template.contains("neighbor")) filled = String.format(template, place);
+            else if (template.contains("PHP")) filled = String.format(template, amount);
+            else if (template.contains("incident reported")) filled = String.format(template, nth, nth == 2 ? "nd" : nth == 3 ? "rd" : "th");
+            else filled = template;
+            narrative.append(filled).append(' ');
+        }
+        report.setNarrative(narrative.toString().trim());
+        return report;
+    }
+}
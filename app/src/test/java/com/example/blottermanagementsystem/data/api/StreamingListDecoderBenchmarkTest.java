@@ -0,0 +1,168 @@
+package com.example.blottermanagementsystem.data.api;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Decoder semantics plus a benchmark against the buffered Gson converter path:
+ * time-to-first-row and live heap while decoding a 20k-report envelope with long narratives.
+ * Runs on the host JVM; numbers are printed to stdout.
+ */
+public class StreamingListDecoderBenchmarkTest {
+    private static final int ROWS = 20_000;
+    private static final int NARRATIVE_CHARS = 1_500;
+    private static final int BATCH = 500;
+
+    private final Gson gson = new Gson();
+
+    @Test
+    public void decodesEnvelopeInBatches() throws IOException {
+        String json = "{\"success\":true,\"message\":\"ok\",\"data\":["
+            + "{\"id\":1,\"caseNumber\":\"BR-1\"},{\"id\":2},{\"id\":3},{\"id\":4},{\"id\":5}],\"extra\":{\"a\":[1,2]}}";
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+
+        int count = new StreamingListDecoder<>(gson, BlotterReport.class, 2).decode(new StringReader(json), batch -> {
+            batchSizes.add(batch.size());
+            for (BlotterReport report : batch) ids.add(report.getId());
+        });
+
+        assertEquals(5, count);
+        assertEquals(Arrays.asList(2, 2, 1), batchSizes);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), ids);
+    }
+
+    @Test
+    public void decodesBareArray() throws IOException {
+        List<BlotterReport> rows = new ArrayList<>();
+        int count = new StreamingListDecoder<>(gson, BlotterReport.class, 10)
+            .decode(new StringReader("[{\"id\":7,\"status\":\"PENDING\"}]"), rows::addAll);
+
+        assertEquals(1, count);
+        assertEquals("PENDING", rows.get(0).getStatus());
+    }
+
+    @Test
+    public void failedEnvelopeThrows() {
+        try {
+            new StreamingListDecoder<>(gson, BlotterReport.class, 10)
+                .decode(new StringReader("{\"success\":false,\"message\":\"Unauthorized\"}"), batch -> { });
+            fail("Expected IOException");
+        } catch (IOException e) {
+            assertEquals("Unauthorized", e.getMessage());
+        }
+    }
+
+    @Test
+    public void streamingVersusBufferedConverter() throws IOException {
+        File file = File.createTempFile("reports", ".json");
+        file.deleteOnExit();
+        writeEnvelope(file);
+        System.out.printf("Payload: %,d reports, %.1f MB%n", ROWS, file.length() / 1e6);
+
+        // Warm-up both paths so class loading and JIT don't land in the first measurement
+        bufferedDecode(file);
+        streamingDecode(file, new long[2]);
+
+        // Buffered: Retrofit's Gson converter builds the whole ApiResponse<List<...>> first
+        long baseline = liveHeap();
+        long start = System.nanoTime();
+        ApiResponse<List<BlotterReport>> buffered = bufferedDecode(file);
+        long bufferedFirstRowNs = System.nanoTime() - start;
+        long bufferedLive = liveHeap() - baseline;
+        assertEquals(ROWS, buffered.getData().size());
+        buffered = null;
+
+        // Streaming: rows arrive in batches; measure live heap while a batch is in hand
+        long[] firstRowAndLive = new long[2];
+        baseline = liveHeap();
+        start = System.nanoTime();
+        int count = streamingDecode(file, firstRowAndLive);
+        long streamingTotalNs = System.nanoTime() - start;
+        long streamingFirstRowNs = firstRowAndLive[0] - start;
+        long streamingLive = firstRowAndLive[1] - baseline;
+        assertEquals(ROWS, count);
+
+        System.out.printf("Buffered : first row after %.1fms, live heap %.1f MB%n",
+            bufferedFirstRowNs / 1e6, bufferedLive / 1e6);
+        System.out.printf("Streaming: first row after %.1fms (done %.1fms), live heap %.1f MB (batch %d)%n",
+            streamingFirstRowNs / 1e6, streamingTotalNs / 1e6, streamingLive / 1e6, BATCH);
+
+        assertTrue("Streaming should hand over rows long before a full parse finishes",
+            streamingFirstRowNs < bufferedFirstRowNs);
+        assertTrue("Streaming should hold a batch, not the list: " + streamingLive + " vs " + bufferedLive,
+            streamingLive < bufferedLive / 4);
+    }
+
+    private ApiResponse<List<BlotterReport>> bufferedDecode(File file) throws IOException {
+        Type type = new TypeToken<ApiResponse<List<BlotterReport>>>() { }.getType();
+        try (Reader reader = open(file)) {
+            return gson.fromJson(reader, type);
+        }
+    }
+
+    // firstRowAndLive[0] = nanoTime of the first batch, [1] = live heap measured mid-stream
+    private int streamingDecode(File file, long[] firstRowAndLive) throws IOException {
+        int[] batches = {0};
+        try (Reader reader = open(file)) {
+            return new StreamingListDecoder<>(gson, BlotterReport.class, BATCH).decode(reader, batch -> {
+                if (batches[0] == 0) firstRowAndLive[0] = System.nanoTime();
+                if (batches[0] == ROWS / BATCH / 2) firstRowAndLive[1] = liveHeap();
+                batches[0]++;
+            });
+        }
+    }
+
+    private static Reader open(File file) throws IOException {
+        return new BufferedReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8));
+    }
+
+    private static long liveHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private void writeEnvelope(File file) throws IOException {
+        StringBuilder narrative = new StringBuilder(NARRATIVE_CHARS);
+        while (narrative.length() < NARRATIVE_CHARS) narrative.append("Complainant reports a disturbance near the covered court. ");
+        narrative.setLength(NARRATIVE_CHARS);
+
+        try (Writer out = new BufferedWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            out.write("{\"success\":true,\"message\":\"ok\",\"data\":[");
+            for (int i = 0; i < ROWS; i++) {
+                BlotterReport report = new BlotterReport();
+                report.setId(i + 1);
+                report.setCaseNumber("BR-2024-" + i);
+                report.setStatus("PENDING");
+                report.setComplainantName("Complainant " + i);
+                report.setNarrative(i + " " + narrative);
+                report.setDateFiled(1_700_000_000_000L + i);
+                if (i > 0) out.write(',');
+                gson.toJson(report, out);
+            }
+            out.write("]}");
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.blottermanagementsystem.data.api.adapter;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.Evidence;
+import com.example.blottermanagementsystem.data.entity.Hearing;
+import com.example.blottermanagementsystem.data.entity.Officer;
+import com.example.blottermanagementsystem.data.entity.Resolution;
+import com.example.blottermanagementsystem.data.entity.Suspect;
+import com.example.blottermanagementsystem.data.entity.User;
+import com.example.blottermanagementsystem.data.entity.Witness;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The entity adapters must produce and accept exactly what Gson's reflective adapter did,
+ * plus a benchmark of both: records/second and bytes allocated per record for a
+ * serialize + deserialize round trip. Runs on the host JVM; numbers are printed to stdout.
+ */
+public class EntityTypeAdapterBenchmarkTest {
+    private static final int RECORDS = 20_000;
+    private static final int ROUNDS = 5;
+
+    private static final List<Class<?>> WIRE_ENTITIES = Arrays.asList(
+        BlotterReport.class, User.class, Officer.class, Witness.class,
+        Suspect.class, Evidence.class, Hearing.class, Resolution.class);
+
+    private final Gson reflective = new Gson();
+    private final Gson adapters = new GsonBuilder().registerTypeAdapterFactory(new EntityTypeAdapterFactory()).create();
+
+    @Test
+    public void everyWireEntityHasAnAdapter() {
+        for (Class<?> type : WIRE_ENTITIES) {
+            String adapter = adapters.getAdapter(type).getClass().getSimpleName();
+            assertEquals(type.getSimpleName() + "Adapter", adapter);
+        }
+    }
+
+    @Test
+    public void writesSameJsonAsReflection() throws Exception {
+        for (Class<?> type : WIRE_ENTITIES) {
+            Object entity = populated(type, 1);
+            assertEquals(type.getSimpleName(), tree(reflective.toJson(entity)), tree(adapters.toJson(entity)));
+        }
+    }
+
+    @Test
+    public void readsWhatReflectionWrote() throws Exception {
+        for (Class<?> type : WIRE_ENTITIES) {
+            String json = reflective.toJson(populated(type, 2));
+            Object decoded = adapters.fromJson(json, type);
+            assertEquals(type.getSimpleName(), tree(json), tree(reflective.toJson(decoded)));
+        }
+    }
+
+    @Test
+    public void explicitNullsAndUnknownFieldsMatchReflection() {
+        String json = "{\"id\":5,\"caseNumber\":null,\"status\":\"PENDING\",\"isArchived\":\"true\","
+            + "\"dateFiled\":null,\"assignedOfficerId\":null,\"somethingNew\":{\"a\":[1,2]}}";
+        BlotterReport viaReflection = reflective.fromJson(json, BlotterReport.class);
+        BlotterReport viaAdapter = adapters.fromJson(json, BlotterReport.class);
+
+        assertEquals(tree(reflective.toJson(viaReflection)), tree(reflective.toJson(viaAdapter)));
+        assertNull(viaAdapter.getCaseNumber());
+        assertEquals("PENDING", viaAdapter.getStatus());
+        assertNull(adapters.fromJson("null", BlotterReport.class));
+    }
+
+    @Test
+    public void adapterVersusReflectiveThroughputAndAllocation() throws Exception {
+        BlotterReport[] reports = new BlotterReport[RECORDS];
+        for (int i = 0; i < RECORDS; i++) reports[i] = (BlotterReport) populated(BlotterReport.class, i);
+        String[] json = new String[RECORDS];
+        for (int i = 0; i < RECORDS; i++) json[i] = reflective.toJson(reports[i]);
+
+        // Warm-up so both paths are JIT-compiled before measuring
+        for (int i = 0; i < 3; i++) {
+            roundTrip(reflective, reports, json);
+            roundTrip(adapters, reports, json);
+        }
+
+        long[] reflectiveResult = measure(reflective, reports, json);
+        long[] adapterResult = measure(adapters, reports, json);
+
+        double reflectiveRate = RECORDS * 1e9 / reflectiveResult[0];
+        double adapterRate = RECORDS * 1e9 / adapterResult[0];
+        System.out.printf("Reflective: %,.0f records/s, %,d bytes/record%n", reflectiveRate, reflectiveResult[1] / RECORDS);
+        System.out.printf("Adapters  : %,.0f records/s, %,d bytes/record%n", adapterRate, adapterResult[1] / RECORDS);
+
+        assertTrue("Adapters should not allocate more than reflection: "
+                + adapterResult[1] / RECORDS + " vs " + reflectiveResult[1] / RECORDS,
+            adapterResult[1] <= reflectiveResult[1]);
+    }
+
+    // Best-of-ROUNDS wall time and the allocation of that round: {nanos, bytes}
+    private static long[] measure(Gson gson, BlotterReport[] reports, String[] json) {
+        long[] best = {Long.MAX_VALUE, 0};
+        for (int round = 0; round < ROUNDS; round++) {
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+            roundTrip(gson, reports, json);
+            long nanos = System.nanoTime() - start;
+            long bytes = allocatedBytes() - bytesBefore;
+            if (nanos < best[0]) {
+                best[0] = nanos;
+                best[1] = bytes;
+            }
+        }
+        return best;
+    }
+
+    private static void roundTrip(Gson gson, BlotterReport[] reports, String[] json) {
+        int checksum = 0;
+        for (int i = 0; i < reports.length; i++) {
+            checksum += gson.toJson(reports[i]).length();
+            BlotterReport decoded = gson.fromJson(json[i], BlotterReport.class);
+            checksum += decoded.getId();
+        }
+        assertTrue(checksum != 0);
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static JsonElement tree(String json) {
+        return JsonParser.parseString(json);
+    }
+
+    // Every serializable field set to a distinct non-default value, so a dropped or
+    // misnamed property shows up as a difference
+    private static Object populated(Class<?> type, int seed) throws Exception {
+        Object entity = newInstance(type);
+        int n = seed * 100;
+        for (Field field : type.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) continue;
+            field.setAccessible(true);
+            Class<?> t = field.getType();
+            n++;
+            if (t == int.class || t == Integer.class) field.set(entity, n);
+            else if (t == long.class || t == Long.class) field.set(entity, 1_700_000_000_000L + n);
+            else if (t == double.class || t == Double.class) field.set(entity, n + 0.25);
+            else if (t == float.class || t == Float.class) field.set(entity, n + 0.5f);
+            else if (t == boolean.class || t == Boolean.class) field.set(entity, true);
+            else if (t == String.class) field.set(entity, field.getName() + "-" + n);
+        }
+        return entity;
+    }
+
+    private static Object newInstance(Class<?> type) throws Exception {
+        if (type == Officer.class) return new Officer(null, null, null);
+        if (type == Resolution.class) return new Resolution(0, null, null, 0);
+        Object entity = type.getDeclaredConstructor().newInstance();
+        assertNotNull(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.blottermanagementsystem.utils;
+
+import com.example.blottermanagementsystem.data.entity.BlotterReport;
+import com.example.blottermanagementsystem.data.entity.User;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Merge semantics plus a throughput/allocation benchmark for ConflictResolver.
+ * Runs on the host JVM; numbers are printed to stdout.
+ */
+public class ConflictResolverBenchmarkTest {
+    private static final int ROWS = 10_000;
+    private static final int ROUNDS = 20;
+
+    @Test
+    public void editsToDifferentFieldsAreBothKept() {
+        BlotterReport base = report(1, 1);
+        BlotterReport local = report(1, 1);
+        BlotterReport remote = report(1, 2);
+        local.setNarrative("Edited offline");
+        local.setImageUris("file://photo1.jpg,file://photo2.jpg");
+        local.setLatitude(14.5995);
+        remote.setStatus("ONGOING");
+        remote.setArchived(true);
+        remote.setArchivedDate(1_700_000_000_000L);
+        remote.setArchivedBy("admin");
+
+        ConflictResolver.MergeResult result =
+            ConflictResolver.mergeReport(base, local, remote, new ConflictResolver.MergeResult());
+
+        assertFalse(result.hasConflicts());
+        assertTrue(result.hasLocalChanges());
+        assertEquals("Edited offline", local.getNarrative());
+        assertEquals("file://photo1.jpg,file://photo2.jpg", local.getImageUris());
+        assertEquals(14.5995, local.getLatitude(), 0);
+        assertEquals("ONGOING", local.getStatus());
+        assertTrue(local.isArchived());
+        assertEquals(Long.valueOf(1_700_000_000_000L), local.getArchivedDate());
+        assertEquals("admin", local.getArchivedBy());
+        assertEquals(2, local.getVersion());
+    }
+
+    @Test
+    public void sameFieldEditedDifferentlyIsAConflictAndServerWins() {
+        BlotterReport base = report(1, 1);
+        BlotterReport local = report(1, 1);
+        BlotterReport remote = report(1, 2);
+        local.setIncidentLocation("Purok 3");
+        remote.setIncidentLocation("Purok 4");
+
+        ConflictResolver.MergeResult result =
+            ConflictResolver.mergeReport(base, local, remote, new ConflictResolver.MergeResult());
+
+        assertEquals(Collections.singletonList("incidentLocation"), result.getConflictFields());
+        assertEquals("Purok 4", local.getIncidentLocation());
+    }
+
+    @Test
+    public void sameEditOnBothSidesIsNotAConflict() {
+        BlotterReport base = report(1, 1);
+        BlotterReport local = report(1, 1);
+        BlotterReport remote = report(1, 2);
+        local.setStatus("RESOLVED");
+        remote.setStatus("RESOLVED");
+
+        ConflictResolver.MergeResult result =
+            ConflictResolver.mergeReport(base, local, remote, new ConflictResolver.MergeResult());
+
+        assertFalse(result.hasConflicts());
+        assertFalse(result.hasLocalChanges());
+    }
+
+    @Test
+    public void olderServerRowIsIgnored() {
+        BlotterReport base = report(1, 5);
+        BlotterReport local = report(1, 5);
+        BlotterReport remote = report(1, 4);
+        remote.setStatus("PENDING");
+        local.setStatus("ONGOING");
+
+        ConflictResolver.MergeResult result =
+            ConflictResolver.mergeReport(base, local, remote, new ConflictResolver.MergeResult());
+
+        assertTrue(result.isStale());
+        assertEquals("ONGOING", local.getStatus());
+        assertEquals(5, local.getVersion());
+    }
+
+    @Test
+    public void userMergeIsFieldLevel() {
+        User base = user(7, 1);
+        User local = user(7, 1);
+        User remote = user(7, 2);
+        local.setPhoneNumber("09171234567");
+        remote.setRole("Officer");
+        remote.setBadgeNumber("B-42");
+
+        ConflictResolver.MergeResult result =
+            ConflictResolver.mergeUser(base, local, remote, new ConflictResolver.MergeResult());
+
+        assertFalse(result.hasConflicts());
+        assertEquals("09171234567", local.getPhoneNumber());
+        assertEquals("Officer", local.getRole());
+        assertEquals("B-42", local.getBadgeNumber());
+    }
+
+    @Test
+    public void bulkMergePairsRowsById() {
+        List<BlotterReport> remote = new ArrayList<>(Arrays.asList(report(3, 2), report(1, 2), report(2, 2)));
+        List<BlotterReport> locals = new ArrayList<>(Arrays.asList(report(2, 1), report(1, 1)));
+        List<BlotterReport> bases = new ArrayList<>(Arrays.asList(report(1, 1), report(2, 1)));
+        locals.get(0).setNarrative("local edit on 2");
+        locals.get(1).setNarrative("local edit on 1");
+        bases.get(0).setNarrative("base 1");
+        remote.get(1).setNarrative("server edit on 1");
+
+        List<BlotterReport> rows = new ArrayList<>();
+        List<BlotterReport> newBases = new ArrayList<>();
+        List<Integer> conflicted = new ArrayList<>();
+        int conflicts = new ConflictResolver().mergeReports(remote, locals, bases, rows, newBases,
+            (type, id, fields) -> conflicted.add(id));
+
+        assertEquals(1, conflicts);
+        assertEquals(Collections.singletonList(1), conflicted);
+        assertEquals(3, rows.size());
+        assertEquals(3, newBases.size());
+        assertEquals("local edit on 2", find(rows, 2).getNarrative());
+        assertEquals("server edit on 1", find(rows, 1).getNarrative());
+    }
+
+    @Test
+    public void mergeThroughput() {
+        ConflictResolver resolver = new ConflictResolver();
+        ConflictResolver.MergeResult result = new ConflictResolver.MergeResult();
+
+        BlotterReport[] bases = new BlotterReport[ROWS];
+        BlotterReport[] remotes = new BlotterReport[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            bases[i] = report(i + 1, 1);
+            remotes[i] = remoteRow(i);
+        }
+
+        // Warm-up so the JIT has compiled the merge loop. mergeReport() writes into the local
+        // row, so every round gets fresh copies - otherwise later rounds merge already-merged rows.
+        for (int round = 0; round < 5; round++) {
+            BlotterReport[] locals = localRows();
+            for (int i = 0; i < ROWS; i++) {
+                ConflictResolver.mergeReport(bases[i], locals[i], remotes[i], result);
+            }
+        }
+
+        // Only the merge loop is timed and counted, not building the copies
+        long elapsed = 0;
+        long bytes = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            BlotterReport[] locals = localRows();
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < ROWS; i++) {
+                ConflictResolver.mergeReport(bases[i], locals[i], remotes[i], result);
+            }
+            elapsed += System.nanoTime() - start;
+            bytes = bytesBefore >= 0 && bytes >= 0 ? bytes + allocatedBytes() - bytesBefore : -1;
+        }
+
+        // Machine-dependent - logged for comparison, not asserted. Expect well over
+        // 100k merges/s and under 16 B/merge (no per-row allocation) on a dev machine.
+        long merges = (long) ROWS * ROUNDS;
+        double perSecond = merges / (elapsed / 1e9);
+        System.out.printf("Single-row merge: %,d merges in %.1fms -> %,.0f merges/s, %.1f ns/merge%n",
+            merges, elapsed / 1e6, perSecond, (double) elapsed / merges);
+        if (bytes >= 0) {
+            System.out.printf("Single-row merge: %.2f bytes allocated per merge%n", (double) bytes / merges);
+        }
+
+        // Bulk path as used by sync: pages of 500 rows with id lookups, fresh local rows per page
+        List<BlotterReport> remotePage = new ArrayList<>(Arrays.asList(remotes).subList(0, 500));
+        List<BlotterReport> basePage = new ArrayList<>(Arrays.asList(bases).subList(0, 500));
+        List<BlotterReport> rowsOut = new ArrayList<>(500);
+        List<BlotterReport> basesOut = new ArrayList<>(500);
+
+        int pages = ROWS * ROUNDS / 500;
+        elapsed = 0;
+        for (int page = 0; page < pages; page++) {
+            List<BlotterReport> localPage = new ArrayList<>(Arrays.asList(localRows(500)));
+            Collections.reverse(localPage);
+            rowsOut.clear();
+            basesOut.clear();
+            long start = System.nanoTime();
+            resolver.mergeReports(remotePage, localPage, basePage, rowsOut, basesOut, null);
+            elapsed += System.nanoTime() - start;
+        }
+        System.out.printf("Bulk merge: %,d pages of 500 in %.1fms -> %,.0f rows/s%n",
+            pages, elapsed / 1e6, pages * 500 / (elapsed / 1e9));
+    }
+
+    private static BlotterReport[] localRows() {
+        return localRows(ROWS);
+    }
+
+    // Unsent local edits on every third row
+    private static BlotterReport[] localRows(int rows) {
+        BlotterReport[] locals = new BlotterReport[rows];
+        for (int i = 0; i < rows; i++) {
+            locals[i] = report(i + 1, 1);
+            if (i % 3 == 0) locals[i].setNarrative("local " + i);
+        }
+        return locals;
+    }
+
+    // Server status change on every fifth row; the narrative conflicts with the local edit every 150th
+    private static BlotterReport remoteRow(int i) {
+        BlotterReport remote = report(i + 1, 2);
+        if (i % 5 == 0) remote.setStatus("ONGOING");
+        if (i % 50 == 0) remote.setNarrative("server " + i);
+        return remote;
+    }
+
+    // Per-thread allocation counter on HotSpot; -1 where unavailable
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) bean;
+            if (hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled()) {
+                return hotspot.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    private static BlotterReport report(int id, long version) {
+        BlotterReport report = new BlotterReport("BR-2024-" + id, "Juan Dela Cruz", "09170000000",
+            "Brgy. San Isidro", "Theft", 1_690_000_000_000L, "14:30", "Purok 2",
+            "Bicycle taken from the covered court", 12);
+        report.setId(id);
+        report.setVersion(version);
+        report.setStatus("PENDING");
+        report.setDateFiled(1_690_000_000_000L);
+        report.setAssignedOfficerId(4);
+        report.setAssignedOfficerIds("4,9");
+        return report;
+    }
+
+    private static User user(int id, long version) {
+        User user = new User();
+        user.setId(id);
+        user.setVersion(version);
+        user.setFirstName("Maria");
+        user.setLastName("Santos");
+        user.setEmail("maria@example.com");
+        user.setRole("User");
+        user.setAccountCreated(1_690_000_000_000L);
+        return user;
+    }
+
+    private static BlotterReport find(List<BlotterReport> reports, int id) {
+        for (BlotterReport report : reports) {
+            if (report.getId() == id) return report;
+        }
+        return null;
+    }
+}
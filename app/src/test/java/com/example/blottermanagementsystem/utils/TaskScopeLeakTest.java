@@ -0,0 +1,128 @@
+package com.example.blottermanagementsystem.utils;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Leaked work and retained heap when screens are closed while their loads are still
+ * queued or running: plain executor (before) vs. TaskScope (after).
+ * Runs on the host JVM; numbers are printed to stdout.
+ */
+public class TaskScopeLeakTest {
+    private static final int SCREENS = 40;
+    private static final int SCREEN_BYTES = 1024 * 1024;
+    private static final int POOL_THREADS = 4;
+    private static final long SLOW_LOAD_MS = 1000;
+
+    /**
+     * Stands in for an Activity: its view tree is what a leaked lambda keeps alive
+     */
+    private static final class FakeScreen {
+        final byte[] views = new byte[SCREEN_BYTES];
+        volatile int rowsShown;
+    }
+
+    private static final class Result {
+        int retainedScreens;
+        long retainedBytes;
+        int callbacksDelivered;
+    }
+
+    @Test
+    public void cancelledScopeDropsQueuedWorkAndCallbacks() {
+        AtomicInteger ran = new AtomicInteger();
+        TaskScope scope = new TaskScope("test", Runnable::run);
+        scope.cancel();
+        scope.execute(Runnable::run, ran::incrementAndGet);
+        scope.runOnUi(ran::incrementAndGet);
+        assertEquals(0, ran.get());
+        assertTrue(scope.isCancelled());
+    }
+
+    @Test
+    public void measuresLeakedTasksAndRetainedHeap() throws InterruptedException {
+        Result before = closeScreensWhileLoading(false);
+        Result after = closeScreensWhileLoading(true);
+
+        print("Unscoped (before)", before);
+        print("TaskScope (after)", after);
+
+        assertEquals(SCREENS, before.retainedScreens);
+        assertEquals(SCREENS, before.callbacksDelivered);
+        assertEquals(0, after.retainedScreens);
+        assertEquals(0, after.callbacksDelivered);
+        assertTrue(after.retainedBytes < before.retainedBytes / 4);
+    }
+
+    private Result closeScreensWhileLoading(boolean scoped) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(POOL_THREADS);
+        AtomicInteger delivered = new AtomicInteger();
+        List<WeakReference<FakeScreen>> screens = new ArrayList<>();
+        long baseline = usedHeapAfterGc();
+
+        for (int i = 0; i < SCREENS; i++) {
+            FakeScreen screen = new FakeScreen();
+            screens.add(new WeakReference<>(screen));
+            Runnable ui = () -> {
+                screen.rowsShown = 30;
+                delivered.incrementAndGet();
+            };
+            if (scoped) {
+                TaskScope scope = new TaskScope("screen-" + i, Runnable::run);
+                scope.execute(pool, () -> {
+                    if (slowLoad()) scope.runOnUi(ui);
+                });
+                scope.cancel(); // User backed out before the load finished
+            } else {
+                pool.execute(() -> {
+                    if (slowLoad()) ui.run();
+                });
+            }
+        }
+
+        // Every screen is closed now - whatever is still reachable was kept by its work
+        Result result = new Result();
+        result.retainedBytes = Math.max(0, usedHeapAfterGc() - baseline);
+        for (WeakReference<FakeScreen> ref : screens) {
+            if (ref.get() != null) result.retainedScreens++;
+        }
+
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        result.callbacksDelivered = delivered.get();
+        return result;
+    }
+
+    private static boolean slowLoad() {
+        try {
+            Thread.sleep(SLOW_LOAD_MS);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf("%-18s: %2d/%d screens retained, %,6d KB retained heap, %2d callbacks on closed screens%n",
+            label, result.retainedScreens, SCREENS, result.retainedBytes / 1024, result.callbacksDelivered);
+    }
+}
@@ -168,6 +168,23 @@ export const activityLogs = pgTable(
   })
 );
 
+// ============ IDEMPOTENCY KEYS ============
+
+export const idempotencyKeys = pgTable(
+  'idempotency_keys',
+  {
+    key: varchar('key', { length: 512 }).primaryKey(),
+    status: varchar('status', { length: 20 }).notNull().default('pending'), // pending, done
+    statusCode: integer('status_code'),
+    response: text('response'),
+    createdAt: timestamp('created_at').defaultNow().notNull(),
+    updatedAt: timestamp('updated_at').defaultNow().notNull(),
+  },
+  (table) => ({
+    createdAtIdx: index('idempotency_keys_created_at_idx').on(table.createdAt),
+  })
+);
+
 // ============ RELATIONS ============
 
 export const usersRelations = relations(users, ({ many, one }) => ({
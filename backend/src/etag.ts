@@ -0,0 +1,29 @@
+import { Elysia } from 'elysia';
+import { createHash } from 'node:crypto';
+
+// GET responses carry a content hash as ETag. The Android HTTP cache revalidates
+// with If-None-Match, and an unchanged list comes back as 304 with no body.
+const etagOf = (body: unknown) => {
+  const text = typeof body === 'string' ? body : JSON.stringify(body);
+  return `W/"${createHash('sha1').update(text).digest('base64url')}"`;
+};
+
+const matches = (header: string | null, etag: string) =>
+  !!header && header.split(',').some((tag) => tag.trim() === etag || tag.trim() === '*');
+
+export const etag = new Elysia({ name: 'etag' })
+  .onAfterHandle({ as: 'global' }, ({ request, response, set }) => {
+    if (request.method !== 'GET') return;
+    if (response === undefined || response === null || response instanceof Response) return;
+    if (set.status && set.status !== 200) return;
+
+    const tag = etagOf(response);
+    // Private: responses are per user. no-cache: stored, but always revalidated.
+    const headers = { etag: tag, 'cache-control': 'private, no-cache' };
+    if (matches(request.headers.get('if-none-match'), tag)) {
+      return new Response(null, { status: 304, headers });
+    }
+    Object.assign(set.headers, headers);
+  });
+
+export default etag;
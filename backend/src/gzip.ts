@@ -0,0 +1,30 @@
+import { Elysia } from 'elysia';
+import { gunzipSync } from 'node:zlib';
+
+// The Android client gzips large uploads (reports, sync batches) with Content-Encoding: gzip.
+// Inflate them before the JSON parser sees them. Any other encoding gets 415, which tells
+// the client to resend uncompressed.
+const MAX_INFLATED_BYTES = 10 * 1024 * 1024;
+
+const encodingOf = (request: Request) =>
+  (request.headers.get('content-encoding') || 'identity').trim().toLowerCase();
+
+export const gzip = new Elysia({ name: 'gzip' })
+  .onRequest(({ request, set }) => {
+    const encoding = encodingOf(request);
+    if (encoding === 'identity' || encoding === 'gzip') return;
+    set.status = 415;
+    return { success: false, message: `Unsupported Content-Encoding: ${encoding}` };
+  })
+  .onParse({ as: 'global' }, async ({ request, contentType }) => {
+    if (encodingOf(request) !== 'gzip') return;
+
+    // maxOutputLength keeps a tiny gzip bomb from inflating into gigabytes
+    const text = gunzipSync(Buffer.from(await request.arrayBuffer()), {
+      maxOutputLength: MAX_INFLATED_BYTES,
+    }).toString('utf8');
+    if (contentType?.startsWith('application/json')) return text.length ? JSON.parse(text) : {};
+    return text;
+  });
+
+export default gzip;
@@ -0,0 +1,138 @@
+import { Elysia } from 'elysia';
+import { and, eq, lt, or } from 'drizzle-orm';
+import { db } from './db';
+import { idempotencyKeys } from './db/schema';
+
+// The Android outbox replays queued mutations with an Idempotency-Key header.
+// A key that was already handled gets the original response back instead of
+// running the handler again, so a retried create never files a second case.
+// Keys live in idempotency_keys so they survive restarts and are shared by
+// every instance; the primary key makes the reservation atomic.
+const TTL_MS = 24 * 60 * 60 * 1000;
+// A pending key older than this belongs to a request that died mid-handler
+const STALE_MS = 60 * 1000;
+const WAIT_MS = 10 * 1000;
+const POLL_MS = 100;
+const CLEANUP_MS = 60 * 60 * 1000;
+
+// Requests that hold the reservation for their key
+const reserved = new WeakMap<Request, string>();
+
+const keyOf = (request: Request) => {
+  if (request.method === 'GET') return null;
+  const key = request.headers.get('idempotency-key');
+  if (!key) return null;
+  return `${request.method} ${new URL(request.url).pathname} ${key}`;
+};
+
+const statusOf = (status: unknown) => (typeof status === 'number' ? status : 200);
+
+const replay = (row: typeof idempotencyKeys.$inferSelect) =>
+  new Response(row.response ?? 'null', {
+    status: row.statusCode ?? 200,
+    headers: {
+      'content-type': 'application/json',
+      'idempotent-replayed': 'true',
+    },
+  });
+
+const sleep = (ms: number) => new Promise((resolve) => setTimeout(resolve, ms));
+
+// Insert the key as pending; only one request wins the insert
+const reserve = async (key: string) => {
+  const rows = await db
+    .insert(idempotencyKeys)
+    .values({ key })
+    .onConflictDoNothing()
+    .returning({ key: idempotencyKeys.key });
+  return rows.length > 0;
+};
+
+// Take over a key whose owner died, or whose stored response has expired
+const takeOver = async (key: string) => {
+  const now = Date.now();
+  const rows = await db
+    .update(idempotencyKeys)
+    .set({ status: 'pending', statusCode: null, response: null, createdAt: new Date(now), updatedAt: new Date(now) })
+    .where(
+      and(
+        eq(idempotencyKeys.key, key),
+        or(
+          and(eq(idempotencyKeys.status, 'pending'), lt(idempotencyKeys.updatedAt, new Date(now - STALE_MS))),
+          and(eq(idempotencyKeys.status, 'done'), lt(idempotencyKeys.createdAt, new Date(now - TTL_MS)))
+        )
+      )
+    )
+    .returning({ key: idempotencyKeys.key });
+  return rows.length > 0;
+};
+
+const release = async (key: string) => {
+  await db.delete(idempotencyKeys).where(eq(idempotencyKeys.key, key));
+};
+
+// ✅ Expired keys are dropped in the background, not on the request path
+const cleanup = setInterval(() => {
+  db.delete(idempotencyKeys)
+    .where(lt(idempotencyKeys.createdAt, new Date(Date.now() - TTL_MS)))
+    .catch((error) => console.error('Idempotency key cleanup failed:', error));
+}, CLEANUP_MS);
+cleanup.unref?.();
+
+export const idempotency = new Elysia({ name: 'idempotency' })
+  .onBeforeHandle({ as: 'global' }, async ({ request, set }) => {
+    const key = keyOf(request);
+    if (!key) return;
+
+    const deadline = Date.now() + WAIT_MS;
+    while (true) {
+      if ((await reserve(key)) || (await takeOver(key))) {
+        reserved.set(request, key);
+        return;
+      }
+
+      const [row] = await db.select().from(idempotencyKeys).where(eq(idempotencyKeys.key, key));
+      // Released between our insert and select - try to reserve again
+      if (!row) continue;
+      if (row.status === 'done') return replay(row);
+
+      // ✅ Same key still running elsewhere - wait for its result instead of running twice
+      if (Date.now() >= deadline) {
+        set.status = 409;
+        return { success: false, message: 'A request with this Idempotency-Key is still in progress' };
+      }
+      await sleep(POLL_MS);
+    }
+  })
+  .onAfterHandle({ as: 'global' }, async ({ request, response, set }) => {
+    const key = reserved.get(request);
+    if (!key) return;
+    reserved.delete(request);
+
+    let status = statusOf(set.status);
+    let body: string;
+    if (response instanceof Response) {
+      status = response.status;
+      body = await response.clone().text();
+    } else {
+      body = JSON.stringify(response ?? null);
+    }
+
+    // Server errors are not final - let the retry run the handler again
+    if (status >= 500) {
+      await release(key);
+      return;
+    }
+    await db
+      .update(idempotencyKeys)
+      .set({ status: 'done', statusCode: status, response: body, updatedAt: new Date() })
+      .where(eq(idempotencyKeys.key, key));
+  })
+  .onError({ as: 'global' }, async ({ request }) => {
+    const key = reserved.get(request);
+    if (!key) return;
+    reserved.delete(request);
+    await release(key);
+  });
+
+export default idempotency;
@@ -12,6 +12,9 @@ import caseRoutes from './routes/cases';
 import emailRoutes from './routes/email';
 import notificationRoutes from './routes/notifications';
 import dashboardRoutes from './routes/dashboard';
+import idempotency from './idempotency';
+import etag from './etag';
+import gzip from './gzip';
 
 const PORT = 3000;
 const JWT_SECRET = process.env.JWT_SECRET || 'your-secret-key-change-in-production';
@@ -53,6 +56,15 @@ const app = new Elysia()
     timestamp: new Date().toISOString(),
   }))
 
+  // Gzipped uploads (Content-Encoding: gzip) are inflated before parsing
+  .use(gzip)
+
+  // Replayed mutations (Idempotency-Key) return their first response
+  .use(idempotency)
+
+  // GETs get an ETag; If-None-Match on an unchanged body answers 304
+  .use(etag)
+
   // Routes
   .use(authRoutes)
   .use(userRoutes)